@@ -0,0 +1,150 @@
+package pegasus.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pegasus.tensor.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the approximations of {@link FastMath} against their exact counterparts.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class FastMathBenchmark {
+    /**
+     * The starting rotation.
+     */
+    private Quaternion p;
+
+    /**
+     * The ending rotation.
+     */
+    private Quaternion q;
+
+    /**
+     * The interpolation parameter, and the angles of the constructed rotations.
+     */
+    private double t;
+
+    /**
+     * The input of the gamma function.
+     */
+    private double x;
+
+    /**
+     * Initializes the operands.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        p = Quaternion.from(random.nextDouble(), random.nextDouble(), random.nextDouble());
+        q = Quaternion.from(random.nextDouble(), random.nextDouble(), random.nextDouble());
+        t = random.nextDouble();
+        x = 1 + random.nextDouble() * 20;
+    }
+
+    /**
+     * Measures exact spherical linear interpolation.
+     *
+     * @return The interpolated quaternion
+     */
+    @Benchmark
+    public Quaternion slerp() {
+        return Tensors.slerp(p, q, t);
+    }
+
+    /**
+     * Measures approximate spherical linear interpolation.
+     *
+     * @return The interpolated quaternion
+     */
+    @Benchmark
+    public Quaternion slerpFast() {
+        return FastMath.slerp(p, q, t);
+    }
+
+    /**
+     * Measures the exact construction of a quaternion from Euler angles.
+     *
+     * @return The constructed quaternion
+     */
+    @Benchmark
+    public Quaternion fromEuler() {
+        return Quaternion.from(t, t * 2, t * 3);
+    }
+
+    /**
+     * Measures the approximate construction of a quaternion from Euler angles.
+     *
+     * @return The constructed quaternion
+     */
+    @Benchmark
+    public Quaternion fromEulerFast() {
+        return FastMath.quaternion(t, t * 2, t * 3);
+    }
+
+    /**
+     * Measures the exact angle of a rotation.
+     *
+     * @return The angle
+     */
+    @Benchmark
+    public double angle() {
+        return q.angle();
+    }
+
+    /**
+     * Measures the approximate angle of a rotation.
+     *
+     * @return The angle
+     */
+    @Benchmark
+    public double angleFast() {
+        return FastMath.angle(q);
+    }
+
+    /**
+     * Measures the axis of a rotation.
+     *
+     * @return The axis
+     */
+    @Benchmark
+    public Vector3 axis() {
+        return q.axis();
+    }
+
+    /**
+     * Measures the axis of a rotation, without computing its angle.
+     *
+     * @return The axis
+     */
+    @Benchmark
+    public Vector3 axisFast() {
+        return FastMath.axis(q);
+    }
+
+    /**
+     * Measures the exact gamma function.
+     *
+     * @return The gamma of the input
+     */
+    @Benchmark
+    public double gamma() {
+        return Tensors.gamma(x);
+    }
+
+    /**
+     * Measures the approximate gamma function.
+     *
+     * @return The gamma of the input
+     */
+    @Benchmark
+    public double gammaFast() {
+        return FastMath.gamma(x);
+    }
+}
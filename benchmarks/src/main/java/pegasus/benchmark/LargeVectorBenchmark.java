@@ -0,0 +1,74 @@
+package pegasus.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pegasus.tensor.LargeVector;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the reductions of {@link LargeVector large vectors}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class LargeVectorBenchmark {
+    /**
+     * The number of components of each vector.
+     */
+    @Param({"1000", "100000", "10000000"})
+    public int size;
+
+    /**
+     * The left-hand vector.
+     */
+    private LargeVector a;
+
+    /**
+     * The right-hand vector.
+     */
+    private LargeVector b;
+
+    /**
+     * Initializes the operands.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        a = new LargeVector(random.doubles(size));
+        b = new LargeVector(random.doubles(size));
+    }
+
+    /**
+     * Measures the dot product.
+     *
+     * @return The dot product
+     */
+    @Benchmark
+    public double dot() {
+        return a.dot(b);
+    }
+
+    /**
+     * Measures the Euclidean norm.
+     *
+     * @return The Euclidean norm
+     */
+    @Benchmark
+    public double norm() {
+        return a.norm();
+    }
+
+    /**
+     * Measures the element-wise sum.
+     *
+     * @return The sum
+     */
+    @Benchmark
+    public LargeVector add() {
+        return a.add(b);
+    }
+}
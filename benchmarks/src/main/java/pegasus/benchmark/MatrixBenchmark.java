@@ -0,0 +1,64 @@
+package pegasus.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pegasus.tensor.Matrix;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks the multiplication and transposition of square {@link Matrix matrices}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class MatrixBenchmark {
+    /**
+     * The number of rows and columns of each matrix.
+     */
+    @Param({"4", "16", "64", "256", "1024", "2048"})
+    public int size;
+
+    /**
+     * The left-hand matrix.
+     */
+    private Matrix a;
+
+    /**
+     * The right-hand matrix.
+     */
+    private Matrix b;
+
+    /**
+     * Initializes the operands.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        a = new Matrix(size, size, (r, c) -> random.nextGaussian());
+        b = new Matrix(size, size, (r, c) -> random.nextGaussian());
+    }
+
+    /**
+     * Measures the matrix product.
+     *
+     * @return The product
+     */
+    @Benchmark
+    public Matrix multiply() {
+        return a.multiply(b);
+    }
+
+    /**
+     * Measures the transposition.
+     *
+     * @return The transpose
+     */
+    @Benchmark
+    public Matrix transpose() {
+        return a.transpose();
+    }
+}
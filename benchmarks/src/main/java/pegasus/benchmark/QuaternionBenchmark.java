@@ -0,0 +1,106 @@
+package pegasus.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pegasus.tensor.*;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks quaternion arithmetic and the rotation of vectors by quaternions.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class QuaternionBenchmark {
+    /**
+     * The left-hand rotation.
+     */
+    private Quaternion p;
+
+    /**
+     * The right-hand rotation.
+     */
+    private Quaternion q;
+
+    /**
+     * The vector of which to rotate.
+     */
+    private Vector3 v;
+
+    /**
+     * The prepared rotation by {@link #q}.
+     */
+    private RigidTransform transform;
+
+    /**
+     * The interpolation parameter.
+     */
+    private double t;
+
+    /**
+     * Initializes the operands.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        p = Quaternion.from(random.nextDouble(), random.nextDouble(), random.nextDouble());
+        q = Quaternion.from(random.nextDouble(), random.nextDouble(), random.nextDouble());
+        v = new Vector3(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        transform = RigidTransform.rotation(q);
+        t = random.nextDouble();
+    }
+
+    /**
+     * Measures the Hamilton product.
+     *
+     * @return The product
+     */
+    @Benchmark
+    public Quaternion multiply() {
+        return p.multiply(q);
+    }
+
+    /**
+     * Measures spherical linear interpolation.
+     *
+     * @return The interpolated quaternion
+     */
+    @Benchmark
+    public Quaternion slerp() {
+        return Tensors.slerp(p, q, t);
+    }
+
+    /**
+     * Measures the construction of a quaternion from Euler angles.
+     *
+     * @return The constructed quaternion
+     */
+    @Benchmark
+    public Quaternion fromEuler() {
+        return Quaternion.from(t, t * 2, t * 3);
+    }
+
+    /**
+     * Measures the rotation of a vector with the quaternion sandwich product.
+     *
+     * @return The rotated vector
+     */
+    @Benchmark
+    public Vector3 rotate() {
+        return Tensors.rotate(v, q);
+    }
+
+    /**
+     * Measures the rotation of a vector with a prepared rotation matrix.
+     *
+     * @return The rotated vector
+     */
+    @Benchmark
+    public Vector3 rotatePrepared() {
+        return transform.apply(v);
+    }
+}
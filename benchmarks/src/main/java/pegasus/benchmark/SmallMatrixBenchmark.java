@@ -0,0 +1,91 @@
+package pegasus.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pegasus.tensor.Matrix;
+import pegasus.tensor.Matrix4;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks {@code 4x4} matrices as a general {@link Matrix} against the unrolled {@link Matrix4}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class SmallMatrixBenchmark {
+    /**
+     * The left-hand general matrix.
+     */
+    private Matrix a;
+
+    /**
+     * The right-hand general matrix.
+     */
+    private Matrix b;
+
+    /**
+     * The left-hand fixed-size matrix.
+     */
+    private Matrix4 a4;
+
+    /**
+     * The right-hand fixed-size matrix.
+     */
+    private Matrix4 b4;
+
+    /**
+     * Initializes the operands.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        a = new Matrix(4, 4, (r, c) -> random.nextGaussian());
+        b = new Matrix(4, 4, (r, c) -> random.nextGaussian());
+        a4 = new Matrix4(a);
+        b4 = new Matrix4(b);
+    }
+
+    /**
+     * Measures the general matrix product.
+     *
+     * @return The product
+     */
+    @Benchmark
+    public Matrix multiply() {
+        return a.multiply(b);
+    }
+
+    /**
+     * Measures the unrolled matrix product.
+     *
+     * @return The product
+     */
+    @Benchmark
+    public Matrix4 multiplyFixed() {
+        return a4.multiply(b4);
+    }
+
+    /**
+     * Measures the general inverse.
+     *
+     * @return The inverse
+     */
+    @Benchmark
+    public Matrix inverse() {
+        return a.inverse();
+    }
+
+    /**
+     * Measures the unrolled inverse.
+     *
+     * @return The inverse
+     */
+    @Benchmark
+    public Matrix4 inverseFixed() {
+        return a4.inverse();
+    }
+}
@@ -0,0 +1,91 @@
+package pegasus.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import pegasus.tensor.MutableVector3;
+import pegasus.tensor.Vector3;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks chains of {@link Vector3} arithmetic. Run with {@code -prof gc} to report the
+ * allocation rate of the immutable chain against its {@link MutableVector3} counterpart.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "--add-modules=jdk.incubator.vector")
+@State(Scope.Thread)
+public class Vector3Benchmark {
+    /**
+     * The left-hand operand.
+     */
+    private Vector3 a;
+
+    /**
+     * The right-hand operand.
+     */
+    private Vector3 b;
+
+    /**
+     * The scalar operand.
+     */
+    private double s;
+
+    /**
+     * The reused mutable vector.
+     */
+    private final MutableVector3 m = new MutableVector3();
+
+    /**
+     * Initializes the operands.
+     */
+    @Setup
+    public void setup() {
+        Random random = new Random(0);
+        a = new Vector3(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        b = new Vector3(random.nextGaussian(), random.nextGaussian(), random.nextGaussian());
+        s = random.nextDouble() + 1;
+    }
+
+    /**
+     * Measures a chain of immutable operations, each of which allocates a new vector.
+     *
+     * @return The resulting vector
+     */
+    @Benchmark
+    public Vector3 chain() {
+        return a.add(b).multiply(s).cross(b).subtract(a).normalize();
+    }
+
+    /**
+     * Measures the same chain of operations on a reused mutable vector.
+     *
+     * @return The resulting vector
+     */
+    @Benchmark
+    public MutableVector3 chainMutable() {
+        return m.set(a).add(b).multiply(s).cross(b).subtract(a).normalize();
+    }
+
+    /**
+     * Measures the dot product.
+     *
+     * @return The dot product
+     */
+    @Benchmark
+    public double dot() {
+        return a.dot(b);
+    }
+
+    /**
+     * Measures the distance between two vectors.
+     *
+     * @return The distance
+     */
+    @Benchmark
+    public double distance() {
+        return a.distance(b);
+    }
+}
@@ -3,8 +3,16 @@ package pegasus.event;
 import pegasus.pointer.ObjectPointer;
 import pegasus.tuple.Tuple;
 
+import java.io.IOException;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.InvocationTargetException;
 import java.util.*;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * The abstract base class for event manager implementations.
@@ -20,17 +28,26 @@ public abstract class AbstractEventManager extends Thread implements EventManage
     }
 
     /**
-     * Creates a new event manager.
+     * Creates a new event manager. The provided handlers are copied into this manager's handler
+     * set, so later modifications of the list are not reflected in this manager.
      *
      * @param eventQueue The event queue of which to manage
-     * @param handlers   The handler list of which to manage
+     * @param handlers   The initial handlers of this manager
      * @param name       The name of this manager
      * @throws NullPointerException When either the event queue of the handler list is {@code null}
      */
     protected AbstractEventManager(Queue<Handleable> eventQueue, List<HandlerReference> handlers, String name) {
         super(name);
         this.eventQueue = Objects.requireNonNull(eventQueue);
-        this.handlers = Objects.requireNonNull(handlers);
+        this.handlerSet = new ConcurrentSkipListSet<>(handlers);
+        this.handlers = new HandlerList();
+        this.listeners = new IdentityHashMap<>();
+        this.weakListeners = new HashMap<>();
+        this.referenceQueue = new ReferenceQueue<>();
+        this.router = new EventRouter();
+
+        // Route any handlers the list was provided with
+        handlerSet.forEach(router::add);
     }
 
     /**
@@ -39,38 +56,247 @@ public abstract class AbstractEventManager extends Thread implements EventManage
     protected final Queue<Handleable> eventQueue;
 
     /**
-     * The handler references.
+     * An unmodifiable view of the handler references, ordered by priority and registration
+     * order. Handlers are added and removed by registering and unregistering listeners.
      */
     protected final List<HandlerReference> handlers;
 
+    /**
+     * The handler references, ordered by priority and registration order. Modifications are
+     * guarded by the monitor of {@link #listeners}.
+     */
+    private final NavigableSet<HandlerReference> handlerSet;
+
+    /**
+     * The handler references of each registered listener, keyed by listener identity.
+     * Modifications of the handler set are guarded by this map's monitor.
+     */
+    protected final Map<Object, List<HandlerReference>> listeners;
+
+    /**
+     * The handler references of each weakly registered listener. This map is guarded by
+     * the monitor of {@link #listeners}.
+     */
+    protected final Map<WeakListener, List<HandlerReference>> weakListeners;
+
+    /**
+     * The queue to which the references of collected weak listeners are enqueued.
+     */
+    protected final ReferenceQueue<Object> referenceQueue;
+
+    /**
+     * The router which caches the handlers of each event class. The router is modified together
+     * with the handler set.
+     */
+    protected final EventRouter router;
+
+    /**
+     * The metrics object, or {@code null} if metrics are disabled.
+     */
+    protected volatile EventMetrics metrics;
+
+    /**
+     * The journal, or {@code null} if journaling is disabled.
+     */
+    protected volatile EventJournal journal;
+
+    /**
+     * The tracer, or {@code null} if tracing is disabled.
+     */
+    protected volatile EventTracer tracer;
+
     /**
      * Infinitely polls from the event queue and handles them until interrupted.
      */
     @Override
     public void run() {
         while (!Thread.interrupted()) {
+            purge();
+
             Handleable event = eventQueue.poll();
             if (event == null) continue;
 
-            for (HandlerReference handler : List.copyOf(handlers)) {
-                if (!handler.accepts(event.getClass())) continue;
+            dispatch(event);
+        }
+    }
 
-                try {
-                    handler.invoke(event);
-                } catch (IllegalAccessException | InvocationTargetException e) {
-                    e.printStackTrace(System.out);
+    /**
+     * Removes the handlers of every weak listener which has been garbage collected.
+     */
+    protected void purge() {
+        Reference<?> reference;
+
+        while ((reference = referenceQueue.poll()) != null) {
+            List<HandlerReference> references;
+
+            synchronized (listeners) {
+                references = weakListeners.remove(reference);
+                if (references == null) continue;
+
+                for (HandlerReference handler : references) {
+                    handlerSet.remove(handler);
+                    router.remove(handler);
                 }
+            }
+
+            EventMetrics metrics = this.metrics;
+            if (metrics != null) references.forEach(metrics::forget);
+        }
+    }
+
+    /**
+     * Dispatches the provided event to every handler which accepts it.
+     *
+     * @param event The event of which to dispatch
+     */
+    protected void dispatch(Handleable event) {
+        EventMetrics metrics = this.metrics;
+        if (metrics != null) metrics.recordDispatch(event);
+
+        EventJournal journal = this.journal;
+        if (journal != null) journal(journal, event);
+
+        EventTracer tracer = this.tracer;
+        long span = tracer != null ? begin(tracer, event) : 0;
+
+        try {
+            Class<? extends Handleable> eventClass = event.getClass();
+            HandlerReference[] route = router.route(eventClass);
+            EventRouter.KeyIndex[] indices = router.indicesOf(eventClass);
 
+            if (indices.length != 0) {
+                route = withKeyedSubscriptions(route, indices, event);
             }
+
+            for (HandlerReference handler : route) {
+                if (metrics == null) {
+                    invoke(handler, event);
+                } else {
+                    invoke(handler, event, metrics);
+                }
+            }
+        } finally {
+            if (span != 0) tracer.end(span);
         }
     }
 
+    /**
+     * Merges the keyed subscriptions of the provided event's keys into the provided route.
+     *
+     * @param route   The route of the event's class
+     * @param indices The key indices which apply to the event's class
+     * @param event   The event being dispatched
+     * @return The route including the matching keyed subscriptions, ordered by their natural ordering
+     */
+    protected HandlerReference[] withKeyedSubscriptions(
+            HandlerReference[] route,
+            EventRouter.KeyIndex[] indices,
+            Handleable event
+    ) {
+        HandlerReference[] result = route;
+
+        for (EventRouter.KeyIndex index : indices) {
+            HandlerReference[] subscriptions;
+
+            try {
+                subscriptions = index.lookup(event);
+            } catch (RuntimeException e) {
+                e.printStackTrace(System.out);
+                continue;
+            }
+
+            if (subscriptions == null) continue;
+
+            HandlerReference[] merged = Arrays.copyOf(result, result.length + subscriptions.length);
+            System.arraycopy(subscriptions, 0, merged, result.length, subscriptions.length);
+            Arrays.sort(merged);
+
+            result = merged;
+        }
+
+        return result;
+    }
+
+    /**
+     * Appends the provided event to the provided journal, printing any exception it produces.
+     *
+     * @param journal The journal of which to append to
+     * @param event   The event of which to append
+     */
+    protected void journal(EventJournal journal, Handleable event) {
+        try {
+            journal.append(event);
+        } catch (IOException | RuntimeException e) {
+            e.printStackTrace(System.out);
+        }
+    }
+
+    /**
+     * Starts the span of the provided event, printing any exception the tracer produces.
+     *
+     * @param tracer The tracer of which to start the span in
+     * @param event  The event which is about to be dispatched
+     * @return The identifier of the started span, {@code 0} if the event was not traced
+     */
+    protected long begin(EventTracer tracer, Handleable event) {
+        try {
+            return tracer.begin(event);
+        } catch (RuntimeException e) {
+            e.printStackTrace(System.out);
+            return 0;
+        }
+    }
+
+    /**
+     * Invokes the provided handler, printing any exception it produces.
+     *
+     * @param handler The handler of which to invoke
+     * @param event   The event parameter
+     * @return {@code true} if the handler completed normally
+     */
+    protected boolean invoke(HandlerReference handler, Handleable event) {
+        try {
+            handler.invoke(event);
+            return true;
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            e.printStackTrace(System.out);
+            return false;
+        }
+    }
+
+    /**
+     * Invokes the provided handler while recording its statistics to the provided metrics object.
+     *
+     * @param handler The handler of which to invoke
+     * @param event   The event parameter
+     * @param metrics The metrics object of which to record to
+     */
+    protected void invoke(HandlerReference handler, Handleable event, EventMetrics metrics) {
+        HandlerMetrics handlerMetrics = metrics.of(handler);
+
+        if (!metrics.sample()) {
+            if (!invoke(handler, event)) handlerMetrics.exceptions.increment();
+            handlerMetrics.invocations.increment();
+            return;
+        }
+
+        long start = System.nanoTime();
+        boolean completed = invoke(handler, event);
+        handlerMetrics.executionTimes.record(System.nanoTime() - start);
+
+        if (!completed) handlerMetrics.exceptions.increment();
+        handlerMetrics.invocations.increment();
+    }
+
     /**
      * {@inheritDoc}
      */
     @Override
     public void clearQueue() {
         eventQueue.clear();
+
+        EventMetrics metrics = this.metrics;
+        if (metrics != null) metrics.clearPending();
     }
 
     /**
@@ -82,9 +308,72 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public <E extends Handleable> void enqueueEvent(E event) {
+        EventMetrics metrics = this.metrics;
+        if (metrics != null) metrics.recordEnqueue(Objects.requireNonNull(event));
+
         eventQueue.add(Objects.requireNonNull(event));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public EventMetrics getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param metrics The metrics object of which to collect statistics with ({@code null} to disable metrics)
+     */
+    @Override
+    public void setMetrics(EventMetrics metrics) {
+        this.metrics = metrics;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public EventJournal getJournal() {
+        return journal;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param journal The journal of which to append events to ({@code null} to disable journaling)
+     */
+    @Override
+    public void setJournal(EventJournal journal) {
+        this.journal = journal;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public EventTracer getTracer() {
+        return tracer;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param tracer The tracer of which to record with ({@code null} to disable tracing)
+     */
+    @Override
+    public void setTracer(EventTracer tracer) {
+        this.tracer = tracer;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -93,8 +382,39 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public void registerListener(Object listener) {
-        handlers.addAll(Events.getHandlersOf(listener));
-        handlers.sort(Comparator.comparing(HandlerReference::priority));
+        Collection<HandlerReference> references = Events.getHandlersOf(listener);
+
+        synchronized (listeners) {
+            listeners.computeIfAbsent(listener, l -> new ArrayList<>(references.size())).addAll(references);
+            handlerSet.addAll(references);
+            references.forEach(router::add);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param listener The listener of which to register to this event manager
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public void registerWeakListener(Object listener) {
+        Collection<HandlerReference> references = Events.getHandlersOf(listener);
+
+        WeakListener reference = new WeakListener(listener, referenceQueue);
+        List<HandlerReference> weakReferences = new ArrayList<>(references.size());
+
+        for (HandlerReference handler : references) {
+            weakReferences.add(new WeakHandlerReference(handler, reference));
+        }
+
+        purge();
+
+        synchronized (listeners) {
+            weakListeners.computeIfAbsent(reference, l -> new ArrayList<>(weakReferences.size())).addAll(weakReferences);
+            handlerSet.addAll(weakReferences);
+            weakReferences.forEach(router::add);
+        }
     }
 
     /**
@@ -106,10 +426,8 @@ public abstract class AbstractEventManager extends Thread implements EventManage
     @Override
     public void registerListeners(Object... listeners) {
         for (Object listener : listeners) {
-            handlers.addAll(Events.getHandlersOf(listener));
+            registerListener(listener);
         }
-
-        handlers.sort(Comparator.comparing(HandlerReference::priority));
     }
 
     /**
@@ -120,8 +438,7 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public void registerListeners(Collection<?> listeners) {
-        handlers.addAll(listeners.stream().flatMap(listener -> Events.getHandlersOf(listener).stream()).toList());
-        handlers.sort(Comparator.comparing(HandlerReference::priority));
+        listeners.forEach(this::registerListener);
     }
 
     /**
@@ -132,8 +449,7 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public void registerListeners(Tuple<?> listeners) {
-        handlers.addAll(listeners.stream().flatMap(listener -> Events.getHandlersOf(listener).stream()).toList());
-        handlers.sort(Comparator.comparing(HandlerReference::priority));
+        listeners.forEach(this::registerListener);
     }
 
     /**
@@ -144,8 +460,127 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public void registerListeners(ObjectPointer<?> listeners) {
-        handlers.addAll(listeners.stream().flatMap(listener -> Events.getHandlersOf(listener).stream()).toList());
-        handlers.sort(Comparator.comparing(HandlerReference::priority));
+        listeners.forEach(this::registerListener);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param eventType The type of event of which to subscribe to
+     * @param filter    The filter of which to test events with
+     * @param handler   The handler of which to pass matching events to
+     * @param <E>       {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public <E extends Handleable> Subscription subscribe(
+            Class<E> eventType,
+            Predicate<? super E> filter,
+            Consumer<? super E> handler
+    ) {
+        return subscribe(eventType, HandlerPriority.MEDIUM, filter, handler);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param eventType The type of event of which to subscribe to
+     * @param priority  The execution priority of the handler
+     * @param filter    The filter of which to test events with
+     * @param handler   The handler of which to pass matching events to
+     * @param <E>       {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public <E extends Handleable> Subscription subscribe(
+            Class<E> eventType,
+            HandlerPriority priority,
+            Predicate<? super E> filter,
+            Consumer<? super E> handler
+    ) {
+        Objects.requireNonNull(filter);
+        return subscribe(new Subscription(eventType, priority, filter, null, null, handler));
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param eventType    The type of event of which to subscribe to
+     * @param keyExtractor The function which extracts the key of an event
+     * @param key          The key of which to subscribe to ({@code null} is allowed)
+     * @param handler      The handler of which to pass matching events to
+     * @param <E>          {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public <E extends Handleable> Subscription subscribe(
+            Class<E> eventType,
+            Function<? super E, ?> keyExtractor,
+            Object key,
+            Consumer<? super E> handler
+    ) {
+        return subscribe(eventType, HandlerPriority.MEDIUM, keyExtractor, key, handler);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param eventType    The type of event of which to subscribe to
+     * @param priority     The execution priority of the handler
+     * @param keyExtractor The function which extracts the key of an event
+     * @param key          The key of which to subscribe to ({@code null} is allowed)
+     * @param handler      The handler of which to pass matching events to
+     * @param <E>          {@inheritDoc}
+     * @return {@inheritDoc}
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public <E extends Handleable> Subscription subscribe(
+            Class<E> eventType,
+            HandlerPriority priority,
+            Function<? super E, ?> keyExtractor,
+            Object key,
+            Consumer<? super E> handler
+    ) {
+        Objects.requireNonNull(keyExtractor);
+        return subscribe(new Subscription(eventType, priority, null, keyExtractor, key, handler));
+    }
+
+    /**
+     * Adds the provided subscription to this event manager.
+     *
+     * @param subscription The subscription of which to add
+     * @return The provided subscription
+     */
+    protected Subscription subscribe(Subscription subscription) {
+        synchronized (listeners) {
+            handlerSet.add(subscription);
+            router.add(subscription);
+        }
+
+        return subscription;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param subscription The subscription of which to cancel
+     * @throws NullPointerException {@inheritDoc}
+     */
+    @Override
+    public void unsubscribe(Subscription subscription) {
+        Objects.requireNonNull(subscription);
+
+        synchronized (listeners) {
+            if (!handlerSet.remove(subscription)) return;
+            router.remove(subscription);
+        }
+
+        EventMetrics metrics = this.metrics;
+        if (metrics != null) metrics.forget(subscription);
     }
 
     /**
@@ -156,7 +591,28 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public void unregisterListener(Object listener) {
-        handlers.removeAll(Events.getHandlersOf(listener));
+        Objects.requireNonNull(listener);
+        List<HandlerReference> references;
+
+        synchronized (listeners) {
+            references = listeners.remove(listener);
+
+            List<HandlerReference> weakReferences = weakListeners.remove(new WeakListener(listener, null));
+            if (weakReferences != null) {
+                if (references == null) references = weakReferences;
+                else references.addAll(weakReferences);
+            }
+
+            if (references == null) return;
+
+            for (HandlerReference reference : references) {
+                handlerSet.remove(reference);
+                router.remove(reference);
+            }
+        }
+
+        EventMetrics metrics = this.metrics;
+        if (metrics != null) references.forEach(metrics::forget);
     }
 
     /**
@@ -167,7 +623,9 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public void unregisterListeners(Object... listeners) {
-        handlers.removeAll(Arrays.stream(listeners).flatMap(listener -> Events.getHandlersOf(listener).stream()).toList());
+        for (Object listener : listeners) {
+            unregisterListener(listener);
+        }
     }
 
     /**
@@ -178,7 +636,7 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public void unregisterListeners(Collection<?> listeners) {
-        handlers.removeAll(listeners.stream().flatMap(listener -> Events.getHandlersOf(listener).stream()).toList());
+        listeners.forEach(this::unregisterListener);
     }
 
     /**
@@ -189,7 +647,7 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public void unregisterListeners(Tuple<?> listeners) {
-        handlers.removeAll(listeners.stream().flatMap(listener -> Events.getHandlersOf(listener).stream()).toList());
+        listeners.forEach(this::unregisterListener);
     }
 
     /**
@@ -200,6 +658,96 @@ public abstract class AbstractEventManager extends Thread implements EventManage
      */
     @Override
     public void unregisterListeners(ObjectPointer<?> listeners) {
-        handlers.removeAll(listeners.stream().flatMap(listener -> Events.getHandlersOf(listener).stream()).toList());
+        listeners.forEach(this::unregisterListener);
+    }
+
+    /**
+     * An unmodifiable list view of the handler set.
+     */
+    private final class HandlerList extends AbstractList<HandlerReference> {
+        /**
+         * {@inheritDoc}
+         *
+         * @param index {@inheritDoc}
+         * @return {@inheritDoc}
+         * @throws IndexOutOfBoundsException {@inheritDoc}
+         */
+        @Override
+        public HandlerReference get(int index) {
+            if (index >= 0) {
+                for (HandlerReference handler : handlerSet) {
+                    if (index-- == 0) return handler;
+                }
+            }
+
+            throw new IndexOutOfBoundsException();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public int size() {
+            return handlerSet.size();
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        public Iterator<HandlerReference> iterator() {
+            return Collections.unmodifiableSet(handlerSet).iterator();
+        }
+    }
+
+    /**
+     * A weak reference to a listener which is compared by the identity of its referent.
+     * Once the referent has been collected, a weak listener is only equal to itself.
+     */
+    protected static class WeakListener extends WeakReference<Object> {
+        /**
+         * Creates a new weak listener.
+         *
+         * @param listener The listener instance
+         * @param queue    The queue to enqueue this reference to, or {@code null}
+         */
+        public WeakListener(Object listener, ReferenceQueue<Object> queue) {
+            super(listener, queue);
+            this.hashCode = System.identityHashCode(listener);
+        }
+
+        /**
+         * The identity hash code of the listener instance.
+         */
+        protected final int hashCode;
+
+        /**
+         * Returns the identity hash code of the listener instance.
+         *
+         * @return The identity hash code of the listener instance
+         */
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        /**
+         * Checks for equality between this weak listener and the provided object {@code obj}.
+         *
+         * @param obj The object to compare to
+         * @return {@code true} if the provided object is a weak listener referencing the same listener
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof WeakListener other)) return false;
+
+            Object listener = get();
+            return listener != null && listener == other.get();
+        }
     }
 }
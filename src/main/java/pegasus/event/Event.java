@@ -92,7 +92,8 @@ public class Event implements Handleable {
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} Only the type and unique identifier of the cause are included, so that
+     * serializing an event does not traverse its whole cause chain.
      *
      * @return {@inheritDoc}
      */
@@ -100,7 +101,7 @@ public class Event implements Handleable {
     public String toString() {
         return getClass().getSimpleName() + "{" +
                 "uniqueId=" + uniqueId +
-                ", cause=" + cause +
+                ", cause=" + (cause == null ? null : cause.getClass().getSimpleName() + "{uniqueId=" + cause.getUniqueId() + "}") +
                 '}';
     }
 }
@@ -0,0 +1,36 @@
+package pegasus.event;
+
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * A compact binary encoding of a type of event. Codecs are registered to an
+ * {@link EventCodecRegistry} under a stable type identifier, and must only use relative
+ * {@code get} and {@code put} operations of the provided buffers.
+ *
+ * @param <E> The type of event to encode
+ * @see EventCodecRegistry
+ * @see EventJournal
+ */
+public interface EventCodec<E extends Handleable> {
+    /**
+     * Writes the provided event to the provided buffer.
+     *
+     * @param event    The event of which to encode
+     * @param buffer   The buffer of which to write to
+     * @param registry The registry which can be used to encode nested events (e.g. causes)
+     * @throws BufferOverflowException When the buffer does not have enough space remaining
+     */
+    void encode(E event, ByteBuffer buffer, EventCodecRegistry registry);
+
+    /**
+     * Reads an event from the provided buffer.
+     *
+     * @param buffer   The buffer of which to read from
+     * @param registry The registry which can be used to decode nested events (e.g. causes)
+     * @return The decoded event
+     * @throws BufferUnderflowException When the buffer does not contain a complete event
+     */
+    E decode(ByteBuffer buffer, EventCodecRegistry registry);
+}
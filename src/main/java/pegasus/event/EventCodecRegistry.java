@@ -0,0 +1,224 @@
+package pegasus.event;
+
+import java.io.*;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A registry of event codecs, keyed by stable type identifiers. Every encoded event starts
+ * with the identifier of its codec, followed by the codec's payload. Events of types without
+ * a registered codec fall back to Java serialization, which is correct but slow.
+ * <p>
+ * Codecs are matched by the exact class of the event. The codec of {@link Event} itself is
+ * registered by default under {@link #EVENT_TYPE_ID}.
+ *
+ * @see EventCodec
+ * @see EventJournal
+ */
+public class EventCodecRegistry {
+    /**
+     * The type identifier of events encoded with Java serialization.
+     */
+    public static final int SERIALIZED_TYPE_ID = -1;
+
+    /**
+     * The type identifier of {@code null} (used for absent nested events, such as a missing cause).
+     */
+    public static final int NULL_TYPE_ID = -2;
+
+    /**
+     * The type identifier of {@link Event}.
+     */
+    public static final int EVENT_TYPE_ID = 0;
+
+    /**
+     * The codec of {@link Event}, which encodes the unique identifier and the unique identifier
+     * of the cause. Only the identifier of the cause is encoded so that the size of a record does
+     * not grow with the length of the cause chain; decoded causes are placeholder events which
+     * carry only that identifier.
+     */
+    public static final EventCodec<Event> EVENT_CODEC = new EventCodec<>() {
+        @Override
+        public void encode(Event event, ByteBuffer buffer, EventCodecRegistry registry) {
+            Handleable cause = event.getCause();
+
+            putUniqueId(event.getUniqueId(), buffer);
+            buffer.put((byte) (cause == null ? 0 : 1));
+            if (cause != null) putUniqueId(cause.getUniqueId(), buffer);
+        }
+
+        @Override
+        public Event decode(ByteBuffer buffer, EventCodecRegistry registry) {
+            UUID uniqueId = getUniqueId(buffer);
+            Event cause = buffer.get() == 0 ? null : new Event(getUniqueId(buffer));
+            return new Event(uniqueId, cause);
+        }
+    };
+
+    /**
+     * Creates a new codec registry with the codec of {@link Event} registered.
+     */
+    public EventCodecRegistry() {
+        this.codecsByType = new ConcurrentHashMap<>();
+        this.codecsById = new ConcurrentHashMap<>();
+
+        register(EVENT_TYPE_ID, Event.class, EVENT_CODEC);
+    }
+
+    /**
+     * The codecs and their identifiers, keyed by event class.
+     */
+    protected final Map<Class<?>, Registration> codecsByType;
+
+    /**
+     * The codecs keyed by identifier.
+     */
+    protected final Map<Integer, EventCodec<?>> codecsById;
+
+    /**
+     * Registers the provided codec for the provided type of event.
+     *
+     * @param id    The stable type identifier of the codec (must be non-negative)
+     * @param type  The class of event the codec encodes
+     * @param codec The codec of which to register
+     * @param <E>   The type of event the codec encodes
+     * @throws IllegalArgumentException When the identifier is negative, or is already registered
+     * @throws NullPointerException     When the type or codec is {@code null}
+     */
+    public <E extends Handleable> void register(int id, Class<E> type, EventCodec<E> codec) {
+        if (id < 0) throw new IllegalArgumentException("Type identifiers must be non-negative.");
+
+        Objects.requireNonNull(type);
+        Objects.requireNonNull(codec);
+
+        if (codecsById.putIfAbsent(id, codec) != null) {
+            throw new IllegalArgumentException("Type identifier " + id + " is already registered.");
+        }
+
+        codecsByType.put(type, new Registration(id, codec));
+    }
+
+    /**
+     * Writes the provided event, preceded by its type identifier, to the provided buffer.
+     *
+     * @param event  The event of which to encode ({@code null} is allowed)
+     * @param buffer The buffer of which to write to
+     * @throws BufferOverflowException When the buffer does not have enough space remaining
+     * @throws UncheckedIOException    When the event has no codec and cannot be serialized
+     */
+    @SuppressWarnings("unchecked")
+    public void encode(Handleable event, ByteBuffer buffer) {
+        if (event == null) {
+            buffer.putInt(NULL_TYPE_ID);
+            return;
+        }
+
+        Registration registration = codecsByType.get(event.getClass());
+
+        if (registration == null) {
+            byte[] bytes = serialize(event);
+            buffer.putInt(SERIALIZED_TYPE_ID);
+            buffer.putInt(bytes.length);
+            buffer.put(bytes);
+            return;
+        }
+
+        buffer.putInt(registration.id());
+        ((EventCodec<Handleable>) registration.codec()).encode(event, buffer, this);
+    }
+
+    /**
+     * Reads an event, preceded by its type identifier, from the provided buffer.
+     *
+     * @param buffer The buffer of which to read from
+     * @return The decoded event, which may be {@code null}
+     * @throws IllegalStateException When the type identifier is not registered
+     * @throws UncheckedIOException  When a serialized event cannot be deserialized
+     */
+    public Handleable decode(ByteBuffer buffer) {
+        int id = buffer.getInt();
+
+        if (id == NULL_TYPE_ID) return null;
+
+        if (id == SERIALIZED_TYPE_ID) {
+            byte[] bytes = new byte[buffer.getInt()];
+            buffer.get(bytes);
+            return deserialize(bytes);
+        }
+
+        EventCodec<?> codec = codecsById.get(id);
+        if (codec == null) throw new IllegalStateException("Unknown type identifier: " + id);
+        return codec.decode(buffer, this);
+    }
+
+    /**
+     * Writes the provided unique identifier, preceded by a flag which marks its presence.
+     *
+     * @param uniqueId The unique identifier of which to write ({@code null} is allowed)
+     * @param buffer   The buffer of which to write to
+     */
+    private static void putUniqueId(UUID uniqueId, ByteBuffer buffer) {
+        buffer.put((byte) (uniqueId == null ? 0 : 1));
+        if (uniqueId == null) return;
+
+        buffer.putLong(uniqueId.getMostSignificantBits());
+        buffer.putLong(uniqueId.getLeastSignificantBits());
+    }
+
+    /**
+     * Reads a unique identifier written by {@link #putUniqueId(UUID, ByteBuffer)}.
+     *
+     * @param buffer The buffer of which to read from
+     * @return The unique identifier, which may be {@code null}
+     */
+    private static UUID getUniqueId(ByteBuffer buffer) {
+        if (buffer.get() == 0) return null;
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    /**
+     * Serializes the provided event using Java serialization.
+     *
+     * @param event The event of which to serialize
+     * @return The serialized form of the event
+     */
+    private static byte[] serialize(Handleable event) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(event);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        return bytes.toByteArray();
+    }
+
+    /**
+     * Deserializes an event using Java serialization.
+     *
+     * @param bytes The serialized form of the event
+     * @return The deserialized event
+     */
+    private static Handleable deserialize(byte[] bytes) {
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return (Handleable) in.readObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (ClassNotFoundException e) {
+            throw new UncheckedIOException(new IOException(e));
+        }
+    }
+
+    /**
+     * A registered codec and its type identifier.
+     *
+     * @param id    The type identifier
+     * @param codec The codec
+     */
+    protected record Registration(int id, EventCodec<?> codec) {}
+}
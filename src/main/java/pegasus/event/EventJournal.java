@@ -0,0 +1,370 @@
+package pegasus.event;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * An append-only journal of events, written to memory-mapped segment files. Events are
+ * encoded with the compact binary codecs of an {@link EventCodecRegistry}, and each segment
+ * is pre-allocated and mapped once, so appending an event is a sequence of memory writes.
+ * When a segment is full, the journal rolls over to a new segment.
+ * <p>
+ * Each record consists of its payload length ({@code int}), the wall-clock time at which it was
+ * appended ({@code long}), and the encoded event. The length is written last, so a record which
+ * was only partially written before a crash is treated as the end of the journal.
+ * <p>
+ * Journals can be attached to an event manager using {@link EventManager#setJournal(EventJournal)},
+ * which appends every event right before it is dispatched. Replaying a journal into an event
+ * manager which has the same journal attached will journal the replayed events again.
+ *
+ * @see EventCodecRegistry
+ * @see EventManager#setJournal(EventJournal)
+ */
+public class EventJournal implements Closeable {
+    /**
+     * The default size of a segment file in bytes.
+     */
+    public static final int DEFAULT_SEGMENT_SIZE = 64 * 1024 * 1024;
+
+    /**
+     * The file extension of segment files.
+     */
+    public static final String SEGMENT_EXTENSION = ".journal";
+
+    /**
+     * The size of a record header in bytes.
+     */
+    private static final int HEADER_SIZE = Integer.BYTES + Long.BYTES;
+
+    /**
+     * Opens the journal in the provided directory with a default codec registry and segment size.
+     *
+     * @param directory The directory of which to store segment files in
+     * @throws IOException When an I/O error occurs
+     */
+    public EventJournal(Path directory) throws IOException {
+        this(directory, new EventCodecRegistry());
+    }
+
+    /**
+     * Opens the journal in the provided directory with the default segment size.
+     *
+     * @param directory The directory of which to store segment files in
+     * @param codecs    The registry of codecs to encode events with
+     * @throws IOException          When an I/O error occurs
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public EventJournal(Path directory, EventCodecRegistry codecs) throws IOException {
+        this(directory, codecs, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * Opens the journal in the provided directory. If the directory already contains segments,
+     * new events are appended after the last complete record, and whatever follows it, such as
+     * a record torn by a crash, is erased.
+     *
+     * @param directory   The directory of which to store segment files in
+     * @param codecs      The registry of codecs to encode events with
+     * @param segmentSize The size of each newly created segment file in bytes
+     * @throws IllegalArgumentException When the segment size is too small to contain a record
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When a {@code null} parameter is provided
+     */
+    public EventJournal(Path directory, EventCodecRegistry codecs, int segmentSize) throws IOException {
+        if (segmentSize <= HEADER_SIZE) {
+            throw new IllegalArgumentException("Segment size is too small.");
+        }
+
+        this.directory = Files.createDirectories(Objects.requireNonNull(directory));
+        this.codecs = Objects.requireNonNull(codecs);
+        this.segmentSize = segmentSize;
+
+        List<Path> segments = segments();
+
+        if (segments.isEmpty()) {
+            this.segmentIndex = 0;
+            this.segment = map(pathOf(0), segmentSize);
+            this.position = 0;
+        } else {
+            Path last = segments.get(segments.size() - 1);
+
+            this.segmentIndex = indexOf(last);
+            this.segment = map(last, Math.max(segmentSize, (int) Files.size(last)));
+            this.position = endOf(segment);
+
+            if (clear(segment, position)) segment.force();
+        }
+    }
+
+    /**
+     * The directory of the segment files.
+     */
+    protected final Path directory;
+
+    /**
+     * The codec registry.
+     */
+    protected final EventCodecRegistry codecs;
+
+    /**
+     * The size of newly created segment files.
+     */
+    protected final int segmentSize;
+
+    /**
+     * The index of the segment currently being written to.
+     */
+    protected long segmentIndex;
+
+    /**
+     * The mapping of the segment currently being written to.
+     */
+    protected MappedByteBuffer segment;
+
+    /**
+     * The write position within the current segment.
+     */
+    protected int position;
+
+    /**
+     * Whether this journal has been closed.
+     */
+    protected boolean closed;
+
+    /**
+     * Appends the provided event to this journal.
+     *
+     * @param event The event of which to append
+     * @throws IllegalArgumentException When the encoded event does not fit in an empty segment
+     * @throws IllegalStateException    When this journal has been closed
+     * @throws IOException              When a new segment cannot be created
+     * @throws NullPointerException     When the provided event is {@code null}
+     */
+    public synchronized void append(Handleable event) throws IOException {
+        Objects.requireNonNull(event);
+        if (closed) throw new IllegalStateException("Journal is closed.");
+
+        while (true) {
+            int start = position;
+
+            if (start + HEADER_SIZE < segment.capacity()) {
+                try {
+                    segment.position(start + HEADER_SIZE);
+                    codecs.encode(event, segment);
+
+                    segment.putLong(start + Integer.BYTES, System.currentTimeMillis());
+                    segment.putInt(start, segment.position() - start - HEADER_SIZE);
+
+                    position = segment.position();
+                    return;
+                } catch (BufferOverflowException ignored) {
+                }
+            }
+
+            if (start == 0) {
+                throw new IllegalArgumentException("Event does not fit in a single journal segment.");
+            }
+
+            roll();
+        }
+    }
+
+    /**
+     * Forces every record appended so far to be written to the storage device.
+     *
+     * @throws IllegalStateException When this journal has been closed
+     */
+    public synchronized void flush() {
+        if (closed) throw new IllegalStateException("Journal is closed.");
+        segment.force();
+    }
+
+    /**
+     * Sequentially enqueues every journaled event to the provided event manager.
+     *
+     * @param manager The event manager of which to replay the events into
+     * @return The number of replayed events
+     * @throws IOException          When an I/O error occurs
+     * @throws NullPointerException When the provided event manager is {@code null}
+     */
+    public long replay(EventManager manager) throws IOException {
+        Objects.requireNonNull(manager);
+        return replay(manager::enqueueEvent);
+    }
+
+    /**
+     * Sequentially decodes every journaled event, and passes it to the provided action.
+     *
+     * @param action The action to perform for each journaled event
+     * @return The number of replayed events
+     * @throws IOException          When an I/O error occurs
+     * @throws NullPointerException When the provided action is {@code null}
+     */
+    public long replay(Consumer<? super Handleable> action) throws IOException {
+        Objects.requireNonNull(action);
+        long count = 0;
+
+        for (Path path : segments()) {
+            MappedByteBuffer buffer;
+
+            try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+                buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            }
+
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+            while (buffer.remaining() >= HEADER_SIZE) {
+                int start = buffer.position();
+                int length = buffer.getInt();
+                if (length <= 0) break;
+
+                buffer.position(start + HEADER_SIZE);
+                action.accept(codecs.decode(buffer));
+                buffer.position(start + HEADER_SIZE + length);
+
+                count++;
+            }
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the segment files of this journal in the order they were written.
+     *
+     * @return A list of this journal's segment files
+     * @throws IOException When an I/O error occurs
+     */
+    public List<Path> segments() throws IOException {
+        try (Stream<Path> files = Files.list(directory)) {
+            return files.filter(p -> p.getFileName().toString().endsWith(SEGMENT_EXTENSION))
+                    .sorted()
+                    .toList();
+        }
+    }
+
+    /**
+     * Forces every appended record to the storage device, and closes this journal.
+     */
+    @Override
+    public synchronized void close() {
+        if (closed) return;
+
+        segment.force();
+        closed = true;
+    }
+
+    /**
+     * Finishes the current segment, and starts writing to a new one.
+     *
+     * @throws IOException When the new segment cannot be created
+     */
+    protected void roll() throws IOException {
+        segment.force();
+
+        segmentIndex++;
+        segment = map(pathOf(segmentIndex), segmentSize);
+        position = 0;
+    }
+
+    /**
+     * Returns the path of the segment file with the provided index.
+     *
+     * @param index The index of the segment
+     * @return The path of the segment file
+     */
+    protected Path pathOf(long index) {
+        return directory.resolve(String.format("%020d", index) + SEGMENT_EXTENSION);
+    }
+
+    /**
+     * Returns the index of the provided segment file.
+     *
+     * @param path The path of the segment file
+     * @return The index of the segment
+     */
+    private static long indexOf(Path path) {
+        String name = path.getFileName().toString();
+        return Long.parseLong(name.substring(0, name.length() - SEGMENT_EXTENSION.length()));
+    }
+
+    /**
+     * Maps the provided segment file for reading and writing, creating it if necessary.
+     *
+     * @param path The path of the segment file
+     * @param size The size of the mapping in bytes
+     * @return The mapped segment
+     * @throws IOException When an I/O error occurs
+     */
+    private static MappedByteBuffer map(Path path, int size) throws IOException {
+        try (FileChannel channel = FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.order(ByteOrder.LITTLE_ENDIAN);
+            return buffer;
+        }
+    }
+
+    /**
+     * Returns the position right after the last complete record of the provided segment.
+     *
+     * @param segment The segment of which to scan
+     * @return The end position of the segment's records
+     */
+    private static int endOf(MappedByteBuffer segment) {
+        int position = 0;
+
+        while (position + HEADER_SIZE < segment.capacity()) {
+            int length = segment.getInt(position);
+            if (length <= 0 || position + HEADER_SIZE + length > segment.capacity()) break;
+
+            position += HEADER_SIZE + length;
+        }
+
+        return position;
+    }
+
+    /**
+     * Zeroes the provided segment from the provided position to its end, so that the bytes of
+     * a torn record cannot be mistaken for a record once shorter records are appended over
+     * them. Bytes which are already zero are not written, leaving sparse pages untouched.
+     *
+     * @param segment  The segment of which to clear
+     * @param position The position of which to start clearing from
+     * @return {@code true} if any byte was cleared
+     */
+    private static boolean clear(MappedByteBuffer segment, int position) {
+        boolean cleared = false;
+
+        for (; position + Long.BYTES <= segment.capacity(); position += Long.BYTES) {
+            if (segment.getLong(position) == 0) continue;
+
+            segment.putLong(position, 0);
+            cleared = true;
+        }
+
+        for (; position < segment.capacity(); position++) {
+            if (segment.get(position) == 0) continue;
+
+            segment.put(position, (byte) 0);
+            cleared = true;
+        }
+
+        return cleared;
+    }
+}
@@ -4,6 +4,9 @@ import pegasus.pointer.ObjectPointer;
 import pegasus.tuple.Tuple;
 
 import java.util.Collection;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 
 /**
  * An event manager.
@@ -38,6 +41,49 @@ public interface EventManager {
      */
     <E extends Handleable> void enqueueEvent(E event);
 
+    /**
+     * Returns the metrics object collecting the dispatch statistics of this event manager.
+     *
+     * @return The metrics object of this event manager, {@code null} if metrics are disabled
+     */
+    EventMetrics getMetrics();
+
+    /**
+     * Sets the metrics object collecting the dispatch statistics of this event manager.
+     *
+     * @param metrics The metrics object of which to collect statistics with ({@code null} to disable metrics)
+     */
+    void setMetrics(EventMetrics metrics);
+
+    /**
+     * Returns the journal to which this event manager appends every event before dispatching it.
+     *
+     * @return The journal of this event manager, {@code null} if journaling is disabled
+     */
+    EventJournal getJournal();
+
+    /**
+     * Sets the journal to which this event manager appends every event before dispatching it.
+     *
+     * @param journal The journal of which to append events to ({@code null} to disable journaling)
+     */
+    void setJournal(EventJournal journal);
+
+    /**
+     * Returns the tracer which records the cause chains and dispatch times of this event manager's events.
+     *
+     * @return The tracer of this event manager, {@code null} if tracing is disabled
+     */
+    EventTracer getTracer();
+
+    /**
+     * Sets the tracer which records the cause chains and dispatch times of this event manager's events.
+     * A tracer can be shared by multiple event managers in order to trace events across them.
+     *
+     * @param tracer The tracer of which to record with ({@code null} to disable tracing)
+     */
+    void setTracer(EventTracer tracer);
+
     /**
      * Registers an event listener to this event manager.
      *
@@ -46,6 +92,17 @@ public interface EventManager {
      */
     void registerListener(Object listener);
 
+    /**
+     * Registers an event listener to this event manager without preventing it from being
+     * garbage collected. Once the listener has been collected, its handlers are no longer
+     * invoked, and are removed from this event manager. Weak listeners can be unregistered
+     * using {@link #unregisterListener(Object)}.
+     *
+     * @param listener The listener of which to register to this event manager
+     * @throws NullPointerException When the provided listener is {@code null}
+     */
+    void registerWeakListener(Object listener);
+
     /**
      * Registers the provided listeners to this event manager.
      *
@@ -82,6 +139,90 @@ public interface EventManager {
      */
     void registerListeners(ObjectPointer<?> listeners);
 
+    /**
+     * Subscribes the provided handler to the events of the provided type which pass the provided
+     * filter. The filter is tested by the event manager before invoking the handler.
+     *
+     * @param eventType The type of event of which to subscribe to
+     * @param filter    The filter of which to test events with
+     * @param handler   The handler of which to pass matching events to
+     * @param <E>       The type of event of which to subscribe to
+     * @return The created subscription
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    <E extends Handleable> Subscription subscribe(Class<E> eventType, Predicate<? super E> filter, Consumer<? super E> handler);
+
+    /**
+     * Subscribes the provided handler to the events of the provided type which pass the provided
+     * filter. The filter is tested by the event manager before invoking the handler.
+     *
+     * @param eventType The type of event of which to subscribe to
+     * @param priority  The execution priority of the handler
+     * @param filter    The filter of which to test events with
+     * @param handler   The handler of which to pass matching events to
+     * @param <E>       The type of event of which to subscribe to
+     * @return The created subscription
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    <E extends Handleable> Subscription subscribe(
+            Class<E> eventType,
+            HandlerPriority priority,
+            Predicate<? super E> filter,
+            Consumer<? super E> handler
+    );
+
+    /**
+     * Subscribes the provided handler to the events of the provided type whose extracted key
+     * is equal to the provided key. Keyed subscriptions are indexed by key, so events are only
+     * passed to the subscriptions of their own key. Subscriptions sharing the same key extractor
+     * instance share the same index.
+     *
+     * @param eventType    The type of event of which to subscribe to
+     * @param keyExtractor The function which extracts the key of an event
+     * @param key          The key of which to subscribe to ({@code null} is allowed)
+     * @param handler      The handler of which to pass matching events to
+     * @param <E>          The type of event of which to subscribe to
+     * @return The created subscription
+     * @throws NullPointerException When the event type, key extractor or handler is {@code null}
+     */
+    <E extends Handleable> Subscription subscribe(
+            Class<E> eventType,
+            Function<? super E, ?> keyExtractor,
+            Object key,
+            Consumer<? super E> handler
+    );
+
+    /**
+     * Subscribes the provided handler to the events of the provided type whose extracted key
+     * is equal to the provided key. Keyed subscriptions are indexed by key, so events are only
+     * passed to the subscriptions of their own key. Subscriptions sharing the same key extractor
+     * instance share the same index.
+     *
+     * @param eventType    The type of event of which to subscribe to
+     * @param priority     The execution priority of the handler
+     * @param keyExtractor The function which extracts the key of an event
+     * @param key          The key of which to subscribe to ({@code null} is allowed)
+     * @param handler      The handler of which to pass matching events to
+     * @param <E>          The type of event of which to subscribe to
+     * @return The created subscription
+     * @throws NullPointerException When the event type, key extractor, priority or handler is {@code null}
+     */
+    <E extends Handleable> Subscription subscribe(
+            Class<E> eventType,
+            HandlerPriority priority,
+            Function<? super E, ?> keyExtractor,
+            Object key,
+            Consumer<? super E> handler
+    );
+
+    /**
+     * Cancels the provided subscription. This does nothing if the subscription is not active.
+     *
+     * @param subscription The subscription of which to cancel
+     * @throws NullPointerException When the provided subscription is {@code null}
+     */
+    void unsubscribe(Subscription subscription);
+
     /**
      * Unregisters an event listener from this event manager.
      *
@@ -0,0 +1,280 @@
+package pegasus.event;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Collects the dispatch statistics of an event manager. This includes the invocation count,
+ * exception count and execution times of every handler, and the time each type of event
+ * spends in the event queue.
+ * <p>
+ * Counters are striped ({@link java.util.concurrent.atomic.LongAdder}), and timing can be
+ * sampled by providing a sampling interval greater than {@link #SAMPLE_ALL}. With an interval
+ * of {@code n}, roughly one in {@code n} invocations and enqueued events are timed, which
+ * keeps the overhead low enough to leave metrics enabled in production.
+ * <p>
+ * The metrics of a handler are cached on its {@link HandlerReference}, so recording an
+ * invocation does not look the handler up. Once a handler has been {@link #forget forgotten},
+ * it is bound to detached metrics which are never registered again.
+ *
+ * @see EventManager#setMetrics(EventMetrics)
+ * @see HandlerMetrics
+ * @see TimeHistogram
+ */
+public class EventMetrics {
+    /**
+     * The sampling interval which times every invocation and event.
+     */
+    public static final int SAMPLE_ALL = 1;
+
+    /**
+     * Creates a new metrics object which times every invocation and event.
+     */
+    public EventMetrics() {
+        this(SAMPLE_ALL);
+    }
+
+    /**
+     * Creates a new metrics object.
+     *
+     * @param samplingInterval The average number of invocations or events per timed sample
+     * @throws IllegalArgumentException When the sampling interval is less than {@code 1}
+     */
+    public EventMetrics(int samplingInterval) {
+        if (samplingInterval < SAMPLE_ALL) {
+            throw new IllegalArgumentException("Sampling interval must be positive.");
+        }
+
+        this.samplingInterval = samplingInterval;
+        this.handlerMetrics = new ConcurrentHashMap<>();
+        this.queueLatencies = new ConcurrentHashMap<>();
+        this.enqueueTimes = new ConcurrentHashMap<>();
+        this.referenceQueue = new ReferenceQueue<>();
+        this.generation = new Object();
+    }
+
+    /**
+     * The sampling interval.
+     */
+    protected final int samplingInterval;
+
+    /**
+     * The map of handler metrics.
+     */
+    protected final Map<HandlerReference, HandlerMetrics> handlerMetrics;
+
+    /**
+     * The map of enqueue-to-dispatch latencies per event type.
+     */
+    protected final Map<Class<? extends Handleable>, TimeHistogram> queueLatencies;
+
+    /**
+     * The enqueue times of the sampled events which have not been dispatched yet, keyed by event
+     * identity so that value-equal events do not overwrite each other's enqueue times. Events are
+     * weakly referenced, so events which are never dispatched do not leak.
+     */
+    protected final Map<PendingEvent, Long> enqueueTimes;
+
+    /**
+     * The queue of pending events which have been garbage collected.
+     */
+    protected final ReferenceQueue<Handleable> referenceQueue;
+
+    /**
+     * The token identifying the current generation of handler metrics. Handler metrics cached
+     * on a handler reference are only valid while their owner is the current generation.
+     */
+    protected volatile Object generation;
+
+    /**
+     * Returns the sampling interval of this metrics object.
+     *
+     * @return The average number of invocations or events per timed sample
+     */
+    public int samplingInterval() {
+        return samplingInterval;
+    }
+
+    /**
+     * Returns whether the current invocation or event should be timed.
+     *
+     * @return {@code true} if the current invocation or event should be timed
+     */
+    public boolean sample() {
+        return samplingInterval == SAMPLE_ALL || ThreadLocalRandom.current().nextInt(samplingInterval) == 0;
+    }
+
+    /**
+     * Returns the metrics of the provided handler, creating them if they do not exist.
+     *
+     * @param handler The handler of which to get the metrics of
+     * @return The metrics of the provided handler
+     * @throws NullPointerException When the provided handler is {@code null}
+     */
+    public HandlerMetrics of(HandlerReference handler) {
+        Object owner = generation;
+
+        HandlerMetrics cached = handler.metrics;
+        if (cached != null && cached.owner == owner) return cached;
+
+        handlerMetrics.compute(handler, (h, metrics) -> {
+            HandlerMetrics bound = handler.metrics;
+            if (bound != null && bound.owner == owner) return metrics;
+
+            if (metrics == null || metrics.owner != owner) metrics = new HandlerMetrics(owner);
+            handler.metrics = metrics;
+            return metrics;
+        });
+
+        return handler.metrics;
+    }
+
+    /**
+     * Returns the enqueue-to-dispatch latency histogram of the provided type of event, creating
+     * it if it does not exist.
+     *
+     * @param eventClass The class of event of which to get the latency histogram of
+     * @return The latency histogram of the provided type of event
+     * @throws NullPointerException When the provided class is {@code null}
+     */
+    public TimeHistogram queueLatencyOf(Class<? extends Handleable> eventClass) {
+        return queueLatencies.computeIfAbsent(eventClass, c -> new TimeHistogram());
+    }
+
+    /**
+     * Returns an unmodifiable view of every handler's metrics.
+     *
+     * @return An unmodifiable view of every handler's metrics
+     */
+    public Map<HandlerReference, HandlerMetrics> handlerMetrics() {
+        return Collections.unmodifiableMap(handlerMetrics);
+    }
+
+    /**
+     * Returns an unmodifiable view of every event type's enqueue-to-dispatch latency histogram.
+     *
+     * @return An unmodifiable view of every event type's latency histogram
+     */
+    public Map<Class<? extends Handleable>, TimeHistogram> queueLatencies() {
+        return Collections.unmodifiableMap(queueLatencies);
+    }
+
+    /**
+     * Records the enqueueing of the provided event if it is sampled.
+     *
+     * @param event The event which was enqueued
+     * @throws NullPointerException When the provided event is {@code null}
+     */
+    public void recordEnqueue(Handleable event) {
+        if (!sample()) return;
+
+        Reference<?> reference;
+        while ((reference = referenceQueue.poll()) != null) {
+            enqueueTimes.remove(reference);
+        }
+
+        enqueueTimes.put(new PendingEvent(event, referenceQueue), System.nanoTime());
+    }
+
+    /**
+     * Records the dispatching of the provided event if its enqueueing was sampled.
+     *
+     * @param event The event which is about to be dispatched
+     * @throws NullPointerException When the provided event is {@code null}
+     */
+    public void recordDispatch(Handleable event) {
+        if (enqueueTimes.isEmpty()) return;
+
+        Long enqueueTime = enqueueTimes.remove(new PendingEvent(event, null));
+        if (enqueueTime == null) return;
+
+        queueLatencyOf(event.getClass()).record(System.nanoTime() - enqueueTime);
+    }
+
+    /**
+     * Removes the metrics of the provided handler. The handler is bound to detached metrics, so
+     * an invocation which is still in progress does not register it again. The metrics of an
+     * equal handler reference are left untouched.
+     *
+     * @param handler The handler of which to remove the metrics of
+     */
+    public void forget(HandlerReference handler) {
+        Object owner = generation;
+
+        handlerMetrics.compute(handler, (h, metrics) -> {
+            HandlerMetrics bound = handler.metrics;
+            handler.metrics = new HandlerMetrics(owner);
+            return metrics == bound ? null : metrics;
+        });
+    }
+
+    /**
+     * Discards the enqueue times of events which have not been dispatched yet. This should be
+     * called when the event queue is cleared.
+     */
+    public void clearPending() {
+        enqueueTimes.clear();
+    }
+
+    /**
+     * Clears every statistic of this metrics object.
+     */
+    public void reset() {
+        generation = new Object();
+        handlerMetrics.clear();
+        queueLatencies.clear();
+        enqueueTimes.clear();
+    }
+
+    /**
+     * A weak reference to a sampled event which is compared by the identity of its referent.
+     * Once the referent has been collected, a pending event is only equal to itself.
+     */
+    protected static class PendingEvent extends WeakReference<Handleable> {
+        /**
+         * Creates a new pending event.
+         *
+         * @param event The event instance
+         * @param queue The queue to enqueue this reference to, or {@code null}
+         */
+        public PendingEvent(Handleable event, ReferenceQueue<Handleable> queue) {
+            super(event, queue);
+            this.hashCode = System.identityHashCode(event);
+        }
+
+        /**
+         * The identity hash code of the event instance.
+         */
+        protected final int hashCode;
+
+        /**
+         * Returns the identity hash code of the event instance.
+         *
+         * @return The identity hash code of the event instance
+         */
+        @Override
+        public int hashCode() {
+            return hashCode;
+        }
+
+        /**
+         * Checks for equality between this pending event and the provided object {@code obj}.
+         *
+         * @param obj The object to compare to
+         * @return {@code true} if the provided object is a pending event referencing the same event
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (this == obj) return true;
+            if (!(obj instanceof PendingEvent other)) return false;
+
+            Handleable event = get();
+            return event != null && event == other.get();
+        }
+    }
+}
@@ -0,0 +1,411 @@
+package pegasus.event;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Routes events to the handlers which accept them. Handlers are grouped into buckets by the
+ * type of event they accept, and the route of each concrete event class (every handler whose
+ * bucket is a superclass or superinterface of the event class, ordered by priority) is computed
+ * once, then cached. Registering or removing a handler only updates the cached routes of the
+ * event classes it applies to, so dispatching never tests handlers which do not apply.
+ * <p>
+ * {@link Subscription#isKeyed() Keyed subscriptions} are not part of the routes. Instead, they
+ * are stored in {@link KeyIndex key indices} (one per event type and key extractor), which map
+ * each key to the subscriptions of that key. The applicable key indices of each event class
+ * are cached the same way as routes.
+ *
+ * @see HandlerReference
+ * @see AbstractEventManager
+ */
+public class EventRouter {
+    /**
+     * An empty route.
+     */
+    private static final HandlerReference[] NO_HANDLERS = new HandlerReference[0];
+
+    /**
+     * An empty array of key indices.
+     */
+    private static final KeyIndex[] NO_INDICES = new KeyIndex[0];
+
+    /**
+     * Creates a new empty router.
+     */
+    public EventRouter() {
+        this.buckets = new HashMap<>();
+        this.routes = new ConcurrentHashMap<>();
+        this.indices = new HashMap<>();
+        this.indexRoutes = new ConcurrentHashMap<>();
+    }
+
+    /**
+     * The handler buckets, keyed by the type of event the handlers accept. This map is guarded
+     * by the monitor of this router.
+     */
+    protected final Map<Class<?>, List<HandlerReference>> buckets;
+
+    /**
+     * The cached routes, keyed by concrete event class. Routes are only modified while holding
+     * the monitor of this router, and are never mutated after being published.
+     */
+    protected final Map<Class<?>, HandlerReference[]> routes;
+
+    /**
+     * The key indices, keyed by the type of event they index. This map is guarded by the
+     * monitor of this router.
+     */
+    protected final Map<Class<?>, List<KeyIndex>> indices;
+
+    /**
+     * The cached key indices of each concrete event class. Arrays are never mutated after
+     * being published.
+     */
+    protected final Map<Class<?>, KeyIndex[]> indexRoutes;
+
+    /**
+     * Returns the handlers of the provided event class, ordered by their natural ordering.
+     * The returned array must not be modified.
+     *
+     * @param eventClass The concrete class of the event
+     * @return The handlers which accept the provided event class
+     * @throws NullPointerException When the provided class is {@code null}
+     */
+    public HandlerReference[] route(Class<? extends Handleable> eventClass) {
+        HandlerReference[] route = routes.get(eventClass);
+        if (route != null) return route;
+
+        synchronized (this) {
+            return routes.computeIfAbsent(eventClass, this::computeRoute);
+        }
+    }
+
+    /**
+     * Returns the key indices which apply to the provided event class. The returned array
+     * must not be modified.
+     *
+     * @param eventClass The concrete class of the event
+     * @return The key indices which apply to the provided event class
+     * @throws NullPointerException When the provided class is {@code null}
+     */
+    public KeyIndex[] indicesOf(Class<? extends Handleable> eventClass) {
+        KeyIndex[] result = indexRoutes.get(eventClass);
+        if (result != null) return result;
+
+        synchronized (this) {
+            return indexRoutes.computeIfAbsent(eventClass, this::computeIndices);
+        }
+    }
+
+    /**
+     * Adds the provided handler to this router. Keyed subscriptions are added to their key index.
+     *
+     * @param handler The handler of which to add
+     * @throws NullPointerException When the provided handler is {@code null}
+     */
+    public synchronized void add(HandlerReference handler) {
+        if (handler instanceof Subscription subscription && subscription.isKeyed()) {
+            addKeyed(subscription);
+            return;
+        }
+
+        buckets.computeIfAbsent(handler.eventType(), t -> new ArrayList<>()).add(handler);
+
+        for (Map.Entry<Class<?>, HandlerReference[]> entry : routes.entrySet()) {
+            if (!handler.eventType().isAssignableFrom(entry.getKey())) continue;
+
+            HandlerReference[] route = entry.getValue();
+            int index = -(Arrays.binarySearch(route, handler) + 1);
+            if (index < 0) continue;
+
+            HandlerReference[] updated = new HandlerReference[route.length + 1];
+            System.arraycopy(route, 0, updated, 0, index);
+            updated[index] = handler;
+            System.arraycopy(route, index, updated, index + 1, route.length - index);
+
+            entry.setValue(updated);
+        }
+    }
+
+    /**
+     * Removes the provided handler from this router.
+     *
+     * @param handler The handler of which to remove
+     * @throws NullPointerException When the provided handler is {@code null}
+     */
+    public synchronized void remove(HandlerReference handler) {
+        if (handler instanceof Subscription subscription && subscription.isKeyed()) {
+            removeKeyed(subscription);
+            return;
+        }
+
+        List<HandlerReference> bucket = buckets.get(handler.eventType());
+        if (bucket == null || !removeIdentical(bucket, handler)) return;
+        if (bucket.isEmpty()) buckets.remove(handler.eventType());
+
+        for (Map.Entry<Class<?>, HandlerReference[]> entry : routes.entrySet()) {
+            if (!handler.eventType().isAssignableFrom(entry.getKey())) continue;
+
+            HandlerReference[] route = entry.getValue();
+            int index = Arrays.binarySearch(route, handler);
+            if (index < 0 || route[index] != handler) continue;
+
+            HandlerReference[] updated = new HandlerReference[route.length - 1];
+            System.arraycopy(route, 0, updated, 0, index);
+            System.arraycopy(route, index + 1, updated, index, route.length - index - 1);
+
+            entry.setValue(updated.length == 0 ? NO_HANDLERS : updated);
+        }
+    }
+
+    /**
+     * Removes every handler and cached route from this router.
+     */
+    public synchronized void clear() {
+        buckets.clear();
+        routes.clear();
+        indices.clear();
+        indexRoutes.clear();
+    }
+
+    /**
+     * Adds the provided keyed subscription to its key index, creating the index if necessary.
+     *
+     * @param subscription The keyed subscription of which to add
+     */
+    protected void addKeyed(Subscription subscription) {
+        List<KeyIndex> typeIndices = indices.computeIfAbsent(subscription.eventType(), t -> new ArrayList<>());
+
+        for (KeyIndex index : typeIndices) {
+            if (index.keyExtractor == subscription.keyExtractor()) {
+                index.add(subscription);
+                return;
+            }
+        }
+
+        KeyIndex index = new KeyIndex(subscription.eventType(), subscription.keyExtractor());
+        index.add(subscription);
+        typeIndices.add(index);
+
+        for (Map.Entry<Class<?>, KeyIndex[]> entry : indexRoutes.entrySet()) {
+            if (!index.eventType.isAssignableFrom(entry.getKey())) continue;
+
+            KeyIndex[] current = entry.getValue();
+            KeyIndex[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = index;
+
+            entry.setValue(updated);
+        }
+    }
+
+    /**
+     * Removes the provided keyed subscription from its key index, removing the index once it is empty.
+     *
+     * @param subscription The keyed subscription of which to remove
+     */
+    protected void removeKeyed(Subscription subscription) {
+        List<KeyIndex> typeIndices = indices.get(subscription.eventType());
+        if (typeIndices == null) return;
+
+        for (KeyIndex index : typeIndices) {
+            if (index.keyExtractor != subscription.keyExtractor()) continue;
+            if (!index.remove(subscription) || !index.isEmpty()) return;
+
+            typeIndices.remove(index);
+            if (typeIndices.isEmpty()) indices.remove(subscription.eventType());
+
+            for (Map.Entry<Class<?>, KeyIndex[]> entry : indexRoutes.entrySet()) {
+                if (!index.eventType.isAssignableFrom(entry.getKey())) continue;
+
+                entry.setValue(Arrays.stream(entry.getValue()).filter(i -> i != index).toArray(KeyIndex[]::new));
+            }
+
+            return;
+        }
+    }
+
+    /**
+     * Computes the applicable key indices of the provided event class.
+     *
+     * @param eventClass The concrete class of the event
+     * @return The computed key indices
+     */
+    protected KeyIndex[] computeIndices(Class<?> eventClass) {
+        List<KeyIndex> result = new ArrayList<>();
+
+        for (Class<?> type : supertypesOf(eventClass)) {
+            List<KeyIndex> typeIndices = indices.get(type);
+            if (typeIndices != null) result.addAll(typeIndices);
+        }
+
+        return result.isEmpty() ? NO_INDICES : result.toArray(KeyIndex[]::new);
+    }
+
+    /**
+     * Computes the route of the provided event class from the handler buckets.
+     *
+     * @param eventClass The concrete class of the event
+     * @return The computed route
+     */
+    protected HandlerReference[] computeRoute(Class<?> eventClass) {
+        List<HandlerReference> route = new ArrayList<>();
+
+        for (Class<?> type : supertypesOf(eventClass)) {
+            List<HandlerReference> bucket = buckets.get(type);
+            if (bucket != null) route.addAll(bucket);
+        }
+
+        if (route.isEmpty()) return NO_HANDLERS;
+
+        HandlerReference[] result = route.toArray(HandlerReference[]::new);
+        Arrays.sort(result);
+
+        return result;
+    }
+
+    /**
+     * Returns the provided class, and all of its superclasses and superinterfaces.
+     *
+     * @param c The class of which to get the supertypes of
+     * @return Every supertype of the provided class, including itself
+     */
+    private static Set<Class<?>> supertypesOf(Class<?> c) {
+        Set<Class<?>> result = new LinkedHashSet<>();
+        Deque<Class<?>> pending = new ArrayDeque<>();
+        pending.add(c);
+
+        while (!pending.isEmpty()) {
+            Class<?> type = pending.poll();
+            if (!result.add(type)) continue;
+
+            if (type.getSuperclass() != null) pending.add(type.getSuperclass());
+            pending.addAll(Arrays.asList(type.getInterfaces()));
+        }
+
+        return result;
+    }
+
+    /**
+     * Removes the provided instance from the provided list, comparing by identity.
+     *
+     * @param list    The list of which to remove from
+     * @param element The element of which to remove
+     * @return {@code true} if the element was removed
+     */
+    private static boolean removeIdentical(List<HandlerReference> list, HandlerReference element) {
+        for (int i = 0; i < list.size(); i++) {
+            if (list.get(i) == element) {
+                list.remove(i);
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    /**
+     * An index of keyed subscriptions which share the same event type and key extractor.
+     * Subscriptions should share a single key extractor instance (e.g. a constant) in order
+     * to share an index.
+     */
+    public static class KeyIndex {
+        /**
+         * The key used in place of {@code null}.
+         */
+        private static final Object NULL_KEY = new Object();
+
+        /**
+         * Creates a new key index.
+         *
+         * @param eventType    The type of event of which to index
+         * @param keyExtractor The function which extracts the key of an event
+         */
+        protected KeyIndex(Class<?> eventType, Function<Handleable, ?> keyExtractor) {
+            this.eventType = eventType;
+            this.keyExtractor = keyExtractor;
+            this.subscriptions = new ConcurrentHashMap<>();
+        }
+
+        /**
+         * The type of event this index applies to.
+         */
+        protected final Class<?> eventType;
+
+        /**
+         * The key extractor.
+         */
+        protected final Function<Handleable, ?> keyExtractor;
+
+        /**
+         * The subscriptions of each key, ordered by their natural ordering. Arrays are never
+         * mutated after being published.
+         */
+        protected final Map<Object, HandlerReference[]> subscriptions;
+
+        /**
+         * Returns the subscriptions of the provided event's key.
+         *
+         * @param event The event of which to look up the subscriptions of
+         * @return The subscriptions of the event's key, {@code null} if there are none
+         * @throws RuntimeException When the key extractor produces an exception
+         */
+        public HandlerReference[] lookup(Handleable event) {
+            Object key = keyExtractor.apply(event);
+            return subscriptions.get(key == null ? NULL_KEY : key);
+        }
+
+        /**
+         * Returns whether this index contains no subscriptions.
+         *
+         * @return {@code true} if this index is empty
+         */
+        public boolean isEmpty() {
+            return subscriptions.isEmpty();
+        }
+
+        /**
+         * Adds the provided subscription to this index.
+         *
+         * @param subscription The subscription of which to add
+         */
+        protected void add(Subscription subscription) {
+            subscriptions.merge(keyOf(subscription), new HandlerReference[]{subscription}, (current, added) -> {
+                HandlerReference[] updated = Arrays.copyOf(current, current.length + 1);
+                updated[current.length] = subscription;
+                Arrays.sort(updated);
+                return updated;
+            });
+        }
+
+        /**
+         * Removes the provided subscription from this index.
+         *
+         * @param subscription The subscription of which to remove
+         * @return {@code true} if the subscription was removed
+         */
+        protected boolean remove(Subscription subscription) {
+            Object key = keyOf(subscription);
+            HandlerReference[] current = subscriptions.get(key);
+            if (current == null) return false;
+
+            HandlerReference[] updated = Arrays.stream(current).filter(s -> s != subscription).toArray(HandlerReference[]::new);
+            if (updated.length == current.length) return false;
+
+            if (updated.length == 0) subscriptions.remove(key);
+            else subscriptions.put(key, updated);
+
+            return true;
+        }
+
+        /**
+         * Returns the index key of the provided subscription.
+         *
+         * @param subscription The subscription
+         * @return The key of the subscription, or the sentinel of {@code null}
+         */
+        private static Object keyOf(Subscription subscription) {
+            return subscription.key() == null ? NULL_KEY : subscription.key();
+        }
+    }
+}
@@ -0,0 +1,389 @@
+package pegasus.event;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.UUID;
+
+/**
+ * Traces cascades of caused events. Every dispatched event is assigned a span, which belongs
+ * to the trace of its {@link Handleable#getCause() cause} if the cause was traced, or starts a new
+ * trace otherwise. The time it takes to dispatch the event to every handler is recorded per span.
+ * <p>
+ * Spans are stored in a fixed-size ring of primitive arrays, and causes are looked up by their
+ * unique identifiers in a fixed-size table, so tracing neither allocates nor retains events.
+ * Once the ring is full, the oldest spans are overwritten. The stored depth of a span is capped
+ * at the maximum depth, and spans beyond it are counted as {@link #truncated() truncated}.
+ *
+ * @see EventManager#setTracer(EventTracer)
+ */
+public class EventTracer {
+    /**
+     * The default number of spans to retain.
+     */
+    public static final int DEFAULT_CAPACITY = 4096;
+
+    /**
+     * The default maximum depth of a trace.
+     */
+    public static final int DEFAULT_MAX_DEPTH = 64;
+
+    /**
+     * The number of slots to probe in the cause table.
+     */
+    private static final int PROBES = 4;
+
+    /**
+     * Creates a new tracer with the default capacity and maximum depth.
+     */
+    public EventTracer() {
+        this(DEFAULT_CAPACITY, DEFAULT_MAX_DEPTH);
+    }
+
+    /**
+     * Creates a new tracer.
+     *
+     * @param capacity The number of spans to retain (rounded up to a power of two)
+     * @param maxDepth The maximum depth of a trace
+     * @throws IllegalArgumentException When either parameter is not positive
+     */
+    public EventTracer(int capacity, int maxDepth) {
+        if (capacity <= 0 || maxDepth <= 0) {
+            throw new IllegalArgumentException("Capacity and maximum depth must be positive.");
+        }
+
+        int size = Integer.highestOneBit(capacity - 1) << 1;
+        if (size <= 0) size = 1;
+
+        this.mask = size - 1;
+        this.maxDepth = maxDepth;
+
+        this.traceIds = new long[size];
+        this.spanIds = new long[size];
+        this.parentIds = new long[size];
+        this.depths = new int[size];
+        this.eventTypes = new Class<?>[size];
+        this.startTimes = new long[size];
+        this.durations = new long[size];
+
+        int tableSize = size * 2;
+        this.tableMask = tableSize - 1;
+        this.keyMostBits = new long[tableSize];
+        this.keyLeastBits = new long[tableSize];
+        this.tableSpans = new long[tableSize];
+    }
+
+    /**
+     * The index mask of the span ring.
+     */
+    protected final int mask;
+
+    /**
+     * The maximum depth of a trace.
+     */
+    protected final int maxDepth;
+
+    /**
+     * The trace identifier of each span.
+     */
+    protected final long[] traceIds;
+
+    /**
+     * The identifier of each span.
+     */
+    protected final long[] spanIds;
+
+    /**
+     * The identifier of each span's parent span, {@code 0} for root spans.
+     */
+    protected final long[] parentIds;
+
+    /**
+     * The depth of each span.
+     */
+    protected final int[] depths;
+
+    /**
+     * The class of each span's event.
+     */
+    protected final Class<?>[] eventTypes;
+
+    /**
+     * The time at which the dispatch of each span's event started.
+     */
+    protected final long[] startTimes;
+
+    /**
+     * The dispatch duration of each span's event, {@code -1} while in progress.
+     */
+    protected final long[] durations;
+
+    /**
+     * The index mask of the cause table.
+     */
+    protected final int tableMask;
+
+    /**
+     * The most significant bits of each traced event's unique identifier.
+     */
+    protected final long[] keyMostBits;
+
+    /**
+     * The least significant bits of each traced event's unique identifier.
+     */
+    protected final long[] keyLeastBits;
+
+    /**
+     * The span identifier of each traced event, {@code 0} for empty slots.
+     */
+    protected final long[] tableSpans;
+
+    /**
+     * The identifier of the most recently started span.
+     */
+    protected long lastSpanId;
+
+    /**
+     * The number of spans whose depth exceeded the maximum depth.
+     */
+    protected long truncated;
+
+    /**
+     * Starts the span of the provided event. Events without a unique identifier are not traced.
+     *
+     * @param event The event which is about to be dispatched
+     * @return The identifier of the started span, {@code 0} if the event was not traced
+     * @throws NullPointerException When the provided event is {@code null}
+     */
+    public synchronized long begin(Handleable event) {
+        UUID uniqueId = event.getUniqueId();
+        if (uniqueId == null) return 0;
+
+        long spanId = ++lastSpanId;
+        int slot = (int) (spanId & mask);
+
+        long parentId = 0;
+        long traceId = spanId;
+        int depth = 0;
+
+        Handleable cause = event.getCause();
+        if (cause != null && cause.getUniqueId() != null) {
+            long parent = lookup(cause.getUniqueId());
+
+            if (parent != 0) {
+                int parentSlot = (int) (parent & mask);
+
+                parentId = parent;
+                traceId = traceIds[parentSlot];
+                depth = depths[parentSlot] + 1;
+
+                if (depth > maxDepth) {
+                    depth = maxDepth;
+                    truncated++;
+                }
+            }
+        }
+
+        traceIds[slot] = traceId;
+        spanIds[slot] = spanId;
+        parentIds[slot] = parentId;
+        depths[slot] = depth;
+        eventTypes[slot] = event.getClass();
+        durations[slot] = -1;
+
+        insert(uniqueId, spanId);
+
+        startTimes[slot] = System.nanoTime();
+        return spanId;
+    }
+
+    /**
+     * Ends the provided span, recording its dispatch duration.
+     *
+     * @param spanId The identifier of the span of which to end ({@code 0} is ignored)
+     */
+    public synchronized void end(long spanId) {
+        long now = System.nanoTime();
+        int slot = (int) (spanId & mask);
+
+        if (spanId == 0 || spanIds[slot] != spanId) return;
+        durations[slot] = now - startTimes[slot];
+    }
+
+    /**
+     * Returns the identifier of the trace the provided event belongs to.
+     *
+     * @param event The event of which to get the trace of
+     * @return The trace identifier of the event, {@code 0} if its span is no longer retained
+     * @throws NullPointerException When the provided event is {@code null}
+     */
+    public synchronized long traceIdOf(Handleable event) {
+        UUID uniqueId = event.getUniqueId();
+        if (uniqueId == null) return 0;
+
+        long spanId = lookup(uniqueId);
+        return spanId == 0 ? 0 : traceIds[(int) (spanId & mask)];
+    }
+
+    /**
+     * Returns the number of spans whose depth exceeded the maximum depth.
+     *
+     * @return The number of truncated spans
+     */
+    public synchronized long truncated() {
+        return truncated;
+    }
+
+    /**
+     * Passes every retained span to the provided consumer, from oldest to newest.
+     *
+     * @param consumer The consumer of which to pass the spans to
+     * @throws NullPointerException When the provided consumer is {@code null}
+     */
+    public synchronized void forEachSpan(SpanConsumer consumer) {
+        Objects.requireNonNull(consumer);
+
+        long first = Math.max(1, lastSpanId - mask);
+        for (long spanId = first; spanId <= lastSpanId; spanId++) {
+            accept(consumer, (int) (spanId & mask));
+        }
+    }
+
+    /**
+     * Passes every retained span of the provided trace to the provided consumer, from oldest to newest.
+     *
+     * @param traceId  The identifier of the trace
+     * @param consumer The consumer of which to pass the spans to
+     * @throws NullPointerException When the provided consumer is {@code null}
+     */
+    public synchronized void forEachSpan(long traceId, SpanConsumer consumer) {
+        Objects.requireNonNull(consumer);
+
+        long first = Math.max(1, lastSpanId - mask);
+        for (long spanId = first; spanId <= lastSpanId; spanId++) {
+            int slot = (int) (spanId & mask);
+            if (traceIds[slot] == traceId) accept(consumer, slot);
+        }
+    }
+
+    /**
+     * Discards every span.
+     */
+    public synchronized void clear() {
+        Arrays.fill(spanIds, 0);
+        Arrays.fill(eventTypes, null);
+        Arrays.fill(tableSpans, 0);
+
+        lastSpanId = 0;
+        truncated = 0;
+    }
+
+    /**
+     * Passes the span at the provided slot to the provided consumer.
+     *
+     * @param consumer The consumer
+     * @param slot     The slot of the span
+     */
+    @SuppressWarnings("unchecked")
+    private void accept(SpanConsumer consumer, int slot) {
+        consumer.accept(
+                traceIds[slot],
+                spanIds[slot],
+                parentIds[slot],
+                depths[slot],
+                (Class<? extends Handleable>) eventTypes[slot],
+                startTimes[slot],
+                durations[slot]
+        );
+    }
+
+    /**
+     * Returns the span identifier of the event with the provided unique identifier.
+     *
+     * @param uniqueId The unique identifier of the event
+     * @return The span identifier, {@code 0} if the event's span is no longer retained
+     */
+    private long lookup(UUID uniqueId) {
+        long most = uniqueId.getMostSignificantBits();
+        long least = uniqueId.getLeastSignificantBits();
+        int index = hash(most, least);
+
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (index + i) & tableMask;
+            long spanId = tableSpans[slot];
+
+            if (spanId != 0 && keyMostBits[slot] == most && keyLeastBits[slot] == least) {
+                return spanId > lastSpanId - mask - 1 ? spanId : 0;
+            }
+        }
+
+        return 0;
+    }
+
+    /**
+     * Maps the provided unique identifier to the provided span, evicting the oldest probed entry
+     * if every probed slot is occupied.
+     *
+     * @param uniqueId The unique identifier of the event
+     * @param spanId   The span identifier of the event
+     */
+    private void insert(UUID uniqueId, long spanId) {
+        long most = uniqueId.getMostSignificantBits();
+        long least = uniqueId.getLeastSignificantBits();
+        int index = hash(most, least);
+
+        int target = index & tableMask;
+        for (int i = 0; i < PROBES; i++) {
+            int slot = (index + i) & tableMask;
+
+            if (tableSpans[slot] == 0 || (keyMostBits[slot] == most && keyLeastBits[slot] == least)) {
+                target = slot;
+                break;
+            }
+
+            if (tableSpans[slot] < tableSpans[target]) target = slot;
+        }
+
+        keyMostBits[target] = most;
+        keyLeastBits[target] = least;
+        tableSpans[target] = spanId;
+    }
+
+    /**
+     * Hashes the provided unique identifier.
+     *
+     * @param most  The most significant bits
+     * @param least The least significant bits
+     * @return The hash of the unique identifier
+     */
+    private static int hash(long most, long least) {
+        long h = (most ^ least) * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    /**
+     * Consumes the recorded spans of a tracer.
+     */
+    @FunctionalInterface
+    public interface SpanConsumer {
+        /**
+         * Accepts a recorded span.
+         *
+         * @param traceId   The identifier of the span's trace
+         * @param spanId    The identifier of the span
+         * @param parentId  The identifier of the parent span, {@code 0} for root spans
+         * @param depth     The (capped) depth of the span within its trace
+         * @param eventType The class of the span's event
+         * @param startTime The {@link System#nanoTime() time} at which the dispatch started
+         * @param duration  The dispatch duration in nanoseconds, {@code -1} if still in progress
+         */
+        void accept(
+                long traceId,
+                long spanId,
+                long parentId,
+                int depth,
+                Class<? extends Handleable> eventType,
+                long startTime,
+                long duration
+        );
+    }
+}
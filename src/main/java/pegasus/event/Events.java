@@ -3,8 +3,9 @@ package pegasus.event;
 import pegasus.exception.IllegalInstanceException;
 
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.Vector;
+import java.util.List;
 
 /**
  * Contains event utilities.
@@ -17,19 +18,63 @@ public final class Events {
     // Handler Extraction
     //
 
+    /**
+     * The cache of listener registries.
+     */
+    private static final ClassValue<ListenerRegistry<Object>> REGISTRIES = new ClassValue<>() {
+        @Override
+        protected ListenerRegistry<Object> computeValue(Class<?> type) {
+            return findRegistry(type);
+        }
+    };
+
     /**
      * Returns a collection of every valid event handler of the provided listener object. All methods,
-     * including those declared in the listener's superclasses will be collected.
+     * including those declared in the listener's superclasses will be collected. If a registry was
+     * generated for the listener's class at compile time, it will be used instead of reflection.
      *
      * @param listener The listener object of which to retrieve event handlers from
      * @param <T>      The type of the listener
      * @return A collection of every valid event handler of the provided event listener
      * @throws NullPointerException When the provided listener is {@code null}
+     * @see ListenerRegistry
      */
     public static <T> Collection<HandlerReference> getHandlersOf(T listener) {
-        return getHandlersOf(listener.getClass(), listener);
+        return REGISTRIES.get(listener.getClass()).getHandlersOf(listener);
     }
 
+    /**
+     * Returns the registry of the provided listener class. This returns the registry generated
+     * at compile time if it exists, or a reflective registry otherwise.
+     *
+     * @param c The class of the listener
+     * @return The registry of the provided listener class
+     * @throws NullPointerException When the provided class is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    static ListenerRegistry<Object> findRegistry(Class<?> c) {
+        try {
+            Class<?> generated = Class.forName(c.getName() + ListenerRegistry.SUFFIX, true, c.getClassLoader());
+            if (ListenerRegistry.class.isAssignableFrom(generated)) {
+                return (ListenerRegistry<Object>) generated.getConstructor().newInstance();
+            }
+        } catch (ReflectiveOperationException | LinkageError ignored) {
+        }
+
+        HandlerMethod[] methods = HANDLER_METHODS.get(c);
+        return listener -> referencesOf(methods, listener);
+    }
+
+    /**
+     * The cache of valid handler methods, including those declared in superclasses, per listener class.
+     */
+    private static final ClassValue<HandlerMethod[]> HANDLER_METHODS = new ClassValue<>() {
+        @Override
+        protected HandlerMethod[] computeValue(Class<?> type) {
+            return findHandlerMethods(type);
+        }
+    };
+
     /**
      * Returns a collection of every valid event handler.
      *
@@ -40,21 +85,66 @@ public final class Events {
      * @throws NullPointerException When a parameter is {@code null}
      */
     static <T> Collection<HandlerReference> getHandlersOf(Class<? extends T> c, T l) {
-        Vector<HandlerReference> handlers = new Vector<>();
+        return referencesOf(HANDLER_METHODS.get(c), l);
+    }
 
-        for (Method method : c.getDeclaredMethods()) {
-            if (!isValidHandler(method)) continue;
-            handlers.add(new HandlerReference(l, method));
-        }
+    /**
+     * Creates a handler reference for each of the provided cached handler methods.
+     *
+     * @param methods The cached handler methods
+     * @param l       The listener instance
+     * @return A list of handler references
+     */
+    private static List<HandlerReference> referencesOf(HandlerMethod[] methods, Object l) {
+        List<HandlerReference> handlers = new ArrayList<>(methods.length);
 
-        Class<?> superclass = c.getSuperclass();
-        if (superclass != null) {
-            handlers.addAll(getHandlersOf(superclass, l));
+        for (HandlerMethod method : methods) {
+            handlers.add(new HandlerReference(l, method.method(), method.eventType(), method.priority()));
         }
 
         return handlers;
     }
 
+    /**
+     * Reflectively collects every valid handler method of the provided class and its superclasses,
+     * making them accessible if possible.
+     *
+     * @param c The class of which to collect handler methods from
+     * @return An array of valid handler methods
+     */
+    @SuppressWarnings("unchecked")
+    private static HandlerMethod[] findHandlerMethods(Class<?> c) {
+        List<HandlerMethod> methods = new ArrayList<>();
+
+        for (Class<?> type = c; type != null; type = type.getSuperclass()) {
+            for (Method method : type.getDeclaredMethods()) {
+                if (!isValidHandler(method)) continue;
+
+                try {
+                    method.setAccessible(true);
+                } catch (Throwable ignored) {
+                }
+
+                methods.add(new HandlerMethod(
+                        method,
+                        (Class<? extends Handleable>) method.getParameterTypes()[0],
+                        method.getAnnotation(EventHandler.class).priority()
+                ));
+            }
+        }
+
+        return methods.toArray(HandlerMethod[]::new);
+    }
+
+    /**
+     * The cached metadata of a valid handler method.
+     *
+     * @param method    The handler method
+     * @param eventType The type of event the handler accepts
+     * @param priority  The execution priority of the handler
+     */
+    private record HandlerMethod(Method method, Class<? extends Handleable> eventType, HandlerPriority priority) {}
+
     /**
      * Returns whether the provided method is a valid event handler method.
      *
@@ -0,0 +1,23 @@
+package pegasus.event;
+
+/**
+ * A reflection-free invoker of an event handler method. Invokers are usually non-capturing
+ * lambdas generated by the {@link pegasus.event.processor.EventHandlerProcessor}, which call
+ * the handler method of the provided listener directly.
+ *
+ * @param <L> The type of the listener
+ * @param <E> The type of event the handler accepts
+ * @see HandlerReference
+ * @see ListenerRegistry
+ */
+@FunctionalInterface
+public interface HandlerInvoker<L, E extends Handleable> {
+    /**
+     * Invokes the handler method of the provided listener.
+     *
+     * @param listener The listener instance
+     * @param event    The event parameter
+     * @throws Throwable When the handler method produces an exception
+     */
+    void invoke(L listener, E event) throws Throwable;
+}
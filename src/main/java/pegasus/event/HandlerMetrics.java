@@ -0,0 +1,119 @@
+package pegasus.event;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The dispatch statistics of a single event handler. Invocations and exceptions are always
+ * counted, while execution times are only recorded for the invocations sampled by the owning
+ * {@link EventMetrics}.
+ *
+ * @see EventMetrics
+ * @see HandlerReference
+ */
+public class HandlerMetrics {
+    /**
+     * Creates a new handler metrics object.
+     */
+    public HandlerMetrics() {
+        this(null);
+    }
+
+    /**
+     * Creates a new handler metrics object owned by a generation of an {@link EventMetrics}.
+     *
+     * @param owner The generation token of the owning metrics object
+     */
+    HandlerMetrics(Object owner) {
+        this.invocations = new LongAdder();
+        this.exceptions = new LongAdder();
+        this.executionTimes = new TimeHistogram();
+        this.owner = owner;
+    }
+
+    /**
+     * The number of invocations.
+     */
+    protected final LongAdder invocations;
+
+    /**
+     * The number of invocations which resulted in an exception.
+     */
+    protected final LongAdder exceptions;
+
+    /**
+     * The sampled execution times.
+     */
+    protected final TimeHistogram executionTimes;
+
+    /**
+     * The generation token of the owning metrics object, or {@code null} if this object is not
+     * owned by one.
+     */
+    final Object owner;
+
+    /**
+     * Returns the number of times the handler was invoked.
+     *
+     * @return The number of invocations
+     */
+    public long invocations() {
+        return invocations.sum();
+    }
+
+    /**
+     * Returns the number of times the handler produced an exception.
+     *
+     * @return The number of exceptions
+     */
+    public long exceptions() {
+        return exceptions.sum();
+    }
+
+    /**
+     * Returns the histogram of sampled execution times.
+     *
+     * @return The histogram of sampled execution times
+     */
+    public TimeHistogram executionTimes() {
+        return executionTimes;
+    }
+
+    /**
+     * Returns the cumulative execution time of the handler. When sampling is enabled, this is
+     * extrapolated from the mean of the sampled execution times.
+     *
+     * @return The (estimated) cumulative execution time in nanoseconds
+     */
+    public long totalTime() {
+        long samples = executionTimes.count();
+        long total = invocations();
+
+        if (samples == 0) return 0;
+        if (samples >= total) return executionTimes.sum();
+
+        return Math.round(executionTimes.mean() * total);
+    }
+
+    /**
+     * Clears every statistic of this object.
+     */
+    public void reset() {
+        invocations.reset();
+        exceptions.reset();
+        executionTimes.reset();
+    }
+
+    /**
+     * Serializes this object into a string.
+     *
+     * @return The string representation of this object
+     */
+    @Override
+    public String toString() {
+        return "HandlerMetrics{" +
+                "invocations=" + invocations() +
+                ", exceptions=" + exceptions() +
+                ", executionTimes=" + executionTimes +
+                '}';
+    }
+}
@@ -3,19 +3,31 @@ package pegasus.event;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
- * A reference to a declared handler method.
+ * A reference to a declared handler method. A handler reference either invokes its method
+ * reflectively, or through a {@link HandlerInvoker} generated at compile time.
+ * <p>
+ * Handler references are naturally ordered by their priority, then by their creation order.
+ * Every handler reference is distinct under this ordering, which is therefore inconsistent
+ * with {@link #equals(Object)}.
  */
-public class HandlerReference {
+public class HandlerReference implements Comparable<HandlerReference> {
     /**
-     * Creates a new handler reference.
+     * The sequence used to order handler references of the same priority.
+     */
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+
+    /**
+     * Creates a new reflective handler reference.
      *
      * @param instance The listener instance
      * @param method   The handler method
      * @throws IllegalArgumentException When the method is invalid
      * @throws NullPointerException     When a {@code null} parameter is provided
      */
+    @SuppressWarnings("unchecked")
     public HandlerReference(Object instance, Method method) {
         this.instance = Objects.requireNonNull(instance);
 
@@ -24,6 +36,10 @@ public class HandlerReference {
         }
 
         this.method = method;
+        this.eventType = (Class<? extends Handleable>) method.getParameterTypes()[0];
+        this.priority = method.getAnnotation(EventHandler.class).priority();
+        this.invoker = null;
+        this.sequence = SEQUENCE.getAndIncrement();
 
         // Attempt to make method visible
 
@@ -34,15 +50,102 @@ public class HandlerReference {
     }
 
     /**
-     * The listener instance.
+     * Creates a new reflective handler reference from a method which has already been
+     * validated and made accessible.
+     *
+     * @param instance  The listener instance
+     * @param method    The handler method
+     * @param eventType The type of event the handler accepts
+     * @param priority  The execution priority of the handler
+     */
+    HandlerReference(Object instance, Method method, Class<? extends Handleable> eventType, HandlerPriority priority) {
+        this.instance = Objects.requireNonNull(instance);
+        this.method = method;
+        this.eventType = eventType;
+        this.priority = priority;
+        this.invoker = null;
+        this.sequence = SEQUENCE.getAndIncrement();
+    }
+
+    /**
+     * Creates a copy of the provided handler reference which does not hold the listener instance.
+     * Subclasses using this constructor manage the listener themselves, and must override
+     * {@link #listener()} and {@link #listenerHashCode()}.
+     *
+     * @param handler The handler reference of which to copy
+     * @throws NullPointerException When the provided handler reference is {@code null}
+     */
+    protected HandlerReference(HandlerReference handler) {
+        this.instance = null;
+        this.method = handler.method;
+        this.eventType = handler.eventType;
+        this.priority = handler.priority;
+        this.invoker = handler.invoker;
+        this.sequence = handler.sequence;
+    }
+
+    /**
+     * Creates a new reflection-free handler reference.
+     *
+     * @param instance  The listener instance
+     * @param eventType The type of event the handler accepts
+     * @param priority  The execution priority of the handler
+     * @param invoker   The invoker which calls the handler method
+     * @param <L>       The type of the listener
+     * @param <E>       The type of event the handler accepts
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    @SuppressWarnings("unchecked")
+    public <L, E extends Handleable> HandlerReference(
+            L instance,
+            Class<E> eventType,
+            HandlerPriority priority,
+            HandlerInvoker<? super L, ? super E> invoker
+    ) {
+        this.instance = Objects.requireNonNull(instance);
+        this.method = null;
+        this.eventType = Objects.requireNonNull(eventType);
+        this.priority = Objects.requireNonNull(priority);
+        this.invoker = (HandlerInvoker<Object, Handleable>) Objects.requireNonNull(invoker);
+        this.sequence = SEQUENCE.getAndIncrement();
+    }
+
+    /**
+     * The listener instance, or {@code null} if the listener is managed by a subclass.
      */
     protected final Object instance;
 
     /**
-     * The handler method.
+     * The handler method, or {@code null} if this reference is reflection-free.
      */
     protected final Method method;
 
+    /**
+     * The type of event the handler accepts.
+     */
+    protected final Class<? extends Handleable> eventType;
+
+    /**
+     * The execution priority of the handler.
+     */
+    protected final HandlerPriority priority;
+
+    /**
+     * The handler invoker, or {@code null} if this reference is reflective.
+     */
+    protected final HandlerInvoker<Object, Handleable> invoker;
+
+    /**
+     * The creation order of this handler reference.
+     */
+    protected final long sequence;
+
+    /**
+     * The metrics this handler was last bound to by {@link EventMetrics#of(HandlerReference)},
+     * cached here so that recording an invocation does not hash this reference.
+     */
+    volatile HandlerMetrics metrics;
+
     /**
      * Returns whether this event handler accepts the provided event class.
      *
@@ -52,7 +155,7 @@ public class HandlerReference {
      * @throws NullPointerException When the provided event class is {@code null}
      */
     public <E extends Handleable> boolean accepts(Class<E> eventClass) {
-        return method.getParameterTypes()[0].isAssignableFrom(eventClass);
+        return eventType.isAssignableFrom(eventClass);
     }
 
     /**
@@ -65,7 +168,37 @@ public class HandlerReference {
      */
     public <E extends Handleable> void invoke(E event)
             throws InvocationTargetException, IllegalAccessException {
-        method.invoke(instance, event);
+        Object listener = listener();
+        if (listener == null) return;
+
+        if (invoker == null) {
+            method.invoke(listener, event);
+            return;
+        }
+
+        try {
+            invoker.invoke(listener, event);
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * Returns the listener instance of this event handler.
+     *
+     * @return The listener instance, {@code null} if the listener is no longer reachable
+     */
+    public Object listener() {
+        return instance;
+    }
+
+    /**
+     * Returns the type of event this event handler accepts.
+     *
+     * @return The type of event this event handler accepts
+     */
+    public Class<? extends Handleable> eventType() {
+        return eventType;
     }
 
     /**
@@ -74,6 +207,56 @@ public class HandlerReference {
      * @return The execution priority of this event handler
      */
     public HandlerPriority priority() {
-        return method.getAnnotation(EventHandler.class).priority();
+        return priority;
+    }
+
+    /**
+     * Compares this handler reference to the provided handler reference by priority, then by
+     * creation order.
+     *
+     * @param other The handler reference to compare to
+     * @return {@inheritDoc}
+     * @throws NullPointerException When the provided handler reference is {@code null}
+     */
+    @Override
+    public int compareTo(HandlerReference other) {
+        int result = priority.compareTo(other.priority);
+        return result != 0 ? result : Long.compare(sequence, other.sequence);
+    }
+
+    /**
+     * Returns the hash code of this handler reference.
+     *
+     * @return The hash code of this handler reference
+     */
+    @Override
+    public int hashCode() {
+        return 31 * listenerHashCode() + Objects.hash(method, invoker, eventType, priority);
+    }
+
+    /**
+     * Returns the identity hash code of the listener instance. This must not change over the
+     * lifetime of this handler reference.
+     *
+     * @return The identity hash code of the listener instance
+     */
+    protected int listenerHashCode() {
+        return System.identityHashCode(instance);
+    }
+
+    /**
+     * Checks for equality between this handler reference and the provided object {@code obj}.
+     *
+     * @param obj The object to compare to
+     * @return {@code true} if the provided object references the same handler of the same listener instance
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) return true;
+        if (!(obj instanceof HandlerReference other)) return false;
+
+        return listener() == other.listener() && Objects.equals(method, other.method)
+                && Objects.equals(invoker, other.invoker) && eventType == other.eventType
+                && priority == other.priority;
     }
 }
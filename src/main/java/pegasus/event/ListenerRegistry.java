@@ -0,0 +1,32 @@
+package pegasus.event;
+
+import java.util.Collection;
+
+/**
+ * Creates the handler references of a listener class. Implementations of this interface are
+ * generated at compile time by the {@link pegasus.event.processor.EventHandlerProcessor}, and are
+ * named after the listener's binary name followed by {@link #SUFFIX}. When a generated registry is
+ * present, {@link Events#getHandlersOf(Object)} uses it instead of reflecting on the listener class.
+ *
+ * @param <L> The type of the listener
+ * @see Events
+ * @see HandlerInvoker
+ */
+@FunctionalInterface
+public interface ListenerRegistry<L> {
+    /**
+     * The suffix appended to the binary name of a listener class to form the name of its
+     * generated registry.
+     */
+    String SUFFIX = "$$EventHandlers";
+
+    /**
+     * Returns a collection of every event handler of the provided listener object, including
+     * those declared in the listener's superclasses.
+     *
+     * @param listener The listener object of which to retrieve event handlers from
+     * @return A collection of every event handler of the provided listener
+     * @throws NullPointerException When the provided listener is {@code null}
+     */
+    Collection<HandlerReference> getHandlersOf(L listener);
+}
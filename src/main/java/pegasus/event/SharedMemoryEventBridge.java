@@ -0,0 +1,469 @@
+package pegasus.event;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Bridges an event manager to a broadcast ring buffer in a memory-mapped file, which lets
+ * processes on the same host exchange events without a network stack or a broker. Every
+ * process maps the same file; events {@link #publish(Handleable) published} by one bridge are
+ * delivered to the event managers of every other bridge of the file.
+ * <p>
+ * Publishers claim space in the ring with an atomic compare-and-set on the shared write cursor,
+ * so any number of processes and threads can publish concurrently. Readers never slow down
+ * publishers: a reader which falls more than one ring capacity behind skips ahead to the
+ * current cursor, and each such overrun is counted as {@link #dropped() dropped}.
+ * <p>
+ * Events are encoded with the codecs of an {@link EventCodecRegistry}, which must assign the
+ * same type identifiers in every process. Bridges start receiving from the current end of the
+ * ring, so events published before a bridge was created are not delivered to it.
+ *
+ * @see EventCodecRegistry
+ * @see EventManager
+ */
+public class SharedMemoryEventBridge extends Thread implements Closeable {
+    /**
+     * The default capacity of the ring in bytes.
+     */
+    public static final int DEFAULT_CAPACITY = 16 * 1024 * 1024;
+
+    /**
+     * The value which marks an initialized ring file.
+     */
+    private static final long MAGIC = 0x5045474153555342L;
+
+    /**
+     * The offsets of the file header fields.
+     */
+    private static final int MAGIC_OFFSET = 0, CAPACITY_OFFSET = 8, CURSOR_OFFSET = 64;
+
+    /**
+     * The offset of the ring within the file. The cursor has its own cache line.
+     */
+    private static final int DATA_OFFSET = 128;
+
+    /**
+     * The offsets of the record header fields, relative to the record.
+     */
+    private static final int LENGTH_OFFSET = 0, SOURCE_OFFSET = 4, SEQUENCE_OFFSET = 8;
+
+    /**
+     * The size of a record header in bytes.
+     */
+    private static final int RECORD_HEADER_SIZE = 16;
+
+    /**
+     * The alignment of records in bytes.
+     */
+    private static final int ALIGNMENT = 16;
+
+    /**
+     * The time after which a reader skips a record which was claimed but never committed.
+     */
+    private static final long STALL_TIMEOUT = 1_000_000_000L;
+
+    /**
+     * The number of idle iterations to busy-spin and to yield for before parking.
+     */
+    private static final int SPIN_LIMIT = 10_000, YIELD_LIMIT = 20_000;
+
+    /**
+     * The time to park for while idle, in nanoseconds.
+     */
+    private static final long PARK_NANOS = 50_000;
+
+    /**
+     * The view of {@code long} values of the mapped file.
+     */
+    private static final VarHandle LONG = MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    /**
+     * The view of {@code int} values of the mapped file.
+     */
+    private static final VarHandle INT = MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+
+    /**
+     * Creates a new bridge with the default capacity and a default codec registry.
+     *
+     * @param file    The ring file shared by every bridged process
+     * @param manager The event manager of which to deliver received events to
+     * @throws IOException          When an I/O error occurs
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public SharedMemoryEventBridge(Path file, EventManager manager) throws IOException {
+        this(file, DEFAULT_CAPACITY, manager, new EventCodecRegistry());
+    }
+
+    /**
+     * Creates a new bridge. If the ring file has already been initialized by another bridge,
+     * its existing capacity is used instead of the provided capacity.
+     *
+     * @param file     The ring file shared by every bridged process
+     * @param capacity The capacity of the ring in bytes (rounded up to a power of two)
+     * @param manager  The event manager of which to deliver received events to
+     * @param codecs   The registry of codecs to encode and decode events with
+     * @throws IllegalArgumentException When the capacity is not positive
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When a {@code null} parameter is provided
+     */
+    public SharedMemoryEventBridge(Path file, int capacity, EventManager manager, EventCodecRegistry codecs)
+            throws IOException {
+        super("SharedMemoryEventBridge");
+
+        if (capacity <= 0) throw new IllegalArgumentException("Capacity must be positive.");
+
+        this.manager = Objects.requireNonNull(manager);
+        this.codecs = Objects.requireNonNull(codecs);
+        this.sourceId = ThreadLocalRandom.current().nextInt();
+        this.dropped = new AtomicLong();
+        this.publishBuffers = ThreadLocal.withInitial(() -> ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN));
+
+        int requested = Math.max(ALIGNMENT, Integer.highestOneBit(capacity - 1) << 1);
+
+        try (FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            FileLock lock = channel.lock();
+
+            try {
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, DATA_OFFSET);
+
+                if ((long) LONG.getVolatile(header, MAGIC_OFFSET) != MAGIC) {
+                    LONG.setVolatile(header, CAPACITY_OFFSET, (long) requested);
+                    LONG.setVolatile(header, CURSOR_OFFSET, 0L);
+                    LONG.setVolatile(header, MAGIC_OFFSET, MAGIC);
+                }
+
+                this.capacity = (int) (long) LONG.getVolatile(header, CAPACITY_OFFSET);
+                this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, DATA_OFFSET + (long) this.capacity);
+            } finally {
+                lock.release();
+            }
+        }
+
+        this.mask = this.capacity - 1;
+        this.position = (long) LONG.getVolatile(buffer, CURSOR_OFFSET);
+    }
+
+    /**
+     * The event manager to deliver received events to.
+     */
+    protected final EventManager manager;
+
+    /**
+     * The codec registry.
+     */
+    protected final EventCodecRegistry codecs;
+
+    /**
+     * The identifier of this bridge, used to skip its own events.
+     */
+    protected final int sourceId;
+
+    /**
+     * The number of times this bridge has skipped ahead in the ring.
+     */
+    protected final AtomicLong dropped;
+
+    /**
+     * The encoding buffer of each publishing thread.
+     */
+    protected final ThreadLocal<ByteBuffer> publishBuffers;
+
+    /**
+     * The capacity of the ring in bytes.
+     */
+    protected final int capacity;
+
+    /**
+     * The index mask of the ring.
+     */
+    protected final int mask;
+
+    /**
+     * The mapped ring file.
+     */
+    protected final MappedByteBuffer buffer;
+
+    /**
+     * The read position of this bridge. This is only accessed by the reading thread.
+     */
+    protected long position;
+
+    /**
+     * Returns the capacity of the ring in bytes.
+     *
+     * @return The capacity of the ring
+     */
+    public int capacity() {
+        return capacity;
+    }
+
+    /**
+     * Returns the number of overruns of this bridge. An overrun occurs when this bridge falls
+     * behind by more than the ring's capacity, or when a publisher never commits a claimed
+     * record. In either case, this bridge skips ahead to the current end of the ring, which
+     * discards every record in between. The records which were overwritten cannot be counted,
+     * and the records after an uncommitted one cannot be located, so a single overrun may lose
+     * any number of events, including committed ones.
+     *
+     * @return The number of overruns
+     */
+    public long dropped() {
+        return dropped.get();
+    }
+
+    /**
+     * Publishes the provided event to every other bridge of the ring file. The event is not
+     * delivered to this bridge's own event manager.
+     *
+     * @param event The event of which to publish
+     * @throws IllegalArgumentException When the encoded event is larger than the ring
+     * @throws NullPointerException     When the provided event is {@code null}
+     */
+    public void publish(Handleable event) {
+        ByteBuffer payload = encode(Objects.requireNonNull(event));
+
+        int length = payload.remaining();
+        int size = align(RECORD_HEADER_SIZE + length);
+
+        if (size > capacity) {
+            throw new IllegalArgumentException("Event is too large for the ring.");
+        }
+
+        while (true) {
+            long cursor = (long) LONG.getVolatile(buffer, CURSOR_OFFSET);
+            int offset = (int) (cursor & mask);
+            int padding = offset + size > capacity ? capacity - offset : 0;
+
+            if (!LONG.compareAndSet(buffer, CURSOR_OFFSET, cursor, cursor + padding + size)) {
+                Thread.onSpinWait();
+                continue;
+            }
+
+            if (padding > 0) {
+                commit(offset, -padding, cursor);
+                cursor += padding;
+                offset = 0;
+            }
+
+            buffer.put(DATA_OFFSET + offset + RECORD_HEADER_SIZE, payload, payload.position(), length);
+            commit(offset, length, cursor);
+            return;
+        }
+    }
+
+    /**
+     * Continuously receives events from the ring, and enqueues them to the event manager
+     * until interrupted.
+     */
+    @Override
+    public void run() {
+        ByteBuffer scratch = ByteBuffer.allocate(1024).order(ByteOrder.LITTLE_ENDIAN);
+        long stalledSince = 0;
+        int idle = 0;
+
+        while (!Thread.interrupted()) {
+            long cursor = (long) LONG.getAcquire(buffer, CURSOR_OFFSET);
+
+            if (position == cursor) {
+                idle(idle++);
+                continue;
+            }
+
+            if (cursor - position > capacity) {
+                skipTo(cursor);
+                continue;
+            }
+
+            int offset = (int) (position & mask);
+            long sequence = (long) LONG.getAcquire(buffer, DATA_OFFSET + offset + SEQUENCE_OFFSET);
+
+            if (sequence != position + 1) {
+                // The record has been claimed, but not committed yet
+                long now = System.nanoTime();
+
+                if (stalledSince == 0) {
+                    stalledSince = now;
+                } else if (now - stalledSince > STALL_TIMEOUT) {
+                    stalledSince = 0;
+                    skipTo(cursor);
+                }
+
+                Thread.onSpinWait();
+                continue;
+            }
+
+            stalledSince = 0;
+            idle = 0;
+
+            int length = (int) INT.get(buffer, DATA_OFFSET + offset + LENGTH_OFFSET);
+            int source = (int) INT.get(buffer, DATA_OFFSET + offset + SOURCE_OFFSET);
+
+            // Only trust the header if the record was not overwritten while it was being read
+            VarHandle.loadLoadFence();
+            long current = (long) LONG.getAcquire(buffer, CURSOR_OFFSET);
+
+            if ((long) LONG.getAcquire(buffer, DATA_OFFSET + offset + SEQUENCE_OFFSET) != position + 1
+                    || current - position > capacity
+                    || !isValidLength(length, offset)) {
+                skipTo(current);
+                continue;
+            }
+
+            if (length < 0) {
+                position += -length;
+                continue;
+            }
+
+            if (source != sourceId) {
+                if (scratch.capacity() < length) {
+                    scratch = ByteBuffer.allocate(Integer.highestOneBit(length) << 1).order(ByteOrder.LITTLE_ENDIAN);
+                }
+
+                scratch.clear();
+                scratch.put(0, buffer, DATA_OFFSET + offset + RECORD_HEADER_SIZE, length);
+                scratch.limit(length);
+
+                // Discard the copy if a publisher has lapped this reader in the meantime
+                VarHandle.loadLoadFence();
+                current = (long) LONG.getAcquire(buffer, CURSOR_OFFSET);
+                if (current - position > capacity) {
+                    skipTo(current);
+                    continue;
+                }
+
+                deliver(scratch);
+            }
+
+            position += align(RECORD_HEADER_SIZE + length);
+        }
+    }
+
+    /**
+     * Stops receiving events.
+     */
+    @Override
+    public void close() {
+        interrupt();
+    }
+
+    /**
+     * Decodes the provided payload, and enqueues the event to the event manager. Decoding
+     * errors are printed, and the event is skipped.
+     *
+     * @param payload The encoded event
+     */
+    protected void deliver(ByteBuffer payload) {
+        Handleable event;
+
+        try {
+            event = codecs.decode(payload);
+        } catch (RuntimeException e) {
+            e.printStackTrace(System.out);
+            return;
+        }
+
+        if (event != null) manager.enqueueEvent(event);
+    }
+
+    /**
+     * Encodes the provided event into the calling thread's encoding buffer.
+     *
+     * @param event The event of which to encode
+     * @return The encoding buffer, flipped for reading
+     */
+    private ByteBuffer encode(Handleable event) {
+        ByteBuffer payload = publishBuffers.get();
+
+        while (true) {
+            try {
+                payload.clear();
+                codecs.encode(event, payload);
+                return payload.flip();
+            } catch (BufferOverflowException e) {
+                payload = ByteBuffer.allocate(payload.capacity() * 2).order(ByteOrder.LITTLE_ENDIAN);
+                publishBuffers.set(payload);
+            }
+        }
+    }
+
+    /**
+     * Writes the header of a record, publishing it to readers.
+     *
+     * @param offset   The offset of the record within the ring
+     * @param length   The length of the payload, or the negated size of a padding record
+     * @param position The position at which the record was claimed
+     */
+    private void commit(int offset, int length, long position) {
+        INT.set(buffer, DATA_OFFSET + offset + LENGTH_OFFSET, length);
+        INT.set(buffer, DATA_OFFSET + offset + SOURCE_OFFSET, sourceId);
+        LONG.setRelease(buffer, DATA_OFFSET + offset + SEQUENCE_OFFSET, position + 1);
+    }
+
+    /**
+     * Checks if the provided record length could have been written by a publisher at the
+     * provided offset. Padding records always extend to the end of the ring, and payloads
+     * never extend past it.
+     *
+     * @param length The length read from the record header
+     * @param offset The offset of the record within the ring
+     * @return {@code true} if the length is valid
+     */
+    private boolean isValidLength(int length, int offset) {
+        if (length < 0) return -length == capacity - offset;
+        return length <= capacity - offset - RECORD_HEADER_SIZE;
+    }
+
+    /**
+     * Skips every record up to the provided cursor, counting an overrun.
+     *
+     * @param cursor The position of which to skip to
+     */
+    private void skipTo(long cursor) {
+        dropped.incrementAndGet();
+        position = cursor;
+    }
+
+    /**
+     * Waits while there are no records to read, backing off from spinning to yielding to parking.
+     *
+     * @param iteration The number of consecutive idle iterations
+     */
+    private static void idle(int iteration) {
+        if (iteration < SPIN_LIMIT) {
+            Thread.onSpinWait();
+        } else if (iteration < YIELD_LIMIT) {
+            Thread.yield();
+        } else {
+            LockSupport.parkNanos(PARK_NANOS);
+        }
+    }
+
+    /**
+     * Rounds the provided size up to the record alignment.
+     *
+     * @param size The size of which to align
+     * @return The aligned size
+     */
+    private static int align(int size) {
+        return (size + ALIGNMENT - 1) & -ALIGNMENT;
+    }
+}
@@ -0,0 +1,144 @@
+package pegasus.event;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A functional event handler registered through {@link EventManager#subscribe(Class, Predicate, Consumer)}
+ * or one of its overloads. A subscription may have a filter, which is tested before invoking
+ * the handler, or a key, in which case the event manager indexes the subscription by its key
+ * and only invokes it for events whose extracted key is equal to it.
+ *
+ * @see EventManager
+ * @see EventRouter
+ */
+public class Subscription extends HandlerReference {
+    /**
+     * The invoker which passes the event to the subscription's consumer.
+     */
+    private static final HandlerInvoker<Consumer<Handleable>, Handleable> CONSUMER_INVOKER = Consumer::accept;
+
+    /**
+     * Creates a new subscription.
+     *
+     * @param eventType    The type of event of which to subscribe to
+     * @param priority     The execution priority of the handler
+     * @param filter       The filter to test events with, or {@code null} to accept every event
+     * @param keyExtractor The function which extracts the key of an event, or {@code null} if this
+     *                     subscription is not keyed
+     * @param key          The key of which to match the extracted key of events against
+     * @param handler      The handler to pass matching events to
+     * @param <E>          The type of event of which to subscribe to
+     * @throws NullPointerException When the event type, priority or handler is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <E extends Handleable> Subscription(
+            Class<E> eventType,
+            HandlerPriority priority,
+            Predicate<? super E> filter,
+            Function<? super E, ?> keyExtractor,
+            Object key,
+            Consumer<? super E> handler
+    ) {
+        super(
+                (Consumer<Handleable>) Objects.requireNonNull(handler),
+                (Class<Handleable>) eventType,
+                priority,
+                CONSUMER_INVOKER
+        );
+
+        this.filter = (Predicate<Handleable>) filter;
+        this.keyExtractor = (Function<Handleable, ?>) keyExtractor;
+        this.key = key;
+    }
+
+    /**
+     * The filter, or {@code null} if this subscription accepts every event of its type.
+     */
+    protected final Predicate<Handleable> filter;
+
+    /**
+     * The key extractor, or {@code null} if this subscription is not keyed.
+     */
+    protected final Function<Handleable, ?> keyExtractor;
+
+    /**
+     * The key of this subscription.
+     */
+    protected final Object key;
+
+    /**
+     * Returns whether this subscription is indexed by key.
+     *
+     * @return {@code true} if this subscription is keyed
+     */
+    public boolean isKeyed() {
+        return keyExtractor != null;
+    }
+
+    /**
+     * Returns the key extractor of this subscription.
+     *
+     * @return The key extractor of this subscription, {@code null} if this subscription is not keyed
+     */
+    public Function<Handleable, ?> keyExtractor() {
+        return keyExtractor;
+    }
+
+    /**
+     * Returns the key of this subscription.
+     *
+     * @return The key of this subscription
+     */
+    public Object key() {
+        return key;
+    }
+
+    /**
+     * Invokes this subscription's handler if the provided event passes its filter. The key of
+     * keyed subscriptions is matched by the event manager before invoking them.
+     *
+     * @param event The event parameter
+     * @param <E>   The type of the event parameter
+     * @throws InvocationTargetException When the filter or the handler produces an exception
+     * @throws IllegalAccessException    Never thrown by subscriptions
+     */
+    @Override
+    public <E extends Handleable> void invoke(E event) throws InvocationTargetException, IllegalAccessException {
+        if (filter != null) {
+            try {
+                if (!filter.test(event)) return;
+            } catch (RuntimeException e) {
+                throw new InvocationTargetException(e);
+            }
+        }
+
+        super.invoke(event);
+    }
+
+    /**
+     * Returns the identity hash code of this subscription.
+     *
+     * @return The hash code of this subscription
+     */
+    @Override
+    public int hashCode() {
+        return System.identityHashCode(this);
+    }
+
+    /**
+     * Checks for identity. Every call to {@code subscribe} creates a distinct subscription, even if
+     * another subscription has the same consumer, event type and priority, since their filters
+     * and keys may differ.
+     *
+     * @param obj The object to compare to
+     * @return {@code true} if the provided object is this subscription
+     */
+    @Override
+    public boolean equals(Object obj) {
+        return this == obj;
+    }
+}
@@ -0,0 +1,208 @@
+package pegasus.event;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free log-linear histogram of durations in nanoseconds. Every power of two is split
+ * into {@value #SUB_BUCKETS} linear sub-buckets, which bounds the relative error of the
+ * reported quantiles to {@code 1 / }{@value #SUB_BUCKETS} while keeping the recording cost
+ * to a single atomic increment.
+ *
+ * @see EventMetrics
+ * @see HandlerMetrics
+ */
+public class TimeHistogram {
+    /**
+     * The number of linear sub-buckets per power of two.
+     */
+    public static final int SUB_BUCKETS = 16;
+
+    /**
+     * The binary logarithm of {@link #SUB_BUCKETS}.
+     */
+    private static final int SUB_BUCKET_BITS = 4;
+
+    /**
+     * The total number of buckets required to cover every positive {@code long} value.
+     */
+    private static final int BUCKET_COUNT = SUB_BUCKETS + (63 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+    /**
+     * Creates a new empty histogram.
+     */
+    public TimeHistogram() {
+        this.buckets = new AtomicLongArray(BUCKET_COUNT);
+        this.count = new LongAdder();
+        this.sum = new LongAdder();
+        this.max = new AtomicLong();
+    }
+
+    /**
+     * The bucket counters.
+     */
+    protected final AtomicLongArray buckets;
+
+    /**
+     * The number of recorded values.
+     */
+    protected final LongAdder count;
+
+    /**
+     * The sum of every recorded value.
+     */
+    protected final LongAdder sum;
+
+    /**
+     * The largest recorded value.
+     */
+    protected final AtomicLong max;
+
+    /**
+     * Records the provided duration. Negative durations are recorded as zero.
+     *
+     * @param nanos The duration of which to record in nanoseconds
+     */
+    public void record(long nanos) {
+        long value = Math.max(nanos, 0);
+
+        buckets.incrementAndGet(indexOf(value));
+        count.increment();
+        sum.add(value);
+
+        long previous = max.get();
+        while (value > previous && !max.compareAndSet(previous, value)) {
+            previous = max.get();
+        }
+    }
+
+    /**
+     * Returns the number of recorded values.
+     *
+     * @return The number of recorded values
+     */
+    public long count() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of every recorded value.
+     *
+     * @return The sum of every recorded value in nanoseconds
+     */
+    public long sum() {
+        return sum.sum();
+    }
+
+    /**
+     * Returns the largest recorded value.
+     *
+     * @return The largest recorded value in nanoseconds, {@code 0} if this histogram is empty
+     */
+    public long max() {
+        return max.get();
+    }
+
+    /**
+     * Returns the arithmetic mean of the recorded values.
+     *
+     * @return The mean of the recorded values in nanoseconds, {@code 0} if this histogram is empty
+     */
+    public double mean() {
+        long n = count();
+        return n == 0 ? 0 : (double) sum() / n;
+    }
+
+    /**
+     * Returns the approximate value at the provided quantile. The returned value is the upper
+     * bound of the bucket containing the quantile, capped at {@link #max()}.
+     *
+     * @param quantile The quantile of which to query (e.g. {@code 0.99} for the 99th percentile)
+     * @return The approximate value at the provided quantile in nanoseconds
+     * @throws IllegalArgumentException When the quantile is not within the range of {@code [0, 1]}
+     */
+    public long valueAtQuantile(double quantile) {
+        if (!(quantile >= 0 && quantile <= 1)) {
+            throw new IllegalArgumentException("Quantile must be within the range of [0, 1].");
+        }
+
+        long total = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            total += buckets.get(i);
+        }
+
+        if (total == 0) return 0;
+
+        long rank = Math.max(1, (long) Math.ceil(quantile * total));
+        long seen = 0;
+
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            seen += buckets.get(i);
+            if (seen >= rank) return Math.min(upperBoundOf(i), max());
+        }
+
+        return max();
+    }
+
+    /**
+     * Clears every recorded value from this histogram.
+     */
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+
+        count.reset();
+        sum.reset();
+        max.set(0);
+    }
+
+    /**
+     * Serializes this histogram into a string.
+     *
+     * @return The string representation of this histogram
+     */
+    @Override
+    public String toString() {
+        return "TimeHistogram{" +
+                "count=" + count() +
+                ", mean=" + mean() +
+                ", p50=" + valueAtQuantile(0.5) +
+                ", p99=" + valueAtQuantile(0.99) +
+                ", max=" + max() +
+                '}';
+    }
+
+    /**
+     * Returns the index of the bucket which contains the provided non-negative value.
+     *
+     * @param value The value of which to find the bucket of
+     * @return The index of the corresponding bucket
+     */
+    static int indexOf(long value) {
+        if (value < SUB_BUCKETS) return (int) value;
+
+        int exponent = 63 - Long.numberOfLeadingZeros(value);
+        int shift = exponent - SUB_BUCKET_BITS;
+        int sub = (int) (value >>> shift) - SUB_BUCKETS;
+
+        return SUB_BUCKETS + shift * SUB_BUCKETS + sub;
+    }
+
+    /**
+     * Returns the largest value which belongs to the bucket at the provided index.
+     *
+     * @param index The index of the bucket
+     * @return The inclusive upper bound of the bucket
+     */
+    static long upperBoundOf(int index) {
+        if (index < SUB_BUCKETS) return index;
+
+        int shift = (index - SUB_BUCKETS) / SUB_BUCKETS;
+        int sub = (index - SUB_BUCKETS) % SUB_BUCKETS;
+        long lower = (long) (SUB_BUCKETS + sub) << shift;
+
+        return lower + ((1L << shift) - 1);
+    }
+}
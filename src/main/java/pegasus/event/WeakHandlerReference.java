@@ -0,0 +1,65 @@
+package pegasus.event;
+
+import java.lang.ref.Reference;
+import java.util.Objects;
+
+/**
+ * A handler reference which does not prevent its listener from being garbage collected.
+ * Once the listener has been collected, invoking this handler does nothing, and the owning
+ * event manager removes it when the listener's reference is enqueued.
+ *
+ * @see EventManager#registerWeakListener(Object)
+ */
+public class WeakHandlerReference extends HandlerReference {
+    /**
+     * Creates a new weak handler reference.
+     *
+     * @param handler   The handler reference of which to copy
+     * @param reference The reference to the handler's listener instance
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public WeakHandlerReference(HandlerReference handler, Reference<?> reference) {
+        super(handler);
+        this.reference = Objects.requireNonNull(reference);
+        this.listenerHashCode = handler.listenerHashCode();
+    }
+
+    /**
+     * The reference to the listener instance.
+     */
+    protected final Reference<?> reference;
+
+    /**
+     * The identity hash code of the listener instance.
+     */
+    protected final int listenerHashCode;
+
+    /**
+     * Returns the reference to the listener instance of this event handler.
+     *
+     * @return The reference to the listener instance
+     */
+    public Reference<?> reference() {
+        return reference;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public Object listener() {
+        return reference.get();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected int listenerHashCode() {
+        return listenerHashCode;
+    }
+}
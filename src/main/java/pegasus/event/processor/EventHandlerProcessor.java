@@ -0,0 +1,319 @@
+package pegasus.event.processor;
+
+import pegasus.event.EventHandler;
+import pegasus.event.Handleable;
+import pegasus.event.HandlerPriority;
+import pegasus.event.ListenerRegistry;
+
+import javax.annotation.processing.*;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.*;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.lang.model.util.ElementFilter;
+import javax.tools.Diagnostic;
+import javax.tools.JavaFileObject;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.util.*;
+
+/**
+ * Generates a {@link ListenerRegistry} for every listener class which declares or inherits
+ * {@link EventHandler event handler} methods. The generated registries invoke the handler methods
+ * directly through non-capturing lambdas, which makes listener registration reflection-free.
+ * <p>
+ * A registry is only generated when every handler method of the listener can be called from the
+ * listener's package. Listeners with inaccessible (e.g. {@code private}) handlers fall back to
+ * reflective registration at runtime.
+ * <p>
+ * Fallbacks and ignored handler methods are reported as notes, so that the processor does not
+ * produce warnings in builds which merely have it on the class path. Passing
+ * {@code -A}{@value #WARNINGS_OPTION}{@code =true} to the compiler reports them as warnings instead.
+ *
+ * @see ListenerRegistry
+ * @see EventHandler
+ */
+@SupportedAnnotationTypes("pegasus.event.EventHandler")
+@SupportedOptions(EventHandlerProcessor.WARNINGS_OPTION)
+public class EventHandlerProcessor extends AbstractProcessor {
+    /**
+     * The name of the processor option which reports fallbacks and ignored handlers as warnings.
+     */
+    public static final String WARNINGS_OPTION = "pegasus.event.processor.warnings";
+
+    /**
+     * Creates a new event handler processor.
+     */
+    public EventHandlerProcessor() {
+    }
+
+    /**
+     * The names of the listener classes which have already been processed.
+     */
+    private final Set<String> processed = new HashSet<>();
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param annotations {@inheritDoc}
+     * @param roundEnv    {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv) {
+        List<TypeElement> types = new ArrayList<>();
+        collectTypes(ElementFilter.typesIn(roundEnv.getRootElements()), types);
+
+        for (TypeElement type : types) {
+            if (!processed.add(type.getQualifiedName().toString())) continue;
+            process(type);
+        }
+
+        return false;
+    }
+
+    /**
+     * Recursively collects the provided types and their member types.
+     *
+     * @param types  The types of which to collect
+     * @param result The list of which to add the types to
+     */
+    private void collectTypes(Collection<? extends TypeElement> types, List<TypeElement> result) {
+        for (TypeElement type : types) {
+            result.add(type);
+            collectTypes(ElementFilter.typesIn(type.getEnclosedElements()), result);
+        }
+    }
+
+    /**
+     * Generates the registry of the provided listener class if it has any event handlers.
+     *
+     * @param listener The listener class
+     */
+    private void process(TypeElement listener) {
+        if (listener.getKind() != ElementKind.CLASS && listener.getKind() != ElementKind.ENUM
+                && listener.getKind() != ElementKind.RECORD) return;
+        if (listener.getModifiers().contains(Modifier.ABSTRACT)) return;
+
+        List<ExecutableElement> handlers = new ArrayList<>();
+
+        for (TypeElement type = listener; type != null; type = superclassOf(type)) {
+            for (ExecutableElement method : ElementFilter.methodsIn(type.getEnclosedElements())) {
+                if (method.getAnnotation(EventHandler.class) == null) continue;
+
+                if (!isValidHandler(method)) {
+                    if (type == listener) {
+                        report("Invalid event handler method; it will be ignored.", method);
+                    }
+
+                    continue;
+                }
+
+                handlers.add(method);
+            }
+        }
+
+        if (handlers.isEmpty()) return;
+
+        if (!isAccessible(listener)) {
+            warnFallback(listener, "the listener class is not accessible from its package");
+            return;
+        }
+
+        for (ExecutableElement handler : handlers) {
+            if (!isAccessible(handler, listener)) {
+                warnFallback(listener, "handler " + handler.getEnclosingElement().getSimpleName()
+                        + "." + handler.getSimpleName() + " is not accessible from the listener's package");
+                return;
+            }
+
+            TypeMirror parameter = handler.getParameters().get(0).asType();
+            if (parameter.getKind() != TypeKind.DECLARED) {
+                warnFallback(listener, "handler " + handler.getSimpleName() + " has a generic event parameter");
+                return;
+            }
+        }
+
+        try {
+            generate(listener, handlers);
+        } catch (IOException e) {
+            processingEnv.getMessager().printMessage(
+                    Diagnostic.Kind.ERROR,
+                    "Failed to generate event handler registry: " + e.getMessage(),
+                    listener
+            );
+        }
+    }
+
+    /**
+     * Returns whether the provided method is a valid event handler method. This mirrors
+     * the runtime validation of {@code Events}.
+     *
+     * @param method The method of which to validate
+     * @return {@code true} if the method is a valid event handler
+     */
+    private boolean isValidHandler(ExecutableElement method) {
+        if (method.getReturnType().getKind() != TypeKind.VOID) return false;
+        if (method.getParameters().size() != 1) return false;
+
+        TypeMirror handleable = processingEnv.getElementUtils()
+                .getTypeElement(Handleable.class.getCanonicalName()).asType();
+        TypeMirror parameter = processingEnv.getTypeUtils().erasure(method.getParameters().get(0).asType());
+
+        return processingEnv.getTypeUtils().isAssignable(parameter, handleable);
+    }
+
+    /**
+     * Returns whether the provided class and its enclosing classes are accessible from its package.
+     *
+     * @param type The class of which to check
+     * @return {@code true} if the class can be referenced from its package
+     */
+    private boolean isAccessible(TypeElement type) {
+        for (Element e = type; e instanceof TypeElement; e = e.getEnclosingElement()) {
+            if (e.getModifiers().contains(Modifier.PRIVATE)) return false;
+            if (((TypeElement) e).getNestingKind() == NestingKind.LOCAL) return false;
+            if (((TypeElement) e).getNestingKind() == NestingKind.ANONYMOUS) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns whether the provided handler method can be called from the package of the provided listener.
+     *
+     * @param handler  The handler method
+     * @param listener The listener class
+     * @return {@code true} if the handler can be called from the listener's package
+     */
+    private boolean isAccessible(ExecutableElement handler, TypeElement listener) {
+        Set<Modifier> modifiers = handler.getModifiers();
+
+        if (modifiers.contains(Modifier.PRIVATE)) return false;
+        if (modifiers.contains(Modifier.PUBLIC)) return true;
+
+        PackageElement handlerPackage = processingEnv.getElementUtils().getPackageOf(handler);
+        PackageElement listenerPackage = processingEnv.getElementUtils().getPackageOf(listener);
+
+        return handlerPackage.getQualifiedName().contentEquals(listenerPackage.getQualifiedName());
+    }
+
+    /**
+     * Reports that the provided listener will fall back to reflective registration.
+     *
+     * @param listener The listener class
+     * @param reason   The reason of the fallback
+     */
+    private void warnFallback(TypeElement listener, String reason) {
+        report("No event handler registry generated because " + reason + "; reflection will be used instead.", listener);
+    }
+
+    /**
+     * Reports the provided message as a note, or as a warning if {@value #WARNINGS_OPTION} is enabled.
+     *
+     * @param message The message of which to report
+     * @param element The element the message refers to
+     */
+    private void report(String message, Element element) {
+        boolean warn = Boolean.parseBoolean(processingEnv.getOptions().get(WARNINGS_OPTION));
+        processingEnv.getMessager().printMessage(warn ? Diagnostic.Kind.WARNING : Diagnostic.Kind.NOTE, message, element);
+    }
+
+    /**
+     * Returns the superclass of the provided class.
+     *
+     * @param type The class of which to get the superclass of
+     * @return The superclass of the provided class, {@code null} if there is none
+     */
+    private TypeElement superclassOf(TypeElement type) {
+        TypeMirror superclass = type.getSuperclass();
+        if (superclass.getKind() != TypeKind.DECLARED) return null;
+
+        return (TypeElement) ((DeclaredType) superclass).asElement();
+    }
+
+    /**
+     * Writes the source file of the provided listener's registry.
+     *
+     * @param listener The listener class
+     * @param handlers The handler methods of the listener
+     * @throws IOException When an I/O error occurs
+     */
+    private void generate(TypeElement listener, List<ExecutableElement> handlers) throws IOException {
+        String packageName = processingEnv.getElementUtils().getPackageOf(listener).getQualifiedName().toString();
+        String binaryName = processingEnv.getElementUtils().getBinaryName(listener).toString();
+        String simpleName = (packageName.isEmpty() ? binaryName : binaryName.substring(packageName.length() + 1))
+                + ListenerRegistry.SUFFIX;
+        String listenerType = typeNameOf(listener);
+
+        JavaFileObject file = processingEnv.getFiler().createSourceFile(
+                packageName.isEmpty() ? simpleName : packageName + "." + simpleName,
+                listener
+        );
+
+        try (PrintWriter out = new PrintWriter(file.openWriter())) {
+            if (!packageName.isEmpty()) {
+                out.println("package " + packageName + ";");
+                out.println();
+            }
+
+            out.println("@javax.annotation.processing.Generated(\"" + getClass().getName() + "\")");
+            out.println("@SuppressWarnings({\"unchecked\", \"rawtypes\"})");
+            out.println("public final class " + simpleName + " implements "
+                    + ListenerRegistry.class.getCanonicalName() + "<" + listenerType + "> {");
+            out.println("    @Override");
+            out.println("    public java.util.List<pegasus.event.HandlerReference> getHandlersOf("
+                    + listenerType + " listener) {");
+            out.println("        return java.util.List.of(");
+
+            for (int i = 0; i < handlers.size(); i++) {
+                ExecutableElement handler = handlers.get(i);
+
+                TypeElement declaringType = (TypeElement) handler.getEnclosingElement();
+                TypeMirror eventType = processingEnv.getTypeUtils().erasure(handler.getParameters().get(0).asType());
+                HandlerPriority priority = handler.getAnnotation(EventHandler.class).priority();
+
+                String target = handler.getModifiers().contains(Modifier.STATIC)
+                        ? declaringType.getQualifiedName().toString()
+                        : "l";
+
+                out.println("                new pegasus.event.HandlerReference(");
+                out.println("                        listener,");
+                out.println("                        " + eventType + ".class,");
+                out.println("                        pegasus.event.HandlerPriority." + priority.name() + ",");
+                out.println("                        (" + listenerType + " l, " + eventType + " e) -> "
+                        + target + "." + handler.getSimpleName() + "(e)");
+                out.println("                )" + (i < handlers.size() - 1 ? "," : ""));
+            }
+
+            out.println("        );");
+            out.println("    }");
+            out.println("}");
+        }
+    }
+
+    /**
+     * Returns the source-level name of the provided class, using wildcards for its type parameters.
+     *
+     * @param type The class of which to get the name of
+     * @return The source-level name of the provided class
+     */
+    private String typeNameOf(TypeElement type) {
+        String name = type.getQualifiedName().toString();
+        int parameters = type.getTypeParameters().size();
+
+        if (parameters == 0) return name;
+        return name + "<" + String.join(", ", Collections.nCopies(parameters, "?")) + ">";
+    }
+}
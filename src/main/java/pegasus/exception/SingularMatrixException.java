@@ -0,0 +1,22 @@
+package pegasus.exception;
+
+/**
+ * Thrown when an operation requires a non-singular matrix, but the provided matrix is singular.
+ */
+public class SingularMatrixException extends ArithmeticException {
+    /**
+     * Creates a new exception with the default detail message.
+     */
+    public SingularMatrixException() {
+        super("The matrix is singular.");
+    }
+
+    /**
+     * Creates a new exception.
+     *
+     * @param s The detail message
+     */
+    public SingularMatrixException(String s) {
+        super(s);
+    }
+}
@@ -479,7 +479,7 @@ public class ArrayGrid<T> implements Grid<T> {
 
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < columns; c++) {
-                result.values[c * columns + r] = values[r * columns + c];
+                result.values[c * rows + r] = values[r * columns + c];
             }
         }
 
@@ -546,7 +546,7 @@ public class AtomicArrayGrid<T> implements AtomicGrid<T> {
 
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < columns; c++) {
-                result.values[c * columns + r].set(values[r * columns + c].get());
+                result.values[c * rows + r].set(values[r * columns + c].get());
             }
         }
 
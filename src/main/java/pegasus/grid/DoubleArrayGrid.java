@@ -476,7 +476,7 @@ public class DoubleArrayGrid implements DoubleGrid {
 
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < columns; c++) {
-                result.values[c * columns + r] = values[r * columns + c];
+                result.values[c * rows + r] = values[r * columns + c];
             }
         }
 
@@ -475,7 +475,7 @@ public class IntArrayGrid implements IntGrid {
 
         for (int r = 0; r < rows; r++) {
             for (int c = 0; c < columns; c++) {
-                result.values[c * columns + r] = values[r * columns + c];
+                result.values[c * rows + r] = values[r * columns + c];
             }
         }
 
@@ -26,6 +26,45 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     private final double[] values;
 
+    /**
+     * Creates a new vector of this type, directly assigning the provided values. The array is
+     * not copied, so this is only called with arrays no one else holds, and is not exposed to
+     * subclasses outside this package.
+     *
+     * @param values The values of which to directly assign
+     * @return The created vector
+     */
+    abstract V newInstance(double[] values);
+
+    /**
+     * Returns the internal array of the provided vector.
+     *
+     * @param v The vector of which to get the values of
+     * @return The internal array of the vector
+     */
+    private static double[] valuesOf(ArrayVector<?> v) {
+        return v.values;
+    }
+
+    /**
+     * Returns the internal array of values. Changes to the array are reflected in this vector.
+     *
+     * @return The internal array of values
+     */
+    double[] backingArray() {
+        return values;
+    }
+
+    /**
+     * Returns whether reductions of this vector are computed in parallel. Parallel reductions
+     * use {@link ParallelKernels}, which sums with compensation in a fixed pairwise order.
+     *
+     * @return {@code true} if this vector is parallel
+     */
+    boolean isParallel() {
+        return false;
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -85,7 +124,7 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public double norm() {
-        return Math.sqrt(stream().map(x -> x * x).sum());
+        return Math.sqrt(normSquared());
     }
 
     /**
@@ -95,7 +134,8 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public double normSquared() {
-        return stream().map(x -> x * x).sum();
+        if (isParallel()) return ParallelKernels.sumOfSquares(values);
+        return DoubleKernels.sumOfSquares(values);
     }
 
     /**
@@ -105,7 +145,8 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public double normManhattan() {
-        return stream().map(Math::abs).sum();
+        if (isParallel()) return ParallelKernels.sumOfAbs(values);
+        return DoubleKernels.sumOfAbs(values);
     }
 
     /**
@@ -116,7 +157,9 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V add(double s) {
-        return map(x -> x + s);
+        double[] result = new double[values.length];
+        DoubleKernels.add(values, s, result);
+        return newInstance(result);
     }
 
     /**
@@ -127,7 +170,9 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V subtract(double s) {
-        return map(x -> x - s);
+        double[] result = new double[values.length];
+        DoubleKernels.add(values, -s, result);
+        return newInstance(result);
     }
 
     /**
@@ -138,7 +183,9 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V multiply(double s) {
-        return map(x -> x * s);
+        double[] result = new double[values.length];
+        DoubleKernels.multiply(values, s, result);
+        return newInstance(result);
     }
 
     /**
@@ -152,7 +199,10 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
     public V divide(double s) throws ArithmeticException {
         if (s == 0) throw new DivisionByZeroException();
         double inv = 1 / s;
-        return map(x -> x * inv);
+
+        double[] result = new double[values.length];
+        DoubleKernels.multiply(values, inv, result);
+        return newInstance(result);
     }
 
     /**
@@ -164,7 +214,9 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V add(V v) {
-        return merge(v, Double::sum);
+        double[] result = new double[values.length];
+        DoubleKernels.add(values, valuesOf(v), result);
+        return newInstance(result);
     }
 
     /**
@@ -176,7 +228,9 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V subtract(V v) {
-        return merge(v, (x, y) -> x - y);
+        double[] result = new double[values.length];
+        DoubleKernels.subtract(values, valuesOf(v), result);
+        return newInstance(result);
     }
 
     /**
@@ -188,7 +242,8 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public double dot(V v) {
-        return merge(v, (x, y) -> x * y).stream().sum();
+        if (isParallel()) return ParallelKernels.dot(values, valuesOf(v));
+        return DoubleKernels.dot(values, valuesOf(v));
     }
 
     /**
@@ -198,7 +253,9 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V abs() {
-        return map(Math::abs);
+        double[] result = new double[values.length];
+        DoubleKernels.abs(values, result);
+        return newInstance(result);
     }
 
     /**
@@ -218,7 +275,9 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V negate() {
-        return multiply(-1);
+        double[] result = new double[values.length];
+        DoubleKernels.multiply(values, -1, result);
+        return newInstance(result);
     }
 
     /**
@@ -229,10 +288,13 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V normalize() throws ArithmeticException {
-        double s = Math.sqrt(stream().map(x -> x * x).sum());
+        double s = norm();
         if (s == 0) throw new DivisionByZeroException();
         double inv = 1 / s;
-        return map(x1 -> x1 * inv);
+
+        double[] result = new double[values.length];
+        DoubleKernels.multiply(values, inv, result);
+        return newInstance(result);
     }
 
     /**
@@ -244,7 +306,9 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V min(V v) {
-        return merge(v, Math::min);
+        double[] result = new double[values.length];
+        DoubleKernels.min(values, valuesOf(v), result);
+        return newInstance(result);
     }
 
     /**
@@ -256,7 +320,9 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public V max(V v) {
-        return merge(v, Math::max);
+        double[] result = new double[values.length];
+        DoubleKernels.max(values, valuesOf(v), result);
+        return newInstance(result);
     }
 
     /**
@@ -281,7 +347,7 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public double distance(V v) {
-        return subtract(v).norm();
+        return Math.sqrt(distanceSquared(v));
     }
 
     /**
@@ -293,7 +359,8 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public double distanceSquared(V v) {
-        return subtract(v).normSquared();
+        if (isParallel()) return ParallelKernels.distanceSquared(values, valuesOf(v));
+        return DoubleKernels.distanceSquared(values, valuesOf(v));
     }
 
     /**
@@ -305,7 +372,8 @@ abstract class ArrayVector<V extends ArrayVector<V>> implements Vector<V> {
      */
     @Override
     public double distanceManhattan(V v) {
-        return subtract(v).normManhattan();
+        if (isParallel()) return ParallelKernels.distanceManhattan(values, valuesOf(v));
+        return DoubleKernels.distanceManhattan(values, valuesOf(v));
     }
 
     /**
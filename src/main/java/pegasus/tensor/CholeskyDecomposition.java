@@ -0,0 +1,248 @@
+package pegasus.tensor;
+
+import pegasus.exception.IncompatibleDimensionsException;
+
+import java.util.Arrays;
+
+/**
+ * The Cholesky decomposition of a symmetric positive-definite matrix. For a matrix {@code A},
+ * this decomposition consists of a lower triangular matrix {@code L} such that {@code A = LL}<sup>T</sup>.
+ * Only the lower triangle of the decomposed matrix is read.
+ * <p>
+ * The factorization is computed in blocks of columns: each panel is factorized, then the
+ * rest of the lower triangle is updated with inner products over the contiguous rows of the
+ * panel. A decomposition is immutable once computed, and can be used to solve any number of
+ * systems with the same coefficient matrix.
+ *
+ * @see Matrix#cholesky()
+ */
+public class CholeskyDecomposition {
+    /**
+     * The number of columns per panel.
+     */
+    private static final int BLOCK = 32;
+
+    /**
+     * Computes the Cholesky decomposition of the provided matrix.
+     *
+     * @param m The matrix of which to decompose
+     * @throws ArithmeticException             When the matrix is not positive-definite
+     * @throws IncompatibleDimensionsException When the matrix is not square
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public CholeskyDecomposition(Matrix m) throws ArithmeticException, IncompatibleDimensionsException {
+        if (!m.isSquare()) {
+            throw new IncompatibleDimensionsException("The matrix is not square.");
+        }
+
+        this.n = m.rows();
+        this.l = m.toArray();
+
+        // The factor overwrites the lower triangle in place
+        for (int j0 = 0; j0 < n; j0 += BLOCK) {
+            int j1 = Math.min(j0 + BLOCK, n);
+
+            // Factorize the panel, including the rows below it
+            for (int i = j0; i < n; i++) {
+                int ri = i * n;
+                int end = Math.min(i + 1, j1);
+
+                for (int j = j0; j < end; j++) {
+                    int rj = j * n;
+                    double sum = l[ri + j];
+
+                    for (int p = j0; p < j; p++) {
+                        sum -= l[ri + p] * l[rj + p];
+                    }
+
+                    if (i == j) {
+                        if (!(sum > 0)) {
+                            throw new ArithmeticException("The matrix is not positive-definite.");
+                        }
+
+                        l[ri + i] = Math.sqrt(sum);
+                    } else {
+                        l[ri + j] = sum / l[rj + j];
+                    }
+                }
+            }
+
+            // Update the trailing lower triangle, a block of panel rows at a time
+            for (int k0 = j1; k0 < n; k0 += BLOCK) {
+                int k1 = Math.min(k0 + BLOCK, n);
+
+                for (int i = k0; i < n; i++) {
+                    int ri = i * n;
+                    int end = Math.min(i + 1, k1);
+
+                    for (int j = k0; j < end; j++) {
+                        int rj = j * n;
+                        double sum = 0;
+
+                        for (int p = j0; p < j1; p++) {
+                            sum += l[ri + p] * l[rj + p];
+                        }
+
+                        l[ri + j] -= sum;
+                    }
+                }
+            }
+        }
+
+        for (int i = 0; i < n; i++) {
+            Arrays.fill(l, i * n + i + 1, i * n + n, 0);
+        }
+    }
+
+    /**
+     * The number of rows and columns.
+     */
+    protected final int n;
+
+    /**
+     * The row-major storage of {@code L}.
+     */
+    protected final double[] l;
+
+    /**
+     * Returns the lower triangular factor {@code L}.
+     *
+     * @return The lower triangular factor
+     */
+    public Matrix lower() {
+        Matrix result = new Matrix(n, n);
+        System.arraycopy(l, 0, result.backingArray(), 0, l.length);
+        return result;
+    }
+
+    /**
+     * Returns the determinant of the decomposed matrix.
+     *
+     * @return The determinant of the decomposed matrix
+     */
+    public double determinant() {
+        double result = 1;
+
+        for (int i = 0; i < n; i++) {
+            double d = l[i * n + i];
+            result *= d * d;
+        }
+
+        return result;
+    }
+
+    /**
+     * Solves {@code Ax = b} for {@code x}.
+     *
+     * @param b The right-hand side
+     * @return The solution {@code x}
+     * @throws IncompatibleDimensionsException When the length of {@code b} is different from the matrix's size
+     * @throws NullPointerException            When the provided array is {@code null}
+     */
+    public double[] solve(double[] b) {
+        double[] x = new double[n];
+        solveInto(b, x);
+        return x;
+    }
+
+    /**
+     * Solves {@code Ax = b} for {@code x}, and stores the solution in the destination array.
+     * The destination may be {@code b}.
+     *
+     * @param b    The right-hand side
+     * @param dest The array of which to store the solution in
+     * @throws IncompatibleDimensionsException When the length of either array is different from the matrix's size
+     * @throws NullPointerException            When a {@code null} array is provided
+     */
+    public void solveInto(double[] b, double[] dest) {
+        if (b.length != n || dest.length != n) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (dest != b) System.arraycopy(b, 0, dest, 0, n);
+
+        for (int i = 0; i < n; i++) {
+            int ri = i * n;
+            double sum = dest[i];
+
+            for (int p = 0; p < i; p++) {
+                sum -= l[ri + p] * dest[p];
+            }
+
+            dest[i] = sum / l[ri + i];
+        }
+
+        // Solve the transposed system by columns, so that L is still read by rows
+        for (int i = n - 1; i >= 0; i--) {
+            int ri = i * n;
+            double x = dest[i] /= l[ri + i];
+
+            for (int p = 0; p < i; p++) {
+                dest[p] -= l[ri + p] * x;
+            }
+        }
+    }
+
+    /**
+     * Solves {@code AX = B} for {@code X}.
+     *
+     * @param b The right-hand side
+     * @return The solution {@code X}
+     * @throws IncompatibleDimensionsException When the number of rows of {@code B} is different from the matrix's size
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public Matrix solve(Matrix b) {
+        if (b.rows() != n) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        int m = b.columns();
+        Matrix result = new Matrix(n, m);
+
+        double[] x = result.backingArray();
+        System.arraycopy(b.backingArray(), 0, x, 0, x.length);
+
+        for (int i = 0; i < n; i++) {
+            for (int p = 0; p < i; p++) {
+                double f = l[i * n + p];
+                if (f == 0) continue;
+
+                for (int j = 0; j < m; j++) {
+                    x[i * m + j] -= f * x[p * m + j];
+                }
+            }
+
+            double inv = 1 / l[i * n + i];
+            for (int j = 0; j < m; j++) {
+                x[i * m + j] *= inv;
+            }
+        }
+
+        for (int i = n - 1; i >= 0; i--) {
+            double inv = 1 / l[i * n + i];
+            for (int j = 0; j < m; j++) {
+                x[i * m + j] *= inv;
+            }
+
+            for (int p = 0; p < i; p++) {
+                double f = l[i * n + p];
+                if (f == 0) continue;
+
+                for (int j = 0; j < m; j++) {
+                    x[p * m + j] -= f * x[i * m + j];
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the inverse of the decomposed matrix.
+     *
+     * @return The inverse matrix
+     */
+    public Matrix inverse() {
+        return solve(Matrix.newIdentity(n));
+    }
+}
@@ -0,0 +1,124 @@
+package pegasus.tensor;
+
+import pegasus.exception.BinaryIndexOutOfBoundsException;
+
+import java.io.Serial;
+
+/**
+ * A sparse matrix in compressed sparse column (CSC) format. The non-zero components are
+ * grouped by columns, which makes column access and transposed products fast.
+ *
+ * @see SparseMatrix
+ * @see CompressedRowMatrix
+ * @see Matrix
+ */
+public class CompressedColumnMatrix extends SparseMatrix<CompressedColumnMatrix> {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new sparse matrix from components in coordinate format. Duplicate
+     * components are summed, and components which are zero are not stored.
+     *
+     * @param rows          The number of rows
+     * @param columns       The number of columns
+     * @param rowIndices    The row index of each component
+     * @param columnIndices The column index of each component
+     * @param values        The value of each component
+     * @return The constructed sparse matrix
+     * @throws BinaryIndexOutOfBoundsException When an index is out of bounds
+     * @throws IllegalArgumentException        When the arrays have different lengths, or the
+     *                                         dimensions are negative
+     * @throws NullPointerException            When a {@code null} array is provided
+     */
+    public static CompressedColumnMatrix of(int rows, int columns, int[] rowIndices, int[] columnIndices, double[] values) {
+        return new CompressedColumnMatrix(rows, columns, compress(rows, columns, false, rowIndices, columnIndices, values));
+    }
+
+    /**
+     * Creates a new sparse matrix containing the non-zero components of the provided dense matrix.
+     *
+     * @param m The dense matrix of which to compress
+     * @return The constructed sparse matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public static CompressedColumnMatrix of(Matrix m) {
+        return new CompressedColumnMatrix(m.rows(), m.columns(), compress(m, false));
+    }
+
+    /**
+     * Creates a new sparse matrix containing the components of the provided sparse matrix.
+     *
+     * @param m The sparse matrix of which to copy the components of
+     * @return The constructed sparse matrix, or the provided matrix if it is already a {@code CompressedColumnMatrix}
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public static CompressedColumnMatrix of(SparseMatrix<?> m) {
+        if (m instanceof CompressedColumnMatrix s) return s;
+
+        if (!m.isRowMajor()) {
+            return new CompressedColumnMatrix(m.rows, m.columns, m.pointers, m.indices, m.values);
+        }
+
+        return new CompressedColumnMatrix(m.rows(), m.columns(), m.transposeStorage());
+    }
+
+    /**
+     * Creates a new sparse matrix.
+     *
+     * @param rows    The number of rows
+     * @param columns The number of columns
+     * @param storage The compressed storage
+     */
+    private CompressedColumnMatrix(int rows, int columns, Storage storage) {
+        super(rows, columns, storage.pointers(), storage.indices(), storage.values());
+    }
+
+    /**
+     * Direct assignment constructor.
+     *
+     * @param rows     The number of rows
+     * @param columns  The number of columns
+     * @param pointers The start of each column within the index and value arrays
+     * @param indices  The row index of each non-zero component
+     * @param values   The value of each non-zero component
+     */
+    CompressedColumnMatrix(int rows, int columns, int[] pointers, int[] indices, double[] values) {
+        super(rows, columns, pointers, indices, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code false}
+     */
+    @Override
+    public boolean isRowMajor() {
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param rows     {@inheritDoc}
+     * @param columns  {@inheritDoc}
+     * @param pointers {@inheritDoc}
+     * @param indices  {@inheritDoc}
+     * @param values   {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected CompressedColumnMatrix newInstance(int rows, int columns, int[] pointers, int[] indices, double[] values) {
+        return new CompressedColumnMatrix(rows, columns, pointers, indices, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public CompressedRowMatrix transpose() {
+        return new CompressedRowMatrix(columns, rows, pointers, indices, values);
+    }
+}
@@ -0,0 +1,124 @@
+package pegasus.tensor;
+
+import pegasus.exception.BinaryIndexOutOfBoundsException;
+
+import java.io.Serial;
+
+/**
+ * A sparse matrix in compressed sparse row (CSR) format. The non-zero components are
+ * grouped by rows, which makes matrix-vector products and row access fast.
+ *
+ * @see SparseMatrix
+ * @see CompressedColumnMatrix
+ * @see Matrix
+ */
+public class CompressedRowMatrix extends SparseMatrix<CompressedRowMatrix> {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new sparse matrix from components in coordinate format. Duplicate
+     * components are summed, and components which are zero are not stored.
+     *
+     * @param rows          The number of rows
+     * @param columns       The number of columns
+     * @param rowIndices    The row index of each component
+     * @param columnIndices The column index of each component
+     * @param values        The value of each component
+     * @return The constructed sparse matrix
+     * @throws BinaryIndexOutOfBoundsException When an index is out of bounds
+     * @throws IllegalArgumentException        When the arrays have different lengths, or the
+     *                                         dimensions are negative
+     * @throws NullPointerException            When a {@code null} array is provided
+     */
+    public static CompressedRowMatrix of(int rows, int columns, int[] rowIndices, int[] columnIndices, double[] values) {
+        return new CompressedRowMatrix(rows, columns, compress(rows, columns, true, rowIndices, columnIndices, values));
+    }
+
+    /**
+     * Creates a new sparse matrix containing the non-zero components of the provided dense matrix.
+     *
+     * @param m The dense matrix of which to compress
+     * @return The constructed sparse matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public static CompressedRowMatrix of(Matrix m) {
+        return new CompressedRowMatrix(m.rows(), m.columns(), compress(m, true));
+    }
+
+    /**
+     * Creates a new sparse matrix containing the components of the provided sparse matrix.
+     *
+     * @param m The sparse matrix of which to copy the components of
+     * @return The constructed sparse matrix, or the provided matrix if it is already a {@code CompressedRowMatrix}
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public static CompressedRowMatrix of(SparseMatrix<?> m) {
+        if (m instanceof CompressedRowMatrix s) return s;
+
+        if (m.isRowMajor()) {
+            return new CompressedRowMatrix(m.rows, m.columns, m.pointers, m.indices, m.values);
+        }
+
+        return new CompressedRowMatrix(m.rows(), m.columns(), m.transposeStorage());
+    }
+
+    /**
+     * Creates a new sparse matrix.
+     *
+     * @param rows    The number of rows
+     * @param columns The number of columns
+     * @param storage The compressed storage
+     */
+    private CompressedRowMatrix(int rows, int columns, Storage storage) {
+        super(rows, columns, storage.pointers(), storage.indices(), storage.values());
+    }
+
+    /**
+     * Direct assignment constructor.
+     *
+     * @param rows     The number of rows
+     * @param columns  The number of columns
+     * @param pointers The start of each row within the index and value arrays
+     * @param indices  The column index of each non-zero component
+     * @param values   The value of each non-zero component
+     */
+    CompressedRowMatrix(int rows, int columns, int[] pointers, int[] indices, double[] values) {
+        super(rows, columns, pointers, indices, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@code true}
+     */
+    @Override
+    public boolean isRowMajor() {
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param rows     {@inheritDoc}
+     * @param columns  {@inheritDoc}
+     * @param pointers {@inheritDoc}
+     * @param indices  {@inheritDoc}
+     * @param values   {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    protected CompressedRowMatrix newInstance(int rows, int columns, int[] pointers, int[] indices, double[] values) {
+        return new CompressedRowMatrix(rows, columns, pointers, indices, values);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public CompressedColumnMatrix transpose() {
+        return new CompressedColumnMatrix(columns, rows, pointers, indices, values);
+    }
+}
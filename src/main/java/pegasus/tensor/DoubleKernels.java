@@ -0,0 +1,281 @@
+package pegasus.tensor;
+
+import pegasus.exception.IllegalInstanceException;
+
+/**
+ * Contains the element-wise and reduction kernels over the {@code double[]} backing arrays of
+ * tensors. When the {@code jdk.incubator.vector} module is enabled (by launching the JVM with
+ * {@code --add-modules jdk.incubator.vector}), the kernels are delegated to {@link SimdKernels},
+ * which uses the SIMD instructions of the platform. Otherwise, plain loops are used instead.
+ * The SIMD backend can be disabled by setting the system property
+ * {@code pegasus.tensor.simd} to {@code false}.
+ * <p>
+ * Element-wise kernels process {@code r.length} elements, and may write to the same array
+ * they read from. Reductions process {@code a.length} elements.
+ */
+final class DoubleKernels {
+    /**
+     * Whether the SIMD backend is available.
+     */
+    static final boolean SIMD = isSimdAvailable();
+
+    /**
+     * The minimum number of elements for which the SIMD backend is used.
+     */
+    static final int SIMD_THRESHOLD = 16;
+
+    /**
+     * Returns whether the SIMD backend is available.
+     *
+     * @return {@code true} if the vector module is enabled and the backend can be loaded
+     */
+    private static boolean isSimdAvailable() {
+        if (!Boolean.parseBoolean(System.getProperty("pegasus.tensor.simd", "true"))) return false;
+        if (ModuleLayer.boot().findModule("jdk.incubator.vector").isEmpty()) return false;
+
+        try {
+            return SimdKernels.LANES > 1;
+        } catch (LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Adds {@code a} and {@code b} element-wise, and stores the result in {@code r}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @param r The array of which to store the result in
+     */
+    static void add(double[] a, double[] b, double[] r) {
+        if (SIMD && r.length >= SIMD_THRESHOLD) {
+            SimdKernels.add(a, b, r);
+            return;
+        }
+
+        for (int i = 0; i < r.length; i++) {
+            r[i] = a[i] + b[i];
+        }
+    }
+
+    /**
+     * Subtracts {@code b} from {@code a} element-wise, and stores the result in {@code r}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @param r The array of which to store the result in
+     */
+    static void subtract(double[] a, double[] b, double[] r) {
+        if (SIMD && r.length >= SIMD_THRESHOLD) {
+            SimdKernels.subtract(a, b, r);
+            return;
+        }
+
+        for (int i = 0; i < r.length; i++) {
+            r[i] = a[i] - b[i];
+        }
+    }
+
+    /**
+     * Multiplies {@code a} and {@code b} element-wise, and stores the result in {@code r}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @param r The array of which to store the result in
+     */
+    static void multiply(double[] a, double[] b, double[] r) {
+        if (SIMD && r.length >= SIMD_THRESHOLD) {
+            SimdKernels.multiply(a, b, r);
+            return;
+        }
+
+        for (int i = 0; i < r.length; i++) {
+            r[i] = a[i] * b[i];
+        }
+    }
+
+    /**
+     * Adds the scalar {@code s} to every element of {@code a}, and stores the result in {@code r}.
+     *
+     * @param a The array operand
+     * @param s The scalar operand
+     * @param r The array of which to store the result in
+     */
+    static void add(double[] a, double s, double[] r) {
+        if (SIMD && r.length >= SIMD_THRESHOLD) {
+            SimdKernels.add(a, s, r);
+            return;
+        }
+
+        for (int i = 0; i < r.length; i++) {
+            r[i] = a[i] + s;
+        }
+    }
+
+    /**
+     * Multiplies every element of {@code a} by the scalar {@code s}, and stores the result in {@code r}.
+     *
+     * @param a The array operand
+     * @param s The scalar operand
+     * @param r The array of which to store the result in
+     */
+    static void multiply(double[] a, double s, double[] r) {
+        if (SIMD && r.length >= SIMD_THRESHOLD) {
+            SimdKernels.multiply(a, s, r);
+            return;
+        }
+
+        for (int i = 0; i < r.length; i++) {
+            r[i] = a[i] * s;
+        }
+    }
+
+    /**
+     * Stores the absolute value of every element of {@code a} in {@code r}.
+     *
+     * @param a The array operand
+     * @param r The array of which to store the result in
+     */
+    static void abs(double[] a, double[] r) {
+        if (SIMD && r.length >= SIMD_THRESHOLD) {
+            SimdKernels.abs(a, r);
+            return;
+        }
+
+        for (int i = 0; i < r.length; i++) {
+            r[i] = Math.abs(a[i]);
+        }
+    }
+
+    /**
+     * Stores the element-wise minimum of {@code a} and {@code b} in {@code r}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @param r The array of which to store the result in
+     */
+    static void min(double[] a, double[] b, double[] r) {
+        if (SIMD && r.length >= SIMD_THRESHOLD) {
+            SimdKernels.min(a, b, r);
+            return;
+        }
+
+        for (int i = 0; i < r.length; i++) {
+            r[i] = Math.min(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Stores the element-wise maximum of {@code a} and {@code b} in {@code r}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @param r The array of which to store the result in
+     */
+    static void max(double[] a, double[] b, double[] r) {
+        if (SIMD && r.length >= SIMD_THRESHOLD) {
+            SimdKernels.max(a, b, r);
+            return;
+        }
+
+        for (int i = 0; i < r.length; i++) {
+            r[i] = Math.max(a[i], b[i]);
+        }
+    }
+
+    /**
+     * Returns the dot product of {@code a} and {@code b}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @return The dot product
+     */
+    static double dot(double[] a, double[] b) {
+        if (SIMD && a.length >= SIMD_THRESHOLD) return SimdKernels.dot(a, b);
+
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += a[i] * b[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the squares of the elements of {@code a}.
+     *
+     * @param a The array operand
+     * @return The sum of squares
+     */
+    static double sumOfSquares(double[] a) {
+        if (SIMD && a.length >= SIMD_THRESHOLD) return SimdKernels.sumOfSquares(a);
+
+        double sum = 0;
+        for (double x : a) {
+            sum += x * x;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the sum of the absolute values of the elements of {@code a}.
+     *
+     * @param a The array operand
+     * @return The sum of absolute values
+     */
+    static double sumOfAbs(double[] a) {
+        if (SIMD && a.length >= SIMD_THRESHOLD) return SimdKernels.sumOfAbs(a);
+
+        double sum = 0;
+        for (double x : a) {
+            sum += Math.abs(x);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the squared Euclidean distance between {@code a} and {@code b}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @return The squared distance
+     */
+    static double distanceSquared(double[] a, double[] b) {
+        if (SIMD && a.length >= SIMD_THRESHOLD) return SimdKernels.distanceSquared(a, b);
+
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            double d = a[i] - b[i];
+            sum += d * d;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the Manhattan distance between {@code a} and {@code b}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @return The Manhattan distance
+     */
+    static double distanceManhattan(double[] a, double[] b) {
+        if (SIMD && a.length >= SIMD_THRESHOLD) return SimdKernels.distanceManhattan(a, b);
+
+        double sum = 0;
+        for (int i = 0; i < a.length; i++) {
+            sum += Math.abs(a[i] - b[i]);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private DoubleKernels() {
+        throw new IllegalInstanceException(this);
+    }
+}
@@ -0,0 +1,555 @@
+package pegasus.tensor;
+
+import pegasus.exception.IllegalInstanceException;
+
+/**
+ * Contains fast approximations of the tensor methods which spend most of their time in
+ * transcendental functions. Each method is a drop-in replacement for its exact counterpart in
+ * {@link Quaternion} or {@link Tensors}, and documents the bound of its error relative to that
+ * counterpart. Using these methods is opt-in; the exact methods are unaffected.
+ * <p>
+ * The approximations are short polynomials evaluated after an exact range reduction, which is
+ * shared wherever a method needs several functions of the same argument, such as the sine and
+ * cosine of a half-angle. They are accurate to roughly single precision, and are meant for code
+ * such as animation and physics loops, where throughput matters more than the last digits.
+ * Inputs outside the range in which the bounds hold, as well as {@code NaN} and infinite inputs,
+ * fall back to the exact methods.
+ *
+ * @see Quaternion
+ * @see Tensors
+ */
+public final class FastMath {
+    //
+    // Constants
+    //
+
+    /**
+     * The value {@code 2 / π}.
+     */
+    private static final double TWO_OVER_PI = 0.6366197723675814;
+
+    /**
+     * The high part of {@code π / 2}, whose multiples by integers up to {@code 2^20} are exact.
+     */
+    private static final double HALF_PI_HI = 1.57079632673412561417e+00;
+
+    /**
+     * The low part of {@code π / 2}.
+     */
+    private static final double HALF_PI_LO = 6.07710050650619224932e-11;
+
+    /**
+     * The largest magnitude of an angle which can be reduced by {@link #HALF_PI_HI} and {@link #HALF_PI_LO}.
+     */
+    private static final double REDUCTION_LIMIT = 0x1p20;
+
+    /**
+     * The value {@code tan(π / 8)}.
+     */
+    private static final double TAN_PI_8 = 0.41421356237309503;
+
+    /**
+     * The high part of {@code ln(2)}, whose multiples by integers up to {@code 2^11} are exact.
+     */
+    private static final double LN2_HI = 6.93147180369123816490e-01;
+
+    /**
+     * The low part of {@code ln(2)}.
+     */
+    private static final double LN2_LO = 1.90821492927058770002e-10;
+
+    /**
+     * The value {@code 1 / ln(2)}.
+     */
+    private static final double LOG2_E = 1.4426950408889634;
+
+    /**
+     * The largest magnitude of an exponent whose power of {@code e} is a normal number.
+     */
+    private static final double EXP_LIMIT = 708;
+
+    /**
+     * The value {@code sqrt(2)}.
+     */
+    private static final double SQRT_2 = 1.4142135623730951;
+
+    /**
+     * The value {@code sqrt(2π)}.
+     */
+    private static final double SQRT_TAU = 2.5066282746310002;
+
+    /**
+     * The number of terms of the SLERP approximation.
+     */
+    private static final int SLERP_TERMS = 14;
+
+    /**
+     * The correction applied to the last term of the SLERP approximation, which accounts for the
+     * truncated terms. This was fitted to minimize the maximum error over all angles up to
+     * {@code π / 2} and all interpolation parameters in {@code [0, 1]}.
+     */
+    private static final double SLERP_CORRECTION = 1.906592;
+
+    /**
+     * The coefficients of {@code t^2} in each term of the SLERP approximation.
+     */
+    private static final double[] SLERP_U = new double[SLERP_TERMS];
+
+    /**
+     * The constant coefficients in each term of the SLERP approximation.
+     */
+    private static final double[] SLERP_V = new double[SLERP_TERMS];
+
+    /**
+     * The coefficients of the numerator of the Lanczos sum as a rational function, in ascending
+     * powers. These are derived from {@link Tensors#LANCZOS_COEFFICIENTS} once, so that the sum
+     * can be evaluated with one division instead of one division per coefficient.
+     */
+    private static final double[] LANCZOS_NUMERATOR;
+
+    /**
+     * The coefficients of the denominator of the Lanczos sum as a rational function, in ascending
+     * powers.
+     */
+    private static final double[] LANCZOS_DENOMINATOR;
+
+    static {
+        for (int i = 0; i < SLERP_TERMS; i++) {
+            double correction = i == SLERP_TERMS - 1 ? SLERP_CORRECTION : 1;
+            SLERP_U[i] = correction / ((i + 1) * (2 * i + 3));
+            SLERP_V[i] = correction * (i + 1) / (2 * i + 3);
+        }
+
+        // c0 + c1 / (x + 1) + ... + cn / (x + n) is P(x) / Q(x), where Q(x) = (x + 1) ... (x + n)
+        double[] c = Tensors.LANCZOS_COEFFICIENTS;
+        int n = c.length - 1;
+
+        double[] denominator = {1};
+        for (int i = 1; i <= n; i++) {
+            denominator = multiplyByLinear(denominator, i);
+        }
+
+        double[] numerator = new double[n + 1];
+        for (int k = 0; k <= n; k++) {
+            numerator[k] = c[0] * denominator[k];
+        }
+
+        for (int i = 1; i <= n; i++) {
+            double[] partial = {1};
+            for (int j = 1; j <= n; j++) {
+                if (j != i) partial = multiplyByLinear(partial, j);
+            }
+
+            for (int k = 0; k < partial.length; k++) {
+                numerator[k] += c[i] * partial[k];
+            }
+        }
+
+        LANCZOS_NUMERATOR = numerator;
+        LANCZOS_DENOMINATOR = denominator;
+    }
+
+    //
+    // Quaternions
+    //
+
+    /**
+     * Creates a new rotation quaternion from Euler angle representation. The sine and cosine of
+     * each half-angle share a single range reduction. The absolute error of each component is
+     * below {@code 1e-7} for angles of magnitude up to {@code 2^20}.
+     *
+     * @param pitch The pitch of the rotation in radians (rotation along X axis)
+     * @param yaw   The yaw of the rotation in radians (rotation along Y axis)
+     * @param roll  The roll of the rotation in radians (rotation along Z axis)
+     * @return The constructed quaternion
+     * @see Quaternion#from(double, double, double)
+     */
+    public static Quaternion quaternion(double pitch, double yaw, double roll) {
+        if (!(Math.abs(pitch) <= REDUCTION_LIMIT && Math.abs(yaw) <= REDUCTION_LIMIT && Math.abs(roll) <= REDUCTION_LIMIT)) {
+            return Quaternion.from(pitch, yaw, roll);
+        }
+
+        double halfRoll = roll * 0.5;
+        double kRoll = Math.rint(halfRoll * TWO_OVER_PI);
+        double rRoll = reduce(halfRoll, kRoll);
+        double sinHalfRoll = sin(rRoll, kRoll);
+        double cosHalfRoll = cos(rRoll, kRoll);
+
+        double halfYaw = yaw * 0.5;
+        double kYaw = Math.rint(halfYaw * TWO_OVER_PI);
+        double rYaw = reduce(halfYaw, kYaw);
+        double sinHalfYaw = sin(rYaw, kYaw);
+        double cosHalfYaw = cos(rYaw, kYaw);
+
+        double halfPitch = pitch * 0.5;
+        double kPitch = Math.rint(halfPitch * TWO_OVER_PI);
+        double rPitch = reduce(halfPitch, kPitch);
+        double negatedSinHalfPitch = -sin(rPitch, kPitch);
+        double cosHalfPitch = cos(rPitch, kPitch);
+
+        double crcy = cosHalfRoll * cosHalfYaw;
+        double srsy = sinHalfRoll * sinHalfYaw;
+        double crsy = cosHalfRoll * -sinHalfYaw;
+        double srcy = sinHalfRoll * cosHalfYaw;
+
+        return new Quaternion(
+                crcy * cosHalfPitch - srsy * negatedSinHalfPitch,
+                crcy * negatedSinHalfPitch + srsy * cosHalfPitch,
+                crsy * cosHalfPitch + srcy * negatedSinHalfPitch,
+                -crsy * negatedSinHalfPitch + srcy * cosHalfPitch
+        );
+    }
+
+    /**
+     * Creates a new rotation quaternion from an axis/angle notation. The sine and cosine of the
+     * half-angle share a single range reduction. The absolute error of each component is below
+     * {@code 1e-7} for angles of magnitude up to {@code 2^20}.
+     *
+     * @param axis  The axis of rotation as a unit vector
+     * @param angle The angle of rotation in radians
+     * @return The constructed quaternion
+     * @throws NullPointerException When the provided axis is {@code null}
+     * @see Quaternion#from(Vector3, double)
+     */
+    public static Quaternion quaternion(Vector3 axis, double angle) {
+        double halfAngle = angle * 0.5;
+        if (!(Math.abs(halfAngle) <= REDUCTION_LIMIT)) return Quaternion.from(axis, angle);
+
+        double k = Math.rint(halfAngle * TWO_OVER_PI);
+        double r = reduce(halfAngle, k);
+        double sinHalfAngle = sin(r, k);
+
+        return new Quaternion(
+                cos(r, k),
+                -axis.x * sinHalfAngle, // Inversion is required
+                -axis.y * sinHalfAngle, // Inversion is required
+                axis.z * sinHalfAngle
+        );
+    }
+
+    /**
+     * Returns the angle of rotation of the provided quaternion. The absolute error is below
+     * {@code 5e-7}.
+     *
+     * @param q The quaternion of which to get the angle of
+     * @return The angle of rotation of the quaternion in radians
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     * @see Quaternion#angle()
+     */
+    public static double angle(Quaternion q) {
+        if (Math.abs(q.w) >= 1) {
+            return 0; // Angle is zero for the identity quaternion
+        }
+
+        double sinHalfAngle = Math.sqrt(q.x * q.x + q.y * q.y + q.z * q.z);
+        return 2 * atan2(sinHalfAngle, q.w);
+    }
+
+    /**
+     * Returns the axis of rotation of the provided quaternion. This is exact, as the axis is the
+     * normalized vector part of the quaternion; unlike {@link Quaternion#axis()}, the angle is not
+     * computed to detect rotations of zero. This method fallbacks to {@link Vector3#POSITIVE_Y the
+     * positive Y axis} when the quaternion represents no rotation.
+     *
+     * @param q The quaternion of which to get the axis of
+     * @return The axis of rotation of the quaternion
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     * @see Quaternion#axis()
+     */
+    public static Vector3 axis(Quaternion q) {
+        if (Math.abs(q.w) >= 1) {
+            return Vector3.POSITIVE_Y; // Fallback to POSITIVE_Y for the identity quaternion
+        }
+
+        double sinHalfAngle = Math.sqrt(q.x * q.x + q.y * q.y + q.z * q.z);
+
+        if (sinHalfAngle == 0) {
+            return Vector3.POSITIVE_Y; // Fallback to POSITIVE_Y for zero angle
+        }
+
+        double inv = 1 / sinHalfAngle;
+        return new Vector3(-q.x * inv, -q.y * inv, q.z * inv);
+    }
+
+    /**
+     * Performs spherical linear interpolation (SLERP) between two quaternions, without computing
+     * the angle between them. This uses the method of D. Eberly's "A Fast and Accurate Algorithm
+     * for Computing SLERP", in which the coefficients {@code sin((1 - t)θ) / sin(θ)} and
+     * {@code sin(tθ) / sin(θ)} are expanded as polynomials in {@code cos(θ) - 1}, and truncated
+     * with a correction to the last term. The absolute error of each component is below
+     * {@code 5e-7}. This assumes that the input quaternions are already normalized.
+     *
+     * @param start The starting quaternion
+     * @param end   The end quaternion
+     * @param t     The interpolation parameter {@code t} ({@code 0-1})
+     * @return The interpolated quaternion
+     * @throws NullPointerException When a {@code null} parameter is provided
+     * @see Tensors#slerp(Quaternion, Quaternion, double)
+     */
+    public static Quaternion slerp(Quaternion start, Quaternion end, double t) {
+        double dot = start.dot(end);
+        double sign = 1;
+
+        // Determine direction and negate the end quaternion if required
+        if (dot < 0) {
+            dot = -dot;
+            sign = -1;
+        }
+
+        double cosMinusOne = dot - 1;
+        double d = 1 - t;
+        double tt = t * t;
+        double dd = d * d;
+
+        double ct = 1;
+        double cd = 1;
+
+        for (int i = SLERP_TERMS - 1; i >= 0; i--) {
+            ct = 1 + (SLERP_U[i] * tt - SLERP_V[i]) * cosMinusOne * ct;
+            cd = 1 + (SLERP_U[i] * dd - SLERP_V[i]) * cosMinusOne * cd;
+        }
+
+        ct *= t * sign;
+        cd *= d;
+
+        return new Quaternion(
+                start.w * cd + end.w * ct,
+                start.x * cd + end.x * ct,
+                start.y * cd + end.y * ct,
+                start.z * cd + end.z * ct
+        );
+    }
+
+    //
+    // Scalar Mathematics
+    //
+
+    /**
+     * Returns the gamma of the provided input {@code n}. The Lanczos sum is evaluated as a single
+     * rational function, and the power and exponential are combined into one exponential. The
+     * relative error is below {@code 1e-6} wherever the result is finite. Unlike
+     * {@link Tensors#gamma(double)}, this does not overflow prematurely for inputs between
+     * {@code 141} and {@code 171}, and does not recurse endlessly for an input of {@code 0.5}.
+     *
+     * @param n The value to get the gamma of
+     * @return The gamma function value of {@code n}
+     * @see Tensors#gamma(double)
+     */
+    public static double gamma(double n) {
+        double x = n;
+
+        if (x < 0.5) {
+            double a = Math.PI * x;
+            if (!(Math.abs(a) <= REDUCTION_LIMIT)) return Tensors.gamma(n);
+
+            double k = Math.rint(a * TWO_OVER_PI);
+            return Math.PI / (sin(reduce(a, k), k) * gamma(1 - x)); // Reflection formula
+        }
+
+        x -= 1;
+        double sum = polynomial(LANCZOS_NUMERATOR, x) / polynomial(LANCZOS_DENOMINATOR, x);
+
+        double t = x + Tensors.LANCZOS_G + 0.5;
+        return SQRT_TAU * exp((x + 0.5) * log(t) - t) * sum;
+    }
+
+    //
+    // Helpers
+    //
+
+    /**
+     * Returns the provided angle minus {@code k} multiples of {@code π / 2}.
+     *
+     * @param a The angle in radians
+     * @param k The number of multiples of {@code π / 2}, of magnitude below {@code 2^20}
+     * @return The reduced angle, within {@code [-π / 4, π / 4]} when {@code k} is nearest to {@code 2a / π}
+     */
+    private static double reduce(double a, double k) {
+        return (a - k * HALF_PI_HI) - k * HALF_PI_LO;
+    }
+
+    /**
+     * Returns the sine of an angle, given its reduction.
+     *
+     * @param r The reduced angle
+     * @param k The number of multiples of {@code π / 2} subtracted from the angle
+     * @return The sine of the angle
+     */
+    private static double sin(double r, double k) {
+        return switch ((int) ((long) k & 3)) {
+            case 0 -> sinPolynomial(r);
+            case 1 -> cosPolynomial(r);
+            case 2 -> -sinPolynomial(r);
+            default -> -cosPolynomial(r);
+        };
+    }
+
+    /**
+     * Returns the cosine of an angle, given its reduction.
+     *
+     * @param r The reduced angle
+     * @param k The number of multiples of {@code π / 2} subtracted from the angle
+     * @return The cosine of the angle
+     */
+    private static double cos(double r, double k) {
+        return switch ((int) ((long) k & 3)) {
+            case 0 -> cosPolynomial(r);
+            case 1 -> -sinPolynomial(r);
+            case 2 -> -cosPolynomial(r);
+            default -> sinPolynomial(r);
+        };
+    }
+
+    /**
+     * Returns the Taylor polynomial of {@code sin(r)} up to {@code r^9}, which is accurate to
+     * {@code 2e-9} for {@code |r| <= π / 4}.
+     *
+     * @param r The reduced angle
+     * @return The sine of the angle
+     */
+    private static double sinPolynomial(double r) {
+        double r2 = r * r;
+        return r * (1 + r2 * (-1.0 / 6 + r2 * (1.0 / 120 + r2 * (-1.0 / 5040 + r2 * (1.0 / 362880)))));
+    }
+
+    /**
+     * Returns the Taylor polynomial of {@code cos(r)} up to {@code r^8}, which is accurate to
+     * {@code 3e-8} for {@code |r| <= π / 4}.
+     *
+     * @param r The reduced angle
+     * @return The cosine of the angle
+     */
+    private static double cosPolynomial(double r) {
+        double r2 = r * r;
+        return 1 + r2 * (-0.5 + r2 * (1.0 / 24 + r2 * (-1.0 / 720 + r2 * (1.0 / 40320))));
+    }
+
+    /**
+     * Returns the angle of the provided point in polar coordinates, with an absolute error
+     * below {@code 2e-7}.
+     *
+     * @param y The Y coordinate
+     * @param x The X coordinate
+     * @return The angle of the point in radians
+     */
+    private static double atan2(double y, double x) {
+        double ay = Math.abs(y);
+        double ax = Math.abs(x);
+
+        if (!(ay < Double.POSITIVE_INFINITY && ax < Double.POSITIVE_INFINITY) || (ay == 0 && ax == 0)) {
+            return Math.atan2(y, x);
+        }
+
+        boolean swap = ay > ax;
+        double a = swap ? ax / ay : ay / ax;
+
+        // Reduce to |z| <= tan(π / 8), using atan(a) = π / 4 + atan((a - 1) / (a + 1))
+        double result = a > TAN_PI_8 ? Math.PI / 4 + atanPolynomial((a - 1) / (a + 1)) : atanPolynomial(a);
+
+        if (swap) result = Math.PI / 2 - result;
+        if (x < 0) result = Math.PI - result;
+
+        return Math.copySign(result, y);
+    }
+
+    /**
+     * Returns the Taylor polynomial of {@code atan(z)} up to {@code z^13}, which is accurate to
+     * {@code 2e-7} for {@code |z| <= tan(π / 8)}.
+     *
+     * @param z The reduced argument
+     * @return The arctangent of the argument
+     */
+    private static double atanPolynomial(double z) {
+        double z2 = z * z;
+        return z * (1 + z2 * (-1.0 / 3 + z2 * (1.0 / 5 + z2 * (-1.0 / 7 + z2 * (1.0 / 9
+                + z2 * (-1.0 / 11 + z2 * (1.0 / 13)))))));
+    }
+
+    /**
+     * Returns Euler's number raised to the provided power, with a relative error below {@code 1e-8}.
+     *
+     * @param x The exponent
+     * @return The power of {@code e}
+     */
+    private static double exp(double x) {
+        if (!(Math.abs(x) <= EXP_LIMIT)) return Math.exp(x);
+
+        // exp(x) = 2^k * exp(r), where |r| <= ln(2) / 2
+        double k = Math.rint(x * LOG2_E);
+        double r = (x - k * LN2_HI) - k * LN2_LO;
+
+        double p = 1 + r * (1 + r * (1.0 / 2 + r * (1.0 / 6 + r * (1.0 / 24
+                + r * (1.0 / 120 + r * (1.0 / 720 + r * (1.0 / 5040)))))));
+
+        return p * Double.longBitsToDouble((long) (k + 1023) << 52);
+    }
+
+    /**
+     * Returns the natural logarithm of the provided value, with an absolute error below {@code 1e-9}.
+     *
+     * @param x The value of which to get the logarithm of
+     * @return The natural logarithm of the value
+     */
+    private static double log(double x) {
+        if (!(x >= Double.MIN_NORMAL && x < Double.POSITIVE_INFINITY)) return Math.log(x);
+
+        // x = 2^e * m, where sqrt(1/2) <= m < sqrt(2)
+        long bits = Double.doubleToRawLongBits(x);
+        int e = (int) (bits >>> 52) - 1023;
+        double m = Double.longBitsToDouble((bits & 0x000FFFFFFFFFFFFFL) | 0x3FF0000000000000L);
+
+        if (m > SQRT_2) {
+            m *= 0.5;
+            e++;
+        }
+
+        // log(m) = 2 * atanh(f), where f = (m - 1) / (m + 1) and |f| <= 0.1716
+        double f = (m - 1) / (m + 1);
+        double s = f * f;
+        double p = 1 + s * (1.0 / 3 + s * (1.0 / 5 + s * (1.0 / 7 + s * (1.0 / 9))));
+
+        return e * LN2_HI + (2 * f * p + e * LN2_LO);
+    }
+
+    /**
+     * Evaluates a polynomial using Horner's method.
+     *
+     * @param coefficients The coefficients of the polynomial in ascending powers
+     * @param x            The value of which to evaluate the polynomial at
+     * @return The value of the polynomial
+     */
+    private static double polynomial(double[] coefficients, double x) {
+        double result = 0;
+
+        for (int i = coefficients.length - 1; i >= 0; i--) {
+            result = result * x + coefficients[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Multiplies a polynomial by {@code (x + a)}.
+     *
+     * @param p The coefficients of the polynomial in ascending powers
+     * @param a The constant term of the linear factor
+     * @return The coefficients of the product in ascending powers
+     */
+    private static double[] multiplyByLinear(double[] p, double a) {
+        double[] result = new double[p.length + 1];
+
+        for (int i = 0; i < p.length; i++) {
+            result[i] += a * p[i];
+            result[i + 1] += p[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private FastMath() {
+        throw new IllegalInstanceException(this);
+    }
+}
@@ -0,0 +1,545 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+import pegasus.exception.IncompatibleDimensionsException;
+import pegasus.function.FloatBinaryOperator;
+import pegasus.function.FloatUnaryOperator;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable vector of arbitrary size, whose components are stored as primitive {@code float}s.
+ * This is the single-precision counterpart of {@link LargeVector}, which takes half the memory
+ * and moves twice as many components per memory access.
+ * <p>
+ * Element-wise operations are computed in single precision. Reductions such as {@link #norm()}
+ * and {@link #dot(FloatLargeVector)} accumulate in double precision and return a {@code double},
+ * since summing many {@code float}s in single precision loses most of their significant digits.
+ *
+ * @see LargeVector
+ * @see FloatMatrix
+ */
+public class FloatLargeVector implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new vector.
+     *
+     * @param values The components of this vector
+     * @throws NullPointerException When the provided array is {@code null}
+     */
+    public FloatLargeVector(float... values) {
+        this.values = Arrays.copyOf(values, values.length);
+    }
+
+    /**
+     * Creates a new vector, rounding the components of the provided vector to single precision.
+     *
+     * @param v The vector of which to copy component values from
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public FloatLargeVector(LargeVector v) {
+        double[] source = v.backingArray();
+
+        this.values = new float[source.length];
+        for (int i = 0; i < source.length; i++) {
+            values[i] = (float) source[i];
+        }
+    }
+
+    /**
+     * Direct assignment constructor.
+     *
+     * @param values The values to directly assign
+     * @param copy   Whether to copy the provided array
+     */
+    FloatLargeVector(float[] values, boolean copy) {
+        this.values = copy ? Arrays.copyOf(values, values.length) : values;
+    }
+
+    /**
+     * The internal array of values.
+     */
+    private final float[] values;
+
+    /**
+     * Returns the internal array of values. Changes to the array are reflected in this vector.
+     *
+     * @return The internal array of values
+     */
+    float[] backingArray() {
+        return values;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns the {@code i}th component of this vector.
+     *
+     * @param i The index of the component to get
+     * @return The {@code i}th component
+     * @throws IndexOutOfBoundsException When the provided index {@code i} is out of bounds
+     */
+    public float valueAt(int i) throws IndexOutOfBoundsException {
+        return values[i];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        for (float v : values) {
+            if (Float.isNaN(v)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        for (float v : values) {
+            if (!Float.isFinite(v)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        for (float v : values) {
+            if (Float.isInfinite(v)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the Euclidean norm of this vector.
+     *
+     * @return The Euclidean norm
+     */
+    public double norm() {
+        return Math.sqrt(normSquared());
+    }
+
+    /**
+     * Returns the squared Euclidean norm of this vector.
+     *
+     * @return The squared Euclidean norm
+     */
+    public double normSquared() {
+        double sum = 0;
+
+        for (float v : values) {
+            sum += (double) v * v;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the Manhattan norm of this vector.
+     *
+     * @return The Manhattan norm
+     */
+    public double normManhattan() {
+        double sum = 0;
+
+        for (float v : values) {
+            sum += Math.abs(v);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Adds a scalar to every component of this vector.
+     *
+     * @param s The scalar of which to add to this vector
+     * @return The resulting vector
+     */
+    public FloatLargeVector add(float s) {
+        float[] result = new float[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i] + s;
+        }
+
+        return new FloatLargeVector(result, false);
+    }
+
+    /**
+     * Subtracts a scalar from every component of this vector.
+     *
+     * @param s The scalar of which to subtract from this vector
+     * @return The resulting vector
+     */
+    public FloatLargeVector subtract(float s) {
+        return add(-s);
+    }
+
+    /**
+     * Multiplies every component of this vector by a scalar.
+     *
+     * @param s The scalar of which to multiply this vector by
+     * @return The resulting vector
+     */
+    public FloatLargeVector multiply(float s) {
+        float[] result = new float[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i] * s;
+        }
+
+        return new FloatLargeVector(result, false);
+    }
+
+    /**
+     * Divides every component of this vector by a scalar.
+     *
+     * @param s The scalar of which to divide this vector by
+     * @return The resulting vector
+     * @throws ArithmeticException When the provided denominator {@code s} is zero
+     */
+    public FloatLargeVector divide(float s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Adds the provided vector to this vector.
+     *
+     * @param v The vector of which to add to this vector
+     * @return The resulting vector
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public FloatLargeVector add(FloatLargeVector v) throws IncompatibleDimensionsException {
+        requireSameSize(v);
+        float[] result = new float[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i] + v.values[i];
+        }
+
+        return new FloatLargeVector(result, false);
+    }
+
+    /**
+     * Subtracts the provided vector from this vector.
+     *
+     * @param v The vector of which to subtract from this vector
+     * @return The resulting vector
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public FloatLargeVector subtract(FloatLargeVector v) throws IncompatibleDimensionsException {
+        requireSameSize(v);
+        float[] result = new float[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i] - v.values[i];
+        }
+
+        return new FloatLargeVector(result, false);
+    }
+
+    /**
+     * Returns the dot product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot product between
+     * @return The dot product
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public double dot(FloatLargeVector v) throws IncompatibleDimensionsException {
+        requireSameSize(v);
+        double sum = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            sum += (double) values[i] * v.values[i];
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the absolute value of this vector.
+     *
+     * @return The absolute value of this vector
+     */
+    public FloatLargeVector abs() {
+        return map(Math::abs);
+    }
+
+    /**
+     * Returns this vector with every component rounded to the nearest integer.
+     *
+     * @return The rounded vector
+     */
+    public FloatLargeVector round() {
+        return map(Math::round);
+    }
+
+    /**
+     * Returns the negation of this vector.
+     *
+     * @return The negation of this vector
+     */
+    public FloatLargeVector negate() {
+        return multiply(-1);
+    }
+
+    /**
+     * Returns the unit vector of this vector.
+     *
+     * @return The unit vector of this vector
+     * @throws ArithmeticException When the norm of this vector is zero
+     */
+    public FloatLargeVector normalize() throws ArithmeticException {
+        double s = norm();
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply((float) (1 / s));
+    }
+
+    /**
+     * Returns the component-wise minimum of this vector and the provided vector {@code v}.
+     *
+     * @param v The boundary vector of which to compare to
+     * @return The minimum vector
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public FloatLargeVector min(FloatLargeVector v) throws IncompatibleDimensionsException {
+        return merge(v, Math::min);
+    }
+
+    /**
+     * Returns the component-wise maximum of this vector and the provided vector {@code v}.
+     *
+     * @param v The boundary vector of which to compare to
+     * @return The maximum vector
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public FloatLargeVector max(FloatLargeVector v) throws IncompatibleDimensionsException {
+        return merge(v, Math::max);
+    }
+
+    /**
+     * Returns this vector clamped between the provided boundary vectors.
+     *
+     * @param min The minimum boundary vector of which to compare to
+     * @param max The maximum boundary vector of which to compare to
+     * @return The clamped vector
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When a {@code null} parameter is provided
+     */
+    public FloatLargeVector clamp(FloatLargeVector min, FloatLargeVector max) throws IncompatibleDimensionsException {
+        return max(min).min(max);
+    }
+
+    /**
+     * Returns the Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the Euclidean distance to
+     * @return The Euclidean distance
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public double distance(FloatLargeVector v) throws IncompatibleDimensionsException {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    /**
+     * Returns the squared Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the squared Euclidean distance to
+     * @return The squared Euclidean distance
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public double distanceSquared(FloatLargeVector v) throws IncompatibleDimensionsException {
+        requireSameSize(v);
+        double sum = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            double d = (double) values[i] - v.values[i];
+            sum += d * d;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Returns the Manhattan distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the Manhattan distance to
+     * @return The Manhattan distance
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public double distanceManhattan(FloatLargeVector v) throws IncompatibleDimensionsException {
+        requireSameSize(v);
+        double sum = 0;
+
+        for (int i = 0; i < values.length; i++) {
+            sum += Math.abs((double) values[i] - v.values[i]);
+        }
+
+        return sum;
+    }
+
+    /**
+     * Applies the provided mapper function to each component of this vector, then returns a new
+     * vector whose components are the return values of the mapper function.
+     *
+     * @param mapper The mapper function of which to apply to each component of this vector
+     * @return The resulting vector
+     * @throws NullPointerException When the provided mapper function is {@code null}
+     */
+    public FloatLargeVector map(FloatUnaryOperator mapper) {
+        float[] result = new float[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = mapper.applyAsFloat(values[i]);
+        }
+
+        return new FloatLargeVector(result, false);
+    }
+
+    /**
+     * Applies the provided merger function to each corresponding pair of components of this vector
+     * and the provided vector {@code v}, then returns a new vector whose components are the return
+     * values of the merger function.
+     *
+     * @param v      The vector of which to merge this vector with
+     * @param merger The merger function of which to handle the merging of the two vectors
+     * @return The resulting vector
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When a {@code null} parameter is provided
+     */
+    public FloatLargeVector merge(FloatLargeVector v, FloatBinaryOperator merger) throws IncompatibleDimensionsException {
+        requireSameSize(v);
+        float[] result = new float[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = merger.applyAsFloat(values[i], v.values[i]);
+        }
+
+        return new FloatLargeVector(result, false);
+    }
+
+    /**
+     * Returns a double-precision copy of this vector.
+     *
+     * @return The double-precision vector
+     */
+    public LargeVector toLargeVector() {
+        return new LargeVector(toArray(), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return IntStream.range(0, values.length).mapToDouble(i -> values[i]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double[] toArray() {
+        double[] result = new double[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns an array containing the components of this vector.
+     *
+     * @return The array representation of this vector
+     */
+    public float[] toFloatArray() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(values);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FloatLargeVector v)) return false;
+        return Arrays.equals(values, v.values);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(values);
+    }
+
+    /**
+     * Checks that the provided vector has the same size as this vector.
+     *
+     * @param v The vector of which to check
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     */
+    private void requireSameSize(FloatLargeVector v) {
+        if (values.length != v.values.length) {
+            throw new IncompatibleDimensionsException("The vectors must be of the same size.");
+        }
+    }
+}
@@ -0,0 +1,713 @@
+package pegasus.tensor;
+
+import pegasus.exception.BinaryIndexOutOfBoundsException;
+import pegasus.exception.DivisionByZeroException;
+import pegasus.exception.IncompatibleDimensionsException;
+import pegasus.function.FloatBinaryOperator;
+import pegasus.function.FloatUnaryOperator;
+import pegasus.function.IntToDoubleBiFunction;
+
+import java.io.Serial;
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+import java.util.stream.IntStream;
+
+/**
+ * A mutable matrix whose elements are stored as primitive {@code float}s in row-major order.
+ * This is the single-precision counterpart of {@link Matrix}, which takes half the memory and
+ * fits twice as many elements in each block of a {@link #multiply(FloatMatrix) product}.
+ * <p>
+ * Decompositions, determinants and inverses are not provided, as they are too sensitive to
+ * rounding to be computed reliably in single precision. Such operations should be performed
+ * on a {@link #toMatrix() double-precision copy} instead.
+ *
+ * @see Matrix
+ * @see FloatLargeVector
+ */
+public class FloatMatrix implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new matrix containing the provided values.
+     *
+     * @param values The rectangular array of values
+     * @return The constructed matrix
+     * @throws IllegalArgumentException When the array is not rectangular
+     * @throws NullPointerException     When the array contains a {@code null} row
+     */
+    public static FloatMatrix of(float[][] values) {
+        if (Arrays.stream(values).mapToInt(Array::getLength).distinct().count() > 1) {
+            throw new IllegalArgumentException("The provided array is not rectangular.");
+        }
+
+        int rows = values.length;
+        int columns = rows > 0 ? values[0].length : 0;
+
+        FloatMatrix result = new FloatMatrix(rows, columns);
+
+        for (int r = 0; r < rows; r++) {
+            System.arraycopy(values[r], 0, result.values, r * columns, columns);
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a new matrix.
+     *
+     * @param rows    The number of rows to initialize
+     * @param columns The number of columns to initialize
+     * @throws IllegalArgumentException When the dimensions are invalid
+     */
+    public FloatMatrix(int rows, int columns) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Invalid dimensions.");
+        }
+
+        this.values = new float[rows * columns];
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * Creates a new matrix. The values of the generator function are rounded to single precision.
+     *
+     * @param rows      The number of rows to initialize
+     * @param columns   The number of columns to initialize
+     * @param generator The generator function to initialize this matrix with
+     * @throws IllegalArgumentException When the dimensions are invalid
+     * @throws NullPointerException     When the provided generator function is {@code null}
+     */
+    public FloatMatrix(int rows, int columns, IntToDoubleBiFunction generator) {
+        this(rows, columns);
+
+        int i = 0;
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                values[i++] = (float) generator.applyAsDouble(r, c);
+            }
+        }
+    }
+
+    /**
+     * Creates a new matrix, rounding the elements of the provided matrix to single precision.
+     *
+     * @param m The matrix of which to copy elements from
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public FloatMatrix(Matrix m) {
+        this(m.rows(), m.columns());
+
+        double[] source = m.backingArray();
+        for (int i = 0; i < source.length; i++) {
+            values[i] = (float) source[i];
+        }
+    }
+
+    /**
+     * The row-major elements of this matrix.
+     */
+    protected final float[] values;
+
+    /**
+     * The number of rows.
+     */
+    protected final int rows;
+
+    /**
+     * The number of columns.
+     */
+    protected final int columns;
+
+    /**
+     * Returns the number of rows of this matrix.
+     *
+     * @return The number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns of this matrix.
+     *
+     * @return The number of columns
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return values.length;
+    }
+
+    /**
+     * Returns whether this matrix is square.
+     *
+     * @return {@code true} if the number of rows is equal to the number of columns
+     */
+    public boolean isSquare() {
+        return rows == columns;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param r The row index
+     * @param c The column index
+     * @return The element at the specified index
+     * @throws BinaryIndexOutOfBoundsException When the provided index is out of bounds
+     */
+    public float get(int r, int c) throws BinaryIndexOutOfBoundsException {
+        if (r < 0 || r >= rows || c < 0 || c >= columns) {
+            throw new BinaryIndexOutOfBoundsException(r, c);
+        }
+
+        return values[r * columns + c];
+    }
+
+    /**
+     * Sets the element at the specified index.
+     *
+     * @param r     The row index
+     * @param c     The column index
+     * @param value The value to set to
+     * @throws BinaryIndexOutOfBoundsException When the provided index is out of bounds
+     */
+    public void set(int r, int c, float value) throws BinaryIndexOutOfBoundsException {
+        if (r < 0 || r >= rows || c < 0 || c >= columns) {
+            throw new BinaryIndexOutOfBoundsException(r, c);
+        }
+
+        values[r * columns + c] = value;
+    }
+
+    /**
+     * Returns the {@code r}th row of this matrix as an array.
+     *
+     * @param r The row index
+     * @return The {@code r}th row of this matrix
+     * @throws IndexOutOfBoundsException When the provided index {@code r} is out of bounds
+     */
+    public float[] row(int r) throws IndexOutOfBoundsException {
+        Objects.checkIndex(r, rows);
+        return Arrays.copyOfRange(values, r * columns, (r + 1) * columns);
+    }
+
+    /**
+     * Returns the {@code c}th column of this matrix as an array.
+     *
+     * @param c The column index
+     * @return The {@code c}th column of this matrix
+     * @throws IndexOutOfBoundsException When the provided index {@code c} is out of bounds
+     */
+    public float[] column(int c) throws IndexOutOfBoundsException {
+        Objects.checkIndex(c, columns);
+        float[] result = new float[rows];
+
+        for (int i = 0; i < rows; i++) {
+            result[i] = values[i * columns + c];
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        for (float v : values) {
+            if (Float.isNaN(v)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        for (float v : values) {
+            if (!Float.isFinite(v)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        for (float v : values) {
+            if (Float.isInfinite(v)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the Frobenius norm of this matrix. The sum of squares is accumulated in
+     * double precision.
+     *
+     * @return The Frobenius norm
+     */
+    public double norm() {
+        double sum = 0;
+
+        for (float v : values) {
+            sum += (double) v * v;
+        }
+
+        return Math.sqrt(sum);
+    }
+
+    /**
+     * Adds a scalar to this matrix, then returns the resulting matrix.
+     *
+     * @param s The scalar of which to add to this matrix
+     * @return The resulting matrix
+     */
+    public FloatMatrix add(float s) {
+        FloatMatrix result = new FloatMatrix(rows, columns);
+
+        for (int i = 0; i < values.length; i++) {
+            result.values[i] = values[i] + s;
+        }
+
+        return result;
+    }
+
+    /**
+     * Subtracts a scalar from this matrix, then returns the resulting matrix.
+     *
+     * @param s The scalar of which to subtract from this matrix
+     * @return The resulting matrix
+     */
+    public FloatMatrix subtract(float s) {
+        return add(-s);
+    }
+
+    /**
+     * Multiplies this matrix by a scalar, then returns the resulting matrix.
+     *
+     * @param s The scalar of which to multiply this matrix by
+     * @return The resulting matrix
+     */
+    public FloatMatrix multiply(float s) {
+        FloatMatrix result = new FloatMatrix(rows, columns);
+
+        for (int i = 0; i < values.length; i++) {
+            result.values[i] = values[i] * s;
+        }
+
+        return result;
+    }
+
+    /**
+     * Divides this matrix by a scalar, then returns the resulting matrix.
+     *
+     * @param s The scalar of which to divide this matrix by
+     * @return The resulting matrix
+     * @throws ArithmeticException When the provided denominator {@code s} is zero
+     */
+    public FloatMatrix divide(float s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Adds a matrix to this matrix, then returns the resulting matrix.
+     *
+     * @param m The matrix of which to add to this matrix
+     * @return The resulting matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public FloatMatrix add(FloatMatrix m) throws IncompatibleDimensionsException {
+        requireSameDimensions(m);
+        FloatMatrix result = new FloatMatrix(rows, columns);
+
+        for (int i = 0; i < values.length; i++) {
+            result.values[i] = values[i] + m.values[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Subtracts a matrix from this matrix, then returns the resulting matrix.
+     *
+     * @param m The matrix of which to subtract from this matrix
+     * @return The resulting matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public FloatMatrix subtract(FloatMatrix m) throws IncompatibleDimensionsException {
+        requireSameDimensions(m);
+        FloatMatrix result = new FloatMatrix(rows, columns);
+
+        for (int i = 0; i < values.length; i++) {
+            result.values[i] = values[i] - m.values[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by another matrix, then returns the resulting matrix.
+     * The product is computed in cache-sized blocks.
+     *
+     * @param m The matrix of which to multiply with this matrix
+     * @return The resulting matrix
+     * @throws IncompatibleDimensionsException When the dimensions are incompatible for multiplication
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public FloatMatrix multiply(FloatMatrix m) throws IncompatibleDimensionsException {
+        if (columns != m.rows) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        FloatMatrix result = new FloatMatrix(rows, m.columns);
+        MatrixKernels.multiply(values, m.values, result.values, columns, m.columns, 0, rows);
+        return result;
+    }
+
+    /**
+     * Performs matrix-vector multiplication, then returns the resulting vector. Each component
+     * is accumulated in double precision before being rounded to single precision.
+     *
+     * @param v The vector of which to multiply by this matrix
+     * @return The resulting vector
+     * @throws IncompatibleDimensionsException When the number of columns is different from the provided
+     *                                         vector {@code v}'s size
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public FloatLargeVector multiply(FloatLargeVector v) throws IncompatibleDimensionsException {
+        if (v.size() != columns) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        float[] vector = v.backingArray();
+        float[] result = new float[rows];
+
+        for (int r = 0; r < rows; r++) {
+            int offset = r * columns;
+            double sum = 0;
+
+            for (int c = 0; c < columns; c++) {
+                sum += (double) values[offset + c] * vector[c];
+            }
+
+            result[r] = (float) sum;
+        }
+
+        return new FloatLargeVector(result, false);
+    }
+
+    /**
+     * Applies the provided mapper function to each element of this matrix, then returns a new
+     * matrix whose elements are the return values of the mapper function.
+     *
+     * @param mapper The mapper function of which to apply to each element of this matrix
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided mapper function is {@code null}
+     */
+    public FloatMatrix map(FloatUnaryOperator mapper) {
+        FloatMatrix result = new FloatMatrix(rows, columns);
+
+        for (int i = 0; i < values.length; i++) {
+            result.values[i] = mapper.applyAsFloat(values[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Applies the provided merger function to each corresponding pair of elements of this matrix
+     * and the provided matrix {@code m}, then returns a new matrix whose elements are the return
+     * values of the merger function.
+     *
+     * @param m      The matrix of which to merge this matrix with
+     * @param merger The merger function of which to handle the merging of the two matrices
+     * @return The resulting matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When a {@code null} parameter is provided
+     */
+    public FloatMatrix merge(FloatMatrix m, FloatBinaryOperator merger) throws IncompatibleDimensionsException {
+        requireSameDimensions(m);
+        FloatMatrix result = new FloatMatrix(rows, columns);
+
+        for (int i = 0; i < values.length; i++) {
+            result.values[i] = merger.applyAsFloat(values[i], m.values[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the transpose of this matrix.
+     *
+     * @return The transpose of this matrix
+     */
+    public FloatMatrix transpose() {
+        FloatMatrix result = new FloatMatrix(columns, rows);
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                result.values[c * rows + r] = values[r * columns + c];
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the negation of this matrix.
+     *
+     * @return The negation of this matrix
+     */
+    public FloatMatrix negate() {
+        return multiply(-1);
+    }
+
+    /**
+     * Adds a scalar to every element of this matrix in place.
+     *
+     * @param s The scalar of which to add to this matrix
+     */
+    public void addInPlace(float s) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] += s;
+        }
+    }
+
+    /**
+     * Subtracts a scalar from every element of this matrix in place.
+     *
+     * @param s The scalar of which to subtract from this matrix
+     */
+    public void subtractInPlace(float s) {
+        addInPlace(-s);
+    }
+
+    /**
+     * Multiplies this matrix by a scalar in place.
+     *
+     * @param s The scalar of which to multiply this matrix by
+     */
+    public void multiplyInPlace(float s) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] *= s;
+        }
+    }
+
+    /**
+     * Divides this matrix by a scalar in place.
+     *
+     * @param s The scalar of which to divide this matrix by
+     * @throws ArithmeticException When the provided denominator {@code s} is zero
+     */
+    public void divideInPlace(float s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        multiplyInPlace(1 / s);
+    }
+
+    /**
+     * Adds a matrix to this matrix in place.
+     *
+     * @param m The matrix of which to add to this matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public void addInPlace(FloatMatrix m) throws IncompatibleDimensionsException {
+        requireSameDimensions(m);
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] += m.values[i];
+        }
+    }
+
+    /**
+     * Subtracts a matrix from this matrix in place.
+     *
+     * @param m The matrix of which to subtract from this matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public void subtractInPlace(FloatMatrix m) throws IncompatibleDimensionsException {
+        requireSameDimensions(m);
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] -= m.values[i];
+        }
+    }
+
+    /**
+     * Negates this matrix in place.
+     */
+    public void negateInPlace() {
+        multiplyInPlace(-1);
+    }
+
+    /**
+     * Replaces each element of this matrix with the return value of the provided mapper function.
+     *
+     * @param mapper The mapper function of which to apply to each element of this matrix
+     * @throws NullPointerException When the provided mapper function is {@code null}
+     */
+    public void replace(FloatUnaryOperator mapper) {
+        for (int i = 0; i < values.length; i++) {
+            values[i] = mapper.applyAsFloat(values[i]);
+        }
+    }
+
+    /**
+     * Merges this matrix with the provided matrix in place, replacing each element of this
+     * matrix with the result of the merger function.
+     *
+     * @param m      The matrix of which to merge this matrix with
+     * @param merger The merger function of which to handle the merging of the two matrices
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When a {@code null} parameter is provided
+     */
+    public void mergeInPlace(FloatMatrix m, FloatBinaryOperator merger) throws IncompatibleDimensionsException {
+        requireSameDimensions(m);
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = merger.applyAsFloat(values[i], m.values[i]);
+        }
+    }
+
+    /**
+     * Returns a double-precision copy of this matrix.
+     *
+     * @return The double-precision matrix
+     */
+    public Matrix toMatrix() {
+        Matrix result = new Matrix(rows, columns);
+        double[] dest = result.backingArray();
+
+        for (int i = 0; i < values.length; i++) {
+            dest[i] = values[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return IntStream.range(0, values.length).mapToDouble(i -> values[i]);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double[] toArray() {
+        double[] result = new double[values.length];
+
+        for (int i = 0; i < values.length; i++) {
+            result[i] = values[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns an array containing the row-major elements of this matrix.
+     *
+     * @return The array representation of this matrix
+     */
+    public float[] toFloatArray() {
+        return Arrays.copyOf(values, values.length);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(Arrays.hashCode(values), rows, columns);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FloatMatrix m)) return false;
+        return rows == m.rows && columns == m.columns && Arrays.equals(values, m.values);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        if (values.length == 0) return "{}";
+
+        StringBuilder result = new StringBuilder("{");
+
+        for (int r = 0; r < rows; r++) {
+            result.append("\n  ").append(Arrays.toString(row(r))).append(",");
+        }
+
+        result.replace(result.lastIndexOf(","), result.length(), "\n");
+
+        return result.append("}").toString();
+    }
+
+    /**
+     * Returns the row-major elements of this matrix. Changes to the array are reflected in
+     * this matrix.
+     *
+     * @return The row-major elements
+     */
+    float[] backingArray() {
+        return values;
+    }
+
+    /**
+     * Checks that the provided matrix has the same dimensions as this matrix.
+     *
+     * @param m The matrix of which to check
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     */
+    private void requireSameDimensions(FloatMatrix m) {
+        if (rows != m.rows || columns != m.columns) {
+            throw new IncompatibleDimensionsException();
+        }
+    }
+}
@@ -0,0 +1,544 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+import pegasus.function.FloatBinaryOperator;
+import pegasus.function.FloatUnaryOperator;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * An immutable three-dimensional vector of {@code float} components. Single-precision vectors
+ * take half the memory of {@link Vector3}, which makes them a better fit for workloads such as
+ * rendering, where memory bandwidth matters more than precision. Operations are computed in
+ * single precision, except for {@link #rotate(Quaternion) rotations}.
+ *
+ * @see Vector3
+ * @see FloatLargeVector
+ * @see FloatMatrix
+ */
+public class FloatVector3 implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * The zero vector.
+     */
+    public static final FloatVector3 ZERO = new FloatVector3(0, 0, 0);
+
+    /**
+     * The positive X unit vector.
+     */
+    public static final FloatVector3 POSITIVE_X = new FloatVector3(1, 0, 0);
+
+    /**
+     * The positive Y unit vector.
+     */
+    public static final FloatVector3 POSITIVE_Y = new FloatVector3(0, 1, 0);
+
+    /**
+     * The positive Z unit vector.
+     */
+    public static final FloatVector3 POSITIVE_Z = new FloatVector3(0, 0, 1);
+
+    /**
+     * The negative X unit vector.
+     */
+    public static final FloatVector3 NEGATIVE_X = new FloatVector3(-1, 0, 0);
+
+    /**
+     * The negative Y unit vector.
+     */
+    public static final FloatVector3 NEGATIVE_Y = new FloatVector3(0, -1, 0);
+
+    /**
+     * The negative Z unit vector.
+     */
+    public static final FloatVector3 NEGATIVE_Z = new FloatVector3(0, 0, -1);
+
+    /**
+     * Creates a new vector.
+     *
+     * @param x The X component of this vector
+     * @param y The Y component of this vector
+     * @param z The Z component of this vector
+     */
+    public FloatVector3(float x, float y, float z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Creates a new vector, rounding the components of the provided vector to single precision.
+     *
+     * @param v The vector of which to copy component values from
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public FloatVector3(Vector3 v) {
+        this.x = (float) v.x;
+        this.y = (float) v.y;
+        this.z = (float) v.z;
+    }
+
+    /**
+     * The X component of this vector.
+     */
+    protected final float x;
+
+    /**
+     * The Y component of this vector.
+     */
+    protected final float y;
+
+    /**
+     * The Z component of this vector.
+     */
+    protected final float z;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return 3;
+    }
+
+    /**
+     * Returns the {@code i}th component of this vector.
+     *
+     * @param i The index of the component to get
+     * @return The {@code i}th component
+     * @throws IndexOutOfBoundsException When the provided index {@code i} is out of bounds
+     */
+    public float valueAt(int i) throws IndexOutOfBoundsException {
+        return switch (i) {
+            case 0 -> x;
+            case 1 -> y;
+            case 2 -> z;
+            default -> throw new IndexOutOfBoundsException(i);
+        };
+    }
+
+    /**
+     * Returns the X component of this vector.
+     *
+     * @return The X component
+     */
+    public float x() {
+        return x;
+    }
+
+    /**
+     * Returns the Y component of this vector.
+     *
+     * @return The Y component
+     */
+    public float y() {
+        return y;
+    }
+
+    /**
+     * Returns the Z component of this vector.
+     *
+     * @return The Z component
+     */
+    public float z() {
+        return z;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        return Float.isNaN(x) || Float.isNaN(y) || Float.isNaN(z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        return Float.isFinite(x) && Float.isFinite(y) && Float.isFinite(z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        return Float.isInfinite(x) || Float.isInfinite(y) || Float.isInfinite(z);
+    }
+
+    /**
+     * Returns the Euclidean norm of this vector.
+     *
+     * @return The Euclidean norm
+     */
+    public float norm() {
+        return (float) Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Returns the squared Euclidean norm of this vector.
+     *
+     * @return The squared Euclidean norm
+     */
+    public float normSquared() {
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * Returns the Manhattan norm of this vector.
+     *
+     * @return The Manhattan norm
+     */
+    public float normManhattan() {
+        return Math.abs(x) + Math.abs(y) + Math.abs(z);
+    }
+
+    /**
+     * Adds a scalar to every component of this vector.
+     *
+     * @param s The scalar of which to add to this vector
+     * @return The resulting vector
+     */
+    public FloatVector3 add(float s) {
+        return new FloatVector3(x + s, y + s, z + s);
+    }
+
+    /**
+     * Subtracts a scalar from every component of this vector.
+     *
+     * @param s The scalar of which to subtract from this vector
+     * @return The resulting vector
+     */
+    public FloatVector3 subtract(float s) {
+        return new FloatVector3(x - s, y - s, z - s);
+    }
+
+    /**
+     * Multiplies every component of this vector by a scalar.
+     *
+     * @param s The scalar of which to multiply this vector by
+     * @return The resulting vector
+     */
+    public FloatVector3 multiply(float s) {
+        return new FloatVector3(x * s, y * s, z * s);
+    }
+
+    /**
+     * Divides every component of this vector by a scalar.
+     *
+     * @param s The scalar of which to divide this vector by
+     * @return The resulting vector
+     * @throws ArithmeticException When the provided denominator {@code s} is zero
+     */
+    public FloatVector3 divide(float s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        float i = 1 / s;
+        return new FloatVector3(x * i, y * i, z * i);
+    }
+
+    /**
+     * Adds the provided vector to this vector.
+     *
+     * @param v The vector of which to add to this vector
+     * @return The resulting vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public FloatVector3 add(FloatVector3 v) {
+        return new FloatVector3(x + v.x, y + v.y, z + v.z);
+    }
+
+    /**
+     * Subtracts the provided vector from this vector.
+     *
+     * @param v The vector of which to subtract from this vector
+     * @return The resulting vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public FloatVector3 subtract(FloatVector3 v) {
+        return new FloatVector3(x - v.x, y - v.y, z - v.z);
+    }
+
+    /**
+     * Returns the cross product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the cross product between
+     * @return The cross product
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public FloatVector3 cross(FloatVector3 v) {
+        return new FloatVector3(y * v.z - z * v.y, z * v.x - x * v.z, x * v.y - y * v.x);
+    }
+
+    /**
+     * Returns the dot product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot product between
+     * @return The dot product
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public float dot(FloatVector3 v) {
+        return x * v.x + y * v.y + z * v.z;
+    }
+
+    /**
+     * Returns the absolute value of this vector.
+     *
+     * @return The absolute value of this vector
+     */
+    public FloatVector3 abs() {
+        return new FloatVector3(Math.abs(x), Math.abs(y), Math.abs(z));
+    }
+
+    /**
+     * Returns this vector with every component rounded to the nearest integer.
+     *
+     * @return The rounded vector
+     */
+    public FloatVector3 round() {
+        return new FloatVector3(Math.round(x), Math.round(y), Math.round(z));
+    }
+
+    /**
+     * Returns the negation of this vector.
+     *
+     * @return The negation of this vector
+     */
+    public FloatVector3 negate() {
+        return new FloatVector3(-x, -y, -z);
+    }
+
+    /**
+     * Returns the unit vector of this vector.
+     *
+     * @return The unit vector of this vector
+     * @throws ArithmeticException When the norm of this vector is zero
+     */
+    public FloatVector3 normalize() throws ArithmeticException {
+        float s = norm();
+        if (s == 0) throw new DivisionByZeroException();
+        float i = 1 / s;
+        return new FloatVector3(x * i, y * i, z * i);
+    }
+
+    /**
+     * Returns the component-wise minimum of this vector and the provided vector {@code v}.
+     *
+     * @param v The boundary vector of which to compare to
+     * @return The minimum vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public FloatVector3 min(FloatVector3 v) {
+        return new FloatVector3(
+                Math.min(x, v.x),
+                Math.min(y, v.y),
+                Math.min(z, v.z)
+        );
+    }
+
+    /**
+     * Returns the component-wise maximum of this vector and the provided vector {@code v}.
+     *
+     * @param v The boundary vector of which to compare to
+     * @return The maximum vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public FloatVector3 max(FloatVector3 v) {
+        return new FloatVector3(
+                Math.max(x, v.x),
+                Math.max(y, v.y),
+                Math.max(z, v.z)
+        );
+    }
+
+    /**
+     * Returns this vector clamped between the provided boundary vectors.
+     *
+     * @param min The minimum boundary vector of which to compare to
+     * @param max The maximum boundary vector of which to compare to
+     * @return The clamped vector
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public FloatVector3 clamp(FloatVector3 min, FloatVector3 max) {
+        return new FloatVector3(
+                Math.min(Math.max(x, min.x), max.x),
+                Math.min(Math.max(y, min.y), max.y),
+                Math.min(Math.max(z, min.z), max.z)
+        );
+    }
+
+    /**
+     * Applies the provided mapper function to each component of this vector, then returns a new
+     * vector whose components are the return values of the mapper function.
+     *
+     * @param mapper The mapper function of which to apply to each component of this vector
+     * @return The resulting vector
+     * @throws NullPointerException When the provided mapper function is {@code null}
+     */
+    public FloatVector3 map(FloatUnaryOperator mapper) {
+        return new FloatVector3(
+                mapper.applyAsFloat(x),
+                mapper.applyAsFloat(y),
+                mapper.applyAsFloat(z)
+        );
+    }
+
+    /**
+     * Applies the provided merger function to each corresponding pair of components of this vector
+     * and the provided vector {@code v}, then returns a new vector whose components are the return
+     * values of the merger function.
+     *
+     * @param v      The vector of which to merge this vector with
+     * @param merger The merger function of which to handle the merging of the two vectors
+     * @return The resulting vector
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public FloatVector3 merge(FloatVector3 v, FloatBinaryOperator merger) {
+        return new FloatVector3(
+                merger.applyAsFloat(x, v.x),
+                merger.applyAsFloat(y, v.y),
+                merger.applyAsFloat(z, v.z)
+        );
+    }
+
+    /**
+     * Rotates this vector by the provided quaternion. The rotation is computed in double precision
+     * as in {@link Tensors#rotate(Vector3, Quaternion)}, then rounded to single precision.
+     *
+     * @param q The rotation quaternion of which to apply to this vector
+     * @return The rotated vector
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     */
+    public FloatVector3 rotate(Quaternion q) {
+        double qp1 = -q.x * x - q.y * y - q.z * z;
+        double qp2 = q.w * x + q.y * z - q.z * y;
+        double qp3 = q.w * y - q.x * z + q.z * x;
+        double qp4 = q.w * z + q.x * y - q.y * x;
+
+        return new FloatVector3(
+                (float) (-qp1 * q.x + qp2 * q.w - qp3 * q.z + qp4 * q.y),
+                (float) (-qp1 * q.y + qp2 * q.z + qp3 * q.w - qp4 * q.x),
+                (float) (-qp1 * q.z - qp2 * q.y + qp3 * q.x + qp4 * q.w)
+        );
+    }
+
+    /**
+     * Returns the Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the Euclidean distance to
+     * @return The Euclidean distance
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public float distance(FloatVector3 v) {
+        return (float) Math.sqrt(distanceSquared(v));
+    }
+
+    /**
+     * Returns the squared Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the squared Euclidean distance to
+     * @return The squared Euclidean distance
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public float distanceSquared(FloatVector3 v) {
+        float dx = x - v.x;
+        float dy = y - v.y;
+        float dz = z - v.z;
+
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Returns the Manhattan distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the Manhattan distance to
+     * @return The Manhattan distance
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public float distanceManhattan(FloatVector3 v) {
+        return Math.abs(x - v.x) + Math.abs(y - v.y) + Math.abs(z - v.z);
+    }
+
+    /**
+     * Returns a double-precision copy of this vector.
+     *
+     * @return The double-precision vector
+     */
+    public Vector3 toVector3() {
+        return new Vector3(x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double[] toArray() {
+        return new double[]{x, y, z};
+    }
+
+    /**
+     * Returns an array containing the components of this vector.
+     *
+     * @return The array representation of this vector
+     */
+    public float[] toFloatArray() {
+        return new float[]{x, y, z};
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof FloatVector3 v)) return false;
+        return x == v.x && y == v.y && z == v.z;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" + x + ", " + y + ", " + z + "]";
+    }
+}
@@ -0,0 +1,343 @@
+package pegasus.tensor;
+
+import pegasus.exception.IncompatibleDimensionsException;
+import pegasus.exception.SingularMatrixException;
+
+import java.util.Arrays;
+
+/**
+ * The LU decomposition of a square matrix with partial pivoting. For a matrix {@code A},
+ * this decomposition consists of a unit lower triangular matrix {@code L}, an upper triangular
+ * matrix {@code U} and a row permutation {@code P}, such that {@code PA = LU}.
+ * <p>
+ * The factorization is computed in blocks of columns: each panel is factorized, then the
+ * rest of the matrix is updated with row operations over the contiguous rows of the panel.
+ * A decomposition is immutable once computed, and can be used to solve any number of
+ * systems with the same coefficient matrix.
+ *
+ * @see Matrix#lu()
+ */
+public class LUDecomposition {
+    /**
+     * The number of columns per panel.
+     */
+    private static final int BLOCK = 32;
+
+    /**
+     * Computes the LU decomposition of the provided matrix.
+     *
+     * @param m The matrix of which to decompose
+     * @throws IncompatibleDimensionsException When the matrix is not square
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public LUDecomposition(Matrix m) throws IncompatibleDimensionsException {
+        if (!m.isSquare()) {
+            throw new IncompatibleDimensionsException("The matrix is not square.");
+        }
+
+        this.n = m.rows();
+        this.lu = m.toArray();
+        this.pivots = new int[n];
+
+        for (int i = 0; i < n; i++) {
+            pivots[i] = i;
+        }
+
+        int sign = 1;
+
+        for (int j0 = 0; j0 < n; j0 += BLOCK) {
+            int j1 = Math.min(j0 + BLOCK, n);
+
+            // Factorize the panel
+            for (int k = j0; k < j1; k++) {
+                int p = k;
+                double max = Math.abs(lu[k * n + k]);
+
+                for (int i = k + 1; i < n; i++) {
+                    double v = Math.abs(lu[i * n + k]);
+                    if (v > max) {
+                        max = v;
+                        p = i;
+                    }
+                }
+
+                if (p != k) {
+                    swapRows(p, k);
+                    sign = -sign;
+                }
+
+                double pivot = lu[k * n + k];
+                if (pivot == 0) continue;
+
+                int rk = k * n;
+                for (int i = k + 1; i < n; i++) {
+                    int ri = i * n;
+                    double l = lu[ri + k] /= pivot;
+                    if (l == 0) continue;
+
+                    for (int j = k + 1; j < j1; j++) {
+                        lu[ri + j] -= l * lu[rk + j];
+                    }
+                }
+            }
+
+            // Compute the panel's rows of U
+            for (int i = j0 + 1; i < j1; i++) {
+                subtractRows(i, j0, i, j1);
+            }
+
+            // Update the trailing submatrix
+            for (int i = j1; i < n; i++) {
+                subtractRows(i, j0, j1, j1);
+            }
+        }
+
+        this.pivotSign = sign;
+    }
+
+    /**
+     * The number of rows and columns.
+     */
+    protected final int n;
+
+    /**
+     * The row-major storage of {@code L} (below the diagonal) and {@code U}.
+     */
+    protected final double[] lu;
+
+    /**
+     * The original row index of each row.
+     */
+    protected final int[] pivots;
+
+    /**
+     * The sign of the permutation.
+     */
+    protected final int pivotSign;
+
+    /**
+     * Returns whether the decomposed matrix is singular.
+     *
+     * @return {@code true} if {@code U} has a zero on its diagonal
+     */
+    public boolean isSingular() {
+        for (int i = 0; i < n; i++) {
+            if (lu[i * n + i] == 0) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the determinant of the decomposed matrix.
+     *
+     * @return The determinant of the decomposed matrix
+     */
+    public double determinant() {
+        double result = pivotSign;
+
+        for (int i = 0; i < n; i++) {
+            result *= lu[i * n + i];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the unit lower triangular factor {@code L}.
+     *
+     * @return The lower triangular factor
+     */
+    public Matrix lower() {
+        return new Matrix(n, n, (r, c) -> r > c ? lu[r * n + c] : r == c ? 1 : 0);
+    }
+
+    /**
+     * Returns the upper triangular factor {@code U}.
+     *
+     * @return The upper triangular factor
+     */
+    public Matrix upper() {
+        return new Matrix(n, n, (r, c) -> r <= c ? lu[r * n + c] : 0);
+    }
+
+    /**
+     * Returns the row permutation. The {@code i}th row of {@code PA} is the
+     * {@code pivots()[i]}th row of {@code A}.
+     *
+     * @return The original row index of each row
+     */
+    public int[] pivots() {
+        return Arrays.copyOf(pivots, n);
+    }
+
+    /**
+     * Solves {@code Ax = b} for {@code x}.
+     *
+     * @param b The right-hand side
+     * @return The solution {@code x}
+     * @throws IncompatibleDimensionsException When the length of {@code b} is different from the matrix's size
+     * @throws SingularMatrixException         When the decomposed matrix is singular
+     * @throws NullPointerException            When the provided array is {@code null}
+     */
+    public double[] solve(double[] b) {
+        double[] x = new double[n];
+        solveInto(b, x);
+        return x;
+    }
+
+    /**
+     * Solves {@code Ax = b} for {@code x}, and stores the solution in the destination array.
+     * The destination may be {@code b}.
+     *
+     * @param b    The right-hand side
+     * @param dest The array of which to store the solution in
+     * @throws IncompatibleDimensionsException When the length of either array is different from the matrix's size
+     * @throws SingularMatrixException         When the decomposed matrix is singular
+     * @throws NullPointerException            When a {@code null} array is provided
+     */
+    public void solveInto(double[] b, double[] dest) {
+        if (b.length != n || dest.length != n) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (isSingular()) throw new SingularMatrixException();
+
+        double[] x = dest == b ? Arrays.copyOf(b, n) : b;
+        for (int i = 0; i < n; i++) {
+            dest[i] = x[pivots[i]];
+        }
+
+        for (int i = 0; i < n; i++) {
+            int ri = i * n;
+            double sum = dest[i];
+
+            for (int p = 0; p < i; p++) {
+                sum -= lu[ri + p] * dest[p];
+            }
+
+            dest[i] = sum;
+        }
+
+        for (int i = n - 1; i >= 0; i--) {
+            int ri = i * n;
+            double sum = dest[i];
+
+            for (int j = i + 1; j < n; j++) {
+                sum -= lu[ri + j] * dest[j];
+            }
+
+            dest[i] = sum / lu[ri + i];
+        }
+    }
+
+    /**
+     * Solves {@code AX = B} for {@code X}.
+     *
+     * @param b The right-hand side
+     * @return The solution {@code X}
+     * @throws IncompatibleDimensionsException When the number of rows of {@code B} is different from the matrix's size
+     * @throws SingularMatrixException         When the decomposed matrix is singular
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public Matrix solve(Matrix b) {
+        if (b.rows() != n) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (isSingular()) throw new SingularMatrixException();
+
+        int m = b.columns();
+        Matrix result = new Matrix(n, m);
+
+        double[] source = b.backingArray();
+        double[] x = result.backingArray();
+
+        for (int i = 0; i < n; i++) {
+            System.arraycopy(source, pivots[i] * m, x, i * m, m);
+        }
+
+        for (int i = 0; i < n; i++) {
+            for (int p = 0; p < i; p++) {
+                double l = lu[i * n + p];
+                if (l == 0) continue;
+
+                for (int j = 0; j < m; j++) {
+                    x[i * m + j] -= l * x[p * m + j];
+                }
+            }
+        }
+
+        for (int i = n - 1; i >= 0; i--) {
+            for (int p = i + 1; p < n; p++) {
+                double u = lu[i * n + p];
+                if (u == 0) continue;
+
+                for (int j = 0; j < m; j++) {
+                    x[i * m + j] -= u * x[p * m + j];
+                }
+            }
+
+            double inv = 1 / lu[i * n + i];
+            for (int j = 0; j < m; j++) {
+                x[i * m + j] *= inv;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the inverse of the decomposed matrix.
+     *
+     * @return The inverse matrix
+     * @throws SingularMatrixException When the decomposed matrix is singular
+     */
+    public Matrix inverse() {
+        return solve(Matrix.newIdentity(n));
+    }
+
+    /**
+     * Swaps two rows of the factorization and the permutation.
+     *
+     * @param a The index of the first row
+     * @param b The index of the second row
+     */
+    private void swapRows(int a, int b) {
+        int ra = a * n;
+        int rb = b * n;
+
+        for (int j = 0; j < n; j++) {
+            double t = lu[ra + j];
+            lu[ra + j] = lu[rb + j];
+            lu[rb + j] = t;
+        }
+
+        int t = pivots[a];
+        pivots[a] = pivots[b];
+        pivots[b] = t;
+    }
+
+    /**
+     * Subtracts rows {@code [p1, p2)} of {@code U}, weighted by the multipliers of row {@code i},
+     * from row {@code i}, starting at column {@code c}.
+     *
+     * @param i  The row of which to update
+     * @param p1 The first row of which to subtract (inclusive)
+     * @param p2 The last row of which to subtract (exclusive)
+     * @param c  The first column of which to update
+     */
+    private void subtractRows(int i, int p1, int p2, int c) {
+        int ri = i * n;
+
+        for (int p = p1; p < p2; p++) {
+            double l = lu[ri + p];
+            if (l == 0) continue;
+
+            int rp = p * n;
+            for (int j = c; j < n; j++) {
+                lu[ri + j] -= l * lu[rp + j];
+            }
+        }
+    }
+}
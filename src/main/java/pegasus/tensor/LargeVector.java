@@ -2,7 +2,6 @@ package pegasus.tensor;
 
 import java.io.Serial;
 import java.util.Arrays;
-import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.DoubleBinaryOperator;
 import java.util.function.DoubleUnaryOperator;
 import java.util.stream.DoubleStream;
@@ -268,6 +267,28 @@ public class LargeVector extends ArrayVector<LargeVector> {
         super(Arrays.copyOf(values, values.length));
     }
 
+    /**
+     * Direct assignment constructor.
+     *
+     * @param values The values to directly assign
+     * @param copy   Whether to copy the provided array
+     */
+    LargeVector(double[] values, boolean copy) {
+        super(copy ? Arrays.copyOf(values, values.length) : values);
+    }
+
+    /**
+     * Direct assignment constructor.
+     *
+     * @param values   The values to directly assign
+     * @param copy     Whether to copy the provided array
+     * @param parallel Whether the vector is parallel
+     */
+    private LargeVector(double[] values, boolean copy, boolean parallel) {
+        this(values, copy);
+        this.parallel = parallel;
+    }
+
     /**
      * Creates a new vector.
      *
@@ -288,20 +309,83 @@ public class LargeVector extends ArrayVector<LargeVector> {
         super(v.toArray());
     }
 
+    /**
+     * Whether reductions, maps and merges of this vector are computed in parallel.
+     */
+    private boolean parallel;
+
+    /**
+     * Returns a parallel vector with the same components as this vector. The reductions
+     * ({@link #norm()}, {@link #dot(LargeVector)}, {@link #distance(LargeVector)} and their variants),
+     * {@link #map(DoubleUnaryOperator) maps} and {@link #merge(LargeVector, DoubleBinaryOperator) merges}
+     * of a parallel vector are split across the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}
+     * once the vector is large enough to benefit. Vectors derived from a parallel vector are also parallel.
+     * <p>
+     * Parallel reductions are summed with Kahan compensation in a fixed pairwise order, so their result
+     * does not depend on the number of threads, and is generally more accurate than the sequential result.
+     *
+     * @return A parallel vector with the same components
+     */
+    public LargeVector parallel() {
+        return parallel ? this : new LargeVector(backingArray(), false, true);
+    }
+
+    /**
+     * Returns a sequential vector with the same components as this vector.
+     *
+     * @return A sequential vector with the same components
+     * @see #parallel()
+     */
+    public LargeVector sequential() {
+        return parallel ? new LargeVector(backingArray(), false, false) : this;
+    }
+
+    /**
+     * Returns whether this vector is {@link #parallel() parallel}.
+     *
+     * @return {@code true} if this vector is parallel
+     */
+    @Override
+    public boolean isParallel() {
+        return parallel;
+    }
+
     /**
      * {@inheritDoc}
      *
+     * @param values {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    LargeVector newInstance(double[] values) {
+        return new LargeVector(values, false, parallel);
+    }
+
+    /**
+     * {@inheritDoc} When this vector is {@link #parallel() parallel}, the mapper function
+     * may be called concurrently from multiple threads.
+     *
      * @param mapper The mapper function of which to apply to each component of this vector
      * @return {@inheritDoc}
      * @throws NullPointerException {@inheritDoc}
      */
     @Override
     public LargeVector map(DoubleUnaryOperator mapper) {
-        return new LargeVector(stream().map(mapper));
+        double[] values = backingArray();
+        double[] result = new double[values.length];
+
+        ParallelKernels.forRange(result.length, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = mapper.applyAsDouble(values[i]);
+            }
+        });
+
+        return newInstance(result);
     }
 
     /**
-     * {@inheritDoc}
+     * {@inheritDoc} When this vector is {@link #parallel() parallel}, the merger function
+     * may be called concurrently from multiple threads.
      *
      * @param v      The vector of which to merge this vector with
      * @param merger The merger function of which to handle the merging of the two vectors
@@ -310,8 +394,26 @@ public class LargeVector extends ArrayVector<LargeVector> {
      */
     @Override
     public LargeVector merge(LargeVector v, DoubleBinaryOperator merger) {
-        AtomicInteger i = new AtomicInteger(0);
-        return new LargeVector(stream()
-                .map(x -> merger.applyAsDouble(x, v.valueAt(i.getAndIncrement()))));
+        double[] a = backingArray(), b = v.backingArray();
+        double[] result = new double[a.length];
+
+        ParallelKernels.forRange(result.length, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = merger.applyAsDouble(a[i], b[i]);
+            }
+        });
+
+        return newInstance(result);
+    }
+
+    /**
+     * Returns a lazily evaluated expression of this vector. Operations on the expression are
+     * fused, and are only applied when the expression is materialized or reduced.
+     *
+     * @return An expression of this vector
+     * @see TensorExpression
+     */
+    public TensorExpression lazy() {
+        return TensorExpression.of(this);
     }
 }
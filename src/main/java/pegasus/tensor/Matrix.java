@@ -28,6 +28,11 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
      */
     public static final IntToDoubleBiFunction IDENTITY_GENERATOR = (r, c) -> r == c ? 1 : 0;
 
+    /**
+     * The size of the square tiles used when transposing.
+     */
+    private static final int TRANSPOSE_BLOCK = 32;
+
     /**
      * Creates a new matrix containing the provided values.
      *
@@ -37,7 +42,7 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
      * @throws NullPointerException     When the array contains a {@code null} row
      */
     public static Matrix of(double[][] values) {
-        if (Arrays.stream(values).mapToInt(Array::getLength).distinct().count() >= 1) {
+        if (Arrays.stream(values).mapToInt(Array::getLength).distinct().count() > 1) {
             throw new IllegalArgumentException("The provided array is not rectangular.");
         }
 
@@ -67,6 +72,164 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
         return new Matrix(n, n, IDENTITY_GENERATOR);
     }
 
+    /**
+     * Adds two matrices, and stores the result in the destination matrix. The destination
+     * may be one of the operands.
+     *
+     * @param a    The first matrix
+     * @param b    The second matrix
+     * @param dest The matrix of which to store the result in
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When a {@code null} matrix is provided
+     */
+    public static void addInto(Matrix a, Matrix b, Matrix dest) throws IncompatibleDimensionsException {
+        requireSameDimensions(a, b);
+        requireSameDimensions(a, dest);
+
+        DoubleKernels.add(a.values, b.values, dest.values);
+    }
+
+    /**
+     * Subtracts the second matrix from the first matrix, and stores the result in the
+     * destination matrix. The destination may be one of the operands.
+     *
+     * @param a    The first matrix
+     * @param b    The second matrix
+     * @param dest The matrix of which to store the result in
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When a {@code null} matrix is provided
+     */
+    public static void subtractInto(Matrix a, Matrix b, Matrix dest) throws IncompatibleDimensionsException {
+        requireSameDimensions(a, b);
+        requireSameDimensions(a, dest);
+
+        DoubleKernels.subtract(a.values, b.values, dest.values);
+    }
+
+    /**
+     * Multiplies a matrix by a scalar, and stores the result in the destination matrix.
+     * The destination may be the operand.
+     *
+     * @param a    The matrix
+     * @param s    The scalar of which to multiply the matrix by
+     * @param dest The matrix of which to store the result in
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When a {@code null} matrix is provided
+     */
+    public static void multiplyInto(Matrix a, double s, Matrix dest) throws IncompatibleDimensionsException {
+        requireSameDimensions(a, dest);
+        DoubleKernels.multiply(a.values, s, dest.values);
+    }
+
+    /**
+     * Multiplies two matrices, and stores the result in the destination matrix. The
+     * destination must not be one of the operands.
+     *
+     * @param a    The left-hand matrix
+     * @param b    The right-hand matrix
+     * @param dest The matrix of which to store the result in
+     * @throws IllegalArgumentException        When the destination is one of the operands
+     * @throws IncompatibleDimensionsException When the dimensions are incompatible for multiplication
+     * @throws NullPointerException            When a {@code null} matrix is provided
+     */
+    public static void multiplyInto(Matrix a, Matrix b, Matrix dest) throws IncompatibleDimensionsException {
+        if (a.columns != b.rows || dest.rows != a.rows || dest.columns != b.columns) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (dest == a || dest == b) {
+            throw new IllegalArgumentException("The destination matrix must not be an operand.");
+        }
+
+        Arrays.fill(dest.values, 0);
+        MatrixKernels.multiply(a.values, b.values, dest.values, a.rows, a.columns, b.columns);
+    }
+
+    /**
+     * Multiplies a matrix by a column vector, and stores the result in the destination array.
+     * The destination must not be the vector.
+     *
+     * @param a    The matrix
+     * @param v    The components of the vector
+     * @param dest The array of which to store the resulting components in
+     * @throws IllegalArgumentException        When the destination is the vector
+     * @throws IncompatibleDimensionsException When the vector's length is not the number of columns,
+     *                                         or the destination's length is not the number of rows
+     * @throws NullPointerException            When a {@code null} parameter is provided
+     */
+    public static void multiplyInto(Matrix a, double[] v, double[] dest) throws IncompatibleDimensionsException {
+        if (v.length != a.columns || dest.length != a.rows) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (dest == v) {
+            throw new IllegalArgumentException("The destination array must not be the vector.");
+        }
+
+        for (int r = 0; r < a.rows; r++) {
+            int offset = r * a.columns;
+
+            double sum = 0;
+            for (int c = 0; c < a.columns; c++) {
+                sum += a.values[offset + c] * v[c];
+            }
+
+            dest[r] = sum;
+        }
+    }
+
+    /**
+     * Transposes a matrix, and stores the result in the destination matrix. The destination
+     * must not be the source matrix.
+     *
+     * @param src  The matrix of which to transpose
+     * @param dest The matrix of which to store the result in
+     * @throws IllegalArgumentException        When the destination is the source matrix
+     * @throws IncompatibleDimensionsException When the destination's dimensions are not the
+     *                                         transposed dimensions of the source matrix
+     * @throws NullPointerException            When a {@code null} matrix is provided
+     */
+    public static void transposeInto(Matrix src, Matrix dest) throws IncompatibleDimensionsException {
+        if (dest.rows != src.columns || dest.columns != src.rows) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (dest == src) {
+            throw new IllegalArgumentException("The destination matrix must not be the source matrix.");
+        }
+
+        int rows = src.rows;
+        int columns = src.columns;
+
+        // Transpose in tiles, so that neither matrix is strided through in its entirety
+        for (int r0 = 0; r0 < rows; r0 += TRANSPOSE_BLOCK) {
+            int r1 = Math.min(r0 + TRANSPOSE_BLOCK, rows);
+
+            for (int c0 = 0; c0 < columns; c0 += TRANSPOSE_BLOCK) {
+                int c1 = Math.min(c0 + TRANSPOSE_BLOCK, columns);
+
+                for (int r = r0; r < r1; r++) {
+                    for (int c = c0; c < c1; c++) {
+                        dest.values[c * rows + r] = src.values[r * columns + c];
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks that the provided matrices have the same dimensions.
+     *
+     * @param a The first matrix
+     * @param b The second matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     */
+    private static void requireSameDimensions(Matrix a, Matrix b) throws IncompatibleDimensionsException {
+        if (a.rows != b.rows || a.columns != b.columns) {
+            throw new IncompatibleDimensionsException();
+        }
+    }
+
     /**
      * Creates a new matrix.
      *
@@ -157,6 +320,83 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
         return rows == columns;
     }
 
+    /**
+     * Returns the internal array of values. Changes to the array are reflected in this matrix.
+     *
+     * @return The internal array of values
+     */
+    double[] backingArray() {
+        return values;
+    }
+
+    /**
+     * Computes the LU decomposition of this matrix.
+     *
+     * @return The LU decomposition of this matrix
+     * @throws IncompatibleDimensionsException When this matrix is not square
+     */
+    public LUDecomposition lu() throws IncompatibleDimensionsException {
+        return new LUDecomposition(this);
+    }
+
+    /**
+     * Computes the Cholesky decomposition of this matrix.
+     *
+     * @return The Cholesky decomposition of this matrix
+     * @throws ArithmeticException             When this matrix is not positive-definite
+     * @throws IncompatibleDimensionsException When this matrix is not square
+     */
+    public CholeskyDecomposition cholesky() throws ArithmeticException, IncompatibleDimensionsException {
+        return new CholeskyDecomposition(this);
+    }
+
+    /**
+     * Computes the QR decomposition of this matrix.
+     *
+     * @return The QR decomposition of this matrix
+     * @throws IncompatibleDimensionsException When this matrix has fewer rows than columns
+     */
+    public QRDecomposition qr() throws IncompatibleDimensionsException {
+        return new QRDecomposition(this);
+    }
+
+    /**
+     * Returns the determinant of this matrix.
+     *
+     * @return The determinant of this matrix
+     * @throws IncompatibleDimensionsException When this matrix is not square
+     */
+    public double determinant() throws IncompatibleDimensionsException {
+        return lu().determinant();
+    }
+
+    /**
+     * Returns the inverse of this matrix.
+     *
+     * @return The inverse of this matrix
+     * @throws IncompatibleDimensionsException When this matrix is not square
+     * @throws SingularMatrixException         When this matrix is singular
+     */
+    public Matrix inverse() throws IncompatibleDimensionsException, SingularMatrixException {
+        return lu().inverse();
+    }
+
+    /**
+     * Solves {@code AX = B} for {@code X}, where {@code A} is this matrix. Square matrices
+     * are solved using their {@link #lu() LU decomposition}, and matrices with more rows
+     * than columns are solved in the least squares sense using their {@link #qr() QR decomposition}.
+     * To solve several systems with the same matrix, the decomposition should be reused instead.
+     *
+     * @param b The right-hand side
+     * @return The solution {@code X}
+     * @throws IncompatibleDimensionsException When the dimensions are incompatible
+     * @throws SingularMatrixException         When this matrix is singular or rank deficient
+     * @throws NullPointerException            When the provided matrix {@code b} is {@code null}
+     */
+    public Matrix solve(Matrix b) throws IncompatibleDimensionsException, SingularMatrixException {
+        return isSquare() ? lu().solve(b) : qr().solve(b);
+    }
+
     /**
      * Adds a scalar to this matrix, then returns the resulting matrix.
      *
@@ -165,7 +405,7 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
      */
     public Matrix add(double s) {
         Matrix result = new Matrix(rows, columns);
-        Arrays.setAll(result.values, i -> values[i] + s);
+        DoubleKernels.add(values, s, result.values);
         return result;
     }
 
@@ -177,7 +417,7 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
      */
     public Matrix subtract(double s) {
         Matrix result = new Matrix(rows, columns);
-        Arrays.setAll(result.values, i -> values[i] - s);
+        DoubleKernels.add(values, -s, result.values);
         return result;
     }
 
@@ -189,7 +429,7 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
      */
     public Matrix multiply(double s) {
         Matrix result = new Matrix(rows, columns);
-        Arrays.setAll(result.values, i -> values[i] * s);
+        DoubleKernels.multiply(values, s, result.values);
         return result;
     }
 
@@ -205,7 +445,7 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
         double inv = 1 / s;
 
         Matrix result = new Matrix(rows, columns);
-        Arrays.setAll(result.values, i -> values[i] * inv);
+        DoubleKernels.multiply(values, inv, result.values);
         return result;
     }
 
@@ -223,14 +463,7 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
         }
 
         Matrix result = new Matrix(rows, columns);
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < columns; c++) {
-                int i = r * columns + c;
-                result.values[i] = values[i] + m.get(r, c);
-            }
-        }
-
+        DoubleKernels.add(values, m.values, result.values);
         return result;
     }
 
@@ -248,19 +481,14 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
         }
 
         Matrix result = new Matrix(rows, columns);
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < columns; c++) {
-                int i = r * columns + c;
-                result.values[i] = values[i] - m.get(r, c);
-            }
-        }
-
+        DoubleKernels.subtract(values, m.values, result.values);
         return result;
     }
 
     /**
      * Multiplies this matrix by another matrix, then returns the resulting matrix.
+     * The product is computed in cache-sized blocks, and large products are computed
+     * in parallel using the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
      *
      * @param m The matrix of which to multiply with this matrix
      * @return The resulting matrix
@@ -273,17 +501,7 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
         }
 
         Matrix result = new Matrix(rows, m.columns());
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < m.columns(); j++) {
-                double sum = 0;
-                for (int k = 0; k < columns; k++) {
-                    sum += this.values[i * columns + k] * m.get(k, j);
-                }
-                result.set(i, j, sum);
-            }
-        }
-
+        MatrixKernels.multiply(values, m.values, result.values, rows, columns, m.columns);
         return result;
     }
 
@@ -329,7 +547,11 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
     @Override
     public Matrix map(DoubleUnaryOperator mapper) {
         Matrix result = new Matrix(rows, columns);
-        Arrays.setAll(result.values, i -> mapper.applyAsDouble(values[i]));
+
+        for (int i = 0; i < values.length; i++) {
+            result.values[i] = mapper.applyAsDouble(values[i]);
+        }
+
         return result;
     }
 
@@ -389,13 +611,7 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
     @Override
     public Matrix transpose() {
         Matrix result = new Matrix(columns, rows);
-
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < columns; c++) {
-                result.values[c * columns + r] = values[r * columns + c];
-            }
-        }
-
+        transposeInto(this, result);
         return result;
     }
 
@@ -406,7 +622,116 @@ public class Matrix extends DoubleArrayGrid implements DoubleGrid, Tensor {
      */
     public Matrix negate() {
         Matrix result = new Matrix(rows, columns);
-        Arrays.setAll(result.values, i -> -values[i]);
+        DoubleKernels.multiply(values, -1, result.values);
         return result;
     }
+
+    /**
+     * Returns a lazily evaluated expression of this matrix. Operations on the expression are
+     * fused, and are only applied when the expression is materialized or reduced.
+     *
+     * @return An expression of this matrix
+     * @see TensorExpression
+     */
+    public TensorExpression lazy() {
+        return TensorExpression.of(this);
+    }
+
+    /**
+     * Adds a scalar to every element of this matrix in place.
+     *
+     * @param s The scalar of which to add to this matrix
+     */
+    public void addInPlace(double s) {
+        DoubleKernels.add(values, s, values);
+    }
+
+    /**
+     * Subtracts a scalar from every element of this matrix in place.
+     *
+     * @param s The scalar of which to subtract from this matrix
+     */
+    public void subtractInPlace(double s) {
+        DoubleKernels.add(values, -s, values);
+    }
+
+    /**
+     * Multiplies this matrix by a scalar in place.
+     *
+     * @param s The scalar of which to multiply this matrix by
+     */
+    public void multiplyInPlace(double s) {
+        DoubleKernels.multiply(values, s, values);
+    }
+
+    /**
+     * Divides this matrix by a scalar in place.
+     *
+     * @param s The scalar of which to divide this matrix by
+     * @throws ArithmeticException When the provided denominator {@code s} is zero
+     */
+    public void divideInPlace(double s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        DoubleKernels.multiply(values, 1 / s, values);
+    }
+
+    /**
+     * Adds a matrix to this matrix in place.
+     *
+     * @param m The matrix of which to add to this matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public void addInPlace(Matrix m) throws IncompatibleDimensionsException {
+        addInto(this, m, this);
+    }
+
+    /**
+     * Subtracts a matrix from this matrix in place.
+     *
+     * @param m The matrix of which to subtract from this matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public void subtractInPlace(Matrix m) throws IncompatibleDimensionsException {
+        subtractInto(this, m, this);
+    }
+
+    /**
+     * Negates this matrix in place.
+     */
+    public void negateInPlace() {
+        DoubleKernels.multiply(values, -1, values);
+    }
+
+    /**
+     * Merges this matrix with the provided grid in place, replacing each element of this
+     * matrix with the result of the merger function. Mapping in place is done by
+     * {@link #replace(DoubleUnaryOperator)}.
+     *
+     * @param g      The grid of which to merge this matrix with
+     * @param merger The merger function of which to handle the merging of the two grids
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When a {@code null} parameter is provided
+     */
+    public void mergeInPlace(DoubleGrid g, DoubleBinaryOperator merger) throws IncompatibleDimensionsException {
+        if (rows != g.rows() || columns != g.columns()) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (g instanceof Matrix m) {
+            for (int i = 0; i < values.length; i++) {
+                values[i] = merger.applyAsDouble(values[i], m.values[i]);
+            }
+
+            return;
+        }
+
+        for (int r = 0; r < rows; r++) {
+            for (int c = 0; c < columns; c++) {
+                int i = r * columns + c;
+                values[i] = merger.applyAsDouble(values[i], g.get(r, c));
+            }
+        }
+    }
 }
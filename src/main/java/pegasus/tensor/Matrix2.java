@@ -0,0 +1,398 @@
+package pegasus.tensor;
+
+import pegasus.exception.BinaryIndexOutOfBoundsException;
+import pegasus.exception.DivisionByZeroException;
+import pegasus.exception.IncompatibleDimensionsException;
+import pegasus.exception.SingularMatrixException;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * An immutable {@code 2x2} matrix. Unlike {@link Matrix}, the components are stored in
+ * individual fields and every operation is fully unrolled, so that small matrices involve no
+ * array indexing, bounds checks or loops.
+ * <p>
+ * Two-dimensional matrices are typically used to rotate and scale
+ * {@link Vector2 two-dimensional vectors}.
+ *
+ * @see Matrix
+ * @see Matrix3
+ * @see Matrix4
+ * @see Vector2
+ */
+public class Matrix2 implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * The zero matrix.
+     */
+    public static final Matrix2 ZERO = new Matrix2(
+            0, 0,
+            0, 0
+    );
+
+    /**
+     * The identity matrix.
+     */
+    public static final Matrix2 IDENTITY = new Matrix2(
+            1, 0,
+            0, 1
+    );
+
+    /**
+     * Creates a new matrix which rotates two-dimensional vectors counterclockwise by the provided angle.
+     *
+     * @param angle The angle of rotation in radians
+     * @return The constructed rotation matrix
+     */
+    public static Matrix2 rotation(double angle) {
+        double c = Math.cos(angle);
+        double s = Math.sin(angle);
+        return new Matrix2(c, -s, s, c);
+    }
+
+    /**
+     * Creates a new scaling matrix.
+     *
+     * @param x The scale along the X axis
+     * @param y The scale along the Y axis
+     * @return The constructed scaling matrix
+     */
+    public static Matrix2 scale(double x, double y) {
+        return new Matrix2(x, 0, 0, y);
+    }
+
+    /**
+     * Creates a new matrix. The components are provided in row-major order.
+     *
+     * @param m00 The component at row 0 and column 0
+     * @param m01 The component at row 0 and column 1
+     * @param m10 The component at row 1 and column 0
+     * @param m11 The component at row 1 and column 1
+     */
+    public Matrix2(
+            double m00, double m01,
+            double m10, double m11
+    ) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m10 = m10;
+        this.m11 = m11;
+    }
+
+    /**
+     * Creates a new matrix.
+     *
+     * @param m The matrix of which to copy component values from
+     * @throws IncompatibleDimensionsException When the provided matrix is not {@code 2x2}
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public Matrix2(Matrix m) {
+        if (m.rows() != 2 || m.columns() != 2) {
+            throw new IncompatibleDimensionsException("The provided matrix is not 2x2.");
+        }
+
+        double[] v = m.backingArray();
+
+        this.m00 = v[0];
+        this.m01 = v[1];
+        this.m10 = v[2];
+        this.m11 = v[3];
+    }
+
+    /**
+     * The component at row 0 and column 0.
+     */
+    protected final double m00;
+
+    /**
+     * The component at row 0 and column 1.
+     */
+    protected final double m01;
+
+    /**
+     * The component at row 1 and column 0.
+     */
+    protected final double m10;
+
+    /**
+     * The component at row 1 and column 1.
+     */
+    protected final double m11;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return 4;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        return Double.isNaN(m00) || Double.isNaN(m01) ||
+                Double.isNaN(m10) || Double.isNaN(m11);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        return Double.isFinite(m00) && Double.isFinite(m01) &&
+                Double.isFinite(m10) && Double.isFinite(m11);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        return Double.isInfinite(m00) || Double.isInfinite(m01) ||
+                Double.isInfinite(m10) || Double.isInfinite(m11);
+    }
+
+    /**
+     * Returns the component at the provided row and column.
+     *
+     * @param r The index of the row
+     * @param c The index of the column
+     * @return The component at the provided row and column
+     * @throws BinaryIndexOutOfBoundsException When the index is out of bounds
+     */
+    public double get(int r, int c) throws BinaryIndexOutOfBoundsException {
+        if (r < 0 || r >= 2 || c < 0 || c >= 2) throw new BinaryIndexOutOfBoundsException(r, c);
+
+        return switch (r * 2 + c) {
+            case 0 -> m00;
+            case 1 -> m01;
+            case 2 -> m10;
+            case 3 -> m11;
+            default -> throw new BinaryIndexOutOfBoundsException(r, c);
+        };
+    }
+
+    /**
+     * Returns the trace of this matrix.
+     *
+     * @return The sum of the diagonal components of this matrix
+     */
+    public double trace() {
+        return m00 + m11;
+    }
+
+    /**
+     * Returns the determinant of this matrix.
+     *
+     * @return The determinant of this matrix
+     */
+    public double determinant() {
+        return m00 * m11 - m01 * m10;
+    }
+
+    /**
+     * Adds the provided matrix {@code m} to this matrix.
+     *
+     * @param m The matrix of which to add
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix2 add(Matrix2 m) {
+        return new Matrix2(
+                m00 + m.m00, m01 + m.m01,
+                m10 + m.m10, m11 + m.m11
+        );
+    }
+
+    /**
+     * Subtracts the provided matrix {@code m} from this matrix.
+     *
+     * @param m The matrix of which to subtract
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix2 subtract(Matrix2 m) {
+        return new Matrix2(
+                m00 - m.m00, m01 - m.m01,
+                m10 - m.m10, m11 - m.m11
+        );
+    }
+
+    /**
+     * Multiplies this matrix by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to multiply this matrix by
+     * @return The resulting matrix
+     */
+    public Matrix2 multiply(double s) {
+        return new Matrix2(
+                m00 * s, m01 * s,
+                m10 * s, m11 * s
+        );
+    }
+
+    /**
+     * Divides this matrix by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to divide this matrix by
+     * @return The resulting matrix
+     * @throws ArithmeticException When the provided scalar {@code s} is zero
+     */
+    public Matrix2 divide(double s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Multiplies this matrix by the provided matrix {@code m}. This matrix is on the left,
+     * and the provided matrix {@code m} is on the right.
+     *
+     * @param m The matrix of which to multiply this matrix by
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix2 multiply(Matrix2 m) {
+        return new Matrix2(
+                m00 * m.m00 + m01 * m.m10,
+                m00 * m.m01 + m01 * m.m11,
+                m10 * m.m00 + m11 * m.m10,
+                m10 * m.m01 + m11 * m.m11
+        );
+    }
+
+    /**
+     * Multiplies this matrix by the provided column vector {@code v}.
+     *
+     * @param v The vector of which to transform
+     * @return The transformed vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public Vector2 multiply(Vector2 v) {
+        return new Vector2(
+                m00 * v.x + m01 * v.y,
+                m10 * v.x + m11 * v.y
+        );
+    }
+
+    /**
+     * Returns the transpose of this matrix.
+     *
+     * @return The transpose of this matrix
+     */
+    public Matrix2 transpose() {
+        return new Matrix2(
+                m00, m10,
+                m01, m11
+        );
+    }
+
+    /**
+     * Returns the negation of this matrix.
+     *
+     * @return The negation of this matrix
+     */
+    public Matrix2 negate() {
+        return multiply(-1);
+    }
+
+    /**
+     * Returns the inverse of this matrix.
+     *
+     * @return The inverse of this matrix
+     * @throws SingularMatrixException When this matrix is singular
+     */
+    public Matrix2 inverse() throws SingularMatrixException {
+        double det = m00 * m11 - m01 * m10;
+        if (det == 0) throw new SingularMatrixException();
+
+        double i = 1 / det;
+        return new Matrix2(m11 * i, -m01 * i, -m10 * i, m00 * i);
+    }
+
+    /**
+     * Converts this matrix into a general {@link Matrix}.
+     *
+     * @return The converted matrix
+     */
+    public Matrix toMatrix() {
+        Matrix result = new Matrix(2, 2);
+        System.arraycopy(toArray(), 0, result.backingArray(), 0, 4);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(toArray());
+    }
+
+    /**
+     * Returns the components of this matrix in row-major order.
+     *
+     * @return The components of this matrix in row-major order
+     */
+    @Override
+    public double[] toArray() {
+        return new double[]{
+                m00, m01,
+                m10, m11
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                m00, m01,
+                m10, m11
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Matrix2 m)) return false;
+        return m00 == m.m00 && m01 == m.m01 &&
+                m10 == m.m10 && m11 == m.m11;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "{\n" +
+                "  [" + m00 + ", " + m01 + "],\n" +
+                "  [" + m10 + ", " + m11 + "]\n" +
+                "}";
+    }
+}
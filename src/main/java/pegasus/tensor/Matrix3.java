@@ -0,0 +1,486 @@
+package pegasus.tensor;
+
+import pegasus.exception.BinaryIndexOutOfBoundsException;
+import pegasus.exception.DivisionByZeroException;
+import pegasus.exception.IncompatibleDimensionsException;
+import pegasus.exception.SingularMatrixException;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * An immutable {@code 3x3} matrix. Unlike {@link Matrix}, the components are stored in
+ * individual fields and every operation is fully unrolled, so that small matrices involve no
+ * array indexing, bounds checks or loops.
+ * <p>
+ * Three-dimensional matrices are typically used to rotate and scale
+ * {@link Vector3 three-dimensional vectors}.
+ *
+ * @see Matrix
+ * @see Matrix2
+ * @see Matrix4
+ * @see Vector3
+ * @see Quaternion
+ */
+public class Matrix3 implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * The zero matrix.
+     */
+    public static final Matrix3 ZERO = new Matrix3(
+            0, 0, 0,
+            0, 0, 0,
+            0, 0, 0
+    );
+
+    /**
+     * The identity matrix.
+     */
+    public static final Matrix3 IDENTITY = new Matrix3(
+            1, 0, 0,
+            0, 1, 0,
+            0, 0, 1
+    );
+
+    /**
+     * Creates a new rotation matrix from the provided rotation quaternion. The matrix rotates
+     * vectors exactly as {@link Tensors#rotate(Vector3, Quaternion)} does, so if the quaternion
+     * is not of unit length, the matrix also scales by its squared norm.
+     *
+     * @param q The rotation quaternion
+     * @return The constructed rotation matrix
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     * @see Quaternion#toRotationMatrix()
+     */
+    public static Matrix3 rotation(Quaternion q) {
+        double w = q.w, x = q.x, y = q.y, z = q.z;
+
+        double ww = w * w, xx = x * x, yy = y * y, zz = z * z;
+        double xy = x * y, xz = x * z, xw = x * w;
+        double yz = y * z, yw = y * w, zw = z * w;
+
+        return new Matrix3(
+                ww + xx - yy - zz, 2 * (xy - zw), 2 * (xz + yw),
+                2 * (xy + zw), ww - xx + yy - zz, 2 * (yz - xw),
+                2 * (xz - yw), 2 * (yz + xw), ww - xx - yy + zz
+        );
+    }
+
+    /**
+     * Creates a new scaling matrix.
+     *
+     * @param s The scale along each axis
+     * @return The constructed scaling matrix
+     * @throws NullPointerException When the provided vector is {@code null}
+     */
+    public static Matrix3 scale(Vector3 s) {
+        return new Matrix3(s.x, 0, 0, 0, s.y, 0, 0, 0, s.z);
+    }
+
+    /**
+     * Creates a new matrix. The components are provided in row-major order.
+     *
+     * @param m00 The component at row 0 and column 0
+     * @param m01 The component at row 0 and column 1
+     * @param m02 The component at row 0 and column 2
+     * @param m10 The component at row 1 and column 0
+     * @param m11 The component at row 1 and column 1
+     * @param m12 The component at row 1 and column 2
+     * @param m20 The component at row 2 and column 0
+     * @param m21 The component at row 2 and column 1
+     * @param m22 The component at row 2 and column 2
+     */
+    public Matrix3(
+            double m00, double m01, double m02,
+            double m10, double m11, double m12,
+            double m20, double m21, double m22
+    ) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+    }
+
+    /**
+     * Creates a new matrix.
+     *
+     * @param m The matrix of which to copy component values from
+     * @throws IncompatibleDimensionsException When the provided matrix is not {@code 3x3}
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public Matrix3(Matrix m) {
+        if (m.rows() != 3 || m.columns() != 3) {
+            throw new IncompatibleDimensionsException("The provided matrix is not 3x3.");
+        }
+
+        double[] v = m.backingArray();
+
+        this.m00 = v[0];
+        this.m01 = v[1];
+        this.m02 = v[2];
+        this.m10 = v[3];
+        this.m11 = v[4];
+        this.m12 = v[5];
+        this.m20 = v[6];
+        this.m21 = v[7];
+        this.m22 = v[8];
+    }
+
+    /**
+     * The component at row 0 and column 0.
+     */
+    protected final double m00;
+
+    /**
+     * The component at row 0 and column 1.
+     */
+    protected final double m01;
+
+    /**
+     * The component at row 0 and column 2.
+     */
+    protected final double m02;
+
+    /**
+     * The component at row 1 and column 0.
+     */
+    protected final double m10;
+
+    /**
+     * The component at row 1 and column 1.
+     */
+    protected final double m11;
+
+    /**
+     * The component at row 1 and column 2.
+     */
+    protected final double m12;
+
+    /**
+     * The component at row 2 and column 0.
+     */
+    protected final double m20;
+
+    /**
+     * The component at row 2 and column 1.
+     */
+    protected final double m21;
+
+    /**
+     * The component at row 2 and column 2.
+     */
+    protected final double m22;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return 9;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        return Double.isNaN(m00) || Double.isNaN(m01) || Double.isNaN(m02) ||
+                Double.isNaN(m10) || Double.isNaN(m11) || Double.isNaN(m12) ||
+                Double.isNaN(m20) || Double.isNaN(m21) || Double.isNaN(m22);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        return Double.isFinite(m00) && Double.isFinite(m01) && Double.isFinite(m02) &&
+                Double.isFinite(m10) && Double.isFinite(m11) && Double.isFinite(m12) &&
+                Double.isFinite(m20) && Double.isFinite(m21) && Double.isFinite(m22);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        return Double.isInfinite(m00) || Double.isInfinite(m01) || Double.isInfinite(m02) ||
+                Double.isInfinite(m10) || Double.isInfinite(m11) || Double.isInfinite(m12) ||
+                Double.isInfinite(m20) || Double.isInfinite(m21) || Double.isInfinite(m22);
+    }
+
+    /**
+     * Returns the component at the provided row and column.
+     *
+     * @param r The index of the row
+     * @param c The index of the column
+     * @return The component at the provided row and column
+     * @throws BinaryIndexOutOfBoundsException When the index is out of bounds
+     */
+    public double get(int r, int c) throws BinaryIndexOutOfBoundsException {
+        if (r < 0 || r >= 3 || c < 0 || c >= 3) throw new BinaryIndexOutOfBoundsException(r, c);
+
+        return switch (r * 3 + c) {
+            case 0 -> m00;
+            case 1 -> m01;
+            case 2 -> m02;
+            case 3 -> m10;
+            case 4 -> m11;
+            case 5 -> m12;
+            case 6 -> m20;
+            case 7 -> m21;
+            case 8 -> m22;
+            default -> throw new BinaryIndexOutOfBoundsException(r, c);
+        };
+    }
+
+    /**
+     * Returns the trace of this matrix.
+     *
+     * @return The sum of the diagonal components of this matrix
+     */
+    public double trace() {
+        return m00 + m11 + m22;
+    }
+
+    /**
+     * Returns the determinant of this matrix.
+     *
+     * @return The determinant of this matrix
+     */
+    public double determinant() {
+        return m00 * (m11 * m22 - m12 * m21)
+                - m01 * (m10 * m22 - m12 * m20)
+                + m02 * (m10 * m21 - m11 * m20);
+    }
+
+    /**
+     * Adds the provided matrix {@code m} to this matrix.
+     *
+     * @param m The matrix of which to add
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix3 add(Matrix3 m) {
+        return new Matrix3(
+                m00 + m.m00, m01 + m.m01, m02 + m.m02,
+                m10 + m.m10, m11 + m.m11, m12 + m.m12,
+                m20 + m.m20, m21 + m.m21, m22 + m.m22
+        );
+    }
+
+    /**
+     * Subtracts the provided matrix {@code m} from this matrix.
+     *
+     * @param m The matrix of which to subtract
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix3 subtract(Matrix3 m) {
+        return new Matrix3(
+                m00 - m.m00, m01 - m.m01, m02 - m.m02,
+                m10 - m.m10, m11 - m.m11, m12 - m.m12,
+                m20 - m.m20, m21 - m.m21, m22 - m.m22
+        );
+    }
+
+    /**
+     * Multiplies this matrix by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to multiply this matrix by
+     * @return The resulting matrix
+     */
+    public Matrix3 multiply(double s) {
+        return new Matrix3(
+                m00 * s, m01 * s, m02 * s,
+                m10 * s, m11 * s, m12 * s,
+                m20 * s, m21 * s, m22 * s
+        );
+    }
+
+    /**
+     * Divides this matrix by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to divide this matrix by
+     * @return The resulting matrix
+     * @throws ArithmeticException When the provided scalar {@code s} is zero
+     */
+    public Matrix3 divide(double s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Multiplies this matrix by the provided matrix {@code m}. This matrix is on the left,
+     * and the provided matrix {@code m} is on the right.
+     *
+     * @param m The matrix of which to multiply this matrix by
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix3 multiply(Matrix3 m) {
+        return new Matrix3(
+                m00 * m.m00 + m01 * m.m10 + m02 * m.m20,
+                m00 * m.m01 + m01 * m.m11 + m02 * m.m21,
+                m00 * m.m02 + m01 * m.m12 + m02 * m.m22,
+                m10 * m.m00 + m11 * m.m10 + m12 * m.m20,
+                m10 * m.m01 + m11 * m.m11 + m12 * m.m21,
+                m10 * m.m02 + m11 * m.m12 + m12 * m.m22,
+                m20 * m.m00 + m21 * m.m10 + m22 * m.m20,
+                m20 * m.m01 + m21 * m.m11 + m22 * m.m21,
+                m20 * m.m02 + m21 * m.m12 + m22 * m.m22
+        );
+    }
+
+    /**
+     * Multiplies this matrix by the provided column vector {@code v}.
+     *
+     * @param v The vector of which to transform
+     * @return The transformed vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public Vector3 multiply(Vector3 v) {
+        return new Vector3(
+                m00 * v.x + m01 * v.y + m02 * v.z,
+                m10 * v.x + m11 * v.y + m12 * v.z,
+                m20 * v.x + m21 * v.y + m22 * v.z
+        );
+    }
+
+    /**
+     * Returns the transpose of this matrix.
+     *
+     * @return The transpose of this matrix
+     */
+    public Matrix3 transpose() {
+        return new Matrix3(
+                m00, m10, m20,
+                m01, m11, m21,
+                m02, m12, m22
+        );
+    }
+
+    /**
+     * Returns the negation of this matrix.
+     *
+     * @return The negation of this matrix
+     */
+    public Matrix3 negate() {
+        return multiply(-1);
+    }
+
+    /**
+     * Returns the inverse of this matrix.
+     *
+     * @return The inverse of this matrix
+     * @throws SingularMatrixException When this matrix is singular
+     */
+    public Matrix3 inverse() throws SingularMatrixException {
+        double c00 = m11 * m22 - m12 * m21;
+        double c01 = m12 * m20 - m10 * m22;
+        double c02 = m10 * m21 - m11 * m20;
+
+        double det = m00 * c00 + m01 * c01 + m02 * c02;
+        if (det == 0) throw new SingularMatrixException();
+
+        double i = 1 / det;
+        return new Matrix3(
+                c00 * i, (m02 * m21 - m01 * m22) * i, (m01 * m12 - m02 * m11) * i,
+                c01 * i, (m00 * m22 - m02 * m20) * i, (m02 * m10 - m00 * m12) * i,
+                c02 * i, (m01 * m20 - m00 * m21) * i, (m00 * m11 - m01 * m10) * i
+        );
+    }
+
+    /**
+     * Converts this matrix into a general {@link Matrix}.
+     *
+     * @return The converted matrix
+     */
+    public Matrix toMatrix() {
+        Matrix result = new Matrix(3, 3);
+        System.arraycopy(toArray(), 0, result.backingArray(), 0, 9);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(toArray());
+    }
+
+    /**
+     * Returns the components of this matrix in row-major order.
+     *
+     * @return The components of this matrix in row-major order
+     */
+    @Override
+    public double[] toArray() {
+        return new double[]{
+                m00, m01, m02,
+                m10, m11, m12,
+                m20, m21, m22
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                m00, m01, m02,
+                m10, m11, m12,
+                m20, m21, m22
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Matrix3 m)) return false;
+        return m00 == m.m00 && m01 == m.m01 && m02 == m.m02 &&
+                m10 == m.m10 && m11 == m.m11 && m12 == m.m12 &&
+                m20 == m.m20 && m21 == m.m21 && m22 == m.m22;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "{\n" +
+                "  [" + m00 + ", " + m01 + ", " + m02 + "],\n" +
+                "  [" + m10 + ", " + m11 + ", " + m12 + "],\n" +
+                "  [" + m20 + ", " + m21 + ", " + m22 + "]\n" +
+                "}";
+    }
+}
@@ -0,0 +1,651 @@
+package pegasus.tensor;
+
+import pegasus.exception.BinaryIndexOutOfBoundsException;
+import pegasus.exception.DivisionByZeroException;
+import pegasus.exception.IncompatibleDimensionsException;
+import pegasus.exception.SingularMatrixException;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * An immutable {@code 4x4} matrix. Unlike {@link Matrix}, the components are stored in
+ * individual fields and every operation is fully unrolled, so that small matrices involve no
+ * array indexing, bounds checks or loops.
+ * <p>
+ * Four-dimensional matrices are typically used as affine transformations of
+ * {@link Vector3 three-dimensional points}.
+ *
+ * @see Matrix
+ * @see Matrix2
+ * @see Matrix3
+ * @see Vector4
+ * @see Quaternion
+ */
+public class Matrix4 implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * The zero matrix.
+     */
+    public static final Matrix4 ZERO = new Matrix4(
+            0, 0, 0, 0,
+            0, 0, 0, 0,
+            0, 0, 0, 0,
+            0, 0, 0, 0
+    );
+
+    /**
+     * The identity matrix.
+     */
+    public static final Matrix4 IDENTITY = new Matrix4(
+            1, 0, 0, 0,
+            0, 1, 0, 0,
+            0, 0, 1, 0,
+            0, 0, 0, 1
+    );
+
+    /**
+     * Creates a new affine transformation matrix which rotates a point, then offsets it.
+     *
+     * @param rotation The {@code 3x3} rotation matrix
+     * @param offset   The offset of which to add after the rotation
+     * @return The constructed transformation matrix
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public static Matrix4 affine(Matrix3 rotation, Vector3 offset) {
+        return new Matrix4(
+                rotation.m00, rotation.m01, rotation.m02, offset.x,
+                rotation.m10, rotation.m11, rotation.m12, offset.y,
+                rotation.m20, rotation.m21, rotation.m22, offset.z,
+                0, 0, 0, 1
+        );
+    }
+
+    /**
+     * Creates a new affine transformation matrix equivalent to
+     * {@link Tensors#toAbsolute(Vector3, Quaternion, Vector3)}.
+     *
+     * @param rotation The rotation quaternion
+     * @param offset   The offset of which to add after the rotation
+     * @return The constructed transformation matrix
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public static Matrix4 affine(Quaternion rotation, Vector3 offset) {
+        return affine(Matrix3.rotation(rotation), offset);
+    }
+
+    /**
+     * Creates a new translation matrix.
+     *
+     * @param offset The offset of the translation
+     * @return The constructed translation matrix
+     * @throws NullPointerException When the provided vector is {@code null}
+     */
+    public static Matrix4 translation(Vector3 offset) {
+        return affine(Matrix3.IDENTITY, offset);
+    }
+
+    /**
+     * Creates a new matrix. The components are provided in row-major order.
+     *
+     * @param m00 The component at row 0 and column 0
+     * @param m01 The component at row 0 and column 1
+     * @param m02 The component at row 0 and column 2
+     * @param m03 The component at row 0 and column 3
+     * @param m10 The component at row 1 and column 0
+     * @param m11 The component at row 1 and column 1
+     * @param m12 The component at row 1 and column 2
+     * @param m13 The component at row 1 and column 3
+     * @param m20 The component at row 2 and column 0
+     * @param m21 The component at row 2 and column 1
+     * @param m22 The component at row 2 and column 2
+     * @param m23 The component at row 2 and column 3
+     * @param m30 The component at row 3 and column 0
+     * @param m31 The component at row 3 and column 1
+     * @param m32 The component at row 3 and column 2
+     * @param m33 The component at row 3 and column 3
+     */
+    public Matrix4(
+            double m00, double m01, double m02, double m03,
+            double m10, double m11, double m12, double m13,
+            double m20, double m21, double m22, double m23,
+            double m30, double m31, double m32, double m33
+    ) {
+        this.m00 = m00;
+        this.m01 = m01;
+        this.m02 = m02;
+        this.m03 = m03;
+        this.m10 = m10;
+        this.m11 = m11;
+        this.m12 = m12;
+        this.m13 = m13;
+        this.m20 = m20;
+        this.m21 = m21;
+        this.m22 = m22;
+        this.m23 = m23;
+        this.m30 = m30;
+        this.m31 = m31;
+        this.m32 = m32;
+        this.m33 = m33;
+    }
+
+    /**
+     * Creates a new matrix.
+     *
+     * @param m The matrix of which to copy component values from
+     * @throws IncompatibleDimensionsException When the provided matrix is not {@code 4x4}
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public Matrix4(Matrix m) {
+        if (m.rows() != 4 || m.columns() != 4) {
+            throw new IncompatibleDimensionsException("The provided matrix is not 4x4.");
+        }
+
+        double[] v = m.backingArray();
+
+        this.m00 = v[0];
+        this.m01 = v[1];
+        this.m02 = v[2];
+        this.m03 = v[3];
+        this.m10 = v[4];
+        this.m11 = v[5];
+        this.m12 = v[6];
+        this.m13 = v[7];
+        this.m20 = v[8];
+        this.m21 = v[9];
+        this.m22 = v[10];
+        this.m23 = v[11];
+        this.m30 = v[12];
+        this.m31 = v[13];
+        this.m32 = v[14];
+        this.m33 = v[15];
+    }
+
+    /**
+     * The component at row 0 and column 0.
+     */
+    protected final double m00;
+
+    /**
+     * The component at row 0 and column 1.
+     */
+    protected final double m01;
+
+    /**
+     * The component at row 0 and column 2.
+     */
+    protected final double m02;
+
+    /**
+     * The component at row 0 and column 3.
+     */
+    protected final double m03;
+
+    /**
+     * The component at row 1 and column 0.
+     */
+    protected final double m10;
+
+    /**
+     * The component at row 1 and column 1.
+     */
+    protected final double m11;
+
+    /**
+     * The component at row 1 and column 2.
+     */
+    protected final double m12;
+
+    /**
+     * The component at row 1 and column 3.
+     */
+    protected final double m13;
+
+    /**
+     * The component at row 2 and column 0.
+     */
+    protected final double m20;
+
+    /**
+     * The component at row 2 and column 1.
+     */
+    protected final double m21;
+
+    /**
+     * The component at row 2 and column 2.
+     */
+    protected final double m22;
+
+    /**
+     * The component at row 2 and column 3.
+     */
+    protected final double m23;
+
+    /**
+     * The component at row 3 and column 0.
+     */
+    protected final double m30;
+
+    /**
+     * The component at row 3 and column 1.
+     */
+    protected final double m31;
+
+    /**
+     * The component at row 3 and column 2.
+     */
+    protected final double m32;
+
+    /**
+     * The component at row 3 and column 3.
+     */
+    protected final double m33;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return 16;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        return Double.isNaN(m00) || Double.isNaN(m01) || Double.isNaN(m02) || Double.isNaN(m03) ||
+                Double.isNaN(m10) || Double.isNaN(m11) || Double.isNaN(m12) || Double.isNaN(m13) ||
+                Double.isNaN(m20) || Double.isNaN(m21) || Double.isNaN(m22) || Double.isNaN(m23) ||
+                Double.isNaN(m30) || Double.isNaN(m31) || Double.isNaN(m32) || Double.isNaN(m33);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        return Double.isFinite(m00) && Double.isFinite(m01) && Double.isFinite(m02) && Double.isFinite(m03) &&
+                Double.isFinite(m10) && Double.isFinite(m11) && Double.isFinite(m12) && Double.isFinite(m13) &&
+                Double.isFinite(m20) && Double.isFinite(m21) && Double.isFinite(m22) && Double.isFinite(m23) &&
+                Double.isFinite(m30) && Double.isFinite(m31) && Double.isFinite(m32) && Double.isFinite(m33);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        return Double.isInfinite(m00) || Double.isInfinite(m01) || Double.isInfinite(m02) || Double.isInfinite(m03) ||
+                Double.isInfinite(m10) || Double.isInfinite(m11) || Double.isInfinite(m12) || Double.isInfinite(m13) ||
+                Double.isInfinite(m20) || Double.isInfinite(m21) || Double.isInfinite(m22) || Double.isInfinite(m23) ||
+                Double.isInfinite(m30) || Double.isInfinite(m31) || Double.isInfinite(m32) || Double.isInfinite(m33);
+    }
+
+    /**
+     * Returns the component at the provided row and column.
+     *
+     * @param r The index of the row
+     * @param c The index of the column
+     * @return The component at the provided row and column
+     * @throws BinaryIndexOutOfBoundsException When the index is out of bounds
+     */
+    public double get(int r, int c) throws BinaryIndexOutOfBoundsException {
+        if (r < 0 || r >= 4 || c < 0 || c >= 4) throw new BinaryIndexOutOfBoundsException(r, c);
+
+        return switch (r * 4 + c) {
+            case 0 -> m00;
+            case 1 -> m01;
+            case 2 -> m02;
+            case 3 -> m03;
+            case 4 -> m10;
+            case 5 -> m11;
+            case 6 -> m12;
+            case 7 -> m13;
+            case 8 -> m20;
+            case 9 -> m21;
+            case 10 -> m22;
+            case 11 -> m23;
+            case 12 -> m30;
+            case 13 -> m31;
+            case 14 -> m32;
+            case 15 -> m33;
+            default -> throw new BinaryIndexOutOfBoundsException(r, c);
+        };
+    }
+
+    /**
+     * Returns the trace of this matrix.
+     *
+     * @return The sum of the diagonal components of this matrix
+     */
+    public double trace() {
+        return m00 + m11 + m22 + m33;
+    }
+
+    /**
+     * Returns the determinant of this matrix.
+     *
+     * @return The determinant of this matrix
+     */
+    public double determinant() {
+        double s0 = m00 * m11 - m10 * m01;
+        double s1 = m00 * m12 - m10 * m02;
+        double s2 = m00 * m13 - m10 * m03;
+        double s3 = m01 * m12 - m11 * m02;
+        double s4 = m01 * m13 - m11 * m03;
+        double s5 = m02 * m13 - m12 * m03;
+
+        double c5 = m22 * m33 - m32 * m23;
+        double c4 = m21 * m33 - m31 * m23;
+        double c3 = m21 * m32 - m31 * m22;
+        double c2 = m20 * m33 - m30 * m23;
+        double c1 = m20 * m32 - m30 * m22;
+        double c0 = m20 * m31 - m30 * m21;
+
+        return s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+    }
+
+    /**
+     * Adds the provided matrix {@code m} to this matrix.
+     *
+     * @param m The matrix of which to add
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix4 add(Matrix4 m) {
+        return new Matrix4(
+                m00 + m.m00, m01 + m.m01, m02 + m.m02, m03 + m.m03,
+                m10 + m.m10, m11 + m.m11, m12 + m.m12, m13 + m.m13,
+                m20 + m.m20, m21 + m.m21, m22 + m.m22, m23 + m.m23,
+                m30 + m.m30, m31 + m.m31, m32 + m.m32, m33 + m.m33
+        );
+    }
+
+    /**
+     * Subtracts the provided matrix {@code m} from this matrix.
+     *
+     * @param m The matrix of which to subtract
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix4 subtract(Matrix4 m) {
+        return new Matrix4(
+                m00 - m.m00, m01 - m.m01, m02 - m.m02, m03 - m.m03,
+                m10 - m.m10, m11 - m.m11, m12 - m.m12, m13 - m.m13,
+                m20 - m.m20, m21 - m.m21, m22 - m.m22, m23 - m.m23,
+                m30 - m.m30, m31 - m.m31, m32 - m.m32, m33 - m.m33
+        );
+    }
+
+    /**
+     * Multiplies this matrix by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to multiply this matrix by
+     * @return The resulting matrix
+     */
+    public Matrix4 multiply(double s) {
+        return new Matrix4(
+                m00 * s, m01 * s, m02 * s, m03 * s,
+                m10 * s, m11 * s, m12 * s, m13 * s,
+                m20 * s, m21 * s, m22 * s, m23 * s,
+                m30 * s, m31 * s, m32 * s, m33 * s
+        );
+    }
+
+    /**
+     * Divides this matrix by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to divide this matrix by
+     * @return The resulting matrix
+     * @throws ArithmeticException When the provided scalar {@code s} is zero
+     */
+    public Matrix4 divide(double s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Multiplies this matrix by the provided matrix {@code m}. This matrix is on the left,
+     * and the provided matrix {@code m} is on the right.
+     *
+     * @param m The matrix of which to multiply this matrix by
+     * @return The resulting matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix4 multiply(Matrix4 m) {
+        return new Matrix4(
+                m00 * m.m00 + m01 * m.m10 + m02 * m.m20 + m03 * m.m30,
+                m00 * m.m01 + m01 * m.m11 + m02 * m.m21 + m03 * m.m31,
+                m00 * m.m02 + m01 * m.m12 + m02 * m.m22 + m03 * m.m32,
+                m00 * m.m03 + m01 * m.m13 + m02 * m.m23 + m03 * m.m33,
+                m10 * m.m00 + m11 * m.m10 + m12 * m.m20 + m13 * m.m30,
+                m10 * m.m01 + m11 * m.m11 + m12 * m.m21 + m13 * m.m31,
+                m10 * m.m02 + m11 * m.m12 + m12 * m.m22 + m13 * m.m32,
+                m10 * m.m03 + m11 * m.m13 + m12 * m.m23 + m13 * m.m33,
+                m20 * m.m00 + m21 * m.m10 + m22 * m.m20 + m23 * m.m30,
+                m20 * m.m01 + m21 * m.m11 + m22 * m.m21 + m23 * m.m31,
+                m20 * m.m02 + m21 * m.m12 + m22 * m.m22 + m23 * m.m32,
+                m20 * m.m03 + m21 * m.m13 + m22 * m.m23 + m23 * m.m33,
+                m30 * m.m00 + m31 * m.m10 + m32 * m.m20 + m33 * m.m30,
+                m30 * m.m01 + m31 * m.m11 + m32 * m.m21 + m33 * m.m31,
+                m30 * m.m02 + m31 * m.m12 + m32 * m.m22 + m33 * m.m32,
+                m30 * m.m03 + m31 * m.m13 + m32 * m.m23 + m33 * m.m33
+        );
+    }
+
+    /**
+     * Multiplies this matrix by the provided column vector {@code v}. The components of the
+     * vector are taken in the order of {@link Vector4#valueAt(int)}, which is {@code [w, x, y, z]}.
+     *
+     * @param v The vector of which to transform
+     * @return The transformed vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public Vector4 multiply(Vector4 v) {
+        return new Vector4(
+                m00 * v.w + m01 * v.x + m02 * v.y + m03 * v.z,
+                m10 * v.w + m11 * v.x + m12 * v.y + m13 * v.z,
+                m20 * v.w + m21 * v.x + m22 * v.y + m23 * v.z,
+                m30 * v.w + m31 * v.x + m32 * v.y + m33 * v.z
+        );
+    }
+
+    /**
+     * Transforms the provided point. The point is treated as the homogeneous column vector
+     * {@code [x, y, z, 1]}, and the result is divided by its homogeneous component unless that
+     * component is {@code 1}, as is the case for every affine transformation.
+     *
+     * @param p The point of which to transform
+     * @return The transformed point
+     * @throws NullPointerException When the provided point is {@code null}
+     */
+    public Vector3 transformPoint(Vector3 p) {
+        double x = m00 * p.x + m01 * p.y + m02 * p.z + m03;
+        double y = m10 * p.x + m11 * p.y + m12 * p.z + m13;
+        double z = m20 * p.x + m21 * p.y + m22 * p.z + m23;
+        double w = m30 * p.x + m31 * p.y + m32 * p.z + m33;
+
+        if (w == 1) return new Vector3(x, y, z);
+
+        double i = 1 / w;
+        return new Vector3(x * i, y * i, z * i);
+    }
+
+    /**
+     * Transforms the provided direction. The direction is treated as the homogeneous column vector
+     * {@code [x, y, z, 0]}, so that it is rotated and scaled, but not translated.
+     *
+     * @param v The direction of which to transform
+     * @return The transformed direction
+     * @throws NullPointerException When the provided vector is {@code null}
+     */
+    public Vector3 transformDirection(Vector3 v) {
+        return new Vector3(
+                m00 * v.x + m01 * v.y + m02 * v.z,
+                m10 * v.x + m11 * v.y + m12 * v.z,
+                m20 * v.x + m21 * v.y + m22 * v.z
+        );
+    }
+
+    /**
+     * Returns the transpose of this matrix.
+     *
+     * @return The transpose of this matrix
+     */
+    public Matrix4 transpose() {
+        return new Matrix4(
+                m00, m10, m20, m30,
+                m01, m11, m21, m31,
+                m02, m12, m22, m32,
+                m03, m13, m23, m33
+        );
+    }
+
+    /**
+     * Returns the negation of this matrix.
+     *
+     * @return The negation of this matrix
+     */
+    public Matrix4 negate() {
+        return multiply(-1);
+    }
+
+    /**
+     * Returns the inverse of this matrix.
+     *
+     * @return The inverse of this matrix
+     * @throws SingularMatrixException When this matrix is singular
+     */
+    public Matrix4 inverse() throws SingularMatrixException {
+        // The 2x2 minors of the upper two rows and of the lower two rows
+        double s0 = m00 * m11 - m10 * m01;
+        double s1 = m00 * m12 - m10 * m02;
+        double s2 = m00 * m13 - m10 * m03;
+        double s3 = m01 * m12 - m11 * m02;
+        double s4 = m01 * m13 - m11 * m03;
+        double s5 = m02 * m13 - m12 * m03;
+
+        double c5 = m22 * m33 - m32 * m23;
+        double c4 = m21 * m33 - m31 * m23;
+        double c3 = m21 * m32 - m31 * m22;
+        double c2 = m20 * m33 - m30 * m23;
+        double c1 = m20 * m32 - m30 * m22;
+        double c0 = m20 * m31 - m30 * m21;
+
+        double det = s0 * c5 - s1 * c4 + s2 * c3 + s3 * c2 - s4 * c1 + s5 * c0;
+        if (det == 0) throw new SingularMatrixException();
+
+        double i = 1 / det;
+        return new Matrix4(
+                (m11 * c5 - m12 * c4 + m13 * c3) * i,
+                (-m01 * c5 + m02 * c4 - m03 * c3) * i,
+                (m31 * s5 - m32 * s4 + m33 * s3) * i,
+                (-m21 * s5 + m22 * s4 - m23 * s3) * i,
+                (-m10 * c5 + m12 * c2 - m13 * c1) * i,
+                (m00 * c5 - m02 * c2 + m03 * c1) * i,
+                (-m30 * s5 + m32 * s2 - m33 * s1) * i,
+                (m20 * s5 - m22 * s2 + m23 * s1) * i,
+                (m10 * c4 - m11 * c2 + m13 * c0) * i,
+                (-m00 * c4 + m01 * c2 - m03 * c0) * i,
+                (m30 * s4 - m31 * s2 + m33 * s0) * i,
+                (-m20 * s4 + m21 * s2 - m23 * s0) * i,
+                (-m10 * c3 + m11 * c1 - m12 * c0) * i,
+                (m00 * c3 - m01 * c1 + m02 * c0) * i,
+                (-m30 * s3 + m31 * s1 - m32 * s0) * i,
+                (m20 * s3 - m21 * s1 + m22 * s0) * i
+        );
+    }
+
+    /**
+     * Converts this matrix into a general {@link Matrix}.
+     *
+     * @return The converted matrix
+     */
+    public Matrix toMatrix() {
+        Matrix result = new Matrix(4, 4);
+        System.arraycopy(toArray(), 0, result.backingArray(), 0, 16);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(toArray());
+    }
+
+    /**
+     * Returns the components of this matrix in row-major order.
+     *
+     * @return The components of this matrix in row-major order
+     */
+    @Override
+    public double[] toArray() {
+        return new double[]{
+                m00, m01, m02, m03,
+                m10, m11, m12, m13,
+                m20, m21, m22, m23,
+                m30, m31, m32, m33
+        };
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(
+                m00, m01, m02, m03,
+                m10, m11, m12, m13,
+                m20, m21, m22, m23,
+                m30, m31, m32, m33
+        );
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Matrix4 m)) return false;
+        return m00 == m.m00 && m01 == m.m01 && m02 == m.m02 && m03 == m.m03 &&
+                m10 == m.m10 && m11 == m.m11 && m12 == m.m12 && m13 == m.m13 &&
+                m20 == m.m20 && m21 == m.m21 && m22 == m.m22 && m23 == m.m23 &&
+                m30 == m.m30 && m31 == m.m31 && m32 == m.m32 && m33 == m.m33;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "{\n" +
+                "  [" + m00 + ", " + m01 + ", " + m02 + ", " + m03 + "],\n" +
+                "  [" + m10 + ", " + m11 + ", " + m12 + ", " + m13 + "],\n" +
+                "  [" + m20 + ", " + m21 + ", " + m22 + ", " + m23 + "],\n" +
+                "  [" + m30 + ", " + m31 + ", " + m32 + ", " + m33 + "]\n" +
+                "}";
+    }
+}
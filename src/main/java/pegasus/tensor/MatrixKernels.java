@@ -0,0 +1,260 @@
+package pegasus.tensor;
+
+import pegasus.exception.IllegalInstanceException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Contains the numerical kernels of {@link Matrix}. Every kernel works directly on row-major
+ * {@code double} or {@code float} arrays, and performs no validation of its own.
+ */
+final class MatrixKernels {
+    /**
+     * The number of rows of the left-hand matrix processed per block.
+     */
+    static final int BLOCK_ROWS = 64;
+
+    /**
+     * The number of inner-dimension elements processed per block.
+     */
+    static final int BLOCK_INNER = 256;
+
+    /**
+     * The number of columns of the right-hand matrix processed per block. A block of the
+     * right-hand matrix ({@code BLOCK_INNER * BLOCK_COLUMNS} doubles) fits in the L2 cache.
+     */
+    static final int BLOCK_COLUMNS = 512;
+
+    /**
+     * The number of multiply-adds above which a product is computed in parallel.
+     */
+    static final long PARALLEL_THRESHOLD = 1L << 21;
+
+    /**
+     * Computes the product of {@code a} and {@code b}, and adds it to {@code c}. The arrays
+     * must not overlap. Products larger than the {@link #PARALLEL_THRESHOLD threshold} are
+     * split by row blocks across the common {@link ForkJoinPool}.
+     *
+     * @param a The {@code n * k} left-hand matrix
+     * @param b The {@code k * m} right-hand matrix
+     * @param c The {@code n * m} matrix of which to accumulate the product into
+     * @param n The number of rows of {@code a}
+     * @param k The number of columns of {@code a} and rows of {@code b}
+     * @param m The number of columns of {@code b}
+     */
+    static void multiply(double[] a, double[] b, double[] c, int n, int k, int m) {
+        if ((long) n * k * m < PARALLEL_THRESHOLD || n <= BLOCK_ROWS || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            multiply(a, b, c, k, m, 0, n);
+            return;
+        }
+
+        ForkJoinPool.commonPool().invoke(new MultiplyTask(a, b, c, k, m, 0, n));
+    }
+
+    /**
+     * Computes rows {@code [r1, r2)} of the product of {@code a} and {@code b}, and adds them
+     * to {@code c}. The loops are ordered {@code i-k-j} within each block, so the innermost
+     * loop sweeps contiguous rows of {@code b} and {@code c}, and is unrolled by four rows
+     * of {@code b} to reduce the loads and stores of {@code c}.
+     *
+     * @param a  The left-hand matrix
+     * @param b  The right-hand matrix
+     * @param c  The matrix of which to accumulate the product into
+     * @param k  The number of columns of {@code a} and rows of {@code b}
+     * @param m  The number of columns of {@code b}
+     * @param r1 The first row of which to compute (inclusive)
+     * @param r2 The last row of which to compute (exclusive)
+     */
+    static void multiply(double[] a, double[] b, double[] c, int k, int m, int r1, int r2) {
+        for (int i0 = r1; i0 < r2; i0 += BLOCK_ROWS) {
+            int i1 = Math.min(i0 + BLOCK_ROWS, r2);
+
+            for (int k0 = 0; k0 < k; k0 += BLOCK_INNER) {
+                int k1 = Math.min(k0 + BLOCK_INNER, k);
+
+                for (int j0 = 0; j0 < m; j0 += BLOCK_COLUMNS) {
+                    int j1 = Math.min(j0 + BLOCK_COLUMNS, m);
+
+                    for (int i = i0; i < i1; i++) {
+                        int ci = i * m;
+                        int ai = i * k;
+
+                        int p = k0;
+                        for (; p + 3 < k1; p += 4) {
+                            double a0 = a[ai + p];
+                            double a1 = a[ai + p + 1];
+                            double a2 = a[ai + p + 2];
+                            double a3 = a[ai + p + 3];
+
+                            int b0 = p * m;
+                            int b1 = b0 + m;
+                            int b2 = b1 + m;
+                            int b3 = b2 + m;
+
+                            for (int j = j0; j < j1; j++) {
+                                c[ci + j] += a0 * b[b0 + j] + a1 * b[b1 + j] + a2 * b[b2 + j] + a3 * b[b3 + j];
+                            }
+                        }
+
+                        for (; p < k1; p++) {
+                            double a0 = a[ai + p];
+                            int b0 = p * m;
+
+                            for (int j = j0; j < j1; j++) {
+                                c[ci + j] += a0 * b[b0 + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes rows {@code [r1, r2)} of the product of {@code a} and {@code b} in single
+     * precision, and adds them to {@code c}. This is the {@code float} counterpart of
+     * {@link #multiply(double[], double[], double[], int, int, int, int)}, and uses the same
+     * blocking, so each block covers twice as many elements of the cache.
+     *
+     * @param a  The left-hand matrix
+     * @param b  The right-hand matrix
+     * @param c  The matrix of which to accumulate the product into
+     * @param k  The number of columns of {@code a} and rows of {@code b}
+     * @param m  The number of columns of {@code b}
+     * @param r1 The first row of which to compute (inclusive)
+     * @param r2 The last row of which to compute (exclusive)
+     */
+    static void multiply(float[] a, float[] b, float[] c, int k, int m, int r1, int r2) {
+        for (int i0 = r1; i0 < r2; i0 += BLOCK_ROWS) {
+            int i1 = Math.min(i0 + BLOCK_ROWS, r2);
+
+            for (int k0 = 0; k0 < k; k0 += BLOCK_INNER) {
+                int k1 = Math.min(k0 + BLOCK_INNER, k);
+
+                for (int j0 = 0; j0 < m; j0 += BLOCK_COLUMNS) {
+                    int j1 = Math.min(j0 + BLOCK_COLUMNS, m);
+
+                    for (int i = i0; i < i1; i++) {
+                        int ci = i * m;
+                        int ai = i * k;
+
+                        int p = k0;
+                        for (; p + 3 < k1; p += 4) {
+                            float a0 = a[ai + p];
+                            float a1 = a[ai + p + 1];
+                            float a2 = a[ai + p + 2];
+                            float a3 = a[ai + p + 3];
+
+                            int b0 = p * m;
+                            int b1 = b0 + m;
+                            int b2 = b1 + m;
+                            int b3 = b2 + m;
+
+                            for (int j = j0; j < j1; j++) {
+                                c[ci + j] += a0 * b[b0 + j] + a1 * b[b1 + j] + a2 * b[b2 + j] + a3 * b[b3 + j];
+                            }
+                        }
+
+                        for (; p < k1; p++) {
+                            float a0 = a[ai + p];
+                            int b0 = p * m;
+
+                            for (int j = j0; j < j1; j++) {
+                                c[ci + j] += a0 * b[b0 + j];
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Recursively splits a product by row blocks.
+     */
+    @SuppressWarnings("serial")
+    private static final class MultiplyTask extends RecursiveAction {
+        /**
+         * Creates a new task.
+         *
+         * @param a  The left-hand matrix
+         * @param b  The right-hand matrix
+         * @param c  The matrix of which to accumulate the product into
+         * @param k  The number of columns of {@code a} and rows of {@code b}
+         * @param m  The number of columns of {@code b}
+         * @param r1 The first row of which to compute (inclusive)
+         * @param r2 The last row of which to compute (exclusive)
+         */
+        MultiplyTask(double[] a, double[] b, double[] c, int k, int m, int r1, int r2) {
+            this.a = a;
+            this.b = b;
+            this.c = c;
+            this.k = k;
+            this.m = m;
+            this.r1 = r1;
+            this.r2 = r2;
+        }
+
+        /**
+         * The left-hand matrix.
+         */
+        private final double[] a;
+
+        /**
+         * The right-hand matrix.
+         */
+        private final double[] b;
+
+        /**
+         * The matrix of which to accumulate the product into.
+         */
+        private final double[] c;
+
+        /**
+         * The inner dimension.
+         */
+        private final int k;
+
+        /**
+         * The number of columns of the right-hand matrix.
+         */
+        private final int m;
+
+        /**
+         * The first row of this task (inclusive).
+         */
+        private final int r1;
+
+        /**
+         * The last row of this task (exclusive).
+         */
+        private final int r2;
+
+        /**
+         * Computes the rows of this task, splitting them in half while larger than a block.
+         */
+        @Override
+        protected void compute() {
+            if (r2 - r1 <= BLOCK_ROWS) {
+                multiply(a, b, c, k, m, r1, r2);
+                return;
+            }
+
+            int mid = r1 + ((r2 - r1) / 2 + BLOCK_ROWS - 1) / BLOCK_ROWS * BLOCK_ROWS;
+            if (mid >= r2) mid = r1 + (r2 - r1) / 2;
+
+            invokeAll(
+                    new MultiplyTask(a, b, c, k, m, r1, mid),
+                    new MultiplyTask(a, b, c, k, m, mid, r2)
+            );
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private MatrixKernels() {
+        throw new IllegalInstanceException(this);
+    }
+}
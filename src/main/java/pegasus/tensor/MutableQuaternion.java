@@ -0,0 +1,397 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * A mutable quaternion with no thread safety. Unlike {@link Quaternion}, every operation of
+ * a mutable quaternion modifies the quaternion in place and returns itself for chaining, so that
+ * no intermediary instances are created. Mutable quaternions can be converted to and from
+ * their immutable counterparts, and can be reused with a {@link VectorPool}.
+ *
+ * @see Quaternion
+ * @see MutableVector3
+ * @see VectorPool
+ */
+public class MutableQuaternion implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new identity quaternion.
+     */
+    public MutableQuaternion() {
+        this.w = 1;
+    }
+
+    /**
+     * Creates a new quaternion.
+     *
+     * @param w The W component of this quaternion
+     * @param x The X component of this quaternion
+     * @param y The Y component of this quaternion
+     * @param z The Z component of this quaternion
+     */
+    public MutableQuaternion(double w, double x, double y, double z) {
+        this.w = w;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Creates a new quaternion.
+     *
+     * @param q The quaternion of which to copy component values from
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     */
+    public MutableQuaternion(Quaternion q) {
+        this(q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * Creates a new quaternion.
+     *
+     * @param q The quaternion of which to copy component values from
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     */
+    public MutableQuaternion(MutableQuaternion q) {
+        this(q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * The W component of this quaternion.
+     */
+    protected double w;
+
+    /**
+     * The X component of this quaternion.
+     */
+    protected double x;
+
+    /**
+     * The Y component of this quaternion.
+     */
+    protected double y;
+
+    /**
+     * The Z component of this quaternion.
+     */
+    protected double z;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return 4;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        return Double.isNaN(w) || Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        return Double.isFinite(w) && Double.isFinite(x) && Double.isFinite(y) && Double.isFinite(z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        return Double.isInfinite(w) || Double.isInfinite(x) || Double.isInfinite(y) || Double.isInfinite(z);
+    }
+
+    /**
+     * Returns the W component of this quaternion.
+     *
+     * @return The W component of this quaternion
+     */
+    public double w() {
+        return w;
+    }
+
+    /**
+     * Returns the X component of this quaternion.
+     *
+     * @return The X component of this quaternion
+     */
+    public double x() {
+        return x;
+    }
+
+    /**
+     * Returns the Y component of this quaternion.
+     *
+     * @return The Y component of this quaternion
+     */
+    public double y() {
+        return y;
+    }
+
+    /**
+     * Returns the Z component of this quaternion.
+     *
+     * @return The Z component of this quaternion
+     */
+    public double z() {
+        return z;
+    }
+
+    /**
+     * Sets the components of this quaternion.
+     *
+     * @param w The W component of this quaternion
+     * @param x The X component of this quaternion
+     * @param y The Y component of this quaternion
+     * @param z The Z component of this quaternion
+     * @return This quaternion
+     */
+    public MutableQuaternion set(double w, double x, double y, double z) {
+        this.w = w;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Copies the components of the provided quaternion {@code q} into this quaternion.
+     *
+     * @param q The quaternion of which to copy component values from
+     * @return This quaternion
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     */
+    public MutableQuaternion set(Quaternion q) {
+        return set(q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * Copies the components of the provided quaternion {@code q} into this quaternion.
+     *
+     * @param q The quaternion of which to copy component values from
+     * @return This quaternion
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     */
+    public MutableQuaternion set(MutableQuaternion q) {
+        return set(q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * Sets this quaternion to the identity quaternion.
+     *
+     * @return This quaternion
+     */
+    public MutableQuaternion setIdentity() {
+        return set(1, 0, 0, 0);
+    }
+
+    /**
+     * Returns the Euclidean norm of this quaternion.
+     *
+     * @return The Euclidean norm of this quaternion
+     */
+    public double norm() {
+        return Math.sqrt(w * w + x * x + y * y + z * z);
+    }
+
+    /**
+     * Returns the squared Euclidean norm of this quaternion.
+     *
+     * @return The squared Euclidean norm of this quaternion
+     */
+    public double normSquared() {
+        return w * w + x * x + y * y + z * z;
+    }
+
+    /**
+     * Multiplies this quaternion by the provided quaternion {@code q}. This quaternion is on
+     * the left, and the provided quaternion {@code q} is on the right.
+     *
+     * @param q The quaternion of which to multiply this quaternion by
+     * @return This quaternion
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     * @see Quaternion#multiply(Quaternion)
+     */
+    public MutableQuaternion multiply(Quaternion q) {
+        return multiply(q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * Multiplies this quaternion by the provided quaternion {@code q}. This quaternion is on
+     * the left, and the provided quaternion {@code q} is on the right.
+     *
+     * @param q The quaternion of which to multiply this quaternion by
+     * @return This quaternion
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     * @see Quaternion#multiply(Quaternion)
+     */
+    public MutableQuaternion multiply(MutableQuaternion q) {
+        return multiply(q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * Multiplies this quaternion by the quaternion of the provided components.
+     *
+     * @param qw The W component of the right-hand quaternion
+     * @param qx The X component of the right-hand quaternion
+     * @param qy The Y component of the right-hand quaternion
+     * @param qz The Z component of the right-hand quaternion
+     * @return This quaternion
+     */
+    private MutableQuaternion multiply(double qw, double qx, double qy, double qz) {
+        return set(
+                w * qw - x * qx - y * qy - z * qz,
+                w * qx + x * qw + y * qz - z * qy,
+                w * qy - x * qz + y * qw + z * qx,
+                w * qz + x * qy - y * qx + z * qw
+        );
+    }
+
+    /**
+     * Returns the dot product between this quaternion and the provided quaternion {@code q}.
+     *
+     * @param q The quaternion of which to get the dot product between
+     * @return The dot product between the two quaternions
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     */
+    public double dot(Quaternion q) {
+        return w * q.w + x * q.x + y * q.y + z * q.z;
+    }
+
+    /**
+     * Returns the dot product between this quaternion and the provided quaternion {@code q}.
+     *
+     * @param q The quaternion of which to get the dot product between
+     * @return The dot product between the two quaternions
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     */
+    public double dot(MutableQuaternion q) {
+        return w * q.w + x * q.x + y * q.y + z * q.z;
+    }
+
+    /**
+     * Negates this quaternion.
+     *
+     * @return This quaternion
+     */
+    public MutableQuaternion negate() {
+        return set(-w, -x, -y, -z);
+    }
+
+    /**
+     * Normalizes this quaternion.
+     *
+     * @return This quaternion
+     * @throws ArithmeticException When the Euclidean norm of this quaternion is zero
+     */
+    public MutableQuaternion normalize() throws ArithmeticException {
+        double s = Math.sqrt(w * w + x * x + y * y + z * z);
+        if (s == 0) throw new DivisionByZeroException();
+        double i = 1 / s;
+        return set(w * i, x * i, y * i, z * i);
+    }
+
+    /**
+     * Sets this quaternion to its conjugate.
+     *
+     * @return This quaternion
+     */
+    public MutableQuaternion conjugate() {
+        return set(w, -x, -y, -z);
+    }
+
+    /**
+     * Sets this quaternion to its multiplicative inverse.
+     *
+     * @return This quaternion
+     * @throws ArithmeticException When the squared Euclidean norm of this quaternion is zero
+     */
+    public MutableQuaternion inverse() throws ArithmeticException {
+        double n2 = w * w + x * x + y * y + z * z;
+        if (n2 == 0) throw new DivisionByZeroException();
+        double i = 1 / n2;
+        return set(w * i, -x * i, -y * i, -z * i);
+    }
+
+    /**
+     * Returns an immutable copy of this quaternion.
+     *
+     * @return The immutable representation of this quaternion
+     */
+    public Quaternion toQuaternion() {
+        return new Quaternion(w, x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(w, x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double[] toArray() {
+        return new double[]{w, x, y, z};
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(w, x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof MutableQuaternion q)) return false;
+        return w == q.w && x == q.x && y == q.y && z == q.z;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" + w + ", " + x + ", " + y + ", " + z + "]";
+    }
+}
@@ -0,0 +1,512 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * A mutable two-dimensional vector with no thread safety. Unlike {@link Vector2}, every
+ * operation of a mutable vector modifies the vector in place and returns itself for chaining,
+ * so that no intermediary instances are created. Mutable vectors can be converted to and
+ * from their immutable counterparts, and can be reused with a {@link VectorPool}.
+ *
+ * @see Vector2
+ * @see MutableVector3
+ * @see MutableVector4
+ * @see VectorPool
+ */
+public class MutableVector2 implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new zero vector.
+     */
+    public MutableVector2() {
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param x The X component of this vector
+     * @param y The Y component of this vector
+     */
+    public MutableVector2(double x, double y) {
+        this.x = x;
+        this.y = y;
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2(Vector2 v) {
+        this(v.x, v.y);
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2(MutableVector2 v) {
+        this(v.x, v.y);
+    }
+
+    /**
+     * The X component of this vector.
+     */
+    protected double x;
+
+    /**
+     * The Y component of this vector.
+     */
+    protected double y;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return 2;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        return Double.isNaN(x) || Double.isNaN(y);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        return Double.isFinite(x) && Double.isFinite(y);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        return Double.isInfinite(x) || Double.isInfinite(y);
+    }
+
+    /**
+     * Returns the X component of this vector.
+     *
+     * @return The X component of this vector
+     */
+    public double x() {
+        return x;
+    }
+
+    /**
+     * Returns the Y component of this vector.
+     *
+     * @return The Y component of this vector
+     */
+    public double y() {
+        return y;
+    }
+
+    /**
+     * Sets the X component of this vector.
+     *
+     * @param x The X component of this vector
+     * @return This vector
+     */
+    public MutableVector2 x(double x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * Sets the Y component of this vector.
+     *
+     * @param y The Y component of this vector
+     * @return This vector
+     */
+    public MutableVector2 y(double y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector.
+     *
+     * @param x The X component of this vector
+     * @param y The Y component of this vector
+     * @return This vector
+     */
+    public MutableVector2 set(double x, double y) {
+        this.x = x;
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Copies the components of the provided vector {@code v} into this vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 set(Vector2 v) {
+        return set(v.x, v.y);
+    }
+
+    /**
+     * Copies the components of the provided vector {@code v} into this vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 set(MutableVector2 v) {
+        return set(v.x, v.y);
+    }
+
+    /**
+     * Returns the Euclidean norm of this vector.
+     *
+     * @return The Euclidean norm of this vector
+     */
+    public double norm() {
+        return Math.sqrt(x * x + y * y);
+    }
+
+    /**
+     * Returns the squared Euclidean norm of this vector.
+     *
+     * @return The squared Euclidean norm of this vector
+     */
+    public double normSquared() {
+        return x * x + y * y;
+    }
+
+    /**
+     * Adds the provided scalar {@code s} to every component of this vector.
+     *
+     * @param s The scalar of which to add
+     * @return This vector
+     */
+    public MutableVector2 add(double s) {
+        x += s;
+        y += s;
+        return this;
+    }
+
+    /**
+     * Adds the provided components to this vector.
+     *
+     * @param x The X component of which to add
+     * @param y The Y component of which to add
+     * @return This vector
+     */
+    public MutableVector2 add(double x, double y) {
+        this.x += x;
+        this.y += y;
+        return this;
+    }
+
+    /**
+     * Adds the provided vector {@code v} to this vector.
+     *
+     * @param v The vector of which to add
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 add(Vector2 v) {
+        return add(v.x, v.y);
+    }
+
+    /**
+     * Adds the provided vector {@code v} to this vector.
+     *
+     * @param v The vector of which to add
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 add(MutableVector2 v) {
+        return add(v.x, v.y);
+    }
+
+    /**
+     * Adds the provided vector {@code v} multiplied by the provided scalar {@code s} to this vector.
+     * This is equivalent to {@code add(v.multiply(s))}, without the intermediary vector.
+     *
+     * @param v The vector of which to add
+     * @param s The scalar of which to multiply the provided vector {@code v} by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 addScaled(Vector2 v, double s) {
+        return add(v.x * s, v.y * s);
+    }
+
+    /**
+     * Adds the provided vector {@code v} multiplied by the provided scalar {@code s} to this vector.
+     * This is equivalent to {@code add(v.multiply(s))}, without the intermediary vector.
+     *
+     * @param v The vector of which to add
+     * @param s The scalar of which to multiply the provided vector {@code v} by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 addScaled(MutableVector2 v, double s) {
+        return add(v.x * s, v.y * s);
+    }
+
+    /**
+     * Subtracts the provided scalar {@code s} from every component of this vector.
+     *
+     * @param s The scalar of which to subtract
+     * @return This vector
+     */
+    public MutableVector2 subtract(double s) {
+        return add(-s);
+    }
+
+    /**
+     * Subtracts the provided vector {@code v} from this vector.
+     *
+     * @param v The vector of which to subtract
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 subtract(Vector2 v) {
+        return add(-v.x, -v.y);
+    }
+
+    /**
+     * Subtracts the provided vector {@code v} from this vector.
+     *
+     * @param v The vector of which to subtract
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 subtract(MutableVector2 v) {
+        return add(-v.x, -v.y);
+    }
+
+    /**
+     * Multiplies this vector by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to multiply this vector by
+     * @return This vector
+     */
+    public MutableVector2 multiply(double s) {
+        x *= s;
+        y *= s;
+        return this;
+    }
+
+    /**
+     * Multiplies each component of this vector by the corresponding component of the
+     * provided vector {@code v}.
+     *
+     * @param v The vector of which to multiply this vector by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 multiply(Vector2 v) {
+        x *= v.x;
+        y *= v.y;
+        return this;
+    }
+
+    /**
+     * Multiplies each component of this vector by the corresponding component of the
+     * provided vector {@code v}.
+     *
+     * @param v The vector of which to multiply this vector by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector2 multiply(MutableVector2 v) {
+        x *= v.x;
+        y *= v.y;
+        return this;
+    }
+
+    /**
+     * Divides this vector by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to divide this vector by
+     * @return This vector
+     * @throws ArithmeticException When the provided scalar {@code s} is zero
+     */
+    public MutableVector2 divide(double s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Returns the dot product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot product between
+     * @return The dot product between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double dot(Vector2 v) {
+        return x * v.x + y * v.y;
+    }
+
+    /**
+     * Returns the dot product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot product between
+     * @return The dot product between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double dot(MutableVector2 v) {
+        return x * v.x + y * v.y;
+    }
+
+    /**
+     * Negates this vector.
+     *
+     * @return This vector
+     */
+    public MutableVector2 negate() {
+        return set(-x, -y);
+    }
+
+    /**
+     * Normalizes this vector.
+     *
+     * @return This vector
+     * @throws ArithmeticException When the Euclidean norm of this vector is zero
+     */
+    public MutableVector2 normalize() throws ArithmeticException {
+        double s = Math.sqrt(x * x + y * y);
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Returns the Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distance(Vector2 v) {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    /**
+     * Returns the Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distance(MutableVector2 v) {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    /**
+     * Returns the squared Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The squared Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distanceSquared(Vector2 v) {
+        double dx = x - v.x;
+        double dy = y - v.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Returns the squared Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The squared Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distanceSquared(MutableVector2 v) {
+        double dx = x - v.x;
+        double dy = y - v.y;
+        return dx * dx + dy * dy;
+    }
+
+    /**
+     * Returns an immutable copy of this vector.
+     *
+     * @return The immutable representation of this vector
+     */
+    public Vector2 toVector2() {
+        return new Vector2(x, y);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(x, y);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double[] toArray() {
+        return new double[]{x, y};
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(x, y);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof MutableVector2 v)) return false;
+        return x == v.x && y == v.y;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" + x + ", " + y + "]";
+    }
+}
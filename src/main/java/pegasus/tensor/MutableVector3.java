@@ -0,0 +1,618 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * A mutable three-dimensional vector with no thread safety. Unlike {@link Vector3}, every
+ * operation of a mutable vector modifies the vector in place and returns itself for chaining,
+ * so that no intermediary instances are created. Mutable vectors can be converted to and
+ * from their immutable counterparts, and can be reused with a {@link VectorPool}.
+ *
+ * @see Vector3
+ * @see MutableVector2
+ * @see MutableVector4
+ * @see MutableQuaternion
+ * @see VectorPool
+ */
+public class MutableVector3 implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new zero vector.
+     */
+    public MutableVector3() {
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param x The X component of this vector
+     * @param y The Y component of this vector
+     * @param z The Z component of this vector
+     */
+    public MutableVector3(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3(Vector3 v) {
+        this(v.x, v.y, v.z);
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3(MutableVector3 v) {
+        this(v.x, v.y, v.z);
+    }
+
+    /**
+     * The X component of this vector.
+     */
+    protected double x;
+
+    /**
+     * The Y component of this vector.
+     */
+    protected double y;
+
+    /**
+     * The Z component of this vector.
+     */
+    protected double z;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return 3;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        return Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        return Double.isFinite(x) && Double.isFinite(y) && Double.isFinite(z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        return Double.isInfinite(x) || Double.isInfinite(y) || Double.isInfinite(z);
+    }
+
+    /**
+     * Returns the X component of this vector.
+     *
+     * @return The X component of this vector
+     */
+    public double x() {
+        return x;
+    }
+
+    /**
+     * Returns the Y component of this vector.
+     *
+     * @return The Y component of this vector
+     */
+    public double y() {
+        return y;
+    }
+
+    /**
+     * Returns the Z component of this vector.
+     *
+     * @return The Z component of this vector
+     */
+    public double z() {
+        return z;
+    }
+
+    /**
+     * Sets the X component of this vector.
+     *
+     * @param x The X component of this vector
+     * @return This vector
+     */
+    public MutableVector3 x(double x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * Sets the Y component of this vector.
+     *
+     * @param y The Y component of this vector
+     * @return This vector
+     */
+    public MutableVector3 y(double y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Sets the Z component of this vector.
+     *
+     * @param z The Z component of this vector
+     * @return This vector
+     */
+    public MutableVector3 z(double z) {
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector.
+     *
+     * @param x The X component of this vector
+     * @param y The Y component of this vector
+     * @param z The Z component of this vector
+     * @return This vector
+     */
+    public MutableVector3 set(double x, double y, double z) {
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Copies the components of the provided vector {@code v} into this vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 set(Vector3 v) {
+        return set(v.x, v.y, v.z);
+    }
+
+    /**
+     * Copies the components of the provided vector {@code v} into this vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 set(MutableVector3 v) {
+        return set(v.x, v.y, v.z);
+    }
+
+    /**
+     * Returns the Euclidean norm of this vector.
+     *
+     * @return The Euclidean norm of this vector
+     */
+    public double norm() {
+        return Math.sqrt(x * x + y * y + z * z);
+    }
+
+    /**
+     * Returns the squared Euclidean norm of this vector.
+     *
+     * @return The squared Euclidean norm of this vector
+     */
+    public double normSquared() {
+        return x * x + y * y + z * z;
+    }
+
+    /**
+     * Adds the provided scalar {@code s} to every component of this vector.
+     *
+     * @param s The scalar of which to add
+     * @return This vector
+     */
+    public MutableVector3 add(double s) {
+        x += s;
+        y += s;
+        z += s;
+        return this;
+    }
+
+    /**
+     * Adds the provided components to this vector.
+     *
+     * @param x The X component of which to add
+     * @param y The Y component of which to add
+     * @param z The Z component of which to add
+     * @return This vector
+     */
+    public MutableVector3 add(double x, double y, double z) {
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    /**
+     * Adds the provided vector {@code v} to this vector.
+     *
+     * @param v The vector of which to add
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 add(Vector3 v) {
+        return add(v.x, v.y, v.z);
+    }
+
+    /**
+     * Adds the provided vector {@code v} to this vector.
+     *
+     * @param v The vector of which to add
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 add(MutableVector3 v) {
+        return add(v.x, v.y, v.z);
+    }
+
+    /**
+     * Adds the provided vector {@code v} multiplied by the provided scalar {@code s} to this vector.
+     * This is equivalent to {@code add(v.multiply(s))}, without the intermediary vector.
+     *
+     * @param v The vector of which to add
+     * @param s The scalar of which to multiply the provided vector {@code v} by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 addScaled(Vector3 v, double s) {
+        return add(v.x * s, v.y * s, v.z * s);
+    }
+
+    /**
+     * Adds the provided vector {@code v} multiplied by the provided scalar {@code s} to this vector.
+     * This is equivalent to {@code add(v.multiply(s))}, without the intermediary vector.
+     *
+     * @param v The vector of which to add
+     * @param s The scalar of which to multiply the provided vector {@code v} by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 addScaled(MutableVector3 v, double s) {
+        return add(v.x * s, v.y * s, v.z * s);
+    }
+
+    /**
+     * Subtracts the provided scalar {@code s} from every component of this vector.
+     *
+     * @param s The scalar of which to subtract
+     * @return This vector
+     */
+    public MutableVector3 subtract(double s) {
+        return add(-s);
+    }
+
+    /**
+     * Subtracts the provided vector {@code v} from this vector.
+     *
+     * @param v The vector of which to subtract
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 subtract(Vector3 v) {
+        return add(-v.x, -v.y, -v.z);
+    }
+
+    /**
+     * Subtracts the provided vector {@code v} from this vector.
+     *
+     * @param v The vector of which to subtract
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 subtract(MutableVector3 v) {
+        return add(-v.x, -v.y, -v.z);
+    }
+
+    /**
+     * Multiplies this vector by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to multiply this vector by
+     * @return This vector
+     */
+    public MutableVector3 multiply(double s) {
+        x *= s;
+        y *= s;
+        z *= s;
+        return this;
+    }
+
+    /**
+     * Multiplies each component of this vector by the corresponding component of the
+     * provided vector {@code v}.
+     *
+     * @param v The vector of which to multiply this vector by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 multiply(Vector3 v) {
+        x *= v.x;
+        y *= v.y;
+        z *= v.z;
+        return this;
+    }
+
+    /**
+     * Multiplies each component of this vector by the corresponding component of the
+     * provided vector {@code v}.
+     *
+     * @param v The vector of which to multiply this vector by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 multiply(MutableVector3 v) {
+        x *= v.x;
+        y *= v.y;
+        z *= v.z;
+        return this;
+    }
+
+    /**
+     * Divides this vector by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to divide this vector by
+     * @return This vector
+     * @throws ArithmeticException When the provided scalar {@code s} is zero
+     */
+    public MutableVector3 divide(double s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Sets this vector to the cross product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the cross product between
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 cross(Vector3 v) {
+        return set(y * v.z - z * v.y, z * v.x - x * v.z, x * v.y - y * v.x);
+    }
+
+    /**
+     * Sets this vector to the cross product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the cross product between
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 cross(MutableVector3 v) {
+        return set(y * v.z - z * v.y, z * v.x - x * v.z, x * v.y - y * v.x);
+    }
+
+    /**
+     * Returns the dot product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot product between
+     * @return The dot product between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double dot(Vector3 v) {
+        return x * v.x + y * v.y + z * v.z;
+    }
+
+    /**
+     * Returns the dot product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot product between
+     * @return The dot product between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double dot(MutableVector3 v) {
+        return x * v.x + y * v.y + z * v.z;
+    }
+
+    /**
+     * Negates this vector.
+     *
+     * @return This vector
+     */
+    public MutableVector3 negate() {
+        return set(-x, -y, -z);
+    }
+
+    /**
+     * Normalizes this vector.
+     *
+     * @return This vector
+     * @throws ArithmeticException When the Euclidean norm of this vector is zero
+     */
+    public MutableVector3 normalize() throws ArithmeticException {
+        double s = Math.sqrt(x * x + y * y + z * z);
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Rotates this vector by the provided rotation quaternion {@code q}.
+     *
+     * @param q The rotation quaternion of which to apply to this vector
+     * @return This vector
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     * @see Tensors#rotate(Vector3, Quaternion)
+     */
+    public MutableVector3 rotate(Quaternion q) {
+        return rotate(q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * Rotates this vector by the provided rotation quaternion {@code q}.
+     *
+     * @param q The rotation quaternion of which to apply to this vector
+     * @return This vector
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     * @see Tensors#rotate(Vector3, Quaternion)
+     */
+    public MutableVector3 rotate(MutableQuaternion q) {
+        return rotate(q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * Rotates this vector by the rotation quaternion of the provided components.
+     *
+     * @param qw The W component of the rotation quaternion
+     * @param qx The X component of the rotation quaternion
+     * @param qy The Y component of the rotation quaternion
+     * @param qz The Z component of the rotation quaternion
+     * @return This vector
+     */
+    private MutableVector3 rotate(double qw, double qx, double qy, double qz) {
+        double qp1 = -qx * x - qy * y - qz * z;
+        double qp2 = qw * x + qy * z - qz * y;
+        double qp3 = qw * y - qx * z + qz * x;
+        double qp4 = qw * z + qx * y - qy * x;
+
+        return set(
+                -qp1 * qx + qp2 * qw - qp3 * qz + qp4 * qy,
+                -qp1 * qy + qp2 * qz + qp3 * qw - qp4 * qx,
+                -qp1 * qz - qp2 * qy + qp3 * qx + qp4 * qw
+        );
+    }
+
+    /**
+     * Returns the Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distance(Vector3 v) {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    /**
+     * Returns the Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distance(MutableVector3 v) {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    /**
+     * Returns the squared Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The squared Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distanceSquared(Vector3 v) {
+        double dx = x - v.x;
+        double dy = y - v.y;
+        double dz = z - v.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Returns the squared Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The squared Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distanceSquared(MutableVector3 v) {
+        double dx = x - v.x;
+        double dy = y - v.y;
+        double dz = z - v.z;
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Returns an immutable copy of this vector.
+     *
+     * @return The immutable representation of this vector
+     */
+    public Vector3 toVector3() {
+        return new Vector3(x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double[] toArray() {
+        return new double[]{x, y, z};
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof MutableVector3 v)) return false;
+        return x == v.x && y == v.y && z == v.z;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" + x + ", " + y + ", " + z + "]";
+    }
+}
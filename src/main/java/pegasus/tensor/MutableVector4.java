@@ -0,0 +1,586 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+
+import java.io.Serial;
+import java.util.Objects;
+import java.util.stream.DoubleStream;
+
+/**
+ * A mutable four-dimensional vector with no thread safety. Unlike {@link Vector4}, every
+ * operation of a mutable vector modifies the vector in place and returns itself for chaining,
+ * so that no intermediary instances are created. Mutable vectors can be converted to and
+ * from their immutable counterparts, and can be reused with a {@link VectorPool}.
+ *
+ * @see Vector4
+ * @see MutableVector2
+ * @see MutableVector3
+ * @see VectorPool
+ */
+public class MutableVector4 implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new zero vector.
+     */
+    public MutableVector4() {
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param w The W component of this vector
+     * @param x The X component of this vector
+     * @param y The Y component of this vector
+     * @param z The Z component of this vector
+     */
+    public MutableVector4(double w, double x, double y, double z) {
+        this.w = w;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4(Vector4 v) {
+        this(v.w, v.x, v.y, v.z);
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4(MutableVector4 v) {
+        this(v.w, v.x, v.y, v.z);
+    }
+
+    /**
+     * The W component of this vector.
+     */
+    protected double w;
+
+    /**
+     * The X component of this vector.
+     */
+    protected double x;
+
+    /**
+     * The Y component of this vector.
+     */
+    protected double y;
+
+    /**
+     * The Z component of this vector.
+     */
+    protected double z;
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int size() {
+        return 4;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        return Double.isNaN(w) || Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        return Double.isFinite(w) && Double.isFinite(x) && Double.isFinite(y) && Double.isFinite(z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        return Double.isInfinite(w) || Double.isInfinite(x) || Double.isInfinite(y) || Double.isInfinite(z);
+    }
+
+    /**
+     * Returns the W component of this vector.
+     *
+     * @return The W component of this vector
+     */
+    public double w() {
+        return w;
+    }
+
+    /**
+     * Returns the X component of this vector.
+     *
+     * @return The X component of this vector
+     */
+    public double x() {
+        return x;
+    }
+
+    /**
+     * Returns the Y component of this vector.
+     *
+     * @return The Y component of this vector
+     */
+    public double y() {
+        return y;
+    }
+
+    /**
+     * Returns the Z component of this vector.
+     *
+     * @return The Z component of this vector
+     */
+    public double z() {
+        return z;
+    }
+
+    /**
+     * Sets the W component of this vector.
+     *
+     * @param w The W component of this vector
+     * @return This vector
+     */
+    public MutableVector4 w(double w) {
+        this.w = w;
+        return this;
+    }
+
+    /**
+     * Sets the X component of this vector.
+     *
+     * @param x The X component of this vector
+     * @return This vector
+     */
+    public MutableVector4 x(double x) {
+        this.x = x;
+        return this;
+    }
+
+    /**
+     * Sets the Y component of this vector.
+     *
+     * @param y The Y component of this vector
+     * @return This vector
+     */
+    public MutableVector4 y(double y) {
+        this.y = y;
+        return this;
+    }
+
+    /**
+     * Sets the Z component of this vector.
+     *
+     * @param z The Z component of this vector
+     * @return This vector
+     */
+    public MutableVector4 z(double z) {
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Sets the components of this vector.
+     *
+     * @param w The W component of this vector
+     * @param x The X component of this vector
+     * @param y The Y component of this vector
+     * @param z The Z component of this vector
+     * @return This vector
+     */
+    public MutableVector4 set(double w, double x, double y, double z) {
+        this.w = w;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        return this;
+    }
+
+    /**
+     * Copies the components of the provided vector {@code v} into this vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 set(Vector4 v) {
+        return set(v.w, v.x, v.y, v.z);
+    }
+
+    /**
+     * Copies the components of the provided vector {@code v} into this vector.
+     *
+     * @param v The vector of which to copy component values from
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 set(MutableVector4 v) {
+        return set(v.w, v.x, v.y, v.z);
+    }
+
+    /**
+     * Returns the Euclidean norm of this vector.
+     *
+     * @return The Euclidean norm of this vector
+     */
+    public double norm() {
+        return Math.sqrt(w * w + x * x + y * y + z * z);
+    }
+
+    /**
+     * Returns the squared Euclidean norm of this vector.
+     *
+     * @return The squared Euclidean norm of this vector
+     */
+    public double normSquared() {
+        return w * w + x * x + y * y + z * z;
+    }
+
+    /**
+     * Adds the provided scalar {@code s} to every component of this vector.
+     *
+     * @param s The scalar of which to add
+     * @return This vector
+     */
+    public MutableVector4 add(double s) {
+        w += s;
+        x += s;
+        y += s;
+        z += s;
+        return this;
+    }
+
+    /**
+     * Adds the provided components to this vector.
+     *
+     * @param w The W component of which to add
+     * @param x The X component of which to add
+     * @param y The Y component of which to add
+     * @param z The Z component of which to add
+     * @return This vector
+     */
+    public MutableVector4 add(double w, double x, double y, double z) {
+        this.w += w;
+        this.x += x;
+        this.y += y;
+        this.z += z;
+        return this;
+    }
+
+    /**
+     * Adds the provided vector {@code v} to this vector.
+     *
+     * @param v The vector of which to add
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 add(Vector4 v) {
+        return add(v.w, v.x, v.y, v.z);
+    }
+
+    /**
+     * Adds the provided vector {@code v} to this vector.
+     *
+     * @param v The vector of which to add
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 add(MutableVector4 v) {
+        return add(v.w, v.x, v.y, v.z);
+    }
+
+    /**
+     * Adds the provided vector {@code v} multiplied by the provided scalar {@code s} to this vector.
+     * This is equivalent to {@code add(v.multiply(s))}, without the intermediary vector.
+     *
+     * @param v The vector of which to add
+     * @param s The scalar of which to multiply the provided vector {@code v} by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 addScaled(Vector4 v, double s) {
+        return add(v.w * s, v.x * s, v.y * s, v.z * s);
+    }
+
+    /**
+     * Adds the provided vector {@code v} multiplied by the provided scalar {@code s} to this vector.
+     * This is equivalent to {@code add(v.multiply(s))}, without the intermediary vector.
+     *
+     * @param v The vector of which to add
+     * @param s The scalar of which to multiply the provided vector {@code v} by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 addScaled(MutableVector4 v, double s) {
+        return add(v.w * s, v.x * s, v.y * s, v.z * s);
+    }
+
+    /**
+     * Subtracts the provided scalar {@code s} from every component of this vector.
+     *
+     * @param s The scalar of which to subtract
+     * @return This vector
+     */
+    public MutableVector4 subtract(double s) {
+        return add(-s);
+    }
+
+    /**
+     * Subtracts the provided vector {@code v} from this vector.
+     *
+     * @param v The vector of which to subtract
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 subtract(Vector4 v) {
+        return add(-v.w, -v.x, -v.y, -v.z);
+    }
+
+    /**
+     * Subtracts the provided vector {@code v} from this vector.
+     *
+     * @param v The vector of which to subtract
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 subtract(MutableVector4 v) {
+        return add(-v.w, -v.x, -v.y, -v.z);
+    }
+
+    /**
+     * Multiplies this vector by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to multiply this vector by
+     * @return This vector
+     */
+    public MutableVector4 multiply(double s) {
+        w *= s;
+        x *= s;
+        y *= s;
+        z *= s;
+        return this;
+    }
+
+    /**
+     * Multiplies each component of this vector by the corresponding component of the
+     * provided vector {@code v}.
+     *
+     * @param v The vector of which to multiply this vector by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 multiply(Vector4 v) {
+        w *= v.w;
+        x *= v.x;
+        y *= v.y;
+        z *= v.z;
+        return this;
+    }
+
+    /**
+     * Multiplies each component of this vector by the corresponding component of the
+     * provided vector {@code v}.
+     *
+     * @param v The vector of which to multiply this vector by
+     * @return This vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector4 multiply(MutableVector4 v) {
+        w *= v.w;
+        x *= v.x;
+        y *= v.y;
+        z *= v.z;
+        return this;
+    }
+
+    /**
+     * Divides this vector by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to divide this vector by
+     * @return This vector
+     * @throws ArithmeticException When the provided scalar {@code s} is zero
+     */
+    public MutableVector4 divide(double s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Returns the dot product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot product between
+     * @return The dot product between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double dot(Vector4 v) {
+        return w * v.w + x * v.x + y * v.y + z * v.z;
+    }
+
+    /**
+     * Returns the dot product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot product between
+     * @return The dot product between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double dot(MutableVector4 v) {
+        return w * v.w + x * v.x + y * v.y + z * v.z;
+    }
+
+    /**
+     * Negates this vector.
+     *
+     * @return This vector
+     */
+    public MutableVector4 negate() {
+        return set(-w, -x, -y, -z);
+    }
+
+    /**
+     * Normalizes this vector.
+     *
+     * @return This vector
+     * @throws ArithmeticException When the Euclidean norm of this vector is zero
+     */
+    public MutableVector4 normalize() throws ArithmeticException {
+        double s = Math.sqrt(w * w + x * x + y * y + z * z);
+        if (s == 0) throw new DivisionByZeroException();
+        return multiply(1 / s);
+    }
+
+    /**
+     * Returns the Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distance(Vector4 v) {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    /**
+     * Returns the Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distance(MutableVector4 v) {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    /**
+     * Returns the squared Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The squared Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distanceSquared(Vector4 v) {
+        double dw = w - v.w;
+        double dx = x - v.x;
+        double dy = y - v.y;
+        double dz = z - v.z;
+        return dw * dw + dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Returns the squared Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distance to
+     * @return The squared Euclidean distance between the two vectors
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double distanceSquared(MutableVector4 v) {
+        double dw = w - v.w;
+        double dx = x - v.x;
+        double dy = y - v.y;
+        double dz = z - v.z;
+        return dw * dw + dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Returns an immutable copy of this vector.
+     *
+     * @return The immutable representation of this vector
+     */
+    public Vector4 toVector4() {
+        return new Vector4(w, x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return DoubleStream.of(w, x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double[] toArray() {
+        return new double[]{w, x, y, z};
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(w, x, y, z);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof MutableVector4 v)) return false;
+        return w == v.w && x == v.x && y == v.y && z == v.z;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "[" + w + ", " + x + ", " + y + ", " + z + "]";
+    }
+}
@@ -0,0 +1,374 @@
+package pegasus.tensor;
+
+import pegasus.exception.BinaryIndexOutOfBoundsException;
+import pegasus.exception.IncompatibleDimensionsException;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.Objects;
+
+/**
+ * A mutable matrix of {@code double} values stored outside the Java heap, either in direct
+ * memory or in a memory-mapped file. The number of rows is a {@code long}, so an off-heap
+ * matrix can hold more than {@link Integer#MAX_VALUE} elements, while every row still fits in
+ * an array. This suits datasets of many samples with a moderate number of features each.
+ * <p>
+ * Elements are stored in row-major order as an {@link OffHeapVector}, which is available
+ * through {@link #values()} for element-wise operations and reductions. A mapped file contains
+ * the raw little-endian elements with no header.
+ *
+ * @see OffHeapVector
+ * @see Matrix
+ */
+public class OffHeapMatrix {
+    /**
+     * Creates a new matrix in direct memory, with every element initialized to {@code 0}.
+     *
+     * @param rows    The number of rows
+     * @param columns The number of columns
+     * @return The constructed matrix
+     * @throws IllegalArgumentException When the dimensions are invalid
+     * @throws OutOfMemoryError         When the direct memory is exhausted
+     */
+    public static OffHeapMatrix allocate(long rows, int columns) {
+        return new OffHeapMatrix(OffHeapVector.allocate(elements(rows, columns)), rows, columns);
+    }
+
+    /**
+     * Creates a new matrix in direct memory, with the elements of the provided matrix.
+     *
+     * @param m The matrix of which to copy the elements of
+     * @return The constructed matrix
+     * @throws NullPointerException When the provided matrix {@code m} is {@code null}
+     */
+    public static OffHeapMatrix copyOf(Matrix m) {
+        double[] values = m.backingArray();
+
+        OffHeapMatrix result = allocate(m.rows(), m.columns());
+        result.values.write(0, values, 0, values.length);
+
+        return result;
+    }
+
+    /**
+     * Maps the provided file as a matrix with the provided dimensions, which is readable and
+     * writable. The file is created if it does not exist, and is extended if it is shorter.
+     *
+     * @param file    The file of which to map
+     * @param rows    The number of rows
+     * @param columns The number of columns
+     * @return The mapped matrix
+     * @throws IllegalArgumentException When the dimensions are invalid
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When the provided file is {@code null}
+     * @see OffHeapVector#map(Path, long)
+     */
+    public static OffHeapMatrix map(Path file, long rows, int columns) throws IOException {
+        return new OffHeapMatrix(OffHeapVector.map(file, elements(rows, columns)), rows, columns);
+    }
+
+    /**
+     * Maps an existing file as a matrix with the provided number of columns. The number of rows
+     * is derived from the length of the file.
+     *
+     * @param file    The file of which to map
+     * @param columns The number of columns
+     * @param mode    The mode of which to map the file in
+     * @return The mapped matrix
+     * @throws IllegalArgumentException When the number of columns is not positive, or the file
+     *                                  does not contain a whole number of rows
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When a {@code null} parameter is provided
+     * @see OffHeapVector#map(Path, FileChannel.MapMode)
+     */
+    public static OffHeapMatrix map(Path file, int columns, FileChannel.MapMode mode) throws IOException {
+        if (columns <= 0) throw new IllegalArgumentException("Invalid dimensions.");
+
+        OffHeapVector values = OffHeapVector.map(file, mode);
+
+        if (values.size() % columns != 0) {
+            throw new IllegalArgumentException("The file does not contain a whole number of rows.");
+        }
+
+        return new OffHeapMatrix(values, values.size() / columns, columns);
+    }
+
+    /**
+     * Returns the number of elements of a matrix with the provided dimensions.
+     *
+     * @param rows    The number of rows
+     * @param columns The number of columns
+     * @return The number of elements
+     * @throws IllegalArgumentException When the dimensions are invalid
+     */
+    private static long elements(long rows, int columns) {
+        if (rows < 0 || columns < 0) throw new IllegalArgumentException("Invalid dimensions.");
+
+        try {
+            return Math.multiplyExact(rows, columns);
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Invalid dimensions.", e);
+        }
+    }
+
+    /**
+     * Creates a new matrix.
+     *
+     * @param values  The row-major elements
+     * @param rows    The number of rows
+     * @param columns The number of columns
+     */
+    private OffHeapMatrix(OffHeapVector values, long rows, int columns) {
+        this.values = values;
+        this.rows = rows;
+        this.columns = columns;
+    }
+
+    /**
+     * The row-major elements.
+     */
+    protected final OffHeapVector values;
+
+    /**
+     * The number of rows.
+     */
+    protected final long rows;
+
+    /**
+     * The number of columns.
+     */
+    protected final int columns;
+
+    /**
+     * Returns the number of rows of this matrix.
+     *
+     * @return The number of rows
+     */
+    public long rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns of this matrix.
+     *
+     * @return The number of columns
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of elements of this matrix.
+     *
+     * @return The number of elements
+     */
+    public long size() {
+        return values.size();
+    }
+
+    /**
+     * Returns the row-major elements of this matrix. Changes to the returned vector are
+     * reflected in this matrix.
+     *
+     * @return The row-major elements
+     */
+    public OffHeapVector values() {
+        return values;
+    }
+
+    /**
+     * Returns the element at the specified index.
+     *
+     * @param r The row index
+     * @param c The column index
+     * @return The element at the specified index
+     * @throws BinaryIndexOutOfBoundsException When the provided index is out of bounds
+     */
+    public double get(long r, int c) throws BinaryIndexOutOfBoundsException {
+        return values.get(index(r, c));
+    }
+
+    /**
+     * Sets the element at the specified index.
+     *
+     * @param r     The row index
+     * @param c     The column index
+     * @param value The value to set to
+     * @throws BinaryIndexOutOfBoundsException When the provided index is out of bounds
+     */
+    public void set(long r, int c, double value) throws BinaryIndexOutOfBoundsException {
+        values.set(index(r, c), value);
+    }
+
+    /**
+     * Returns the {@code r}th row of this matrix as an array.
+     *
+     * @param r The row index
+     * @return The {@code r}th row of this matrix
+     * @throws IndexOutOfBoundsException When the provided index {@code r} is out of bounds
+     */
+    public double[] row(long r) throws IndexOutOfBoundsException {
+        double[] result = new double[columns];
+        readRow(r, result);
+        return result;
+    }
+
+    /**
+     * Copies the {@code r}th row of this matrix into the provided array.
+     *
+     * @param r    The row index
+     * @param dest The array of which to copy the row into
+     * @throws IndexOutOfBoundsException When the provided index {@code r} is out of bounds,
+     *                                   or the array is shorter than a row
+     * @throws NullPointerException      When the provided array is {@code null}
+     */
+    public void readRow(long r, double[] dest) throws IndexOutOfBoundsException {
+        Objects.checkIndex(r, rows);
+        values.read(r * columns, dest, 0, columns);
+    }
+
+    /**
+     * Sets the {@code r}th row of this matrix to the provided values.
+     *
+     * @param r   The row index
+     * @param row The values of which to set the row to
+     * @throws IndexOutOfBoundsException When the provided index {@code r} is out of bounds,
+     *                                   or the array is shorter than a row
+     * @throws NullPointerException      When the provided array is {@code null}
+     */
+    public void writeRow(long r, double[] row) throws IndexOutOfBoundsException {
+        Objects.checkIndex(r, rows);
+        values.write(r * columns, row, 0, columns);
+    }
+
+    /**
+     * Multiplies this matrix by the provided vector, and returns the result in direct memory.
+     *
+     * @param v The vector of which to multiply this matrix by
+     * @return The resulting vector
+     * @throws IncompatibleDimensionsException When the size of the vector is not equal to the
+     *                                         number of columns of this matrix
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public OffHeapVector multiply(LargeVector v) throws IncompatibleDimensionsException {
+        return multiply(v.backingArray());
+    }
+
+    /**
+     * Multiplies this matrix by the provided vector, and returns the result in direct memory.
+     *
+     * @param v The vector of which to multiply this matrix by
+     * @return The resulting vector
+     * @throws IncompatibleDimensionsException When the size of the vector is not equal to the
+     *                                         number of columns of this matrix
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public OffHeapVector multiply(OffHeapVector v) throws IncompatibleDimensionsException {
+        if (v.size() != columns) {
+            throw new IncompatibleDimensionsException("The vector's size must be equal to the matrix's columns.");
+        }
+
+        return multiply(v.toArray());
+    }
+
+    /**
+     * Returns the Frobenius norm of this matrix.
+     *
+     * @return The Frobenius norm
+     */
+    public double norm() {
+        return values.norm();
+    }
+
+    /**
+     * Writes any changes of this matrix to the storage device containing the mapped file.
+     * This has no effect on a matrix which is not mapped.
+     *
+     * @see OffHeapVector#force()
+     */
+    public void force() {
+        values.force();
+    }
+
+    /**
+     * Returns a heap-allocated copy of this matrix.
+     *
+     * @return The copied matrix
+     * @throws IllegalStateException When this matrix is too large to fit in an array
+     */
+    public Matrix toMatrix() {
+        if (size() > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("The matrix is too large to fit in an array.");
+        }
+
+        Matrix result = new Matrix((int) rows, columns);
+        double[] dest = result.backingArray();
+        values.read(0, dest, 0, dest.length);
+
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "OffHeapMatrix{" +
+                "rows=" + rows +
+                ", columns=" + columns +
+                ", mapped=" + values.isMapped() +
+                '}';
+    }
+
+    /**
+     * Multiplies this matrix by the provided column vector.
+     *
+     * @param v The components of the column vector
+     * @return The resulting vector
+     * @throws IncompatibleDimensionsException When the size of the vector is not equal to the
+     *                                         number of columns of this matrix
+     */
+    private OffHeapVector multiply(double[] v) {
+        if (v.length != columns) {
+            throw new IncompatibleDimensionsException("The vector's size must be equal to the matrix's columns.");
+        }
+
+        OffHeapVector result = OffHeapVector.allocate(rows);
+
+        double[] row = new double[columns];
+        double[] block = new double[OffHeapVector.BLOCK];
+        int n = 0;
+
+        for (long r = 0; r < rows; r++) {
+            values.read(r * columns, row, 0, columns);
+            block[n++] = DoubleKernels.dot(row, v);
+
+            if (n == block.length) {
+                result.write(r - n + 1, block, 0, n);
+                n = 0;
+            }
+        }
+
+        result.write(rows - n, block, 0, n);
+        return result;
+    }
+
+    /**
+     * Returns the index of the specified element within {@link #values}.
+     *
+     * @param r The row index
+     * @param c The column index
+     * @return The index of the element
+     * @throws BinaryIndexOutOfBoundsException When the provided index is out of bounds
+     */
+    private long index(long r, int c) {
+        if (r < 0 || r >= rows || c < 0 || c >= columns) {
+            throw new BinaryIndexOutOfBoundsException("Index out of bounds: [" + r + ", " + c + "]");
+        }
+
+        return r * columns + c;
+    }
+}
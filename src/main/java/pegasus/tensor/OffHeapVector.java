@@ -0,0 +1,677 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+import pegasus.exception.IncompatibleDimensionsException;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.DoubleBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+import java.util.stream.DoubleStream;
+import java.util.stream.LongStream;
+
+/**
+ * A mutable vector of {@code double} values stored outside the Java heap, either in direct
+ * memory or in a memory-mapped file. Off-heap vectors are indexed by {@code long}, so they can
+ * hold more than {@link Integer#MAX_VALUE} components, and they do not add to the pressure on
+ * the garbage collector. A {@link #map(Path, long) mapped} vector reads its components directly
+ * from the page cache, so opening a multi-gigabyte dataset does not copy it into memory.
+ * <p>
+ * Components are stored as consecutive little-endian {@code double} values with no header, so
+ * a mapped file can be produced or consumed by any other tool which writes raw doubles. The
+ * storage is split into segments of at most one gigabyte, since a single buffer can only
+ * address {@link Integer#MAX_VALUE} bytes.
+ * <p>
+ * Bulk operations copy the components through small blocks on the heap, and apply the same
+ * SIMD kernels as {@link LargeVector} to each block. Every operation is applied in place.
+ * Off-heap vectors are not thread-safe.
+ *
+ * @see OffHeapMatrix
+ * @see LargeVector
+ */
+public class OffHeapVector {
+    /**
+     * The base-2 logarithm of the number of components per segment.
+     */
+    static final int SEGMENT_SHIFT = 27;
+
+    /**
+     * The number of components per segment.
+     */
+    static final long SEGMENT_SIZE = 1L << SEGMENT_SHIFT;
+
+    /**
+     * The number of components copied to the heap per block. This divides the segment size,
+     * so a block never spans two segments.
+     */
+    static final int BLOCK = 1024;
+
+    /**
+     * Creates a new vector in direct memory, with every component initialized to {@code 0}.
+     *
+     * @param size The number of components
+     * @return The constructed vector
+     * @throws IllegalArgumentException When the provided size is negative
+     * @throws OutOfMemoryError         When the direct memory is exhausted
+     */
+    public static OffHeapVector allocate(long size) {
+        if (size < 0) throw new IllegalArgumentException("Size must not be negative.");
+
+        ByteBuffer[] segments = new ByteBuffer[segmentCount(size)];
+
+        for (int i = 0; i < segments.length; i++) {
+            segments[i] = ByteBuffer.allocateDirect(segmentBytes(size, i));
+        }
+
+        return new OffHeapVector(segments, size, false);
+    }
+
+    /**
+     * Creates a new vector in direct memory, with the components of the provided vector.
+     *
+     * @param v The vector of which to copy the components of
+     * @return The constructed vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public static OffHeapVector copyOf(LargeVector v) {
+        double[] values = v.backingArray();
+
+        OffHeapVector result = allocate(values.length);
+        result.write(0, values, 0, values.length);
+
+        return result;
+    }
+
+    /**
+     * Maps the provided file as a vector with the provided size, which is readable and writable.
+     * The file is created if it does not exist, and is extended to {@code 8 * size} bytes if it is
+     * shorter. Changes to the vector are written to the file by the operating system, or by
+     * calling {@link #force()}.
+     *
+     * @param file The file of which to map
+     * @param size The number of components
+     * @return The mapped vector
+     * @throws IllegalArgumentException When the provided size is negative
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When the provided file is {@code null}
+     */
+    public static OffHeapVector map(Path file, long size) throws IOException {
+        if (size < 0) throw new IllegalArgumentException("Size must not be negative.");
+
+        try (FileChannel channel = FileChannel.open(
+                file,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE
+        )) {
+            return map(channel, FileChannel.MapMode.READ_WRITE, size);
+        }
+    }
+
+    /**
+     * Maps an existing file as a vector. The size of the vector is the length of the file divided
+     * by eight. A vector mapped in {@link FileChannel.MapMode#READ_ONLY read-only} mode throws
+     * {@link java.nio.ReadOnlyBufferException ReadOnlyBufferException} when it is modified, and one
+     * mapped in {@link FileChannel.MapMode#PRIVATE private} mode never writes its changes to the file.
+     *
+     * @param file The file of which to map
+     * @param mode The mode of which to map the file in
+     * @return The mapped vector
+     * @throws IllegalArgumentException When the length of the file is not a multiple of eight
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When a {@code null} parameter is provided
+     */
+    public static OffHeapVector map(Path file, FileChannel.MapMode mode) throws IOException {
+        try (FileChannel channel = mode == FileChannel.MapMode.READ_WRITE
+                ? FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)
+                : FileChannel.open(file, StandardOpenOption.READ)) {
+            long length = channel.size();
+
+            if (length % Double.BYTES != 0) {
+                throw new IllegalArgumentException("The file length is not a multiple of 8 bytes.");
+            }
+
+            return map(channel, mode, length / Double.BYTES);
+        }
+    }
+
+    /**
+     * Maps the provided channel as a vector. The mapping remains valid after the channel is closed.
+     *
+     * @param channel The channel of which to map
+     * @param mode    The mode of which to map the channel in
+     * @param size    The number of components
+     * @return The mapped vector
+     * @throws IOException When an I/O error occurs
+     */
+    private static OffHeapVector map(FileChannel channel, FileChannel.MapMode mode, long size) throws IOException {
+        ByteBuffer[] segments = new ByteBuffer[segmentCount(size)];
+
+        for (int i = 0; i < segments.length; i++) {
+            long position = ((long) i << SEGMENT_SHIFT) * Double.BYTES;
+            segments[i] = channel.map(mode, position, segmentBytes(size, i));
+        }
+
+        return new OffHeapVector(segments, size, true);
+    }
+
+    /**
+     * Returns the number of segments required to store the provided number of components.
+     *
+     * @param size The number of components
+     * @return The number of segments
+     */
+    private static int segmentCount(long size) {
+        return Math.toIntExact((size + SEGMENT_SIZE - 1) >>> SEGMENT_SHIFT);
+    }
+
+    /**
+     * Returns the size of the {@code i}th segment in bytes.
+     *
+     * @param size The number of components
+     * @param i    The index of the segment
+     * @return The size of the segment in bytes
+     */
+    private static int segmentBytes(long size, int i) {
+        return (int) (Math.min(SEGMENT_SIZE, size - ((long) i << SEGMENT_SHIFT)) * Double.BYTES);
+    }
+
+    /**
+     * Creates a new vector.
+     *
+     * @param segments The segments of which to store the components in
+     * @param size     The number of components
+     * @param mapped   Whether the segments are mapped from a file
+     */
+    private OffHeapVector(ByteBuffer[] segments, long size, boolean mapped) {
+        this.size = size;
+        this.segments = segments;
+        this.mapped = mapped;
+        this.buffers = new DoubleBuffer[segments.length];
+
+        for (int i = 0; i < segments.length; i++) {
+            buffers[i] = segments[i].order(ByteOrder.LITTLE_ENDIAN).asDoubleBuffer();
+        }
+    }
+
+    /**
+     * The number of components.
+     */
+    protected final long size;
+
+    /**
+     * The segments of bytes.
+     */
+    private final ByteBuffer[] segments;
+
+    /**
+     * The views of {@code double} values of the segments.
+     */
+    private final DoubleBuffer[] buffers;
+
+    /**
+     * Whether the segments are mapped from a file.
+     */
+    private final boolean mapped;
+
+    /**
+     * Returns the number of components of this vector.
+     *
+     * @return The number of components
+     */
+    public long size() {
+        return size;
+    }
+
+    /**
+     * Returns whether this vector is backed by a memory-mapped file.
+     *
+     * @return {@code true} if this vector is mapped
+     */
+    public boolean isMapped() {
+        return mapped;
+    }
+
+    /**
+     * Returns the {@code i}th component of this vector.
+     *
+     * @param i The index of the component to get
+     * @return The {@code i}th component
+     * @throws IndexOutOfBoundsException When the provided index {@code i} is out of bounds
+     */
+    public double get(long i) throws IndexOutOfBoundsException {
+        Objects.checkIndex(i, size);
+        return buffers[(int) (i >>> SEGMENT_SHIFT)].get((int) (i & (SEGMENT_SIZE - 1)));
+    }
+
+    /**
+     * Sets the {@code i}th component of this vector.
+     *
+     * @param i     The index of the component to set
+     * @param value The value of which to set to
+     * @throws IndexOutOfBoundsException When the provided index {@code i} is out of bounds
+     */
+    public void set(long i, double value) throws IndexOutOfBoundsException {
+        Objects.checkIndex(i, size);
+        buffers[(int) (i >>> SEGMENT_SHIFT)].put((int) (i & (SEGMENT_SIZE - 1)), value);
+    }
+
+    /**
+     * Copies {@code length} components starting from index {@code i} into the provided array.
+     *
+     * @param i      The index of the first component of which to copy
+     * @param dest   The array of which to copy the components into
+     * @param offset The index of the array at which to start copying into
+     * @param length The number of components of which to copy
+     * @throws IndexOutOfBoundsException When either range is out of bounds
+     * @throws NullPointerException      When the provided array is {@code null}
+     */
+    public void read(long i, double[] dest, int offset, int length) throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(i, length, size);
+        Objects.checkFromIndexSize(offset, length, dest.length);
+
+        while (length > 0) {
+            int position = (int) (i & (SEGMENT_SIZE - 1));
+            int n = (int) Math.min(length, SEGMENT_SIZE - position);
+
+            buffers[(int) (i >>> SEGMENT_SHIFT)].get(position, dest, offset, n);
+
+            i += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * Copies {@code length} components from the provided array into this vector, starting from
+     * index {@code i}.
+     *
+     * @param i      The index of the first component of which to overwrite
+     * @param src    The array of which to copy the components from
+     * @param offset The index of the array at which to start copying from
+     * @param length The number of components of which to copy
+     * @throws IndexOutOfBoundsException When either range is out of bounds
+     * @throws NullPointerException      When the provided array is {@code null}
+     */
+    public void write(long i, double[] src, int offset, int length) throws IndexOutOfBoundsException {
+        Objects.checkFromIndexSize(i, length, size);
+        Objects.checkFromIndexSize(offset, length, src.length);
+
+        while (length > 0) {
+            int position = (int) (i & (SEGMENT_SIZE - 1));
+            int n = (int) Math.min(length, SEGMENT_SIZE - position);
+
+            buffers[(int) (i >>> SEGMENT_SHIFT)].put(position, src, offset, n);
+
+            i += n;
+            offset += n;
+            length -= n;
+        }
+    }
+
+    /**
+     * Sets every component of this vector to the provided value.
+     *
+     * @param value The value of which to fill this vector with
+     */
+    public void fill(double value) {
+        transform(null, (a, b) -> Arrays.fill(a, value));
+    }
+
+    /**
+     * Adds a scalar to every component of this vector in place.
+     *
+     * @param s The scalar of which to add to this vector
+     */
+    public void addInPlace(double s) {
+        transform(null, (a, b) -> DoubleKernels.add(a, s, a));
+    }
+
+    /**
+     * Subtracts a scalar from every component of this vector in place.
+     *
+     * @param s The scalar of which to subtract from this vector
+     */
+    public void subtractInPlace(double s) {
+        transform(null, (a, b) -> DoubleKernels.add(a, -s, a));
+    }
+
+    /**
+     * Multiplies every component of this vector by a scalar in place.
+     *
+     * @param s The scalar of which to multiply this vector by
+     */
+    public void multiplyInPlace(double s) {
+        transform(null, (a, b) -> DoubleKernels.multiply(a, s, a));
+    }
+
+    /**
+     * Divides every component of this vector by a scalar in place.
+     *
+     * @param s The scalar of which to divide this vector by
+     * @throws ArithmeticException When the provided denominator {@code s} is zero
+     */
+    public void divideInPlace(double s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        multiplyInPlace(1 / s);
+    }
+
+    /**
+     * Adds the provided vector to this vector in place.
+     *
+     * @param v The vector of which to add to this vector
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public void addInPlace(OffHeapVector v) throws IncompatibleDimensionsException {
+        transform(v, (a, b) -> DoubleKernels.add(a, b, a));
+    }
+
+    /**
+     * Subtracts the provided vector from this vector in place.
+     *
+     * @param v The vector of which to subtract from this vector
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public void subtractInPlace(OffHeapVector v) throws IncompatibleDimensionsException {
+        transform(v, (a, b) -> DoubleKernels.subtract(a, b, a));
+    }
+
+    /**
+     * Normalizes this vector in place.
+     *
+     * @throws ArithmeticException When the norm of this vector is zero
+     */
+    public void normalizeInPlace() throws ArithmeticException {
+        divideInPlace(norm());
+    }
+
+    /**
+     * Applies the provided update function to each component of this vector, then assigns each
+     * component to the return value of the provided update function.
+     *
+     * @param operator The update function of which to apply to each component of this vector
+     * @throws NullPointerException When the provided update function is {@code null}
+     */
+    public void replace(DoubleUnaryOperator operator) {
+        Objects.requireNonNull(operator);
+
+        transform(null, (a, b) -> {
+            for (int i = 0; i < a.length; i++) {
+                a[i] = operator.applyAsDouble(a[i]);
+            }
+        });
+    }
+
+    /**
+     * Merges the provided vector into this vector in place, assigning each component to the
+     * return value of the provided merger function.
+     *
+     * @param v      The vector of which to merge this vector with
+     * @param merger The merger function of which to handle the merging of the two vectors
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When a {@code null} parameter is provided
+     */
+    public void mergeInPlace(OffHeapVector v, DoubleBinaryOperator merger) throws IncompatibleDimensionsException {
+        Objects.requireNonNull(merger);
+
+        transform(v, (a, b) -> {
+            for (int i = 0; i < a.length; i++) {
+                a[i] = merger.applyAsDouble(a[i], b[i]);
+            }
+        });
+    }
+
+    /**
+     * Returns the sum of the components of this vector.
+     *
+     * @return The sum of the components
+     */
+    public double sum() {
+        return reduce(null, (a, b) -> {
+            double sum = 0;
+            for (double x : a) {
+                sum += x;
+            }
+
+            return sum;
+        });
+    }
+
+    /**
+     * Returns the Euclidean norm of this vector.
+     *
+     * @return The Euclidean norm
+     */
+    public double norm() {
+        return Math.sqrt(normSquared());
+    }
+
+    /**
+     * Returns the squared Euclidean norm of this vector.
+     *
+     * @return The squared Euclidean norm
+     */
+    public double normSquared() {
+        return reduce(null, (a, b) -> DoubleKernels.sumOfSquares(a));
+    }
+
+    /**
+     * Returns the Manhattan norm of this vector.
+     *
+     * @return The Manhattan norm
+     */
+    public double normManhattan() {
+        return reduce(null, (a, b) -> DoubleKernels.sumOfAbs(a));
+    }
+
+    /**
+     * Returns the dot product between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot product between
+     * @return The dot product
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public double dot(OffHeapVector v) throws IncompatibleDimensionsException {
+        return reduce(v, DoubleKernels::dot);
+    }
+
+    /**
+     * Returns the Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the Euclidean distance to
+     * @return The Euclidean distance
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public double distance(OffHeapVector v) throws IncompatibleDimensionsException {
+        return Math.sqrt(distanceSquared(v));
+    }
+
+    /**
+     * Returns the squared Euclidean distance between this vector and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the squared Euclidean distance to
+     * @return The squared Euclidean distance
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    public double distanceSquared(OffHeapVector v) throws IncompatibleDimensionsException {
+        return reduce(v, DoubleKernels::distanceSquared);
+    }
+
+    /**
+     * Writes any changes of this vector to the storage device containing the mapped file.
+     * This has no effect on a vector which is not {@link #isMapped() mapped}.
+     */
+    public void force() {
+        if (!mapped) return;
+
+        for (ByteBuffer segment : segments) {
+            if (!segment.isReadOnly()) ((MappedByteBuffer) segment).force();
+        }
+    }
+
+    /**
+     * Returns a sequential stream of the components of this vector.
+     *
+     * @return A stream of the components
+     */
+    public DoubleStream stream() {
+        return LongStream.range(0, size).mapToDouble(this::get);
+    }
+
+    /**
+     * Returns an array containing the components of this vector.
+     *
+     * @return The array representation of this vector
+     * @throws IllegalStateException When this vector is too large to fit in an array
+     */
+    public double[] toArray() {
+        if (size > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("The vector is too large to fit in an array.");
+        }
+
+        double[] result = new double[(int) size];
+        read(0, result, 0, result.length);
+
+        return result;
+    }
+
+    /**
+     * Returns a heap-allocated copy of this vector.
+     *
+     * @return The copied vector
+     * @throws IllegalStateException When this vector is too large to fit in an array
+     */
+    public LargeVector toLargeVector() {
+        return new LargeVector(toArray(), false);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "OffHeapVector{" +
+                "size=" + size +
+                ", mapped=" + isMapped() +
+                '}';
+    }
+
+    /**
+     * Applies an operation to a block of components.
+     */
+    @FunctionalInterface
+    private interface BlockOperation {
+        /**
+         * Applies this operation to a block of components.
+         *
+         * @param a The block of this vector, of which to store the result in
+         * @param b The corresponding block of the other operand, or {@code null}
+         */
+        void apply(double[] a, double[] b);
+    }
+
+    /**
+     * Reduces a block of components to a partial sum.
+     */
+    @FunctionalInterface
+    private interface BlockReduction {
+        /**
+         * Returns the partial sum of a block of components.
+         *
+         * @param a The block of this vector
+         * @param b The corresponding block of the other operand, or {@code null}
+         * @return The partial sum
+         */
+        double apply(double[] a, double[] b);
+    }
+
+    /**
+     * Applies the provided operation to every block of this vector, and writes the result back.
+     *
+     * @param v         The other operand, or {@code null}
+     * @param operation The operation of which to apply
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     */
+    private void transform(OffHeapVector v, BlockOperation operation) {
+        if (v != null) requireSameSize(v);
+
+        double[] a = new double[BLOCK];
+        double[] b = v != null ? new double[BLOCK] : null;
+
+        for (long i = 0; i < size; i += BLOCK) {
+            if (size - i < BLOCK) {
+                a = new double[(int) (size - i)];
+                b = v != null ? new double[a.length] : null;
+            }
+
+            read(i, a, 0, a.length);
+            if (v != null) v.read(i, b, 0, b.length);
+
+            operation.apply(a, b);
+            write(i, a, 0, a.length);
+        }
+    }
+
+    /**
+     * Returns the sum of the provided reduction over every block of this vector. The partial sums
+     * are accumulated with Kahan compensation, so the rounding error does not grow with the number
+     * of blocks.
+     *
+     * @param v         The other operand, or {@code null}
+     * @param reduction The reduction of which to apply
+     * @return The sum
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     */
+    private double reduce(OffHeapVector v, BlockReduction reduction) {
+        if (v != null) requireSameSize(v);
+
+        double[] a = new double[BLOCK];
+        double[] b = v != null ? new double[BLOCK] : null;
+
+        double sum = 0, c = 0;
+
+        for (long i = 0; i < size; i += BLOCK) {
+            if (size - i < BLOCK) {
+                a = new double[(int) (size - i)];
+                b = v != null ? new double[a.length] : null;
+            }
+
+            read(i, a, 0, a.length);
+            if (v != null) v.read(i, b, 0, b.length);
+
+            double y = reduction.apply(a, b) - c;
+            double t = sum + y;
+            c = (t - sum) - y;
+            sum = t;
+        }
+
+        return sum;
+    }
+
+    /**
+     * Checks that the provided vector has the same size as this vector.
+     *
+     * @param v The vector of which to check
+     * @throws IncompatibleDimensionsException When the sizes of the vectors are different
+     */
+    private void requireSameSize(OffHeapVector v) {
+        if (size != v.size) {
+            throw new IncompatibleDimensionsException("The sizes of the vectors are different.");
+        }
+    }
+}
@@ -0,0 +1,419 @@
+package pegasus.tensor;
+
+import pegasus.exception.IllegalInstanceException;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * Splits element-wise loops over index ranges across the common {@link ForkJoinPool}.
+ * Every range is processed by a single task, so a loop body that only touches its own
+ * indices needs no synchronization.
+ * <p>
+ * Reductions split their range into the same tree of {@link #GRAIN grains} regardless of the
+ * number of available threads. Each grain is summed with Kahan compensation, using four
+ * interleaved accumulators to hide the latency of the compensation, and the partial sums are
+ * combined pairwise, so the result is deterministic and its rounding error grows with
+ * the logarithm of the length instead of linearly.
+ */
+final class ParallelKernels {
+    /**
+     * The number of elements below which a range is no longer split.
+     */
+    static final int GRAIN = 1 << 13;
+
+    /**
+     * Processes the provided range of indices.
+     */
+    @FunctionalInterface
+    interface Range {
+        /**
+         * Processes indices {@code [from, to)}.
+         *
+         * @param from The first index of which to process (inclusive)
+         * @param to   The last index of which to process (exclusive)
+         */
+        void apply(int from, int to);
+    }
+
+    /**
+     * Reduces the provided range of indices to a partial sum.
+     */
+    @FunctionalInterface
+    interface Reduction {
+        /**
+         * Returns the partial sum of indices {@code [from, to)}.
+         *
+         * @param from The first index of which to sum (inclusive)
+         * @param to   The last index of which to sum (exclusive)
+         * @return The partial sum
+         */
+        double apply(int from, int to);
+    }
+
+    /**
+     * Processes indices {@code [0, length)} with the provided action. When {@code parallel} is
+     * {@code true} and the range is longer than two {@link #GRAIN grains}, the range is split
+     * across the common {@link ForkJoinPool}; otherwise the action is called once on the caller.
+     *
+     * @param length   The number of indices of which to process
+     * @param parallel Whether to process the indices in parallel
+     * @param action   The action of which to process each range with
+     */
+    static void forRange(int length, boolean parallel, Range action) {
+        if (!parallel || length < 2 * GRAIN || ForkJoinPool.getCommonPoolParallelism() < 2) {
+            action.apply(0, length);
+            return;
+        }
+
+        ForkJoinPool.commonPool().invoke(new RangeTask(action, 0, length));
+    }
+
+    /**
+     * Returns the sum of indices {@code [0, length)}, as reduced by the provided leaf reduction.
+     * The range is split in halves until it is no longer than a {@link #GRAIN grain}, and the
+     * partial sums are added pairwise. The halves are summed in parallel when the common
+     * {@link ForkJoinPool} has more than one thread, which does not change the result.
+     *
+     * @param length The number of indices of which to sum
+     * @param leaf   The reduction of which to sum each grain with
+     * @return The sum
+     */
+    static double sum(int length, Reduction leaf) {
+        if (length <= GRAIN) return leaf.apply(0, length);
+        if (ForkJoinPool.getCommonPoolParallelism() < 2) return sum(leaf, 0, length);
+
+        return ForkJoinPool.commonPool().invoke(new SumTask(leaf, 0, length));
+    }
+
+    /**
+     * Returns the pairwise sum of indices {@code [from, to)} on the calling thread.
+     *
+     * @param leaf The reduction of which to sum each grain with
+     * @param from The first index of which to sum (inclusive)
+     * @param to   The last index of which to sum (exclusive)
+     * @return The sum
+     */
+    private static double sum(Reduction leaf, int from, int to) {
+        if (to - from <= GRAIN) return leaf.apply(from, to);
+
+        int mid = (from + to) >>> 1;
+        return sum(leaf, from, mid) + sum(leaf, mid, to);
+    }
+
+    /**
+     * Returns the sum of the squares of the elements of {@code a}.
+     *
+     * @param a The array operand
+     * @return The sum of squares
+     */
+    static double sumOfSquares(double[] a) {
+        return sum(a.length, (from, to) -> {
+            double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            double c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+            int i = from;
+
+            for (; i + 3 < to; i += 4) {
+                double y0 = a[i] * a[i] - c0, t0 = s0 + y0;
+                c0 = (t0 - s0) - y0;
+                s0 = t0;
+
+                double y1 = a[i + 1] * a[i + 1] - c1, t1 = s1 + y1;
+                c1 = (t1 - s1) - y1;
+                s1 = t1;
+
+                double y2 = a[i + 2] * a[i + 2] - c2, t2 = s2 + y2;
+                c2 = (t2 - s2) - y2;
+                s2 = t2;
+
+                double y3 = a[i + 3] * a[i + 3] - c3, t3 = s3 + y3;
+                c3 = (t3 - s3) - y3;
+                s3 = t3;
+            }
+
+            for (; i < to; i++) {
+                double y = a[i] * a[i] - c0, t = s0 + y;
+                c0 = (t - s0) - y;
+                s0 = t;
+            }
+
+            return ((s0 - c0) + (s1 - c1)) + ((s2 - c2) + (s3 - c3));
+        });
+    }
+
+    /**
+     * Returns the sum of the absolute values of the elements of {@code a}.
+     *
+     * @param a The array operand
+     * @return The sum of absolute values
+     */
+    static double sumOfAbs(double[] a) {
+        return sum(a.length, (from, to) -> {
+            double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            double c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+            int i = from;
+
+            for (; i + 3 < to; i += 4) {
+                double y0 = Math.abs(a[i]) - c0, t0 = s0 + y0;
+                c0 = (t0 - s0) - y0;
+                s0 = t0;
+
+                double y1 = Math.abs(a[i + 1]) - c1, t1 = s1 + y1;
+                c1 = (t1 - s1) - y1;
+                s1 = t1;
+
+                double y2 = Math.abs(a[i + 2]) - c2, t2 = s2 + y2;
+                c2 = (t2 - s2) - y2;
+                s2 = t2;
+
+                double y3 = Math.abs(a[i + 3]) - c3, t3 = s3 + y3;
+                c3 = (t3 - s3) - y3;
+                s3 = t3;
+            }
+
+            for (; i < to; i++) {
+                double y = Math.abs(a[i]) - c0, t = s0 + y;
+                c0 = (t - s0) - y;
+                s0 = t;
+            }
+
+            return ((s0 - c0) + (s1 - c1)) + ((s2 - c2) + (s3 - c3));
+        });
+    }
+
+    /**
+     * Returns the dot product of {@code a} and {@code b}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @return The dot product
+     */
+    static double dot(double[] a, double[] b) {
+        return sum(a.length, (from, to) -> {
+            double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            double c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+            int i = from;
+
+            for (; i + 3 < to; i += 4) {
+                double y0 = a[i] * b[i] - c0, t0 = s0 + y0;
+                c0 = (t0 - s0) - y0;
+                s0 = t0;
+
+                double y1 = a[i + 1] * b[i + 1] - c1, t1 = s1 + y1;
+                c1 = (t1 - s1) - y1;
+                s1 = t1;
+
+                double y2 = a[i + 2] * b[i + 2] - c2, t2 = s2 + y2;
+                c2 = (t2 - s2) - y2;
+                s2 = t2;
+
+                double y3 = a[i + 3] * b[i + 3] - c3, t3 = s3 + y3;
+                c3 = (t3 - s3) - y3;
+                s3 = t3;
+            }
+
+            for (; i < to; i++) {
+                double y = a[i] * b[i] - c0, t = s0 + y;
+                c0 = (t - s0) - y;
+                s0 = t;
+            }
+
+            return ((s0 - c0) + (s1 - c1)) + ((s2 - c2) + (s3 - c3));
+        });
+    }
+
+    /**
+     * Returns the squared Euclidean distance between {@code a} and {@code b}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @return The squared distance
+     */
+    static double distanceSquared(double[] a, double[] b) {
+        return sum(a.length, (from, to) -> {
+            double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            double c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+            int i = from;
+
+            for (; i + 3 < to; i += 4) {
+                double d0 = a[i] - b[i];
+                double y0 = d0 * d0 - c0, t0 = s0 + y0;
+                c0 = (t0 - s0) - y0;
+                s0 = t0;
+
+                double d1 = a[i + 1] - b[i + 1];
+                double y1 = d1 * d1 - c1, t1 = s1 + y1;
+                c1 = (t1 - s1) - y1;
+                s1 = t1;
+
+                double d2 = a[i + 2] - b[i + 2];
+                double y2 = d2 * d2 - c2, t2 = s2 + y2;
+                c2 = (t2 - s2) - y2;
+                s2 = t2;
+
+                double d3 = a[i + 3] - b[i + 3];
+                double y3 = d3 * d3 - c3, t3 = s3 + y3;
+                c3 = (t3 - s3) - y3;
+                s3 = t3;
+            }
+
+            for (; i < to; i++) {
+                double d = a[i] - b[i];
+                double y = d * d - c0, t = s0 + y;
+                c0 = (t - s0) - y;
+                s0 = t;
+            }
+
+            return ((s0 - c0) + (s1 - c1)) + ((s2 - c2) + (s3 - c3));
+        });
+    }
+
+    /**
+     * Returns the Manhattan distance between {@code a} and {@code b}.
+     *
+     * @param a The first operand
+     * @param b The second operand
+     * @return The Manhattan distance
+     */
+    static double distanceManhattan(double[] a, double[] b) {
+        return sum(a.length, (from, to) -> {
+            double s0 = 0, s1 = 0, s2 = 0, s3 = 0;
+            double c0 = 0, c1 = 0, c2 = 0, c3 = 0;
+            int i = from;
+
+            for (; i + 3 < to; i += 4) {
+                double y0 = Math.abs(a[i] - b[i]) - c0, t0 = s0 + y0;
+                c0 = (t0 - s0) - y0;
+                s0 = t0;
+
+                double y1 = Math.abs(a[i + 1] - b[i + 1]) - c1, t1 = s1 + y1;
+                c1 = (t1 - s1) - y1;
+                s1 = t1;
+
+                double y2 = Math.abs(a[i + 2] - b[i + 2]) - c2, t2 = s2 + y2;
+                c2 = (t2 - s2) - y2;
+                s2 = t2;
+
+                double y3 = Math.abs(a[i + 3] - b[i + 3]) - c3, t3 = s3 + y3;
+                c3 = (t3 - s3) - y3;
+                s3 = t3;
+            }
+
+            for (; i < to; i++) {
+                double y = Math.abs(a[i] - b[i]) - c0, t = s0 + y;
+                c0 = (t - s0) - y;
+                s0 = t;
+            }
+
+            return ((s0 - c0) + (s1 - c1)) + ((s2 - c2) + (s3 - c3));
+        });
+    }
+
+    /**
+     * Splits a range of indices in halves until it is no longer than a {@link #GRAIN grain}.
+     */
+    @SuppressWarnings("serial")
+    private static final class RangeTask extends RecursiveAction {
+        /**
+         * Creates a new task.
+         *
+         * @param action The action of which to process the range with
+         * @param from   The first index of this task (inclusive)
+         * @param to     The last index of this task (exclusive)
+         */
+        RangeTask(Range action, int from, int to) {
+            this.action = action;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * The action of which to process the range with.
+         */
+        private final Range action;
+
+        /**
+         * The first index of this task (inclusive).
+         */
+        private final int from;
+
+        /**
+         * The last index of this task (exclusive).
+         */
+        private final int to;
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        protected void compute() {
+            if (to - from <= GRAIN) {
+                action.apply(from, to);
+                return;
+            }
+
+            int mid = (from + to) >>> 1;
+            invokeAll(new RangeTask(action, from, mid), new RangeTask(action, mid, to));
+        }
+    }
+
+    /**
+     * Sums a range of indices by splitting it in halves until it is no longer than a
+     * {@link #GRAIN grain}, then adding the partial sums of the halves.
+     */
+    @SuppressWarnings("serial")
+    private static final class SumTask extends RecursiveTask<Double> {
+        /**
+         * Creates a new task.
+         *
+         * @param leaf The reduction of which to sum each grain with
+         * @param from The first index of this task (inclusive)
+         * @param to   The last index of this task (exclusive)
+         */
+        SumTask(Reduction leaf, int from, int to) {
+            this.leaf = leaf;
+            this.from = from;
+            this.to = to;
+        }
+
+        /**
+         * The reduction of which to sum each grain with.
+         */
+        private final Reduction leaf;
+
+        /**
+         * The first index of this task (inclusive).
+         */
+        private final int from;
+
+        /**
+         * The last index of this task (exclusive).
+         */
+        private final int to;
+
+        /**
+         * {@inheritDoc}
+         *
+         * @return {@inheritDoc}
+         */
+        @Override
+        protected Double compute() {
+            if (to - from <= GRAIN) return leaf.apply(from, to);
+
+            int mid = (from + to) >>> 1;
+            SumTask right = new SumTask(leaf, mid, to);
+            right.fork();
+
+            double left = new SumTask(leaf, from, mid).compute();
+            return left + right.join();
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private ParallelKernels() {
+        throw new IllegalInstanceException(this);
+    }
+}
@@ -0,0 +1,424 @@
+package pegasus.tensor;
+
+import pegasus.exception.IncompatibleDimensionsException;
+import pegasus.exception.SingularMatrixException;
+
+import java.util.Arrays;
+
+/**
+ * The QR decomposition of a matrix with at least as many rows as columns, computed with
+ * Householder reflections. For an {@code m * n} matrix {@code A}, this decomposition consists of
+ * an {@code m * n} matrix {@code Q} with orthonormal columns and an {@code n * n} upper triangular
+ * matrix {@code R}, such that {@code A = QR}.
+ * <p>
+ * The factorization is computed in blocks of columns. The reflections of each panel are applied
+ * to the panel one by one, then to the rest of the matrix at once as a single block reflector
+ * {@code I - VTV}<sup>T</sup>, in two sweeps over contiguous rows. A decomposition is immutable
+ * once computed, and can be used to solve any number of least squares problems with the same
+ * coefficient matrix.
+ *
+ * @see Matrix#qr()
+ */
+public class QRDecomposition {
+    /**
+     * The number of columns per panel.
+     */
+    private static final int BLOCK = 32;
+
+    /**
+     * The number of trailing columns to which a block reflector is applied at a time.
+     */
+    private static final int COLUMN_BLOCK = 128;
+
+    /**
+     * Computes the QR decomposition of the provided matrix.
+     *
+     * @param m The matrix of which to decompose
+     * @throws IncompatibleDimensionsException When the matrix has fewer rows than columns
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public QRDecomposition(Matrix m) throws IncompatibleDimensionsException {
+        if (m.rows() < m.columns()) {
+            throw new IncompatibleDimensionsException("The matrix has fewer rows than columns.");
+        }
+
+        this.m = m.rows();
+        this.n = m.columns();
+        this.qr = m.toArray();
+        this.rDiag = new double[n];
+
+        double[] w = new double[n];
+        double[] t = new double[BLOCK * BLOCK];
+        double[] y = new double[BLOCK * COLUMN_BLOCK];
+
+        for (int j0 = 0; j0 < n; j0 += BLOCK) {
+            int j1 = Math.min(j0 + BLOCK, n);
+
+            // Factorize the panel
+            for (int k = j0; k < j1; k++) {
+                double norm = columnNorm(k);
+
+                if (norm != 0) {
+                    if (qr[k * n + k] < 0) norm = -norm;
+
+                    for (int i = k; i < this.m; i++) {
+                        qr[i * n + k] /= norm;
+                    }
+
+                    qr[k * n + k] += 1;
+                    reflect(k, qr, n, k + 1, j1, w);
+                }
+
+                rDiag[k] = -norm;
+            }
+
+            // Apply the panel's reflections to the trailing columns at once
+            if (j1 < n) {
+                blockFactor(j0, j1, t);
+                reflectBlock(j0, j1, t, y);
+            }
+        }
+    }
+
+    /**
+     * The number of rows.
+     */
+    protected final int m;
+
+    /**
+     * The number of columns.
+     */
+    protected final int n;
+
+    /**
+     * The row-major storage of {@code R} (above the diagonal) and the Householder vectors.
+     */
+    protected final double[] qr;
+
+    /**
+     * The diagonal of {@code R}.
+     */
+    protected final double[] rDiag;
+
+    /**
+     * Returns whether the decomposed matrix has full column rank.
+     *
+     * @return {@code true} if {@code R} has no zero on its diagonal
+     */
+    public boolean isFullRank() {
+        for (double d : rDiag) {
+            if (d == 0) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * Returns the orthonormal factor {@code Q}.
+     *
+     * @return The {@code m * n} orthonormal factor
+     */
+    public Matrix orthogonal() {
+        Matrix result = new Matrix(m, n);
+        double[] q = result.backingArray();
+        double[] w = new double[n];
+
+        for (int k = n - 1; k >= 0; k--) {
+            q[k * n + k] = 1;
+            if (qr[k * n + k] != 0) reflect(k, q, n, k, w);
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the upper triangular factor {@code R}.
+     *
+     * @return The {@code n * n} upper triangular factor
+     */
+    public Matrix upper() {
+        return new Matrix(n, n, (r, c) -> r < c ? qr[r * n + c] : r == c ? rDiag[r] : 0);
+    }
+
+    /**
+     * Returns the least squares solution {@code x} of {@code Ax = b}.
+     *
+     * @param b The right-hand side of length {@code m}
+     * @return The solution {@code x} of length {@code n}
+     * @throws IncompatibleDimensionsException When the length of {@code b} is different from the number of rows
+     * @throws SingularMatrixException         When the decomposed matrix is rank deficient
+     * @throws NullPointerException            When the provided array is {@code null}
+     */
+    public double[] solve(double[] b) {
+        if (b.length != m) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (!isFullRank()) throw new SingularMatrixException("The matrix is rank deficient.");
+
+        double[] x = b.clone();
+        double[] w = new double[1];
+        for (int k = 0; k < n; k++) {
+            reflect(k, x, 1, 0, w);
+        }
+
+        double[] result = new double[n];
+        for (int k = n - 1; k >= 0; k--) {
+            double sum = x[k];
+
+            for (int j = k + 1; j < n; j++) {
+                sum -= qr[k * n + j] * result[j];
+            }
+
+            result[k] = sum / rDiag[k];
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the least squares solution {@code X} of {@code AX = B}.
+     *
+     * @param b The right-hand side with {@code m} rows
+     * @return The solution {@code X} with {@code n} rows
+     * @throws IncompatibleDimensionsException When the number of rows of {@code B} is different from the
+     *                                         number of rows of the decomposed matrix
+     * @throws SingularMatrixException         When the decomposed matrix is rank deficient
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public Matrix solve(Matrix b) {
+        if (b.rows() != m) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (!isFullRank()) throw new SingularMatrixException("The matrix is rank deficient.");
+
+        int c = b.columns();
+        double[] x = b.toArray();
+        double[] w = new double[c];
+
+        for (int k = 0; k < n; k++) {
+            reflect(k, x, c, 0, w);
+        }
+
+        Matrix result = new Matrix(n, c);
+        double[] r = result.backingArray();
+        System.arraycopy(x, 0, r, 0, r.length);
+
+        for (int k = n - 1; k >= 0; k--) {
+            for (int p = k + 1; p < n; p++) {
+                double u = qr[k * n + p];
+                if (u == 0) continue;
+
+                for (int j = 0; j < c; j++) {
+                    r[k * c + j] -= u * r[p * c + j];
+                }
+            }
+
+            double inv = 1 / rDiag[k];
+            for (int j = 0; j < c; j++) {
+                r[k * c + j] *= inv;
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns the Euclidean norm of column {@code k} from row {@code k} downwards.
+     *
+     * @param k The index of the column
+     * @return The norm of the column
+     */
+    private double columnNorm(int k) {
+        double scale = 0;
+        for (int i = k; i < m; i++) {
+            scale = Math.max(scale, Math.abs(qr[i * n + k]));
+        }
+
+        if (scale == 0) return 0;
+
+        double sum = 0;
+        for (int i = k; i < m; i++) {
+            double v = qr[i * n + k] / scale;
+            sum += v * v;
+        }
+
+        return scale * Math.sqrt(sum);
+    }
+
+    /**
+     * Applies the {@code k}th Householder reflection to columns {@code [c, width)} of rows
+     * {@code [k, m)} of the provided row-major array.
+     *
+     * @param k     The index of the reflection
+     * @param a     The array of which to reflect
+     * @param width The number of columns of the array
+     * @param c     The first column of which to reflect
+     * @param w     A scratch array of at least {@code width} elements
+     */
+    private void reflect(int k, double[] a, int width, int c, double[] w) {
+        reflect(k, a, width, c, width, w);
+    }
+
+    /**
+     * Applies the {@code k}th Householder reflection to columns {@code [c, end)} of rows
+     * {@code [k, m)} of the provided row-major array.
+     *
+     * @param k     The index of the reflection
+     * @param a     The array of which to reflect
+     * @param width The number of columns of the array
+     * @param c     The first column of which to reflect
+     * @param end   The last column of which to reflect (exclusive)
+     * @param w     A scratch array of at least {@code end} elements
+     */
+    private void reflect(int k, double[] a, int width, int c, int end, double[] w) {
+        for (int j = c; j < end; j++) {
+            w[j] = 0;
+        }
+
+        for (int i = k; i < m; i++) {
+            double v = qr[i * n + k];
+            if (v == 0) continue;
+
+            int ri = i * width;
+            for (int j = c; j < end; j++) {
+                w[j] += v * a[ri + j];
+            }
+        }
+
+        double inv = -1 / qr[k * n + k];
+        for (int j = c; j < end; j++) {
+            w[j] *= inv;
+        }
+
+        for (int i = k; i < m; i++) {
+            double v = qr[i * n + k];
+            if (v == 0) continue;
+
+            int ri = i * width;
+            for (int j = c; j < end; j++) {
+                a[ri + j] += w[j] * v;
+            }
+        }
+    }
+
+    /**
+     * Computes the upper triangular factor {@code T} of the block reflector of the reflections
+     * {@code [j0, j1)}, such that their product is {@code I - VTV}<sup>T</sup>, where the columns
+     * of {@code V} are the Householder vectors.
+     *
+     * @param j0 The first reflection of the panel (inclusive)
+     * @param j1 The last reflection of the panel (exclusive)
+     * @param t  The array of which to store {@code T} in, with a row stride of {@link #BLOCK}
+     */
+    private void blockFactor(int j0, int j1, double[] t) {
+        int b = j1 - j0;
+        double[] z = new double[b];
+
+        for (int q = 0; q < b; q++) {
+            int k = j0 + q;
+            double vk = qr[k * n + k];
+            double tau = vk == 0 ? 0 : 1 / vk;
+
+            // The inner products of the previous Householder vectors with this one
+            for (int p = 0; p < q; p++) {
+                z[p] = 0;
+            }
+
+            for (int i = k; i < m; i++) {
+                int ri = i * n;
+                double v = qr[ri + k];
+                if (v == 0) continue;
+
+                for (int p = 0; p < q; p++) {
+                    z[p] += qr[ri + j0 + p] * v;
+                }
+            }
+
+            for (int p = 0; p < q; p++) {
+                double sum = 0;
+
+                for (int r = p; r < q; r++) {
+                    sum += t[p * BLOCK + r] * z[r];
+                }
+
+                t[p * BLOCK + q] = -tau * sum;
+            }
+
+            t[q * BLOCK + q] = tau;
+        }
+    }
+
+    /**
+     * Applies the transposed block reflector {@code I - VT}<sup>T</sup>{@code V}<sup>T</sup> of
+     * the reflections {@code [j0, j1)} to the columns right of the panel. The columns are
+     * processed in chunks, so that the intermediate product stays in cache.
+     *
+     * @param j0 The first reflection of the panel (inclusive)
+     * @param j1 The last reflection of the panel (exclusive)
+     * @param t  The upper triangular factor of the block reflector
+     * @param y  A scratch array of at least {@code BLOCK * COLUMN_BLOCK} elements
+     */
+    private void reflectBlock(int j0, int j1, double[] t, double[] y) {
+        int b = j1 - j0;
+
+        for (int c0 = j1; c0 < n; c0 += COLUMN_BLOCK) {
+            int width = Math.min(COLUMN_BLOCK, n - c0);
+
+            // Y = V^T C
+            Arrays.fill(y, 0, b * width, 0);
+
+            for (int i = j0; i < m; i++) {
+                int ri = i * n;
+                int count = Math.min(b, i - j0 + 1);
+
+                for (int p = 0; p < count; p++) {
+                    double v = qr[ri + j0 + p];
+                    if (v == 0) continue;
+
+                    int rp = p * width;
+                    for (int j = 0; j < width; j++) {
+                        y[rp + j] += v * qr[ri + c0 + j];
+                    }
+                }
+            }
+
+            // Y = T^T Y, from the last row upwards so that every row is read before it is replaced
+            for (int p = b - 1; p >= 0; p--) {
+                int rp = p * width;
+                double d = t[p * BLOCK + p];
+
+                for (int j = 0; j < width; j++) {
+                    y[rp + j] *= d;
+                }
+
+                for (int q = 0; q < p; q++) {
+                    double f = t[q * BLOCK + p];
+                    if (f == 0) continue;
+
+                    int rq = q * width;
+                    for (int j = 0; j < width; j++) {
+                        y[rp + j] += f * y[rq + j];
+                    }
+                }
+            }
+
+            // C = C - VY
+            for (int i = j0; i < m; i++) {
+                int ri = i * n;
+                int count = Math.min(b, i - j0 + 1);
+
+                for (int p = 0; p < count; p++) {
+                    double v = qr[ri + j0 + p];
+                    if (v == 0) continue;
+
+                    int rp = p * width;
+                    for (int j = 0; j < width; j++) {
+                        qr[ri + c0 + j] -= v * y[rp + j];
+                    }
+                }
+            }
+        }
+    }
+}
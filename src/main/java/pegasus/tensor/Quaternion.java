@@ -741,11 +741,16 @@ public class Quaternion implements Vector<Quaternion> {
 
     /**
      * Converts this quaternion into a {@code 3x3} rotation matrix, then returns
-     * the converted matrix.
+     * the converted matrix. The matrix rotates vectors exactly as
+     * {@link Tensors#rotate(Vector3, Quaternion)} does, so if this quaternion is not of unit
+     * length, the matrix also scales by its squared {@link #norm() norm}.
      *
      * @return The rotation matrix representation of this quaternion
+     * @see #toMatrix3()
      */
     public Matrix toRotationMatrix() {
+        double ww = w * w;
+
         double xx = x * x;
         double xy = x * y;
         double xz = x * z;
@@ -758,19 +763,31 @@ public class Quaternion implements Vector<Quaternion> {
         double zz = z * z;
         double zw = z * w;
 
-        double[] values = {
-                1 - 2 * (yy + zz),
-                2 * (xy - zw),
-                2 * (xz + yw),
-                2 * (xy + zw),
-                1 - 2 * (xx + zz),
-                2 * (yz - xw),
-                2 * (xz - yw),
-                2 * (yz + xw),
-                1 - 2 * (xx + yy)
-        };
+        Matrix result = new Matrix(3, 3);
+        double[] values = result.backingArray();
+
+        values[0] = ww + xx - yy - zz;
+        values[1] = 2 * (xy - zw);
+        values[2] = 2 * (xz + yw);
+        values[3] = 2 * (xy + zw);
+        values[4] = ww - xx + yy - zz;
+        values[5] = 2 * (yz - xw);
+        values[6] = 2 * (xz - yw);
+        values[7] = 2 * (yz + xw);
+        values[8] = ww - xx - yy + zz;
+
+        return result;
+    }
 
-        return new Matrix(3, 3, (r, c) -> values[r * 3 + c]);
+    /**
+     * Converts this quaternion into a {@code 3x3} rotation matrix with unrolled operations,
+     * then returns the converted matrix. The matrix is equal to {@link #toRotationMatrix()}.
+     *
+     * @return The rotation matrix representation of this quaternion
+     * @see Matrix3#rotation(Quaternion)
+     */
+    public Matrix3 toMatrix3() {
+        return Matrix3.rotation(this);
     }
 
     /**
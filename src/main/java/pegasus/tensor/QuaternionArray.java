@@ -0,0 +1,417 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+import pegasus.exception.IncompatibleDimensionsException;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A mutable batch of quaternions stored as a structure of arrays. The components of the
+ * quaternions are stored in four parallel arrays {@code ws, xs, ys, zs}, so that bulk operations
+ * sweep contiguous memory and can be vectorized by the compiler.
+ * <p>
+ * Every bulk operation modifies this batch in place and returns itself for chaining. When the batch
+ * is {@link #parallel(boolean) parallel}, bulk operations on large batches are split across the
+ * common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. Batches are not thread safe.
+ *
+ * @see Quaternion
+ * @see Vector3Array
+ * @see MutableQuaternion
+ */
+public class QuaternionArray implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new batch of quaternions.
+     *
+     * @param quaternions The quaternions of which to copy component values from
+     * @return The constructed batch
+     * @throws NullPointerException When the provided array or any of its quaternions is {@code null}
+     */
+    public static QuaternionArray of(Quaternion... quaternions) {
+        QuaternionArray result = new QuaternionArray(quaternions.length);
+
+        for (int i = 0; i < quaternions.length; i++) {
+            result.set(i, quaternions[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a new batch of quaternions.
+     *
+     * @param quaternions The quaternions of which to copy component values from
+     * @return The constructed batch
+     * @throws NullPointerException When the provided collection or any of its quaternions is {@code null}
+     */
+    public static QuaternionArray of(Collection<? extends Quaternion> quaternions) {
+        return of(quaternions.toArray(Quaternion[]::new));
+    }
+
+    /**
+     * Creates a new batch of identity quaternions.
+     *
+     * @param length The number of quaternions in this batch
+     * @throws NegativeArraySizeException When the provided length is negative
+     */
+    public QuaternionArray(int length) {
+        this.ws = new double[length];
+        this.xs = new double[length];
+        this.ys = new double[length];
+        this.zs = new double[length];
+
+        Arrays.fill(ws, 1);
+    }
+
+    /**
+     * Creates a new batch of quaternions. The provided arrays are copied.
+     *
+     * @param ws The W components of the quaternions
+     * @param xs The X components of the quaternions
+     * @param ys The Y components of the quaternions
+     * @param zs The Z components of the quaternions
+     * @throws IncompatibleDimensionsException When the arrays' lengths are different
+     * @throws NullPointerException            When a {@code null} array is provided
+     */
+    public QuaternionArray(double[] ws, double[] xs, double[] ys, double[] zs) {
+        if (ws.length != xs.length || ws.length != ys.length || ws.length != zs.length) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        this.ws = Arrays.copyOf(ws, ws.length);
+        this.xs = Arrays.copyOf(xs, xs.length);
+        this.ys = Arrays.copyOf(ys, ys.length);
+        this.zs = Arrays.copyOf(zs, zs.length);
+    }
+
+    /**
+     * Creates a new batch of quaternions.
+     *
+     * @param a The batch of which to copy component values from
+     * @throws NullPointerException When the provided batch is {@code null}
+     */
+    public QuaternionArray(QuaternionArray a) {
+        this(a.ws, a.xs, a.ys, a.zs);
+        this.parallel = a.parallel;
+    }
+
+    /**
+     * The W components of the quaternions.
+     */
+    protected final double[] ws;
+
+    /**
+     * The X components of the quaternions.
+     */
+    protected final double[] xs;
+
+    /**
+     * The Y components of the quaternions.
+     */
+    protected final double[] ys;
+
+    /**
+     * The Z components of the quaternions.
+     */
+    protected final double[] zs;
+
+    /**
+     * Whether bulk operations on this batch are processed in parallel.
+     */
+    protected boolean parallel = false;
+
+    /**
+     * Returns the number of quaternions in this batch.
+     *
+     * @return The number of quaternions in this batch
+     */
+    public int length() {
+        return ws.length;
+    }
+
+    /**
+     * Returns whether bulk operations on this batch are processed in parallel.
+     *
+     * @return {@code true} if bulk operations are processed in parallel
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether bulk operations on this batch are processed in parallel. Small batches are
+     * always processed on the calling thread.
+     *
+     * @param parallel Whether to process bulk operations in parallel
+     * @return This batch
+     */
+    public QuaternionArray parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Returns the {@code i}th quaternion.
+     *
+     * @param i The index of the quaternion
+     * @return The quaternion at the provided index
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    public Quaternion get(int i) {
+        return new Quaternion(ws[i], xs[i], ys[i], zs[i]);
+    }
+
+    /**
+     * Copies the {@code i}th quaternion into the provided destination quaternion.
+     *
+     * @param i    The index of the quaternion
+     * @param dest The quaternion of which to copy the components into
+     * @return The destination quaternion
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     * @throws NullPointerException      When the provided destination quaternion is {@code null}
+     */
+    public MutableQuaternion get(int i, MutableQuaternion dest) {
+        return dest.set(ws[i], xs[i], ys[i], zs[i]);
+    }
+
+    /**
+     * Sets the {@code i}th quaternion.
+     *
+     * @param i The index of the quaternion
+     * @param w The W component of the quaternion
+     * @param x The X component of the quaternion
+     * @param y The Y component of the quaternion
+     * @param z The Z component of the quaternion
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    public void set(int i, double w, double x, double y, double z) {
+        ws[i] = w;
+        xs[i] = x;
+        ys[i] = y;
+        zs[i] = z;
+    }
+
+    /**
+     * Sets the {@code i}th quaternion.
+     *
+     * @param i The index of the quaternion
+     * @param q The quaternion of which to copy component values from
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     * @throws NullPointerException      When the provided quaternion {@code q} is {@code null}
+     */
+    public void set(int i, Quaternion q) {
+        set(i, q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * Sets the {@code i}th quaternion.
+     *
+     * @param i The index of the quaternion
+     * @param q The quaternion of which to copy component values from
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     * @throws NullPointerException      When the provided quaternion {@code q} is {@code null}
+     */
+    public void set(int i, MutableQuaternion q) {
+        set(i, q.w, q.x, q.y, q.z);
+    }
+
+    /**
+     * Multiplies every quaternion of this batch by the provided quaternion {@code q}. The
+     * quaternions of this batch are on the left, and the provided quaternion {@code q} is on the right.
+     *
+     * @param q The quaternion of which to multiply the quaternions by
+     * @return This batch
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     * @see Quaternion#multiply(Quaternion)
+     */
+    public QuaternionArray multiply(Quaternion q) {
+        double qw = q.w, qx = q.x, qy = q.y, qz = q.z;
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double w = ws[i], x = xs[i], y = ys[i], z = zs[i];
+
+                ws[i] = w * qw - x * qx - y * qy - z * qz;
+                xs[i] = w * qx + x * qw + y * qz - z * qy;
+                ys[i] = w * qy - x * qz + y * qw + z * qx;
+                zs[i] = w * qz + x * qy - y * qx + z * qw;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Multiplies every quaternion of this batch by the corresponding quaternion of the provided
+     * batch. The quaternions of this batch are on the left.
+     *
+     * @param a The batch of which to multiply the quaternions by
+     * @return This batch
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     * @throws NullPointerException            When the provided batch is {@code null}
+     * @see Quaternion#multiply(Quaternion)
+     */
+    public QuaternionArray multiply(QuaternionArray a) {
+        requireSameLength(a);
+        double[] aws = a.ws, axs = a.xs, ays = a.ys, azs = a.zs;
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double w = ws[i], x = xs[i], y = ys[i], z = zs[i];
+                double qw = aws[i], qx = axs[i], qy = ays[i], qz = azs[i];
+
+                ws[i] = w * qw - x * qx - y * qy - z * qz;
+                xs[i] = w * qx + x * qw + y * qz - z * qy;
+                ys[i] = w * qy - x * qz + y * qw + z * qx;
+                zs[i] = w * qz + x * qy - y * qx + z * qw;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Normalizes every quaternion of this batch. This batch is left unmodified if any of its
+     * quaternions has a Euclidean norm of zero.
+     *
+     * @return This batch
+     * @throws ArithmeticException When the Euclidean norm of any quaternion of this batch is zero
+     */
+    public QuaternionArray normalize() throws ArithmeticException {
+        for (int i = 0; i < ws.length; i++) {
+            if (ws[i] == 0 && xs[i] == 0 && ys[i] == 0 && zs[i] == 0) throw new DivisionByZeroException();
+        }
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double w = ws[i], x = xs[i], y = ys[i], z = zs[i];
+                double s = 1 / Math.sqrt(w * w + x * x + y * y + z * z);
+
+                ws[i] = w * s;
+                xs[i] = x * s;
+                ys[i] = y * s;
+                zs[i] = z * s;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Sets every quaternion of this batch to its conjugate.
+     *
+     * @return This batch
+     */
+    public QuaternionArray conjugate() {
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                xs[i] = -xs[i];
+                ys[i] = -ys[i];
+                zs[i] = -zs[i];
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Returns the dot product between every quaternion of this batch and the corresponding
+     * quaternion of the provided batch.
+     *
+     * @param a The batch of which to get the dot products between
+     * @return The dot products
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     * @throws NullPointerException            When the provided batch is {@code null}
+     */
+    public double[] dot(QuaternionArray a) {
+        requireSameLength(a);
+        double[] aws = a.ws, axs = a.xs, ays = a.ys, azs = a.zs;
+        double[] result = new double[length()];
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = ws[i] * aws[i] + xs[i] * axs[i] + ys[i] * ays[i] + zs[i] * azs[i];
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns a stream of the quaternions of this batch.
+     *
+     * @return A stream of the quaternions of this batch
+     */
+    public Stream<Quaternion> stream() {
+        return IntStream.range(0, length()).mapToObj(this::get);
+    }
+
+    /**
+     * Returns an array of the quaternions of this batch.
+     *
+     * @return An array of the quaternions of this batch
+     */
+    public Quaternion[] toArray() {
+        Quaternion[] result = new Quaternion[length()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = get(i);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the provided batch has the same length as this batch.
+     *
+     * @param a The batch of which to check
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     */
+    private void requireSameLength(QuaternionArray a) {
+        if (a.length() != length()) {
+            throw new IncompatibleDimensionsException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int result = Arrays.hashCode(ws);
+        result = 31 * result + Arrays.hashCode(xs);
+        result = 31 * result + Arrays.hashCode(ys);
+        return 31 * result + Arrays.hashCode(zs);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof QuaternionArray a)) return false;
+        return Arrays.equals(ws, a.ws) && Arrays.equals(xs, a.xs) && Arrays.equals(ys, a.ys) && Arrays.equals(zs, a.zs);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
@@ -0,0 +1,349 @@
+package pegasus.tensor;
+
+import pegasus.exception.IncompatibleDimensionsException;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.stream.Stream;
+
+/**
+ * An immutable, prepared transformation of three-dimensional vectors, which rotates a vector and
+ * then offsets it. The rotation is stored as a {@code 3x3} matrix computed once from the rotation
+ * quaternion, so that applying the transformation costs nine multiplications per vector instead of
+ * the full quaternion sandwich product used by {@link Tensors#rotate(Vector3, Quaternion)}.
+ * <p>
+ * Transformations are most useful when the same rotation is applied to many vectors, such as
+ * every vertex of a mesh. Bulk methods accept arrays, {@link Vector3Array batches} and streams.
+ *
+ * @see Tensors#rotate(Vector3, Quaternion)
+ * @see Tensors#toAbsolute(Vector3, Quaternion, Vector3)
+ * @see Tensors#toRelative(Vector3, Vector3, Quaternion)
+ * @see Quaternion#toRotationMatrix()
+ */
+public class RigidTransform implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * The identity transformation.
+     */
+    public static final RigidTransform IDENTITY = new RigidTransform(Quaternion.IDENTITY, Vector3.ZERO);
+
+    /**
+     * Creates a new transformation equivalent to {@link Tensors#rotate(Vector3, Quaternion)}.
+     *
+     * @param rotation The rotation quaternion
+     * @return The constructed transformation
+     * @throws NullPointerException When the provided quaternion is {@code null}
+     */
+    public static RigidTransform rotation(Quaternion rotation) {
+        return new RigidTransform(rotation, Vector3.ZERO);
+    }
+
+    /**
+     * Creates a new transformation equivalent to {@link Tensors#toAbsolute(Vector3, Quaternion, Vector3)}.
+     *
+     * @param rotation The rotation of the relative coordinate system
+     * @param offset   The origin of the relative coordinate system
+     * @return The constructed transformation
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public static RigidTransform toAbsolute(Quaternion rotation, Vector3 offset) {
+        return new RigidTransform(rotation, offset);
+    }
+
+    /**
+     * Creates a new transformation equivalent to {@link Tensors#toRelative(Vector3, Vector3, Quaternion)}.
+     *
+     * @param origin The origin of the relative coordinate system
+     * @param angle  The rotation of the relative coordinate system
+     * @return The constructed transformation
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public static RigidTransform toRelative(Vector3 origin, Quaternion angle) {
+        return new RigidTransform(angle, Tensors.rotate(origin, angle));
+    }
+
+    /**
+     * Creates a new transformation. The rotation matrix is computed from the provided quaternion,
+     * and rotates vectors exactly as the quaternion sandwich product would, even when the quaternion
+     * is not normalized.
+     *
+     * @param rotation The rotation quaternion
+     * @param offset   The offset of which to add after the rotation
+     * @throws NullPointerException When a {@code null} parameter is provided
+     */
+    public RigidTransform(Quaternion rotation, Vector3 offset) {
+        double w = rotation.w, x = rotation.x, y = rotation.y, z = rotation.z;
+
+        double ww = w * w, xx = x * x, yy = y * y, zz = z * z;
+        double xy = x * y, xz = x * z, xw = x * w;
+        double yz = y * z, yw = y * w, zw = z * w;
+
+        this.m00 = ww + xx - yy - zz;
+        this.m01 = 2 * (xy - zw);
+        this.m02 = 2 * (xz + yw);
+        this.m10 = 2 * (xy + zw);
+        this.m11 = ww - xx + yy - zz;
+        this.m12 = 2 * (yz - xw);
+        this.m20 = 2 * (xz - yw);
+        this.m21 = 2 * (yz + xw);
+        this.m22 = ww - xx - yy + zz;
+
+        this.tx = offset.x;
+        this.ty = offset.y;
+        this.tz = offset.z;
+    }
+
+    /**
+     * Creates a new transformation.
+     *
+     * @param rotation The {@code 3x3} rotation matrix
+     * @param offset   The offset of which to add after the rotation
+     * @throws IncompatibleDimensionsException When the provided matrix is not {@code 3x3}
+     * @throws NullPointerException            When a {@code null} parameter is provided
+     */
+    public RigidTransform(Matrix rotation, Vector3 offset) {
+        if (rotation.rows() != 3 || rotation.columns() != 3) {
+            throw new IncompatibleDimensionsException("The rotation matrix is not 3x3.");
+        }
+
+        double[] m = rotation.backingArray();
+
+        this.m00 = m[0];
+        this.m01 = m[1];
+        this.m02 = m[2];
+        this.m10 = m[3];
+        this.m11 = m[4];
+        this.m12 = m[5];
+        this.m20 = m[6];
+        this.m21 = m[7];
+        this.m22 = m[8];
+
+        this.tx = offset.x;
+        this.ty = offset.y;
+        this.tz = offset.z;
+    }
+
+    /**
+     * Creates a new transformation.
+     *
+     * @param m  The row-major rotation matrix
+     * @param tx The X component of the offset
+     * @param ty The Y component of the offset
+     * @param tz The Z component of the offset
+     */
+    private RigidTransform(double[] m, double tx, double ty, double tz) {
+        this.m00 = m[0];
+        this.m01 = m[1];
+        this.m02 = m[2];
+        this.m10 = m[3];
+        this.m11 = m[4];
+        this.m12 = m[5];
+        this.m20 = m[6];
+        this.m21 = m[7];
+        this.m22 = m[8];
+
+        this.tx = tx;
+        this.ty = ty;
+        this.tz = tz;
+    }
+
+    /**
+     * The rotation matrix.
+     */
+    protected final double m00, m01, m02, m10, m11, m12, m20, m21, m22;
+
+    /**
+     * The offset.
+     */
+    protected final double tx, ty, tz;
+
+    /**
+     * Returns the rotation matrix of this transformation.
+     *
+     * @return The {@code 3x3} rotation matrix
+     */
+    public Matrix rotation() {
+        double[] m = {m00, m01, m02, m10, m11, m12, m20, m21, m22};
+        return new Matrix(3, 3, (r, c) -> m[r * 3 + c]);
+    }
+
+    /**
+     * Returns the offset of this transformation.
+     *
+     * @return The offset
+     */
+    public Vector3 offset() {
+        return new Vector3(tx, ty, tz);
+    }
+
+    /**
+     * Returns the transformation which applies this transformation, then the provided transformation.
+     *
+     * @param next The transformation of which to apply after this transformation
+     * @return The composed transformation
+     * @throws NullPointerException When the provided transformation is {@code null}
+     */
+    public RigidTransform then(RigidTransform next) {
+        double[] m = {
+                next.m00 * m00 + next.m01 * m10 + next.m02 * m20,
+                next.m00 * m01 + next.m01 * m11 + next.m02 * m21,
+                next.m00 * m02 + next.m01 * m12 + next.m02 * m22,
+                next.m10 * m00 + next.m11 * m10 + next.m12 * m20,
+                next.m10 * m01 + next.m11 * m11 + next.m12 * m21,
+                next.m10 * m02 + next.m11 * m12 + next.m12 * m22,
+                next.m20 * m00 + next.m21 * m10 + next.m22 * m20,
+                next.m20 * m01 + next.m21 * m11 + next.m22 * m21,
+                next.m20 * m02 + next.m21 * m12 + next.m22 * m22
+        };
+
+        return new RigidTransform(
+                m,
+                next.m00 * tx + next.m01 * ty + next.m02 * tz + next.tx,
+                next.m10 * tx + next.m11 * ty + next.m12 * tz + next.ty,
+                next.m20 * tx + next.m21 * ty + next.m22 * tz + next.tz
+        );
+    }
+
+    /**
+     * Applies this transformation to the provided vector {@code v}.
+     *
+     * @param v The vector of which to transform
+     * @return The transformed vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public Vector3 apply(Vector3 v) {
+        double x = v.x, y = v.y, z = v.z;
+
+        return new Vector3(
+                m00 * x + m01 * y + m02 * z + tx,
+                m10 * x + m11 * y + m12 * z + ty,
+                m20 * x + m21 * y + m22 * z + tz
+        );
+    }
+
+    /**
+     * Applies this transformation to the provided vector {@code v} in place.
+     *
+     * @param v The vector of which to transform
+     * @return The provided vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public MutableVector3 apply(MutableVector3 v) {
+        double x = v.x, y = v.y, z = v.z;
+
+        return v.set(
+                m00 * x + m01 * y + m02 * z + tx,
+                m10 * x + m11 * y + m12 * z + ty,
+                m20 * x + m21 * y + m22 * z + tz
+        );
+    }
+
+    /**
+     * Applies this transformation to every vector of the provided batch in place. The batch
+     * is processed in parallel if it is {@link Vector3Array#isParallel() parallel}.
+     *
+     * @param a The batch of which to transform
+     * @return The provided batch
+     * @throws NullPointerException When the provided batch is {@code null}
+     */
+    public Vector3Array apply(Vector3Array a) {
+        double[] xs = a.xs, ys = a.ys, zs = a.zs;
+
+        ParallelKernels.forRange(a.length(), a.parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double x = xs[i], y = ys[i], z = zs[i];
+
+                xs[i] = m00 * x + m01 * y + m02 * z + tx;
+                ys[i] = m10 * x + m11 * y + m12 * z + ty;
+                zs[i] = m20 * x + m21 * y + m22 * z + tz;
+            }
+        });
+
+        return a;
+    }
+
+    /**
+     * Applies this transformation to every vector of the provided array.
+     *
+     * @param vectors The vectors of which to transform
+     * @return The transformed vectors
+     * @throws NullPointerException When the provided array or any of its vectors is {@code null}
+     */
+    public Vector3[] apply(Vector3[] vectors) {
+        return apply(vectors, false);
+    }
+
+    /**
+     * Applies this transformation to every vector of the provided array, optionally splitting
+     * large arrays across the common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}.
+     *
+     * @param vectors  The vectors of which to transform
+     * @param parallel Whether to transform the vectors in parallel
+     * @return The transformed vectors
+     * @throws NullPointerException When the provided array or any of its vectors is {@code null}
+     */
+    public Vector3[] apply(Vector3[] vectors, boolean parallel) {
+        Vector3[] result = new Vector3[vectors.length];
+
+        ParallelKernels.forRange(vectors.length, parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = apply(vectors[i]);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Applies this transformation to every vector of the provided stream. The returned stream
+     * is parallel if the provided stream is parallel.
+     *
+     * @param vectors The vectors of which to transform
+     * @return A stream of the transformed vectors
+     * @throws NullPointerException When the provided stream is {@code null}
+     */
+    public Stream<Vector3> apply(Stream<Vector3> vectors) {
+        return vectors.map(this::apply);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return Objects.hash(m00, m01, m02, m10, m11, m12, m20, m21, m22, tx, ty, tz);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof RigidTransform t)) return false;
+        return m00 == t.m00 && m01 == t.m01 && m02 == t.m02 &&
+                m10 == t.m10 && m11 == t.m11 && m12 == t.m12 &&
+                m20 == t.m20 && m21 == t.m21 && m22 == t.m22 &&
+                tx == t.tx && ty == t.ty && tz == t.tz;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return "RigidTransform{" +
+                "rotation=" + rotation() +
+                ", offset=" + offset() +
+                '}';
+    }
+}
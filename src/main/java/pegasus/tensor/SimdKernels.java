@@ -0,0 +1,240 @@
+package pegasus.tensor;
+
+import jdk.incubator.vector.DoubleVector;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+import pegasus.exception.IllegalInstanceException;
+
+/**
+ * Contains the SIMD implementations of {@link DoubleKernels}, written using the
+ * {@code jdk.incubator.vector} API. This class must only be loaded when the module is
+ * enabled, which is checked by {@link DoubleKernels#SIMD}.
+ */
+final class SimdKernels {
+    /**
+     * The preferred species of the platform.
+     */
+    private static final VectorSpecies<Double> SPECIES = DoubleVector.SPECIES_PREFERRED;
+
+    /**
+     * The number of lanes of the preferred species.
+     */
+    static final int LANES = SPECIES.length();
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#add(double[], double[], double[])}.
+     */
+    static void add(double[] a, double[] b, double[] r) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(r.length); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).add(DoubleVector.fromArray(SPECIES, b, i)).intoArray(r, i);
+        }
+
+        for (; i < r.length; i++) {
+            r[i] = a[i] + b[i];
+        }
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#subtract(double[], double[], double[])}.
+     */
+    static void subtract(double[] a, double[] b, double[] r) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(r.length); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).sub(DoubleVector.fromArray(SPECIES, b, i)).intoArray(r, i);
+        }
+
+        for (; i < r.length; i++) {
+            r[i] = a[i] - b[i];
+        }
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#multiply(double[], double[], double[])}.
+     */
+    static void multiply(double[] a, double[] b, double[] r) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(r.length); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).mul(DoubleVector.fromArray(SPECIES, b, i)).intoArray(r, i);
+        }
+
+        for (; i < r.length; i++) {
+            r[i] = a[i] * b[i];
+        }
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#add(double[], double, double[])}.
+     */
+    static void add(double[] a, double s, double[] r) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(r.length); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).add(s).intoArray(r, i);
+        }
+
+        for (; i < r.length; i++) {
+            r[i] = a[i] + s;
+        }
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#multiply(double[], double, double[])}.
+     */
+    static void multiply(double[] a, double s, double[] r) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(r.length); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).mul(s).intoArray(r, i);
+        }
+
+        for (; i < r.length; i++) {
+            r[i] = a[i] * s;
+        }
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#abs(double[], double[])}.
+     */
+    static void abs(double[] a, double[] r) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(r.length); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).abs().intoArray(r, i);
+        }
+
+        for (; i < r.length; i++) {
+            r[i] = Math.abs(a[i]);
+        }
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#min(double[], double[], double[])}.
+     */
+    static void min(double[] a, double[] b, double[] r) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(r.length); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).min(DoubleVector.fromArray(SPECIES, b, i)).intoArray(r, i);
+        }
+
+        for (; i < r.length; i++) {
+            r[i] = Math.min(a[i], b[i]);
+        }
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#max(double[], double[], double[])}.
+     */
+    static void max(double[] a, double[] b, double[] r) {
+        int i = 0;
+        for (int bound = SPECIES.loopBound(r.length); i < bound; i += LANES) {
+            DoubleVector.fromArray(SPECIES, a, i).max(DoubleVector.fromArray(SPECIES, b, i)).intoArray(r, i);
+        }
+
+        for (; i < r.length; i++) {
+            r[i] = Math.max(a[i], b[i]);
+        }
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#dot(double[], double[])}.
+     */
+    static double dot(double[] a, double[] b) {
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += LANES) {
+            sum = DoubleVector.fromArray(SPECIES, a, i).mul(DoubleVector.fromArray(SPECIES, b, i)).add(sum);
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            result += a[i] * b[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#sumOfSquares(double[])}.
+     */
+    static double sumOfSquares(double[] a) {
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += LANES) {
+            DoubleVector v = DoubleVector.fromArray(SPECIES, a, i);
+            sum = v.mul(v).add(sum);
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            result += a[i] * a[i];
+        }
+
+        return result;
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#sumOfAbs(double[])}.
+     */
+    static double sumOfAbs(double[] a) {
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += LANES) {
+            sum = DoubleVector.fromArray(SPECIES, a, i).abs().add(sum);
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            result += Math.abs(a[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#distanceSquared(double[], double[])}.
+     */
+    static double distanceSquared(double[] a, double[] b) {
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += LANES) {
+            DoubleVector d = DoubleVector.fromArray(SPECIES, a, i).sub(DoubleVector.fromArray(SPECIES, b, i));
+            sum = d.mul(d).add(sum);
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            double d = a[i] - b[i];
+            result += d * d;
+        }
+
+        return result;
+    }
+
+    /**
+     * The SIMD implementation of {@link DoubleKernels#distanceManhattan(double[], double[])}.
+     */
+    static double distanceManhattan(double[] a, double[] b) {
+        DoubleVector sum = DoubleVector.zero(SPECIES);
+
+        int i = 0;
+        for (int bound = SPECIES.loopBound(a.length); i < bound; i += LANES) {
+            sum = DoubleVector.fromArray(SPECIES, a, i).sub(DoubleVector.fromArray(SPECIES, b, i)).abs().add(sum);
+        }
+
+        double result = sum.reduceLanes(VectorOperators.ADD);
+        for (; i < a.length; i++) {
+            result += Math.abs(a[i] - b[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private SimdKernels() {
+        throw new IllegalInstanceException(this);
+    }
+}
@@ -0,0 +1,711 @@
+package pegasus.tensor;
+
+import pegasus.exception.BinaryIndexOutOfBoundsException;
+import pegasus.exception.IncompatibleDimensionsException;
+import pegasus.function.BinaryIndexedDoubleConsumer;
+
+import java.io.Serial;
+import java.util.Arrays;
+import java.util.stream.DoubleStream;
+
+/**
+ * A compressed sparse matrix. Only the non-zero components are stored, grouped by their major
+ * index (the row for {@link CompressedRowMatrix CSR} matrices, and the column for
+ * {@link CompressedColumnMatrix CSC} matrices) and sorted by their minor index within each group.
+ * The memory footprint and the cost of every arithmetic operation are proportional to the
+ * number of non-zero components, rather than to the dimensions of the matrix.
+ * <p>
+ * Sparse matrices are immutable. Operations which preserve the sparsity structure, such as
+ * {@link #multiply(double) scalar multiplication}, share the index arrays of their operand.
+ * </p>
+ *
+ * @param <M> The sparse matrix itself
+ * @see CompressedRowMatrix
+ * @see CompressedColumnMatrix
+ * @see Matrix
+ */
+public abstract class SparseMatrix<M extends SparseMatrix<M>> implements Tensor {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Direct assignment constructor.
+     *
+     * @param rows     The number of rows
+     * @param columns  The number of columns
+     * @param pointers The start of each major group within the index and value arrays
+     * @param indices  The minor index of each non-zero component
+     * @param values   The value of each non-zero component
+     */
+    protected SparseMatrix(int rows, int columns, int[] pointers, int[] indices, double[] values) {
+        this.rows = rows;
+        this.columns = columns;
+        this.pointers = pointers;
+        this.indices = indices;
+        this.values = values;
+    }
+
+    /**
+     * The number of rows.
+     */
+    protected final int rows;
+
+    /**
+     * The number of columns.
+     */
+    protected final int columns;
+
+    /**
+     * The start of each major group within the index and value arrays, followed by the
+     * number of non-zero components.
+     */
+    protected final int[] pointers;
+
+    /**
+     * The minor index of each non-zero component.
+     */
+    protected final int[] indices;
+
+    /**
+     * The value of each non-zero component.
+     */
+    protected final double[] values;
+
+    /**
+     * Returns whether this matrix is grouped by rows.
+     *
+     * @return {@code true} if this is a CSR matrix, {@code false} if this is a CSC matrix
+     */
+    public abstract boolean isRowMajor();
+
+    /**
+     * Creates a new sparse matrix of this type, directly assigning the provided arrays.
+     *
+     * @param rows     The number of rows
+     * @param columns  The number of columns
+     * @param pointers The start of each major group within the index and value arrays
+     * @param indices  The minor index of each non-zero component
+     * @param values   The value of each non-zero component
+     * @return The created sparse matrix
+     */
+    protected abstract M newInstance(int rows, int columns, int[] pointers, int[] indices, double[] values);
+
+    /**
+     * Returns the transpose of this matrix. Transposing a sparse matrix swaps its orientation,
+     * and shares the arrays of this matrix.
+     *
+     * @return The transpose of this matrix
+     */
+    public abstract SparseMatrix<?> transpose();
+
+    /**
+     * Returns the number of rows of this matrix.
+     *
+     * @return The number of rows
+     */
+    public int rows() {
+        return rows;
+    }
+
+    /**
+     * Returns the number of columns of this matrix.
+     *
+     * @return The number of columns
+     */
+    public int columns() {
+        return columns;
+    }
+
+    /**
+     * Returns the number of explicitly stored components of this matrix.
+     *
+     * @return The number of non-zero components
+     */
+    public int nonZeros() {
+        return values.length;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     * @throws ArithmeticException When the number of components overflows an {@code int}
+     */
+    @Override
+    public int size() {
+        return Math.multiplyExact(rows, columns);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isNaN() {
+        for (double v : values) {
+            if (Double.isNaN(v)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isFinite() {
+        for (double v : values) {
+            if (!Double.isFinite(v)) return false;
+        }
+
+        return true;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean isInfinite() {
+        for (double v : values) {
+            if (Double.isInfinite(v)) return true;
+        }
+
+        return false;
+    }
+
+    /**
+     * Returns the value at the specified position.
+     *
+     * @param r The row index
+     * @param c The column index
+     * @return The value at the specified position
+     * @throws BinaryIndexOutOfBoundsException When the index is out of bounds
+     */
+    public double get(int r, int c) throws BinaryIndexOutOfBoundsException {
+        if (r < 0 || r >= rows || c < 0 || c >= columns) {
+            throw new BinaryIndexOutOfBoundsException(r, c);
+        }
+
+        int major = isRowMajor() ? r : c;
+        int minor = isRowMajor() ? c : r;
+
+        int i = Arrays.binarySearch(indices, pointers[major], pointers[major + 1], minor);
+        return i >= 0 ? values[i] : 0;
+    }
+
+    /**
+     * Performs the provided action for each explicitly stored component of this matrix.
+     *
+     * @param action The action to perform, which receives the row index, the column index and the value
+     * @throws NullPointerException When the provided action is {@code null}
+     */
+    public void forEachNonZero(BinaryIndexedDoubleConsumer action) {
+        boolean rowMajor = isRowMajor();
+
+        for (int major = 0; major < pointers.length - 1; major++) {
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                if (rowMajor) {
+                    action.accept(major, indices[p], values[p]);
+                } else {
+                    action.accept(indices[p], major, values[p]);
+                }
+            }
+        }
+    }
+
+    /**
+     * Multiplies this matrix by a scalar, then returns the resulting matrix.
+     *
+     * @param s The scalar of which to multiply this matrix by
+     * @return The resulting matrix
+     */
+    public M multiply(double s) {
+        double[] result = new double[values.length];
+        DoubleKernels.multiply(values, s, result);
+        return newInstance(rows, columns, pointers, indices, result);
+    }
+
+    /**
+     * Returns the negation of this matrix.
+     *
+     * @return The negation of this matrix
+     */
+    public M negate() {
+        return multiply(-1);
+    }
+
+    /**
+     * Adds a sparse matrix to this matrix, then returns the resulting matrix.
+     *
+     * @param m The matrix of which to add to this matrix
+     * @return The resulting matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public M add(M m) throws IncompatibleDimensionsException {
+        return merge(m, 1);
+    }
+
+    /**
+     * Subtracts a sparse matrix from this matrix, then returns the resulting matrix.
+     *
+     * @param m The matrix of which to subtract from this matrix
+     * @return The resulting matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public M subtract(M m) throws IncompatibleDimensionsException {
+        return merge(m, -1);
+    }
+
+    /**
+     * Multiplies this matrix by a dense column vector, then returns the resulting vector.
+     *
+     * @param v The components of the vector
+     * @return The components of the resulting vector
+     * @throws IncompatibleDimensionsException When the vector's length is not the number of columns
+     * @throws NullPointerException            When the provided array is {@code null}
+     */
+    public double[] multiply(double[] v) throws IncompatibleDimensionsException {
+        double[] result = new double[rows];
+        multiplyInto(v, result);
+        return result;
+    }
+
+    /**
+     * Multiplies this matrix by a dense column vector, and stores the result in the destination array.
+     * The destination must not be the vector.
+     *
+     * @param v    The components of the vector
+     * @param dest The array of which to store the resulting components in
+     * @throws IllegalArgumentException        When the destination is the vector
+     * @throws IncompatibleDimensionsException When the vector's length is not the number of columns,
+     *                                         or the destination's length is not the number of rows
+     * @throws NullPointerException            When a {@code null} array is provided
+     */
+    public void multiplyInto(double[] v, double[] dest) throws IncompatibleDimensionsException {
+        if (v.length != columns || dest.length != rows) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        if (dest == v) {
+            throw new IllegalArgumentException("The destination array must not be the vector.");
+        }
+
+        if (isRowMajor()) {
+            for (int r = 0; r < rows; r++) {
+                double sum = 0;
+
+                for (int p = pointers[r]; p < pointers[r + 1]; p++) {
+                    sum += values[p] * v[indices[p]];
+                }
+
+                dest[r] = sum;
+            }
+        } else {
+            Arrays.fill(dest, 0);
+
+            for (int c = 0; c < columns; c++) {
+                double x = v[c];
+                if (x == 0) continue;
+
+                for (int p = pointers[c]; p < pointers[c + 1]; p++) {
+                    dest[indices[p]] += values[p] * x;
+                }
+            }
+        }
+    }
+
+    /**
+     * Performs matrix-vector multiplication, then returns the resulting vector.
+     *
+     * @param v   The vector of which to multiply by this matrix
+     * @param <W> The actual input vector's type
+     * @param <V> The base vector's type
+     * @return The resulting vector
+     * @throws IncompatibleDimensionsException When the number of columns is different from the provided
+     *                                         vector {@code v}'s size
+     * @throws NullPointerException            When the provided vector {@code v} is {@code null}
+     */
+    @SuppressWarnings("unchecked")
+    public <W extends V, V extends Vector<V>> V multiply(W v) throws IncompatibleDimensionsException {
+        return (V) Vector.newVector(multiply(v.toArray()));
+    }
+
+    /**
+     * Multiplies this matrix by a dense matrix, then returns the resulting dense matrix.
+     *
+     * @param m The matrix of which to multiply with this matrix
+     * @return The resulting matrix
+     * @throws IncompatibleDimensionsException When the dimensions are incompatible for multiplication
+     * @throws NullPointerException            When the provided matrix {@code m} is {@code null}
+     */
+    public Matrix multiply(Matrix m) throws IncompatibleDimensionsException {
+        if (columns != m.rows()) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        int width = m.columns();
+        Matrix result = new Matrix(rows, width);
+
+        double[] b = m.backingArray();
+        double[] c = result.backingArray();
+        boolean rowMajor = isRowMajor();
+
+        for (int major = 0; major < pointers.length - 1; major++) {
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                int r = rowMajor ? major : indices[p];
+                int k = rowMajor ? indices[p] : major;
+                double a = values[p];
+
+                int cr = r * width;
+                int bk = k * width;
+
+                for (int j = 0; j < width; j++) {
+                    c[cr + j] += a * b[bk + j];
+                }
+            }
+        }
+
+        return result;
+    }
+
+    /**
+     * Returns a dense copy of this matrix.
+     *
+     * @return The dense matrix
+     */
+    public Matrix toMatrix() {
+        Matrix result = new Matrix(rows, columns);
+        double[] dense = result.backingArray();
+
+        forEachNonZero((r, c, v) -> dense[r * columns + c] = v);
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public DoubleStream stream() {
+        return Arrays.stream(toArray());
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public double[] toArray() {
+        return toMatrix().backingArray();
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        int[] hash = {31 * rows + columns};
+
+        forEachNonZero((r, c, v) -> {
+            if (v != 0) hash[0] += (31 * r + c) ^ Double.hashCode(v);
+        });
+
+        return hash[0];
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@code true} if the other object is also a sparse matrix, and the dimensions
+     * and component values are equal, regardless of orientation
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof SparseMatrix<?> m)) return false;
+        if (rows != m.rows || columns != m.columns) return false;
+
+        return containsAllOf(m) && m.containsAllOf(this);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        StringBuilder result = new StringBuilder(getClass().getSimpleName())
+                .append("{rows=").append(rows)
+                .append(", columns=").append(columns)
+                .append(", values={");
+
+        forEachNonZero((r, c, v) -> result.append("[").append(r).append(", ").append(c).append("]=").append(v).append(", "));
+        if (values.length > 0) result.setLength(result.length() - 2);
+
+        return result.append("}}").toString();
+    }
+
+    /**
+     * Returns whether every stored component of this matrix is equal to the corresponding
+     * component of the provided matrix.
+     *
+     * @param m The matrix of which to compare to
+     * @return {@code true} if the provided matrix contains every stored component of this matrix
+     */
+    private boolean containsAllOf(SparseMatrix<?> m) {
+        boolean rowMajor = isRowMajor();
+
+        for (int major = 0; major < pointers.length - 1; major++) {
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                int r = rowMajor ? major : indices[p];
+                int c = rowMajor ? indices[p] : major;
+
+                if (m.get(r, c) != values[p]) return false;
+            }
+        }
+
+        return true;
+    }
+
+    /**
+     * Adds the provided matrix multiplied by a sign to this matrix, merging the sorted
+     * groups of both matrices. Components which cancel out are not stored.
+     *
+     * @param m    The matrix of which to merge with
+     * @param sign The sign of which to multiply the provided matrix by
+     * @return The resulting matrix
+     * @throws IncompatibleDimensionsException When the dimensions are different
+     */
+    private M merge(M m, double sign) throws IncompatibleDimensionsException {
+        if (rows != m.rows || columns != m.columns) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        int groups = pointers.length - 1;
+        int capacity = values.length + m.values.length;
+
+        int[] resultPointers = new int[groups + 1];
+        int[] resultIndices = new int[capacity];
+        double[] resultValues = new double[capacity];
+
+        int n = 0;
+        for (int major = 0; major < groups; major++) {
+            int p = pointers[major], pEnd = pointers[major + 1];
+            int q = m.pointers[major], qEnd = m.pointers[major + 1];
+
+            while (p < pEnd || q < qEnd) {
+                int i = p < pEnd ? indices[p] : Integer.MAX_VALUE;
+                int j = q < qEnd ? m.indices[q] : Integer.MAX_VALUE;
+
+                double value;
+                int index;
+
+                if (i == j) {
+                    index = i;
+                    value = values[p++] + sign * m.values[q++];
+                } else if (i < j) {
+                    index = i;
+                    value = values[p++];
+                } else {
+                    index = j;
+                    value = sign * m.values[q++];
+                }
+
+                if (value == 0) continue;
+
+                resultIndices[n] = index;
+                resultValues[n] = value;
+                n++;
+            }
+
+            resultPointers[major + 1] = n;
+        }
+
+        return newInstance(
+                rows,
+                columns,
+                resultPointers,
+                Arrays.copyOf(resultIndices, n),
+                Arrays.copyOf(resultValues, n)
+        );
+    }
+
+    /**
+     * Returns the storage of this matrix, grouped along the other dimension.
+     *
+     * @return The storage of this matrix in the other orientation
+     */
+    protected Storage transposeStorage() {
+        int groups = pointers.length - 1;
+        int minorCount = isRowMajor() ? columns : rows;
+
+        int[] resultPointers = new int[minorCount + 1];
+        int[] resultIndices = new int[values.length];
+        double[] resultValues = new double[values.length];
+
+        for (int index : indices) {
+            resultPointers[index + 1]++;
+        }
+
+        for (int i = 0; i < minorCount; i++) {
+            resultPointers[i + 1] += resultPointers[i];
+        }
+
+        int[] next = Arrays.copyOf(resultPointers, minorCount);
+
+        // Visiting the groups in order keeps the new groups sorted
+        for (int major = 0; major < groups; major++) {
+            for (int p = pointers[major]; p < pointers[major + 1]; p++) {
+                int q = next[indices[p]]++;
+
+                resultIndices[q] = major;
+                resultValues[q] = values[p];
+            }
+        }
+
+        return new Storage(resultPointers, resultIndices, resultValues);
+    }
+
+    /**
+     * Compresses the provided components in coordinate format. Duplicate components are summed,
+     * and components which are zero are not stored.
+     *
+     * @param rows     The number of rows
+     * @param columns  The number of columns
+     * @param rowMajor Whether to group the components by rows
+     * @param r        The row index of each component
+     * @param c        The column index of each component
+     * @param v        The value of each component
+     * @return The compressed storage
+     * @throws BinaryIndexOutOfBoundsException When an index is out of bounds
+     * @throws IllegalArgumentException        When the arrays have different lengths, or the
+     *                                         dimensions are negative
+     */
+    static Storage compress(int rows, int columns, boolean rowMajor, int[] r, int[] c, double[] v) {
+        if (rows < 0 || columns < 0) {
+            throw new IllegalArgumentException("Invalid dimensions.");
+        }
+
+        if (r.length != c.length || r.length != v.length) {
+            throw new IllegalArgumentException("The index and value arrays must have the same length.");
+        }
+
+        for (int i = 0; i < r.length; i++) {
+            if (r[i] < 0 || r[i] >= rows || c[i] < 0 || c[i] >= columns) {
+                throw new BinaryIndexOutOfBoundsException(r[i], c[i]);
+            }
+        }
+
+        int[] major = rowMajor ? r : c;
+        int[] minor = rowMajor ? c : r;
+        int groups = rowMajor ? rows : columns;
+
+        int[] counts = new int[groups + 1];
+        for (int m : major) {
+            counts[m + 1]++;
+        }
+
+        for (int i = 0; i < groups; i++) {
+            counts[i + 1] += counts[i];
+        }
+
+        // Sort by major index, then by minor index within each group
+        long[] keys = new long[v.length];
+        int[] next = Arrays.copyOf(counts, groups);
+
+        for (int i = 0; i < v.length; i++) {
+            keys[next[major[i]]++] = ((long) minor[i] << 32) | i;
+        }
+
+        int[] pointers = new int[groups + 1];
+        int[] indices = new int[v.length];
+        double[] values = new double[v.length];
+
+        int n = 0;
+        for (int g = 0; g < groups; g++) {
+            Arrays.sort(keys, counts[g], counts[g + 1]);
+
+            for (int k = counts[g]; k < counts[g + 1]; ) {
+                int index = (int) (keys[k] >>> 32);
+                double sum = 0;
+
+                for (; k < counts[g + 1] && (int) (keys[k] >>> 32) == index; k++) {
+                    sum += v[(int) keys[k]];
+                }
+
+                if (sum == 0) continue;
+
+                indices[n] = index;
+                values[n] = sum;
+                n++;
+            }
+
+            pointers[g + 1] = n;
+        }
+
+        return new Storage(pointers, Arrays.copyOf(indices, n), Arrays.copyOf(values, n));
+    }
+
+    /**
+     * Compresses the non-zero components of the provided dense matrix.
+     *
+     * @param m        The dense matrix
+     * @param rowMajor Whether to group the components by rows
+     * @return The compressed storage
+     */
+    static Storage compress(Matrix m, boolean rowMajor) {
+        int rows = m.rows();
+        int columns = m.columns();
+        double[] dense = m.backingArray();
+
+        int groups = rowMajor ? rows : columns;
+        int length = rowMajor ? columns : rows;
+
+        int[] pointers = new int[groups + 1];
+        int count = 0;
+
+        for (double x : dense) {
+            if (x != 0) count++;
+        }
+
+        int[] indices = new int[count];
+        double[] values = new double[count];
+
+        int n = 0;
+        for (int g = 0; g < groups; g++) {
+            for (int i = 0; i < length; i++) {
+                double x = rowMajor ? dense[g * columns + i] : dense[i * columns + g];
+                if (x == 0) continue;
+
+                indices[n] = i;
+                values[n] = x;
+                n++;
+            }
+
+            pointers[g + 1] = n;
+        }
+
+        return new Storage(pointers, indices, values);
+    }
+
+    /**
+     * The compressed arrays of a sparse matrix.
+     *
+     * @param pointers The start of each major group within the index and value arrays
+     * @param indices  The minor index of each non-zero component
+     * @param values   The value of each non-zero component
+     */
+    protected record Storage(int[] pointers, int[] indices, double[] values) {}
+}
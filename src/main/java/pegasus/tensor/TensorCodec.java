@@ -0,0 +1,900 @@
+package pegasus.tensor;
+
+import pegasus.exception.IllegalInstanceException;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * A compact little-endian binary encoding of {@link Tensor tensors}, which is much faster and
+ * smaller than Java object serialization. Each tensor is encoded as a one-byte type tag, followed
+ * by its shape if the type does not have a fixed size, followed by its raw {@code double} values
+ * (or raw {@code float} values for the single precision types).
+ * <ul>
+ *     <li>{@link LargeVector} and {@link FloatLargeVector}: the size ({@code int}), then the components.</li>
+ *     <li>{@link Matrix} and {@link FloatMatrix}: the number of rows and columns ({@code int}), then
+ *     the elements in row-major order.</li>
+ *     <li>{@link CompressedRowMatrix} and {@link CompressedColumnMatrix}: the number of rows,
+ *     columns and non-zero elements ({@code int}), then the pointers and indices ({@code int}),
+ *     then the non-zero values.</li>
+ *     <li>Every other type: the components, in the order of {@link Tensor#toArray()}.</li>
+ * </ul>
+ * Values are copied in bulk, so encoding a large tensor into a direct or memory-mapped
+ * {@link ByteBuffer} is a memory copy. Any number of tensors can be written to or read from a
+ * channel back to back, using {@link #writeAll(Iterable, WritableByteChannel)} and
+ * {@link #readAll(ReadableByteChannel)}.
+ * <p>
+ * Subclasses of the tensor types are encoded as, and decoded to, the type they extend. Tensors
+ * of other types, such as user implementations of {@link Vector}, are not supported.
+ *
+ * @see Tensor
+ */
+public final class TensorCodec {
+    //
+    // Type Tags
+    //
+
+    /**
+     * The type tags of the fixed-size vectors.
+     */
+    private static final byte VECTOR1 = 1, VECTOR2 = 2, VECTOR3 = 3, VECTOR4 = 4, VECTOR5 = 5, VECTOR6 = 6,
+            VECTOR7 = 7, VECTOR8 = 8, VECTOR9 = 9, VECTOR10 = 10, VECTOR11 = 11, VECTOR12 = 12;
+
+    /**
+     * The type tags of quaternions and large vectors.
+     */
+    private static final byte QUATERNION = 13, LARGE_VECTOR = 14;
+
+    /**
+     * The type tags of the dense matrices.
+     */
+    private static final byte MATRIX = 15, MATRIX2 = 16, MATRIX3 = 17, MATRIX4 = 18;
+
+    /**
+     * The type tags of the mutable vectors and quaternions.
+     */
+    private static final byte MUTABLE_VECTOR2 = 19, MUTABLE_VECTOR3 = 20, MUTABLE_VECTOR4 = 21, MUTABLE_QUATERNION = 22;
+
+    /**
+     * The type tags of the sparse matrices.
+     */
+    private static final byte COMPRESSED_ROW_MATRIX = 23, COMPRESSED_COLUMN_MATRIX = 24;
+
+    /**
+     * The type tags of the single precision types.
+     */
+    private static final byte FLOAT_VECTOR3 = 25, FLOAT_LARGE_VECTOR = 26, FLOAT_MATRIX = 27;
+
+    /**
+     * The number of values of each fixed-size type, indexed by type tag.
+     */
+    private static final int[] FIXED_SIZES = {
+            0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 4, 0, 0, 4, 9, 16, 2, 3, 4, 4, 0, 0, 3, 0, 0
+    };
+
+    /**
+     * The size of the buffer used to read from and write to channels in bytes.
+     */
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    /**
+     * The maximum size of a header in bytes.
+     */
+    private static final int MAX_HEADER_SIZE = 1 + 3 * Integer.BYTES;
+
+    //
+    // Buffers
+    //
+
+    /**
+     * Returns the number of bytes the provided tensor is encoded to.
+     *
+     * @param t The tensor of which to get the encoded size of
+     * @return The encoded size in bytes
+     * @throws IllegalArgumentException When the type of the tensor is not supported
+     * @throws NullPointerException     When the provided tensor is {@code null}
+     */
+    public static long encodedSize(Tensor t) {
+        byte type = typeOf(t);
+
+        if (t instanceof SparseMatrix<?> m) {
+            return headerSize(type) + (long) m.pointers.length * Integer.BYTES +
+                    (long) m.nonZeros() * (Integer.BYTES + Double.BYTES);
+        }
+
+        return headerSize(type) + (long) t.size() * (isFloat(type) ? Float.BYTES : Double.BYTES);
+    }
+
+    /**
+     * Writes the provided tensor to the provided buffer using relative {@code put} operations.
+     * The byte order of the buffer is not changed. Nothing is written if the buffer does not have
+     * enough space remaining.
+     *
+     * @param t      The tensor of which to encode
+     * @param buffer The buffer of which to write to
+     * @throws BufferOverflowException  When the buffer does not have enough space remaining
+     * @throws IllegalArgumentException When the type of the tensor is not supported
+     * @throws NullPointerException     When a {@code null} parameter is provided
+     */
+    public static void encode(Tensor t, ByteBuffer buffer) {
+        if (buffer.remaining() < encodedSize(t)) throw new BufferOverflowException();
+
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            putHeader(t, buffer);
+
+            if (t instanceof SparseMatrix<?> m) {
+                putInts(m.pointers, buffer);
+                putInts(m.indices, buffer);
+                putDoubles(m.values, buffer);
+            } else if (isFloat(typeOf(t))) {
+                putFloats(floatValuesOf(t), buffer);
+            } else {
+                putDoubles(valuesOf(t), buffer);
+            }
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Reads a tensor from the provided buffer using relative {@code get} operations.
+     * The byte order of the buffer is not changed.
+     *
+     * @param buffer The buffer of which to read from
+     * @return The decoded tensor
+     * @throws BufferUnderflowException When the buffer does not contain a complete tensor
+     * @throws IllegalArgumentException When the buffer does not contain a valid tensor
+     * @throws NullPointerException     When the provided buffer is {@code null}
+     */
+    public static Tensor decode(ByteBuffer buffer) {
+        ByteOrder order = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+
+        try {
+            byte type = buffer.get();
+            int[] shape = getShape(type, buffer);
+
+            if (isSparse(type)) {
+                int[] pointers = getInts(new int[pointerCount(type, shape)], buffer);
+                int[] indices = getInts(new int[shape[2]], buffer);
+                double[] values = getDoubles(new double[shape[2]], buffer);
+
+                return sparse(type, shape, pointers, indices, values);
+            }
+
+            if (type == MATRIX) {
+                Matrix m = new Matrix(shape[0], shape[1]);
+                getDoubles(m.backingArray(), buffer);
+                return m;
+            }
+
+            if (type == FLOAT_MATRIX) {
+                FloatMatrix m = new FloatMatrix(shape[0], shape[1]);
+                getFloats(m.backingArray(), buffer);
+                return m;
+            }
+
+            if (isFloat(type)) {
+                return denseFloat(type, getFloats(new float[valueCount(type, shape)], buffer));
+            }
+
+            return dense(type, shape, getDoubles(new double[valueCount(type, shape)], buffer));
+        } finally {
+            buffer.order(order);
+        }
+    }
+
+    /**
+     * Reads a tensor of the provided type from the provided buffer.
+     *
+     * @param buffer The buffer of which to read from
+     * @param type   The expected type of tensor
+     * @param <T>    The type of tensor
+     * @return The decoded tensor
+     * @throws BufferUnderflowException When the buffer does not contain a complete tensor
+     * @throws ClassCastException       When the decoded tensor is not of the expected type
+     * @throws IllegalArgumentException When the buffer does not contain a valid tensor
+     * @throws NullPointerException     When a {@code null} parameter is provided
+     */
+    public static <T extends Tensor> T decode(ByteBuffer buffer, Class<T> type) {
+        return type.cast(decode(buffer));
+    }
+
+    //
+    // Channels
+    //
+
+    /**
+     * Writes the provided tensor to the provided channel.
+     *
+     * @param t       The tensor of which to write
+     * @param channel The channel of which to write to
+     * @throws IllegalArgumentException When the type of the tensor is not supported
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When a {@code null} parameter is provided
+     */
+    public static void write(Tensor t, WritableByteChannel channel) throws IOException {
+        Output out = new Output(channel);
+        out.write(t);
+        out.flush();
+    }
+
+    /**
+     * Writes the provided tensors to the provided channel back to back, through a single buffer.
+     *
+     * @param tensors The tensors of which to write
+     * @param channel The channel of which to write to
+     * @throws IllegalArgumentException When the type of a tensor is not supported
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When a {@code null} parameter or tensor is provided
+     */
+    public static void writeAll(Iterable<? extends Tensor> tensors, WritableByteChannel channel) throws IOException {
+        Output out = new Output(channel);
+
+        for (Tensor t : tensors) {
+            out.write(t);
+        }
+
+        out.flush();
+    }
+
+    /**
+     * Reads a single tensor from the provided channel. No bytes past the end of the tensor are
+     * read, so the channel can be read from again afterwards.
+     *
+     * @param channel The channel of which to read from
+     * @return The decoded tensor
+     * @throws EOFException             When the channel ends before a complete tensor is read
+     * @throws IllegalArgumentException When the channel does not contain a valid tensor
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When the provided channel is {@code null}
+     */
+    public static Tensor read(ReadableByteChannel channel) throws IOException {
+        Tensor t = new Input(channel, true).read();
+        if (t == null) throw new EOFException("Unexpected end of stream.");
+        return t;
+    }
+
+    /**
+     * Reads every tensor from the provided channel until it ends.
+     *
+     * @param channel The channel of which to read from
+     * @return The decoded tensors, in the order they were written
+     * @throws EOFException             When the channel ends in the middle of a tensor
+     * @throws IllegalArgumentException When the channel does not contain valid tensors
+     * @throws IOException              When an I/O error occurs
+     * @throws NullPointerException     When the provided channel is {@code null}
+     */
+    public static List<Tensor> readAll(ReadableByteChannel channel) throws IOException {
+        Input in = new Input(channel, false);
+        List<Tensor> result = new ArrayList<>();
+
+        for (Tensor t = in.read(); t != null; t = in.read()) {
+            result.add(t);
+        }
+
+        return result;
+    }
+
+    //
+    // Layout
+    //
+
+    /**
+     * Returns the type tag of the provided tensor.
+     *
+     * @param t The tensor of which to get the type tag of
+     * @return The type tag
+     * @throws IllegalArgumentException When the type of the tensor is not supported
+     */
+    private static byte typeOf(Tensor t) {
+        Objects.requireNonNull(t);
+
+        if (t instanceof Vector1) return VECTOR1;
+        if (t instanceof Vector2) return VECTOR2;
+        if (t instanceof Vector3) return VECTOR3;
+        if (t instanceof Vector4) return VECTOR4;
+        if (t instanceof Vector5) return VECTOR5;
+        if (t instanceof Vector6) return VECTOR6;
+        if (t instanceof Vector7) return VECTOR7;
+        if (t instanceof Vector8) return VECTOR8;
+        if (t instanceof Vector9) return VECTOR9;
+        if (t instanceof Vector10) return VECTOR10;
+        if (t instanceof Vector11) return VECTOR11;
+        if (t instanceof Vector12) return VECTOR12;
+        if (t instanceof Quaternion) return QUATERNION;
+        if (t instanceof LargeVector) return LARGE_VECTOR;
+        if (t instanceof Matrix) return MATRIX;
+        if (t instanceof Matrix2) return MATRIX2;
+        if (t instanceof Matrix3) return MATRIX3;
+        if (t instanceof Matrix4) return MATRIX4;
+        if (t instanceof MutableVector2) return MUTABLE_VECTOR2;
+        if (t instanceof MutableVector3) return MUTABLE_VECTOR3;
+        if (t instanceof MutableVector4) return MUTABLE_VECTOR4;
+        if (t instanceof MutableQuaternion) return MUTABLE_QUATERNION;
+        if (t instanceof CompressedRowMatrix) return COMPRESSED_ROW_MATRIX;
+        if (t instanceof CompressedColumnMatrix) return COMPRESSED_COLUMN_MATRIX;
+        if (t instanceof FloatVector3) return FLOAT_VECTOR3;
+        if (t instanceof FloatLargeVector) return FLOAT_LARGE_VECTOR;
+        if (t instanceof FloatMatrix) return FLOAT_MATRIX;
+
+        throw new IllegalArgumentException("Unsupported tensor type: " + t.getClass().getName());
+    }
+
+    /**
+     * Returns whether the provided type tag denotes a sparse matrix.
+     *
+     * @param type The type tag
+     * @return {@code true} if the type is a sparse matrix
+     */
+    private static boolean isSparse(byte type) {
+        return type == COMPRESSED_ROW_MATRIX || type == COMPRESSED_COLUMN_MATRIX;
+    }
+
+    /**
+     * Returns whether the provided type tag denotes a single precision type.
+     *
+     * @param type The type tag
+     * @return {@code true} if the values of the type are {@code float}s
+     */
+    private static boolean isFloat(byte type) {
+        return type == FLOAT_VECTOR3 || type == FLOAT_LARGE_VECTOR || type == FLOAT_MATRIX;
+    }
+
+    /**
+     * Returns the size of the header of the provided type in bytes, including the type tag.
+     *
+     * @param type The type tag
+     * @return The size of the header
+     */
+    private static int headerSize(byte type) {
+        if (type == LARGE_VECTOR || type == FLOAT_LARGE_VECTOR) return 1 + Integer.BYTES;
+        if (type == MATRIX || type == FLOAT_MATRIX) return 1 + 2 * Integer.BYTES;
+        if (isSparse(type)) return 1 + 3 * Integer.BYTES;
+        return 1;
+    }
+
+    /**
+     * Returns the number of values of a dense tensor other than a matrix.
+     *
+     * @param type  The type tag
+     * @param shape The shape of the tensor
+     * @return The number of values
+     */
+    private static int valueCount(byte type, int[] shape) {
+        if (type == LARGE_VECTOR || type == FLOAT_LARGE_VECTOR) return shape[0];
+        return FIXED_SIZES[type];
+    }
+
+    /**
+     * Returns the number of pointers of a sparse matrix.
+     *
+     * @param type  The type tag
+     * @param shape The shape of the matrix
+     * @return The number of pointers
+     */
+    private static int pointerCount(byte type, int[] shape) {
+        return (type == COMPRESSED_ROW_MATRIX ? shape[0] : shape[1]) + 1;
+    }
+
+    /**
+     * Returns the values of a dense tensor, without copying them if possible.
+     *
+     * @param t The tensor of which to get the values of
+     * @return The values of the tensor
+     */
+    private static double[] valuesOf(Tensor t) {
+        if (t instanceof LargeVector v) return v.backingArray();
+        if (t instanceof Matrix m) return m.backingArray();
+        return t.toArray();
+    }
+
+    /**
+     * Returns the values of a single precision tensor, without copying them if possible.
+     *
+     * @param t The tensor of which to get the values of
+     * @return The values of the tensor
+     */
+    private static float[] floatValuesOf(Tensor t) {
+        if (t instanceof FloatLargeVector v) return v.backingArray();
+        if (t instanceof FloatMatrix m) return m.backingArray();
+        return ((FloatVector3) t).toFloatArray();
+    }
+
+    /**
+     * Writes the header of the provided tensor.
+     *
+     * @param t      The tensor of which to write the header of
+     * @param buffer The little-endian buffer of which to write to
+     */
+    private static void putHeader(Tensor t, ByteBuffer buffer) {
+        byte type = typeOf(t);
+        buffer.put(type);
+
+        if (t instanceof LargeVector v) {
+            buffer.putInt(v.size());
+        } else if (t instanceof Matrix m) {
+            buffer.putInt(m.rows()).putInt(m.columns());
+        } else if (t instanceof FloatLargeVector v) {
+            buffer.putInt(v.size());
+        } else if (t instanceof FloatMatrix m) {
+            buffer.putInt(m.rows()).putInt(m.columns());
+        } else if (t instanceof SparseMatrix<?> m) {
+            buffer.putInt(m.rows()).putInt(m.columns()).putInt(m.nonZeros());
+        }
+    }
+
+    /**
+     * Reads the shape of a tensor of the provided type.
+     *
+     * @param type   The type tag
+     * @param buffer The little-endian buffer of which to read from
+     * @return The shape of the tensor
+     * @throws IllegalArgumentException When the type or shape is invalid
+     */
+    private static int[] getShape(byte type, ByteBuffer buffer) {
+        if (type <= 0 || type >= FIXED_SIZES.length) {
+            throw new IllegalArgumentException("Unknown tensor type: " + type);
+        }
+
+        int[] shape = new int[(headerSize(type) - 1) / Integer.BYTES];
+
+        for (int i = 0; i < shape.length; i++) {
+            shape[i] = buffer.getInt();
+            if (shape[i] < 0) throw new IllegalArgumentException("Invalid tensor shape.");
+        }
+
+        if ((type == MATRIX || type == FLOAT_MATRIX) && (long) shape[0] * shape[1] > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Invalid tensor shape.");
+        }
+
+        return shape;
+    }
+
+    /**
+     * Creates a dense tensor of the provided type other than a matrix.
+     *
+     * @param type  The type tag
+     * @param shape The shape of the tensor
+     * @param v     The values of the tensor
+     * @return The constructed tensor
+     */
+    private static Tensor dense(byte type, int[] shape, double[] v) {
+        return switch (type) {
+            case VECTOR1 -> new Vector1(v[0]);
+            case VECTOR2 -> new Vector2(v[0], v[1]);
+            case VECTOR3 -> new Vector3(v[0], v[1], v[2]);
+            case VECTOR4 -> new Vector4(v[0], v[1], v[2], v[3]);
+            case VECTOR5 -> new Vector5(v[0], v[1], v[2], v[3], v[4]);
+            case VECTOR6 -> new Vector6(v[0], v[1], v[2], v[3], v[4], v[5]);
+            case VECTOR7 -> new Vector7(v[0], v[1], v[2], v[3], v[4], v[5], v[6]);
+            case VECTOR8 -> new Vector8(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7]);
+            case VECTOR9 -> new Vector9(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8]);
+            case VECTOR10 -> new Vector10(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9]);
+            case VECTOR11 -> new Vector11(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9], v[10]);
+            case VECTOR12 -> new Vector12(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8], v[9], v[10], v[11]);
+            case QUATERNION -> new Quaternion(v[0], v[1], v[2], v[3]);
+            case LARGE_VECTOR -> new LargeVector(v, false);
+            case MATRIX2 -> new Matrix2(v[0], v[1], v[2], v[3]);
+            case MATRIX3 -> new Matrix3(v[0], v[1], v[2], v[3], v[4], v[5], v[6], v[7], v[8]);
+            case MATRIX4 -> new Matrix4(
+                    v[0], v[1], v[2], v[3],
+                    v[4], v[5], v[6], v[7],
+                    v[8], v[9], v[10], v[11],
+                    v[12], v[13], v[14], v[15]
+            );
+            case MUTABLE_VECTOR2 -> new MutableVector2(v[0], v[1]);
+            case MUTABLE_VECTOR3 -> new MutableVector3(v[0], v[1], v[2]);
+            case MUTABLE_VECTOR4 -> new MutableVector4(v[0], v[1], v[2], v[3]);
+            case MUTABLE_QUATERNION -> new MutableQuaternion(v[0], v[1], v[2], v[3]);
+            default -> throw new IllegalArgumentException("Unknown tensor type: " + type);
+        };
+    }
+
+    /**
+     * Creates a single precision tensor of the provided type other than a matrix.
+     *
+     * @param type The type tag
+     * @param v    The values of the tensor
+     * @return The constructed tensor
+     */
+    private static Tensor denseFloat(byte type, float[] v) {
+        return switch (type) {
+            case FLOAT_VECTOR3 -> new FloatVector3(v[0], v[1], v[2]);
+            case FLOAT_LARGE_VECTOR -> new FloatLargeVector(v, false);
+            default -> throw new IllegalArgumentException("Unknown tensor type: " + type);
+        };
+    }
+
+    /**
+     * Creates a sparse matrix of the provided type.
+     *
+     * @param type     The type tag
+     * @param shape    The number of rows, columns and non-zero elements
+     * @param pointers The compressed pointers
+     * @param indices  The minor indices of the non-zero elements
+     * @param values   The non-zero elements
+     * @return The constructed matrix
+     * @throws IllegalArgumentException When the pointers are inconsistent with the number of elements
+     */
+    private static Tensor sparse(byte type, int[] shape, int[] pointers, int[] indices, double[] values) {
+        if (pointers[0] != 0 || pointers[pointers.length - 1] != values.length) {
+            throw new IllegalArgumentException("Invalid sparse matrix pointers.");
+        }
+
+        if (type == COMPRESSED_ROW_MATRIX) {
+            return new CompressedRowMatrix(shape[0], shape[1], pointers, indices, values);
+        }
+
+        return new CompressedColumnMatrix(shape[0], shape[1], pointers, indices, values);
+    }
+
+    /**
+     * Writes the provided values in bulk.
+     *
+     * @param values The values of which to write
+     * @param buffer The little-endian buffer of which to write to
+     */
+    private static void putDoubles(double[] values, ByteBuffer buffer) {
+        buffer.asDoubleBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Double.BYTES);
+    }
+
+    /**
+     * Writes the provided values in bulk.
+     *
+     * @param values The values of which to write
+     * @param buffer The little-endian buffer of which to write to
+     */
+    private static void putFloats(float[] values, ByteBuffer buffer) {
+        buffer.asFloatBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Float.BYTES);
+    }
+
+    /**
+     * Writes the provided values in bulk.
+     *
+     * @param values The values of which to write
+     * @param buffer The little-endian buffer of which to write to
+     */
+    private static void putInts(int[] values, ByteBuffer buffer) {
+        buffer.asIntBuffer().put(values);
+        buffer.position(buffer.position() + values.length * Integer.BYTES);
+    }
+
+    /**
+     * Reads values in bulk into the provided array.
+     *
+     * @param dest   The array of which to read into
+     * @param buffer The little-endian buffer of which to read from
+     * @return The provided array
+     * @throws BufferUnderflowException When the buffer does not contain enough values
+     */
+    private static double[] getDoubles(double[] dest, ByteBuffer buffer) {
+        buffer.asDoubleBuffer().get(dest);
+        buffer.position(buffer.position() + dest.length * Double.BYTES);
+        return dest;
+    }
+
+    /**
+     * Reads values in bulk into the provided array.
+     *
+     * @param dest   The array of which to read into
+     * @param buffer The little-endian buffer of which to read from
+     * @return The provided array
+     * @throws BufferUnderflowException When the buffer does not contain enough values
+     */
+    private static float[] getFloats(float[] dest, ByteBuffer buffer) {
+        buffer.asFloatBuffer().get(dest);
+        buffer.position(buffer.position() + dest.length * Float.BYTES);
+        return dest;
+    }
+
+    /**
+     * Reads values in bulk into the provided array.
+     *
+     * @param dest   The array of which to read into
+     * @param buffer The little-endian buffer of which to read from
+     * @return The provided array
+     * @throws BufferUnderflowException When the buffer does not contain enough values
+     */
+    private static int[] getInts(int[] dest, ByteBuffer buffer) {
+        buffer.asIntBuffer().get(dest);
+        buffer.position(buffer.position() + dest.length * Integer.BYTES);
+        return dest;
+    }
+
+    /**
+     * Writes tensors to a channel through a direct buffer.
+     */
+    private static final class Output {
+        /**
+         * Creates a new output.
+         *
+         * @param channel The channel of which to write to
+         */
+        Output(WritableByteChannel channel) {
+            this.channel = Objects.requireNonNull(channel);
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN);
+        }
+
+        /**
+         * The channel of which to write to.
+         */
+        private final WritableByteChannel channel;
+
+        /**
+         * The buffer of bytes not yet written to the channel.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Writes the provided tensor.
+         *
+         * @param t The tensor of which to write
+         * @throws IOException When an I/O error occurs
+         */
+        void write(Tensor t) throws IOException {
+            byte type = typeOf(t);
+
+            if (buffer.remaining() < MAX_HEADER_SIZE) flush();
+            putHeader(t, buffer);
+
+            if (t instanceof SparseMatrix<?> m) {
+                writeInts(m.pointers);
+                writeInts(m.indices);
+                writeDoubles(m.values);
+            } else if (isFloat(type)) {
+                writeFloats(floatValuesOf(t));
+            } else {
+                writeDoubles(valuesOf(t));
+            }
+        }
+
+        /**
+         * Writes the provided values, flushing the buffer whenever it is full.
+         *
+         * @param values The values of which to write
+         * @throws IOException When an I/O error occurs
+         */
+        void writeDoubles(double[] values) throws IOException {
+            for (int i = 0; i < values.length; ) {
+                if (buffer.remaining() < Double.BYTES) flush();
+
+                int n = Math.min(values.length - i, buffer.remaining() / Double.BYTES);
+                buffer.asDoubleBuffer().put(values, i, n);
+                buffer.position(buffer.position() + n * Double.BYTES);
+                i += n;
+            }
+        }
+
+        /**
+         * Writes the provided values, flushing the buffer whenever it is full.
+         *
+         * @param values The values of which to write
+         * @throws IOException When an I/O error occurs
+         */
+        void writeFloats(float[] values) throws IOException {
+            for (int i = 0; i < values.length; ) {
+                if (buffer.remaining() < Float.BYTES) flush();
+
+                int n = Math.min(values.length - i, buffer.remaining() / Float.BYTES);
+                buffer.asFloatBuffer().put(values, i, n);
+                buffer.position(buffer.position() + n * Float.BYTES);
+                i += n;
+            }
+        }
+
+        /**
+         * Writes the provided values, flushing the buffer whenever it is full.
+         *
+         * @param values The values of which to write
+         * @throws IOException When an I/O error occurs
+         */
+        void writeInts(int[] values) throws IOException {
+            for (int i = 0; i < values.length; ) {
+                if (buffer.remaining() < Integer.BYTES) flush();
+
+                int n = Math.min(values.length - i, buffer.remaining() / Integer.BYTES);
+                buffer.asIntBuffer().put(values, i, n);
+                buffer.position(buffer.position() + n * Integer.BYTES);
+                i += n;
+            }
+        }
+
+        /**
+         * Writes the contents of the buffer to the channel.
+         *
+         * @throws IOException When an I/O error occurs
+         */
+        void flush() throws IOException {
+            buffer.flip();
+
+            while (buffer.hasRemaining()) {
+                channel.write(buffer);
+            }
+
+            buffer.clear();
+        }
+    }
+
+    /**
+     * Reads tensors from a channel through a direct buffer.
+     */
+    private static final class Input {
+        /**
+         * Creates a new input.
+         *
+         * @param channel The channel of which to read from
+         * @param exact   Whether to avoid reading past the bytes which are required
+         */
+        Input(ReadableByteChannel channel, boolean exact) {
+            this.channel = Objects.requireNonNull(channel);
+            this.exact = exact;
+            this.buffer = ByteBuffer.allocateDirect(BUFFER_SIZE).order(ByteOrder.LITTLE_ENDIAN).flip();
+        }
+
+        /**
+         * The channel of which to read from.
+         */
+        private final ReadableByteChannel channel;
+
+        /**
+         * Whether to avoid reading past the bytes which are required.
+         */
+        private final boolean exact;
+
+        /**
+         * The buffer of bytes read from the channel but not yet decoded.
+         */
+        private final ByteBuffer buffer;
+
+        /**
+         * Reads the next tensor.
+         *
+         * @return The decoded tensor, or {@code null} if the channel ended before the next tensor
+         * @throws IOException When an I/O error occurs
+         */
+        Tensor read() throws IOException {
+            if (!require(1, true)) return null;
+
+            byte type = buffer.get();
+            if (type > 0 && type < FIXED_SIZES.length) require(headerSize(type) - 1, false);
+            int[] shape = getShape(type, buffer);
+
+            if (isSparse(type)) {
+                int[] pointers = readInts(new int[pointerCount(type, shape)]);
+                int[] indices = readInts(new int[shape[2]]);
+                double[] values = readDoubles(new double[shape[2]]);
+
+                return sparse(type, shape, pointers, indices, values);
+            }
+
+            if (type == MATRIX) {
+                Matrix m = new Matrix(shape[0], shape[1]);
+                readDoubles(m.backingArray());
+                return m;
+            }
+
+            if (type == FLOAT_MATRIX) {
+                FloatMatrix m = new FloatMatrix(shape[0], shape[1]);
+                readFloats(m.backingArray());
+                return m;
+            }
+
+            if (isFloat(type)) {
+                return denseFloat(type, readFloats(new float[valueCount(type, shape)]));
+            }
+
+            return dense(type, shape, readDoubles(new double[valueCount(type, shape)]));
+        }
+
+        /**
+         * Reads values into the provided array.
+         *
+         * @param dest The array of which to read into
+         * @return The provided array
+         * @throws IOException When an I/O error occurs
+         */
+        double[] readDoubles(double[] dest) throws IOException {
+            for (int i = 0; i < dest.length; ) {
+                int n = Math.min(dest.length - i, BUFFER_SIZE / Double.BYTES);
+                require(n * Double.BYTES, false);
+
+                buffer.asDoubleBuffer().get(dest, i, n);
+                buffer.position(buffer.position() + n * Double.BYTES);
+                i += n;
+            }
+
+            return dest;
+        }
+
+        /**
+         * Reads values into the provided array.
+         *
+         * @param dest The array of which to read into
+         * @return The provided array
+         * @throws IOException When an I/O error occurs
+         */
+        float[] readFloats(float[] dest) throws IOException {
+            for (int i = 0; i < dest.length; ) {
+                int n = Math.min(dest.length - i, BUFFER_SIZE / Float.BYTES);
+                require(n * Float.BYTES, false);
+
+                buffer.asFloatBuffer().get(dest, i, n);
+                buffer.position(buffer.position() + n * Float.BYTES);
+                i += n;
+            }
+
+            return dest;
+        }
+
+        /**
+         * Reads values into the provided array.
+         *
+         * @param dest The array of which to read into
+         * @return The provided array
+         * @throws IOException When an I/O error occurs
+         */
+        int[] readInts(int[] dest) throws IOException {
+            for (int i = 0; i < dest.length; ) {
+                int n = Math.min(dest.length - i, BUFFER_SIZE / Integer.BYTES);
+                require(n * Integer.BYTES, false);
+
+                buffer.asIntBuffer().get(dest, i, n);
+                buffer.position(buffer.position() + n * Integer.BYTES);
+                i += n;
+            }
+
+            return dest;
+        }
+
+        /**
+         * Ensures that at least {@code n} bytes are available in the buffer.
+         *
+         * @param n        The number of bytes required, at most the size of the buffer
+         * @param allowEnd Whether the channel may end before the first byte
+         * @return {@code false} if the channel ended before the first byte
+         * @throws EOFException When the channel ends before {@code n} bytes are read
+         * @throws IOException  When an I/O error occurs
+         */
+        boolean require(int n, boolean allowEnd) throws IOException {
+            if (buffer.remaining() >= n) return true;
+
+            buffer.compact();
+            if (exact) buffer.limit(n);
+
+            while (buffer.position() < n) {
+                if (channel.read(buffer) < 0) {
+                    boolean empty = buffer.position() == 0;
+                    buffer.flip();
+
+                    if (allowEnd && empty) return false;
+                    throw new EOFException("Unexpected end of stream.");
+                }
+            }
+
+            buffer.flip();
+            return true;
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private TensorCodec() {
+        throw new IllegalInstanceException(this);
+    }
+}
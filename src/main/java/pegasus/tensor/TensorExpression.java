@@ -0,0 +1,1069 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+import pegasus.exception.IncompatibleDimensionsException;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+/**
+ * A lazily evaluated chain of element-wise operations on {@link LargeVector large vectors} or
+ * {@link Matrix matrices}. Building an expression only records the operations; the operations are
+ * fused and applied in a single pass when the expression is materialized or reduced.
+ * <p>
+ * An expression is evaluated in chunks small enough to stay in the L1 cache, so that a chain of
+ * {@code N} operations allocates one result array and sweeps the operands once, instead of
+ * allocating and traversing {@code N} intermediate arrays. Reductions such as {@link #norm()} do not
+ * allocate a result at all.
+ * <pre>{@code
+ * LargeVector r = a.lazy().add(b).multiply(s).subtract(c).normalize().toLargeVector();
+ * double d = a.lazy().subtract(b).norm();
+ * }</pre>
+ * Operands are read when the expression is evaluated, not when it is built, so changes to a
+ * matrix operand are reflected in later evaluations. Expressions are immutable, but are not safe to
+ * evaluate from multiple threads at once.
+ *
+ * @see LargeVector#lazy()
+ * @see Matrix#lazy()
+ */
+public abstract class TensorExpression {
+    /**
+     * The number of elements evaluated per chunk.
+     */
+    static final int CHUNK = 1024;
+
+    /**
+     * Creates a new expression of the provided vector.
+     *
+     * @param v The vector of which to create an expression of
+     * @return The constructed expression
+     * @throws NullPointerException When the provided vector is {@code null}
+     */
+    public static TensorExpression of(LargeVector v) {
+        return new Source(v.backingArray(), v.size(), 1, false);
+    }
+
+    /**
+     * Creates a new expression of the provided matrix.
+     *
+     * @param m The matrix of which to create an expression of
+     * @return The constructed expression
+     * @throws NullPointerException When the provided matrix is {@code null}
+     */
+    public static TensorExpression of(Matrix m) {
+        return new Source(m.backingArray(), m.rows(), m.columns(), true);
+    }
+
+    /**
+     * Creates a new expression.
+     *
+     * @param rows    The number of rows of the result
+     * @param columns The number of columns of the result
+     * @param matrix  Whether the result is a matrix
+     */
+    TensorExpression(int rows, int columns, boolean matrix) {
+        this.rows = rows;
+        this.columns = columns;
+        this.matrix = matrix;
+    }
+
+    /**
+     * Creates a new expression with the same shape as the provided expression.
+     *
+     * @param e The expression of which to copy the shape of
+     */
+    TensorExpression(TensorExpression e) {
+        this(e.rows, e.columns, e.matrix);
+    }
+
+    /**
+     * The number of rows of the result. The result of a vector expression has one column.
+     */
+    private final int rows;
+
+    /**
+     * The number of columns of the result.
+     */
+    private final int columns;
+
+    /**
+     * Whether the result is a matrix.
+     */
+    private final boolean matrix;
+
+    /**
+     * Returns the number of elements of the result of this expression.
+     *
+     * @return The number of elements of the result
+     */
+    public int size() {
+        return rows * columns;
+    }
+
+    /**
+     * Returns whether the result of this expression is a matrix.
+     *
+     * @return {@code true} if this is an expression of matrices
+     */
+    public boolean isMatrix() {
+        return matrix;
+    }
+
+    //
+    // Operations
+    //
+
+    /**
+     * Adds the provided scalar {@code s} to every element.
+     *
+     * @param s The scalar of which to add
+     * @return The resulting expression
+     */
+    public TensorExpression add(double s) {
+        return new Scalar(this, s, 1);
+    }
+
+    /**
+     * Subtracts the provided scalar {@code s} from every element.
+     *
+     * @param s The scalar of which to subtract
+     * @return The resulting expression
+     */
+    public TensorExpression subtract(double s) {
+        return new Scalar(this, -s, 1);
+    }
+
+    /**
+     * Multiplies every element by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to multiply by
+     * @return The resulting expression
+     */
+    public TensorExpression multiply(double s) {
+        return new Scalar(this, 0, s);
+    }
+
+    /**
+     * Divides every element by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to divide by
+     * @return The resulting expression
+     * @throws ArithmeticException When the provided scalar {@code s} is zero
+     */
+    public TensorExpression divide(double s) throws ArithmeticException {
+        if (s == 0) throw new DivisionByZeroException();
+        return new Scalar(this, 0, 1 / s);
+    }
+
+    /**
+     * Adds the provided expression element-wise.
+     *
+     * @param e The expression of which to add
+     * @return The resulting expression
+     * @throws IncompatibleDimensionsException When the shapes of the expressions are different
+     * @throws NullPointerException            When the provided expression is {@code null}
+     */
+    public TensorExpression add(TensorExpression e) {
+        return new Binary(this, e, Operator.ADD);
+    }
+
+    /**
+     * Adds the provided vector element-wise.
+     *
+     * @param v The vector of which to add
+     * @return The resulting expression
+     * @throws IncompatibleDimensionsException When the shapes of the operands are different
+     * @throws NullPointerException            When the provided vector is {@code null}
+     */
+    public TensorExpression add(LargeVector v) {
+        return add(of(v));
+    }
+
+    /**
+     * Adds the provided matrix element-wise.
+     *
+     * @param m The matrix of which to add
+     * @return The resulting expression
+     * @throws IncompatibleDimensionsException When the shapes of the operands are different
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public TensorExpression add(Matrix m) {
+        return add(of(m));
+    }
+
+    /**
+     * Subtracts the provided expression element-wise.
+     *
+     * @param e The expression of which to subtract
+     * @return The resulting expression
+     * @throws IncompatibleDimensionsException When the shapes of the expressions are different
+     * @throws NullPointerException            When the provided expression is {@code null}
+     */
+    public TensorExpression subtract(TensorExpression e) {
+        return new Binary(this, e, Operator.SUBTRACT);
+    }
+
+    /**
+     * Subtracts the provided vector element-wise.
+     *
+     * @param v The vector of which to subtract
+     * @return The resulting expression
+     * @throws IncompatibleDimensionsException When the shapes of the operands are different
+     * @throws NullPointerException            When the provided vector is {@code null}
+     */
+    public TensorExpression subtract(LargeVector v) {
+        return subtract(of(v));
+    }
+
+    /**
+     * Subtracts the provided matrix element-wise.
+     *
+     * @param m The matrix of which to subtract
+     * @return The resulting expression
+     * @throws IncompatibleDimensionsException When the shapes of the operands are different
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public TensorExpression subtract(Matrix m) {
+        return subtract(of(m));
+    }
+
+    /**
+     * Returns the element-wise minimum of this expression and the provided expression.
+     *
+     * @param e The expression of which to compare to
+     * @return The resulting expression
+     * @throws IncompatibleDimensionsException When the shapes of the expressions are different
+     * @throws NullPointerException            When the provided expression is {@code null}
+     */
+    public TensorExpression min(TensorExpression e) {
+        return new Binary(this, e, Operator.MIN);
+    }
+
+    /**
+     * Returns the element-wise maximum of this expression and the provided expression.
+     *
+     * @param e The expression of which to compare to
+     * @return The resulting expression
+     * @throws IncompatibleDimensionsException When the shapes of the expressions are different
+     * @throws NullPointerException            When the provided expression is {@code null}
+     */
+    public TensorExpression max(TensorExpression e) {
+        return new Binary(this, e, Operator.MAX);
+    }
+
+    /**
+     * Negates every element.
+     *
+     * @return The resulting expression
+     */
+    public TensorExpression negate() {
+        return new Scalar(this, 0, -1);
+    }
+
+    /**
+     * Takes the absolute value of every element.
+     *
+     * @return The resulting expression
+     */
+    public TensorExpression abs() {
+        return map(Math::abs);
+    }
+
+    /**
+     * Applies the provided mapper function to every element.
+     *
+     * @param mapper The mapper function of which to apply
+     * @return The resulting expression
+     * @throws NullPointerException When the provided mapper function is {@code null}
+     */
+    public TensorExpression map(DoubleUnaryOperator mapper) {
+        return new Mapped(this, Objects.requireNonNull(mapper));
+    }
+
+    /**
+     * Merges this expression with the provided expression element-wise.
+     *
+     * @param e      The expression of which to merge with
+     * @param merger The merger function of which to apply to each pair of elements
+     * @return The resulting expression
+     * @throws IncompatibleDimensionsException When the shapes of the expressions are different
+     * @throws NullPointerException            When a {@code null} parameter is provided
+     */
+    public TensorExpression merge(TensorExpression e, DoubleBinaryOperator merger) {
+        return new Merged(this, e, Objects.requireNonNull(merger));
+    }
+
+    /**
+     * Divides every element by the Euclidean norm of this expression. The norm is computed
+     * with an additional pass over the operands when the expression is evaluated.
+     *
+     * @return The resulting expression
+     */
+    public TensorExpression normalize() {
+        return new Normalized(this);
+    }
+
+    //
+    // Evaluation
+    //
+
+    /**
+     * Evaluates this expression, then returns the result as a vector.
+     *
+     * @return The result of this expression
+     * @throws ArithmeticException When a normalized operand has a Euclidean norm of zero
+     */
+    public LargeVector toLargeVector() {
+        return new LargeVector(toArray(), false);
+    }
+
+    /**
+     * Evaluates this expression, then returns the result as a matrix.
+     *
+     * @return The result of this expression
+     * @throws IncompatibleDimensionsException When this is not an expression of matrices
+     * @throws ArithmeticException             When a normalized operand has a Euclidean norm of zero
+     */
+    public Matrix toMatrix() {
+        if (!matrix) throw new IncompatibleDimensionsException("The expression is not a matrix.");
+
+        Matrix result = new Matrix(rows, columns);
+        evaluate(result.backingArray());
+        return result;
+    }
+
+    /**
+     * Evaluates this expression, then stores the result in the provided matrix. The destination
+     * may be one of the operands of this expression.
+     *
+     * @param dest The matrix of which to store the result in
+     * @throws IncompatibleDimensionsException When the destination's shape is different from this expression's
+     * @throws ArithmeticException             When a normalized operand has a Euclidean norm of zero
+     * @throws NullPointerException            When the provided matrix is {@code null}
+     */
+    public void evaluateInto(Matrix dest) {
+        if (!matrix || dest.rows() != rows || dest.columns() != columns) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        evaluate(dest.backingArray());
+    }
+
+    /**
+     * Evaluates this expression, then returns the result as an array in row-major order.
+     *
+     * @return The result of this expression
+     * @throws ArithmeticException When a normalized operand has a Euclidean norm of zero
+     */
+    public double[] toArray() {
+        double[] result = new double[size()];
+        evaluate(result);
+        return result;
+    }
+
+    /**
+     * Returns the sum of the elements of the result, without materializing the result.
+     *
+     * @return The sum of the elements
+     * @throws ArithmeticException When a normalized operand has a Euclidean norm of zero
+     */
+    public double sum() {
+        Buffers buffers = new Buffers();
+        prepare(buffers);
+        return reduce(false, buffers);
+    }
+
+    /**
+     * Returns the squared Euclidean norm of the result, without materializing the result.
+     *
+     * @return The squared Euclidean norm
+     * @throws ArithmeticException When a normalized operand has a Euclidean norm of zero
+     */
+    public double normSquared() {
+        Buffers buffers = new Buffers();
+        prepare(buffers);
+        return reduce(true, buffers);
+    }
+
+    /**
+     * Returns the Euclidean norm of the result, without materializing the result.
+     *
+     * @return The Euclidean norm
+     * @throws ArithmeticException When a normalized operand has a Euclidean norm of zero
+     */
+    public double norm() {
+        return Math.sqrt(normSquared());
+    }
+
+    /**
+     * Returns the dot product between the results of this expression and the provided expression,
+     * without materializing either result.
+     *
+     * @param e The expression of which to get the dot product between
+     * @return The dot product
+     * @throws IncompatibleDimensionsException When the shapes of the expressions are different
+     * @throws ArithmeticException             When a normalized operand has a Euclidean norm of zero
+     * @throws NullPointerException            When the provided expression is {@code null}
+     */
+    public double dot(TensorExpression e) {
+        return new Binary(this, e, Operator.MULTIPLY).sum();
+    }
+
+    /**
+     * Evaluates this expression into the provided array.
+     *
+     * @param dest The array of which to store the result in
+     */
+    private void evaluate(double[] dest) {
+        Buffers buffers = new Buffers();
+        prepare(buffers);
+
+        int n = size();
+
+        for (int i = 0; i < n; i += CHUNK) {
+            evaluate(i, Math.min(CHUNK, n - i), dest, i, buffers);
+        }
+    }
+
+    /**
+     * Reduces the result of this expression without materializing it. This expression must
+     * already be {@link #prepare(Buffers) prepared} for the provided evaluation.
+     *
+     * @param squares Whether to sum the squares of the elements instead of the elements
+     * @param buffers The chunk buffers of the current evaluation
+     * @return The sum of the elements, or of their squares
+     */
+    double reduce(boolean squares, Buffers buffers) {
+        int n = size();
+        double[] chunk = buffers.acquire();
+        double sum = 0;
+
+        for (int i = 0; i < n; i += CHUNK) {
+            int length = Math.min(CHUNK, n - i);
+            evaluate(i, length, chunk, 0, buffers);
+
+            if (squares) {
+                for (int j = 0; j < length; j++) {
+                    sum += chunk[j] * chunk[j];
+                }
+            } else {
+                for (int j = 0; j < length; j++) {
+                    sum += chunk[j];
+                }
+            }
+        }
+
+        buffers.release();
+        return sum;
+    }
+
+    /**
+     * Prepares this expression and its operands for an evaluation. Whatever is computed here
+     * is stored in the provided buffers rather than in this expression, so that an expression
+     * can be evaluated by several threads at once.
+     *
+     * @param buffers The chunk buffers of the current evaluation
+     * @throws ArithmeticException When a normalized operand has a Euclidean norm of zero
+     */
+    void prepare(Buffers buffers) {}
+
+    /**
+     * Evaluates elements {@code [from, from + length)} of this expression, and stores them in
+     * the provided array starting at the provided offset.
+     *
+     * @param from    The index of the first element of which to evaluate
+     * @param length  The number of elements of which to evaluate
+     * @param out     The array of which to store the elements in
+     * @param offset  The index of {@code out} of which to store the first element at
+     * @param buffers The chunk buffers of the current evaluation
+     */
+    abstract void evaluate(int from, int length, double[] out, int offset, Buffers buffers);
+
+    /**
+     * A stack of chunk-sized buffers for the intermediary results of one evaluation, along with
+     * the scales of the evaluation's normalizations.
+     */
+    static final class Buffers {
+        /**
+         * The allocated buffers.
+         */
+        private double[][] buffers = new double[4][];
+
+        /**
+         * The number of buffers in use.
+         */
+        private int depth = 0;
+
+        /**
+         * The scales of the prepared normalizations, keyed by expression identity.
+         */
+        private final Map<TensorExpression, Double> scales = new IdentityHashMap<>();
+
+        /**
+         * Acquires a buffer.
+         *
+         * @return The buffer
+         */
+        double[] acquire() {
+            if (depth == buffers.length) {
+                double[][] resized = new double[depth * 2][];
+                System.arraycopy(buffers, 0, resized, 0, depth);
+                buffers = resized;
+            }
+
+            if (buffers[depth] == null) buffers[depth] = new double[CHUNK];
+            return buffers[depth++];
+        }
+
+        /**
+         * Releases the most recently acquired buffer.
+         */
+        void release() {
+            depth--;
+        }
+
+        /**
+         * Stores the scale of the provided normalization.
+         *
+         * @param e     The normalization
+         * @param scale The inverse of its operand's norm
+         */
+        void scale(TensorExpression e, double scale) {
+            scales.put(e, scale);
+        }
+
+        /**
+         * Returns the scale of the provided prepared normalization.
+         *
+         * @param e The normalization
+         * @return The inverse of its operand's norm
+         */
+        double scaleOf(TensorExpression e) {
+            return scales.get(e);
+        }
+    }
+
+    /**
+     * The element-wise binary operators.
+     */
+    enum Operator {
+        /**
+         * Element-wise addition.
+         */
+        ADD {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            void apply(double[] a, int ao, double[] b, int bo, double[] out, int offset, int length) {
+                for (int i = 0; i < length; i++) {
+                    out[offset + i] = a[ao + i] + b[bo + i];
+                }
+            }
+        },
+
+        /**
+         * Element-wise subtraction.
+         */
+        SUBTRACT {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            void apply(double[] a, int ao, double[] b, int bo, double[] out, int offset, int length) {
+                for (int i = 0; i < length; i++) {
+                    out[offset + i] = a[ao + i] - b[bo + i];
+                }
+            }
+        },
+
+        /**
+         * Element-wise multiplication.
+         */
+        MULTIPLY {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            void apply(double[] a, int ao, double[] b, int bo, double[] out, int offset, int length) {
+                for (int i = 0; i < length; i++) {
+                    out[offset + i] = a[ao + i] * b[bo + i];
+                }
+            }
+        },
+
+        /**
+         * Element-wise minimum.
+         */
+        MIN {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            void apply(double[] a, int ao, double[] b, int bo, double[] out, int offset, int length) {
+                for (int i = 0; i < length; i++) {
+                    out[offset + i] = Math.min(a[ao + i], b[bo + i]);
+                }
+            }
+        },
+
+        /**
+         * Element-wise maximum.
+         */
+        MAX {
+            /**
+             * {@inheritDoc}
+             */
+            @Override
+            void apply(double[] a, int ao, double[] b, int bo, double[] out, int offset, int length) {
+                for (int i = 0; i < length; i++) {
+                    out[offset + i] = Math.max(a[ao + i], b[bo + i]);
+                }
+            }
+        };
+
+        /**
+         * Applies this operator to {@code length} pairs of elements.
+         *
+         * @param a      The left-hand operands
+         * @param ao     The index of the first left-hand operand
+         * @param b      The right-hand operands
+         * @param bo     The index of the first right-hand operand
+         * @param out    The array of which to store the results in
+         * @param offset The index of {@code out} of which to store the first result at
+         * @param length The number of pairs of which to apply this operator to
+         */
+        abstract void apply(double[] a, int ao, double[] b, int bo, double[] out, int offset, int length);
+    }
+
+    /**
+     * The values of a vector or a matrix.
+     */
+    private static final class Source extends TensorExpression {
+        /**
+         * Creates a new source expression.
+         *
+         * @param values  The values of the vector or matrix
+         * @param rows    The number of rows
+         * @param columns The number of columns
+         * @param matrix  Whether the values are of a matrix
+         */
+        Source(double[] values, int rows, int columns, boolean matrix) {
+            super(rows, columns, matrix);
+            this.values = values;
+        }
+
+        /**
+         * The values of the vector or matrix.
+         */
+        private final double[] values;
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from    {@inheritDoc}
+         * @param length  {@inheritDoc}
+         * @param out     {@inheritDoc}
+         * @param offset  {@inheritDoc}
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void evaluate(int from, int length, double[] out, int offset, Buffers buffers) {
+            System.arraycopy(values, from, out, offset, length);
+        }
+    }
+
+    /**
+     * An operand which is read directly from its source, or evaluated into a chunk buffer.
+     */
+    private abstract static class Operation extends TensorExpression {
+        /**
+         * Creates a new operation.
+         *
+         * @param e The expression of which to copy the shape of
+         */
+        Operation(TensorExpression e) {
+            super(e);
+        }
+
+        /**
+         * Checks that the provided expressions have the same shape.
+         *
+         * @param a The first expression
+         * @param b The second expression
+         * @return The first expression
+         * @throws IncompatibleDimensionsException When the shapes of the expressions are different
+         */
+        static TensorExpression requireSameShape(TensorExpression a, TensorExpression b) {
+            if (a.rows != b.rows || a.columns != b.columns || a.matrix != b.matrix) {
+                throw new IncompatibleDimensionsException();
+            }
+
+            return a;
+        }
+
+        /**
+         * Returns the array of which elements {@code [from, from + length)} of the provided
+         * operand can be read from. A source operand is read directly; any other operand is
+         * evaluated into a newly acquired buffer, which the caller must release.
+         *
+         * @param e       The operand
+         * @param from    The index of the first element
+         * @param length  The number of elements
+         * @param buffers The chunk buffers of the current evaluation
+         * @return The array of which to read the elements from
+         */
+        static double[] operand(TensorExpression e, int from, int length, Buffers buffers) {
+            if (e instanceof Source s) return s.values;
+
+            double[] buffer = buffers.acquire();
+            e.evaluate(from, length, buffer, 0, buffers);
+            return buffer;
+        }
+
+        /**
+         * Returns the index of the first element of an array returned by {@link #operand}.
+         *
+         * @param e    The operand
+         * @param from The index of the first element
+         * @return The index of the first element in the operand's array
+         */
+        static int offset(TensorExpression e, int from) {
+            return e instanceof Source ? from : 0;
+        }
+
+        /**
+         * Releases the buffer of the provided operand, if one was acquired.
+         *
+         * @param e       The operand
+         * @param buffers The chunk buffers of the current evaluation
+         */
+        static void release(TensorExpression e, Buffers buffers) {
+            if (!(e instanceof Source)) buffers.release();
+        }
+    }
+
+    /**
+     * An element-wise affine operation {@code x * multiplier + addend}.
+     */
+    private static final class Scalar extends Operation {
+        /**
+         * Creates a new scalar operation.
+         *
+         * @param e          The operand
+         * @param addend     The scalar of which to add
+         * @param multiplier The scalar of which to multiply by
+         */
+        Scalar(TensorExpression e, double addend, double multiplier) {
+            super(e);
+            this.e = e;
+            this.addend = addend;
+            this.multiplier = multiplier;
+        }
+
+        /**
+         * The operand.
+         */
+        private final TensorExpression e;
+
+        /**
+         * The scalar of which to add.
+         */
+        private final double addend;
+
+        /**
+         * The scalar of which to multiply by.
+         */
+        private final double multiplier;
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void prepare(Buffers buffers) {
+            e.prepare(buffers);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from    {@inheritDoc}
+         * @param length  {@inheritDoc}
+         * @param out     {@inheritDoc}
+         * @param offset  {@inheritDoc}
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void evaluate(int from, int length, double[] out, int offset, Buffers buffers) {
+            double[] a = operand(e, from, length, buffers);
+            int ao = offset(e, from);
+
+            if (addend == 0) {
+                for (int i = 0; i < length; i++) {
+                    out[offset + i] = a[ao + i] * multiplier;
+                }
+            } else {
+                for (int i = 0; i < length; i++) {
+                    out[offset + i] = a[ao + i] * multiplier + addend;
+                }
+            }
+
+            release(e, buffers);
+        }
+    }
+
+    /**
+     * An element-wise binary operation.
+     */
+    private static final class Binary extends Operation {
+        /**
+         * Creates a new binary operation.
+         *
+         * @param a        The left-hand operand
+         * @param b        The right-hand operand
+         * @param operator The operator
+         * @throws IncompatibleDimensionsException When the shapes of the operands are different
+         */
+        Binary(TensorExpression a, TensorExpression b, Operator operator) {
+            super(requireSameShape(a, b));
+            this.a = a;
+            this.b = b;
+            this.operator = operator;
+        }
+
+        /**
+         * The left-hand operand.
+         */
+        private final TensorExpression a;
+
+        /**
+         * The right-hand operand.
+         */
+        private final TensorExpression b;
+
+        /**
+         * The operator.
+         */
+        private final Operator operator;
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void prepare(Buffers buffers) {
+            a.prepare(buffers);
+            b.prepare(buffers);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from    {@inheritDoc}
+         * @param length  {@inheritDoc}
+         * @param out     {@inheritDoc}
+         * @param offset  {@inheritDoc}
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void evaluate(int from, int length, double[] out, int offset, Buffers buffers) {
+            double[] x = operand(a, from, length, buffers);
+            double[] y = operand(b, from, length, buffers);
+
+            operator.apply(x, offset(a, from), y, offset(b, from), out, offset, length);
+
+            release(b, buffers);
+            release(a, buffers);
+        }
+    }
+
+    /**
+     * An element-wise mapping.
+     */
+    private static final class Mapped extends Operation {
+        /**
+         * Creates a new mapping.
+         *
+         * @param e      The operand
+         * @param mapper The mapper function
+         */
+        Mapped(TensorExpression e, DoubleUnaryOperator mapper) {
+            super(e);
+            this.e = e;
+            this.mapper = mapper;
+        }
+
+        /**
+         * The operand.
+         */
+        private final TensorExpression e;
+
+        /**
+         * The mapper function.
+         */
+        private final DoubleUnaryOperator mapper;
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void prepare(Buffers buffers) {
+            e.prepare(buffers);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from    {@inheritDoc}
+         * @param length  {@inheritDoc}
+         * @param out     {@inheritDoc}
+         * @param offset  {@inheritDoc}
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void evaluate(int from, int length, double[] out, int offset, Buffers buffers) {
+            double[] a = operand(e, from, length, buffers);
+            int ao = offset(e, from);
+
+            for (int i = 0; i < length; i++) {
+                out[offset + i] = mapper.applyAsDouble(a[ao + i]);
+            }
+
+            release(e, buffers);
+        }
+    }
+
+    /**
+     * An element-wise merger.
+     */
+    private static final class Merged extends Operation {
+        /**
+         * Creates a new merger.
+         *
+         * @param a      The left-hand operand
+         * @param b      The right-hand operand
+         * @param merger The merger function
+         * @throws IncompatibleDimensionsException When the shapes of the operands are different
+         */
+        Merged(TensorExpression a, TensorExpression b, DoubleBinaryOperator merger) {
+            super(requireSameShape(a, b));
+            this.a = a;
+            this.b = b;
+            this.merger = merger;
+        }
+
+        /**
+         * The left-hand operand.
+         */
+        private final TensorExpression a;
+
+        /**
+         * The right-hand operand.
+         */
+        private final TensorExpression b;
+
+        /**
+         * The merger function.
+         */
+        private final DoubleBinaryOperator merger;
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void prepare(Buffers buffers) {
+            a.prepare(buffers);
+            b.prepare(buffers);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from    {@inheritDoc}
+         * @param length  {@inheritDoc}
+         * @param out     {@inheritDoc}
+         * @param offset  {@inheritDoc}
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void evaluate(int from, int length, double[] out, int offset, Buffers buffers) {
+            double[] x = operand(a, from, length, buffers);
+            double[] y = operand(b, from, length, buffers);
+            int xo = offset(a, from);
+            int yo = offset(b, from);
+
+            for (int i = 0; i < length; i++) {
+                out[offset + i] = merger.applyAsDouble(x[xo + i], y[yo + i]);
+            }
+
+            release(b, buffers);
+            release(a, buffers);
+        }
+    }
+
+    /**
+     * A normalization, which scales its operand by the inverse of the operand's norm.
+     */
+    private static final class Normalized extends Operation {
+        /**
+         * Creates a new normalization.
+         *
+         * @param e The operand
+         */
+        Normalized(TensorExpression e) {
+            super(e);
+            this.e = e;
+        }
+
+        /**
+         * The operand.
+         */
+        private final TensorExpression e;
+
+        /**
+         * {@inheritDoc} The inverse of the operand's norm is computed here.
+         *
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void prepare(Buffers buffers) {
+            e.prepare(buffers);
+
+            double norm = Math.sqrt(e.reduce(true, buffers));
+            if (norm == 0) throw new DivisionByZeroException();
+            buffers.scale(this, 1 / norm);
+        }
+
+        /**
+         * {@inheritDoc}
+         *
+         * @param from    {@inheritDoc}
+         * @param length  {@inheritDoc}
+         * @param out     {@inheritDoc}
+         * @param offset  {@inheritDoc}
+         * @param buffers {@inheritDoc}
+         */
+        @Override
+        void evaluate(int from, int length, double[] out, int offset, Buffers buffers) {
+            double scale = buffers.scaleOf(this);
+            double[] a = operand(e, from, length, buffers);
+            int ao = offset(e, from);
+
+            for (int i = 0; i < length; i++) {
+                out[offset + i] = a[ao + i] * scale;
+            }
+
+            release(e, buffers);
+        }
+    }
+}
@@ -213,8 +213,8 @@ public final class Tensors {
     }
 
     // Lanczos parameters
-    private static final double LANCZOS_G = 7;
-    private static final double[] LANCZOS_COEFFICIENTS = {
+    static final double LANCZOS_G = 7;
+    static final double[] LANCZOS_COEFFICIENTS = {
             0.99999999999980993,
             676.5203681218851,
             -1259.1392167224028,
@@ -74,6 +74,17 @@ public class Vector10 extends ArrayVector<Vector10> {
         super(values);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param values {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    Vector10 newInstance(double[] values) {
+        return new Vector10(values);
+    }
+
     /**
      * {@inheritDoc}
      *
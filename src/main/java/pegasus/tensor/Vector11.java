@@ -88,6 +88,17 @@ public class Vector11 extends ArrayVector<Vector11> {
         super(values);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param values {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    Vector11 newInstance(double[] values) {
+        return new Vector11(values);
+    }
+
     /**
      * {@inheritDoc}
      *
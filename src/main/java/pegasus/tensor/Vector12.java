@@ -90,6 +90,17 @@ public class Vector12 extends ArrayVector<Vector12> {
         super(values);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param values {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    Vector12 newInstance(double[] values) {
+        return new Vector12(values);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,702 @@
+package pegasus.tensor;
+
+import pegasus.exception.DivisionByZeroException;
+import pegasus.exception.IncompatibleDimensionsException;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * A mutable batch of three-dimensional vectors stored as a structure of arrays. The components
+ * of the vectors are stored in three parallel arrays {@code xs, ys, zs}, so that bulk operations
+ * sweep contiguous memory and can be vectorized by the compiler, instead of following a reference
+ * to each individual {@link Vector3}.
+ * <p>
+ * Every bulk operation modifies this batch in place and returns itself for chaining. When the batch
+ * is {@link #parallel(boolean) parallel}, bulk operations on large batches are split across the
+ * common {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. Batches are not thread safe.
+ *
+ * @see Vector3
+ * @see QuaternionArray
+ * @see MutableVector3
+ */
+public class Vector3Array implements Serializable {
+    @Serial
+    private static final long serialVersionUID = 0;
+
+    /**
+     * Creates a new batch of vectors.
+     *
+     * @param vectors The vectors of which to copy component values from
+     * @return The constructed batch
+     * @throws NullPointerException When the provided array or any of its vectors is {@code null}
+     */
+    public static Vector3Array of(Vector3... vectors) {
+        Vector3Array result = new Vector3Array(vectors.length);
+
+        for (int i = 0; i < vectors.length; i++) {
+            result.set(i, vectors[i]);
+        }
+
+        return result;
+    }
+
+    /**
+     * Creates a new batch of vectors.
+     *
+     * @param vectors The vectors of which to copy component values from
+     * @return The constructed batch
+     * @throws NullPointerException When the provided collection or any of its vectors is {@code null}
+     */
+    public static Vector3Array of(Collection<? extends Vector3> vectors) {
+        return of(vectors.toArray(Vector3[]::new));
+    }
+
+    /**
+     * Creates a new batch of zero vectors.
+     *
+     * @param length The number of vectors in this batch
+     * @throws NegativeArraySizeException When the provided length is negative
+     */
+    public Vector3Array(int length) {
+        this.xs = new double[length];
+        this.ys = new double[length];
+        this.zs = new double[length];
+    }
+
+    /**
+     * Creates a new batch of vectors. The provided arrays are copied.
+     *
+     * @param xs The X components of the vectors
+     * @param ys The Y components of the vectors
+     * @param zs The Z components of the vectors
+     * @throws IncompatibleDimensionsException When the arrays' lengths are different
+     * @throws NullPointerException            When a {@code null} array is provided
+     */
+    public Vector3Array(double[] xs, double[] ys, double[] zs) {
+        if (xs.length != ys.length || xs.length != zs.length) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        this.xs = Arrays.copyOf(xs, xs.length);
+        this.ys = Arrays.copyOf(ys, ys.length);
+        this.zs = Arrays.copyOf(zs, zs.length);
+    }
+
+    /**
+     * Creates a new batch of vectors.
+     *
+     * @param a The batch of which to copy component values from
+     * @throws NullPointerException When the provided batch is {@code null}
+     */
+    public Vector3Array(Vector3Array a) {
+        this(a.xs, a.ys, a.zs);
+        this.parallel = a.parallel;
+    }
+
+    /**
+     * The X components of the vectors.
+     */
+    protected final double[] xs;
+
+    /**
+     * The Y components of the vectors.
+     */
+    protected final double[] ys;
+
+    /**
+     * The Z components of the vectors.
+     */
+    protected final double[] zs;
+
+    /**
+     * Whether bulk operations on this batch are processed in parallel.
+     */
+    protected boolean parallel = false;
+
+    /**
+     * Returns the number of vectors in this batch.
+     *
+     * @return The number of vectors in this batch
+     */
+    public int length() {
+        return xs.length;
+    }
+
+    /**
+     * Returns whether bulk operations on this batch are processed in parallel.
+     *
+     * @return {@code true} if bulk operations are processed in parallel
+     */
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    /**
+     * Sets whether bulk operations on this batch are processed in parallel. Small batches are
+     * always processed on the calling thread.
+     *
+     * @param parallel Whether to process bulk operations in parallel
+     * @return This batch
+     */
+    public Vector3Array parallel(boolean parallel) {
+        this.parallel = parallel;
+        return this;
+    }
+
+    /**
+     * Returns the X component of the {@code i}th vector.
+     *
+     * @param i The index of the vector
+     * @return The X component of the vector
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    public double x(int i) {
+        return xs[i];
+    }
+
+    /**
+     * Returns the Y component of the {@code i}th vector.
+     *
+     * @param i The index of the vector
+     * @return The Y component of the vector
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    public double y(int i) {
+        return ys[i];
+    }
+
+    /**
+     * Returns the Z component of the {@code i}th vector.
+     *
+     * @param i The index of the vector
+     * @return The Z component of the vector
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    public double z(int i) {
+        return zs[i];
+    }
+
+    /**
+     * Returns the {@code i}th vector.
+     *
+     * @param i The index of the vector
+     * @return The vector at the provided index
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    public Vector3 get(int i) {
+        return new Vector3(xs[i], ys[i], zs[i]);
+    }
+
+    /**
+     * Copies the {@code i}th vector into the provided destination vector.
+     *
+     * @param i    The index of the vector
+     * @param dest The vector of which to copy the components into
+     * @return The destination vector
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     * @throws NullPointerException      When the provided destination vector is {@code null}
+     */
+    public MutableVector3 get(int i, MutableVector3 dest) {
+        return dest.set(xs[i], ys[i], zs[i]);
+    }
+
+    /**
+     * Sets the {@code i}th vector.
+     *
+     * @param i The index of the vector
+     * @param x The X component of the vector
+     * @param y The Y component of the vector
+     * @param z The Z component of the vector
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     */
+    public void set(int i, double x, double y, double z) {
+        xs[i] = x;
+        ys[i] = y;
+        zs[i] = z;
+    }
+
+    /**
+     * Sets the {@code i}th vector.
+     *
+     * @param i The index of the vector
+     * @param v The vector of which to copy component values from
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     * @throws NullPointerException      When the provided vector {@code v} is {@code null}
+     */
+    public void set(int i, Vector3 v) {
+        set(i, v.x, v.y, v.z);
+    }
+
+    /**
+     * Sets the {@code i}th vector.
+     *
+     * @param i The index of the vector
+     * @param v The vector of which to copy component values from
+     * @throws IndexOutOfBoundsException When the index is out of bounds
+     * @throws NullPointerException      When the provided vector {@code v} is {@code null}
+     */
+    public void set(int i, MutableVector3 v) {
+        set(i, v.x, v.y, v.z);
+    }
+
+    /**
+     * Adds the provided vector {@code v} to every vector of this batch.
+     *
+     * @param v The vector of which to add
+     * @return This batch
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public Vector3Array add(Vector3 v) {
+        double x = v.x, y = v.y, z = v.z;
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                xs[i] += x;
+                ys[i] += y;
+                zs[i] += z;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Adds each vector of the provided batch to the corresponding vector of this batch.
+     *
+     * @param a The batch of which to add
+     * @return This batch
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     * @throws NullPointerException            When the provided batch is {@code null}
+     */
+    public Vector3Array add(Vector3Array a) {
+        return addScaled(a, 1);
+    }
+
+    /**
+     * Adds each vector of the provided batch multiplied by the provided scalar {@code s} to the
+     * corresponding vector of this batch. This is the usual update of positions by velocities.
+     *
+     * @param a The batch of which to add
+     * @param s The scalar of which to multiply the provided batch by
+     * @return This batch
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     * @throws NullPointerException            When the provided batch is {@code null}
+     */
+    public Vector3Array addScaled(Vector3Array a, double s) {
+        requireSameLength(a);
+        double[] axs = a.xs, ays = a.ys, azs = a.zs;
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                xs[i] += axs[i] * s;
+                ys[i] += ays[i] * s;
+                zs[i] += azs[i] * s;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Subtracts the provided vector {@code v} from every vector of this batch.
+     *
+     * @param v The vector of which to subtract
+     * @return This batch
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public Vector3Array subtract(Vector3 v) {
+        return add(v.negate());
+    }
+
+    /**
+     * Subtracts each vector of the provided batch from the corresponding vector of this batch.
+     *
+     * @param a The batch of which to subtract
+     * @return This batch
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     * @throws NullPointerException            When the provided batch is {@code null}
+     */
+    public Vector3Array subtract(Vector3Array a) {
+        return addScaled(a, -1);
+    }
+
+    /**
+     * Multiplies every vector of this batch by the provided scalar {@code s}.
+     *
+     * @param s The scalar of which to multiply the vectors by
+     * @return This batch
+     */
+    public Vector3Array multiply(double s) {
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                xs[i] *= s;
+                ys[i] *= s;
+                zs[i] *= s;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Normalizes every vector of this batch. This batch is left unmodified if any of its
+     * vectors has a Euclidean norm of zero.
+     *
+     * @return This batch
+     * @throws ArithmeticException When the Euclidean norm of any vector of this batch is zero
+     */
+    public Vector3Array normalize() throws ArithmeticException {
+        for (int i = 0; i < xs.length; i++) {
+            if (xs[i] == 0 && ys[i] == 0 && zs[i] == 0) throw new DivisionByZeroException();
+        }
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double x = xs[i], y = ys[i], z = zs[i];
+                double s = 1 / Math.sqrt(x * x + y * y + z * z);
+
+                xs[i] = x * s;
+                ys[i] = y * s;
+                zs[i] = z * s;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Sets every vector of this batch to the cross product between itself and the provided
+     * vector {@code v}.
+     *
+     * @param v The vector of which to get the cross product between
+     * @return This batch
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public Vector3Array cross(Vector3 v) {
+        double vx = v.x, vy = v.y, vz = v.z;
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double x = xs[i], y = ys[i], z = zs[i];
+
+                xs[i] = y * vz - z * vy;
+                ys[i] = z * vx - x * vz;
+                zs[i] = x * vy - y * vx;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Sets every vector of this batch to the cross product between itself and the corresponding
+     * vector of the provided batch.
+     *
+     * @param a The batch of which to get the cross products between
+     * @return This batch
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     * @throws NullPointerException            When the provided batch is {@code null}
+     */
+    public Vector3Array cross(Vector3Array a) {
+        requireSameLength(a);
+        double[] axs = a.xs, ays = a.ys, azs = a.zs;
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double x = xs[i], y = ys[i], z = zs[i];
+                double vx = axs[i], vy = ays[i], vz = azs[i];
+
+                xs[i] = y * vz - z * vy;
+                ys[i] = z * vx - x * vz;
+                zs[i] = x * vy - y * vx;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Rotates every vector of this batch by the provided rotation quaternion {@code q}.
+     *
+     * @param q The rotation quaternion of which to apply to the vectors
+     * @return This batch
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     * @see Tensors#rotate(Vector3, Quaternion)
+     */
+    public Vector3Array rotate(Quaternion q) {
+        return transform(q, 0, 0, 0, 0, 0, 0);
+    }
+
+    /**
+     * Rotates every vector of this batch by the corresponding quaternion of the provided batch.
+     *
+     * @param q The batch of rotation quaternions of which to apply to the vectors
+     * @return This batch
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     * @throws NullPointerException            When the provided batch is {@code null}
+     * @see Tensors#rotate(Vector3, Quaternion)
+     */
+    public Vector3Array rotate(QuaternionArray q) {
+        if (q.length() != length()) {
+            throw new IncompatibleDimensionsException();
+        }
+
+        double[] qws = q.ws, qxs = q.xs, qys = q.ys, qzs = q.zs;
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double w = qws[i], qx = qxs[i], qy = qys[i], qz = qzs[i];
+                double x = xs[i], y = ys[i], z = zs[i];
+
+                double qp1 = -qx * x - qy * y - qz * z;
+                double qp2 = w * x + qy * z - qz * y;
+                double qp3 = w * y - qx * z + qz * x;
+                double qp4 = w * z + qx * y - qy * x;
+
+                xs[i] = -qp1 * qx + qp2 * w - qp3 * qz + qp4 * qy;
+                ys[i] = -qp1 * qy + qp2 * qz + qp3 * w - qp4 * qx;
+                zs[i] = -qp1 * qz - qp2 * qy + qp3 * qx + qp4 * w;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Transforms every vector of this batch into the absolute coordinate system.
+     *
+     * @param rotation The rotation of the relative coordinate system
+     * @param offset   The origin of the relative coordinate system
+     * @return This batch
+     * @throws NullPointerException When a {@code null} parameter is provided
+     * @see Tensors#toAbsolute(Vector3, Quaternion, Vector3)
+     */
+    public Vector3Array toAbsolute(Quaternion rotation, Vector3 offset) {
+        return transform(rotation, 0, 0, 0, offset.x, offset.y, offset.z);
+    }
+
+    /**
+     * Transforms every vector of this batch into a relative coordinate system.
+     *
+     * @param origin The origin of the relative coordinate system
+     * @param angle  The rotation of the relative coordinate system
+     * @return This batch
+     * @throws NullPointerException When a {@code null} parameter is provided
+     * @see Tensors#toRelative(Vector3, Vector3, Quaternion)
+     */
+    public Vector3Array toRelative(Vector3 origin, Quaternion angle) {
+        return transform(angle, origin.x, origin.y, origin.z, 0, 0, 0);
+    }
+
+    /**
+     * Offsets every vector of this batch by {@code (ax, ay, az)}, rotates it by the provided
+     * quaternion {@code q}, then offsets it by {@code (bx, by, bz)}.
+     *
+     * @param q  The rotation quaternion
+     * @param ax The X offset applied before the rotation
+     * @param ay The Y offset applied before the rotation
+     * @param az The Z offset applied before the rotation
+     * @param bx The X offset applied after the rotation
+     * @param by The Y offset applied after the rotation
+     * @param bz The Z offset applied after the rotation
+     * @return This batch
+     */
+    private Vector3Array transform(Quaternion q, double ax, double ay, double az, double bx, double by, double bz) {
+        double w = q.w, qx = q.x, qy = q.y, qz = q.z;
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double x = xs[i] + ax, y = ys[i] + ay, z = zs[i] + az;
+
+                double qp1 = -qx * x - qy * y - qz * z;
+                double qp2 = w * x + qy * z - qz * y;
+                double qp3 = w * y - qx * z + qz * x;
+                double qp4 = w * z + qx * y - qy * x;
+
+                xs[i] = -qp1 * qx + qp2 * w - qp3 * qz + qp4 * qy + bx;
+                ys[i] = -qp1 * qy + qp2 * qz + qp3 * w - qp4 * qx + by;
+                zs[i] = -qp1 * qz - qp2 * qy + qp3 * qx + qp4 * w + bz;
+            }
+        });
+
+        return this;
+    }
+
+    /**
+     * Returns the Euclidean norm of every vector of this batch.
+     *
+     * @return The Euclidean norms of the vectors
+     */
+    public double[] norm() {
+        double[] result = new double[length()];
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = Math.sqrt(xs[i] * xs[i] + ys[i] * ys[i] + zs[i] * zs[i]);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the dot product between every vector of this batch and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the dot products between
+     * @return The dot products
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double[] dot(Vector3 v) {
+        double x = v.x, y = v.y, z = v.z;
+        double[] result = new double[length()];
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = xs[i] * x + ys[i] * y + zs[i] * z;
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the dot product between every vector of this batch and the corresponding
+     * vector of the provided batch.
+     *
+     * @param a The batch of which to get the dot products between
+     * @return The dot products
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     * @throws NullPointerException            When the provided batch is {@code null}
+     */
+    public double[] dot(Vector3Array a) {
+        requireSameLength(a);
+        double[] axs = a.xs, ays = a.ys, azs = a.zs;
+        double[] result = new double[length()];
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                result[i] = xs[i] * axs[i] + ys[i] * ays[i] + zs[i] * azs[i];
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the Euclidean distance between every vector of this batch and the provided vector {@code v}.
+     *
+     * @param v The vector of which to get the distances to
+     * @return The Euclidean distances
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public double[] distance(Vector3 v) {
+        double x = v.x, y = v.y, z = v.z;
+        double[] result = new double[length()];
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double dx = xs[i] - x, dy = ys[i] - y, dz = zs[i] - z;
+                result[i] = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns the Euclidean distance between every vector of this batch and the corresponding
+     * vector of the provided batch.
+     *
+     * @param a The batch of which to get the distances to
+     * @return The Euclidean distances
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     * @throws NullPointerException            When the provided batch is {@code null}
+     */
+    public double[] distance(Vector3Array a) {
+        requireSameLength(a);
+        double[] axs = a.xs, ays = a.ys, azs = a.zs;
+        double[] result = new double[length()];
+
+        ParallelKernels.forRange(length(), parallel, (from, to) -> {
+            for (int i = from; i < to; i++) {
+                double dx = xs[i] - axs[i], dy = ys[i] - ays[i], dz = zs[i] - azs[i];
+                result[i] = Math.sqrt(dx * dx + dy * dy + dz * dz);
+            }
+        });
+
+        return result;
+    }
+
+    /**
+     * Returns a stream of the vectors of this batch.
+     *
+     * @return A stream of the vectors of this batch
+     */
+    public Stream<Vector3> stream() {
+        return IntStream.range(0, length()).mapToObj(this::get);
+    }
+
+    /**
+     * Returns an array of the vectors of this batch.
+     *
+     * @return An array of the vectors of this batch
+     */
+    public Vector3[] toArray() {
+        Vector3[] result = new Vector3[length()];
+
+        for (int i = 0; i < result.length; i++) {
+            result[i] = get(i);
+        }
+
+        return result;
+    }
+
+    /**
+     * Checks that the provided batch has the same length as this batch.
+     *
+     * @param a The batch of which to check
+     * @throws IncompatibleDimensionsException When the batches' lengths are different
+     */
+    private void requireSameLength(Vector3Array a) {
+        if (a.length() != length()) {
+            throw new IncompatibleDimensionsException();
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public int hashCode() {
+        return 31 * (31 * Arrays.hashCode(xs) + Arrays.hashCode(ys)) + Arrays.hashCode(zs);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @param obj The object to compare to
+     * @return {@inheritDoc}
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (!(obj instanceof Vector3Array a)) return false;
+        return Arrays.equals(xs, a.xs) && Arrays.equals(ys, a.ys) && Arrays.equals(zs, a.zs);
+    }
+
+    /**
+     * {@inheritDoc}
+     *
+     * @return {@inheritDoc}
+     */
+    @Override
+    public String toString() {
+        return Arrays.toString(toArray());
+    }
+}
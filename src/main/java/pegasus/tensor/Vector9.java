@@ -73,6 +73,17 @@ public class Vector9 extends ArrayVector<Vector9> {
         super(values);
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * @param values {@inheritDoc}
+     * @return {@inheritDoc}
+     */
+    @Override
+    Vector9 newInstance(double[] values) {
+        return new Vector9(values);
+    }
+
     /**
      * {@inheritDoc}
      *
@@ -0,0 +1,253 @@
+package pegasus.tensor;
+
+import pegasus.exception.IllegalInstanceException;
+
+import java.util.function.Supplier;
+
+/**
+ * A thread-local pool of mutable vectors and quaternions. Each thread retains up to
+ * {@link #CAPACITY} released instances of each type, which are handed out again by later
+ * acquisitions on the same thread, so that hot loops can use temporaries without allocating.
+ * <p>
+ * An acquired instance is owned by the caller until it is released, and must not be used after
+ * it has been released. Instances do not have to be released; unreleased instances are simply
+ * reclaimed by the garbage collector. Releasing an instance on a different thread than it was
+ * acquired on is allowed, and adds the instance to the releasing thread's pool.
+ * <p>
+ * Each acquisition must be released at most once, since releasing an instance twice hands it
+ * out to two owners. The pool rejects an instance which is released while it is still the most
+ * recently released instance, but does not detect every double release, as that would require
+ * scanning the pool.
+ *
+ * @see MutableVector2
+ * @see MutableVector3
+ * @see MutableVector4
+ * @see MutableQuaternion
+ */
+public final class VectorPool {
+    /**
+     * The maximum number of released instances of each type retained per thread.
+     */
+    public static final int CAPACITY = 64;
+
+    /**
+     * The pooled two-dimensional vectors of each thread.
+     */
+    private static final ThreadLocal<Stack<MutableVector2>> VECTOR2 =
+            ThreadLocal.withInitial(() -> new Stack<>(MutableVector2::new));
+
+    /**
+     * The pooled three-dimensional vectors of each thread.
+     */
+    private static final ThreadLocal<Stack<MutableVector3>> VECTOR3 =
+            ThreadLocal.withInitial(() -> new Stack<>(MutableVector3::new));
+
+    /**
+     * The pooled four-dimensional vectors of each thread.
+     */
+    private static final ThreadLocal<Stack<MutableVector4>> VECTOR4 =
+            ThreadLocal.withInitial(() -> new Stack<>(MutableVector4::new));
+
+    /**
+     * The pooled quaternions of each thread.
+     */
+    private static final ThreadLocal<Stack<MutableQuaternion>> QUATERNION =
+            ThreadLocal.withInitial(() -> new Stack<>(MutableQuaternion::new));
+
+    /**
+     * Acquires a zero two-dimensional vector from the current thread's pool.
+     *
+     * @return The acquired vector
+     */
+    public static MutableVector2 vector2() {
+        return VECTOR2.get().pop().set(0, 0);
+    }
+
+    /**
+     * Acquires a two-dimensional vector from the current thread's pool, and copies the
+     * components of the provided vector {@code v} into it.
+     *
+     * @param v The vector of which to copy component values from
+     * @return The acquired vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public static MutableVector2 vector2(Vector2 v) {
+        return VECTOR2.get().pop().set(v);
+    }
+
+    /**
+     * Acquires a zero three-dimensional vector from the current thread's pool.
+     *
+     * @return The acquired vector
+     */
+    public static MutableVector3 vector3() {
+        return VECTOR3.get().pop().set(0, 0, 0);
+    }
+
+    /**
+     * Acquires a three-dimensional vector from the current thread's pool, and copies the
+     * components of the provided vector {@code v} into it.
+     *
+     * @param v The vector of which to copy component values from
+     * @return The acquired vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public static MutableVector3 vector3(Vector3 v) {
+        return VECTOR3.get().pop().set(v);
+    }
+
+    /**
+     * Acquires a zero four-dimensional vector from the current thread's pool.
+     *
+     * @return The acquired vector
+     */
+    public static MutableVector4 vector4() {
+        return VECTOR4.get().pop().set(0, 0, 0, 0);
+    }
+
+    /**
+     * Acquires a four-dimensional vector from the current thread's pool, and copies the
+     * components of the provided vector {@code v} into it.
+     *
+     * @param v The vector of which to copy component values from
+     * @return The acquired vector
+     * @throws NullPointerException When the provided vector {@code v} is {@code null}
+     */
+    public static MutableVector4 vector4(Vector4 v) {
+        return VECTOR4.get().pop().set(v);
+    }
+
+    /**
+     * Acquires an identity quaternion from the current thread's pool.
+     *
+     * @return The acquired quaternion
+     */
+    public static MutableQuaternion quaternion() {
+        return QUATERNION.get().pop().setIdentity();
+    }
+
+    /**
+     * Acquires a quaternion from the current thread's pool, and copies the components of
+     * the provided quaternion {@code q} into it.
+     *
+     * @param q The quaternion of which to copy component values from
+     * @return The acquired quaternion
+     * @throws NullPointerException When the provided quaternion {@code q} is {@code null}
+     */
+    public static MutableQuaternion quaternion(Quaternion q) {
+        return QUATERNION.get().pop().set(q);
+    }
+
+    /**
+     * Returns the provided vector to the current thread's pool.
+     *
+     * @param v The vector of which to release
+     * @throws IllegalStateException When the provided vector is already the most recently released vector
+     * @throws NullPointerException  When the provided vector {@code v} is {@code null}
+     */
+    public static void release(MutableVector2 v) {
+        VECTOR2.get().push(v);
+    }
+
+    /**
+     * Returns the provided vector to the current thread's pool.
+     *
+     * @param v The vector of which to release
+     * @throws IllegalStateException When the provided vector is already the most recently released vector
+     * @throws NullPointerException  When the provided vector {@code v} is {@code null}
+     */
+    public static void release(MutableVector3 v) {
+        VECTOR3.get().push(v);
+    }
+
+    /**
+     * Returns the provided vector to the current thread's pool.
+     *
+     * @param v The vector of which to release
+     * @throws IllegalStateException When the provided vector is already the most recently released vector
+     * @throws NullPointerException  When the provided vector {@code v} is {@code null}
+     */
+    public static void release(MutableVector4 v) {
+        VECTOR4.get().push(v);
+    }
+
+    /**
+     * Returns the provided quaternion to the current thread's pool.
+     *
+     * @param q The quaternion of which to release
+     * @throws IllegalStateException When the provided quaternion is already the most recently released quaternion
+     * @throws NullPointerException  When the provided quaternion {@code q} is {@code null}
+     */
+    public static void release(MutableQuaternion q) {
+        QUATERNION.get().push(q);
+    }
+
+    /**
+     * A bounded stack of released instances owned by a single thread.
+     *
+     * @param <T> The type of instance to pool
+     */
+    private static final class Stack<T> {
+        /**
+         * Creates a new stack.
+         *
+         * @param factory The factory of which to create new instances with when the stack is empty
+         */
+        Stack(Supplier<T> factory) {
+            this.factory = factory;
+        }
+
+        /**
+         * The factory of which to create new instances with when the stack is empty.
+         */
+        private final Supplier<T> factory;
+
+        /**
+         * The released instances.
+         */
+        private final Object[] elements = new Object[CAPACITY];
+
+        /**
+         * The number of released instances.
+         */
+        private int size = 0;
+
+        /**
+         * Removes and returns the most recently released instance, or creates a new instance
+         * if there are none.
+         *
+         * @return The instance
+         */
+        @SuppressWarnings("unchecked")
+        T pop() {
+            if (size == 0) return factory.get();
+
+            T element = (T) elements[--size];
+            elements[size] = null;
+            return element;
+        }
+
+        /**
+         * Adds the provided instance to this stack, unless this stack is full.
+         *
+         * @param element The instance of which to add
+         * @throws IllegalStateException When the provided instance is already on top of this stack
+         * @throws NullPointerException  When the provided instance is {@code null}
+         */
+        void push(T element) {
+            if (element == null) throw new NullPointerException();
+            if (size > 0 && elements[size - 1] == element) {
+                throw new IllegalStateException("Instance has already been released.");
+            }
+
+            if (size < elements.length) elements[size++] = element;
+        }
+    }
+
+    /**
+     * Private constructor to prevent instantiation.
+     */
+    private VectorPool() {
+        throw new IllegalInstanceException(this);
+    }
+}